@@ -39,8 +39,8 @@ public final class ClientUtil {
     URI uri = prepareFullUriWithQuery(ids, params, endpoint, queryPattern);
     httpGet.setURI(uri);
     LOGGER.info("Calling GET By IDs {}", uri);
-    try (CloseableHttpResponse response = HttpClients.createDefault().execute(httpGet)) {
-      return getResponseEntity(response);
+    try {
+      return InFlightRequests.execute(HttpClients.createDefault(), httpGet, ClientUtil::getResponseEntity);
     } catch (IOException exception) {
       LOGGER.error("Exception while calling {}", httpGet.getURI(), exception);
       throw new HttpClientException(format("Exception while calling %s, message: %s", httpGet.getURI(), exception.getMessage()));
@@ -52,8 +52,8 @@ public final class ClientUtil {
     setCommonHeaders(httpGet, params);
     httpGet.setURI(URI.create(endpoint));
     LOGGER.info("Calling GET {}", endpoint);
-    try (CloseableHttpResponse response = HttpClients.createDefault().execute(httpGet)) {
-      return getResponseEntity(response);
+    try {
+      return InFlightRequests.execute(HttpClients.createDefault(), httpGet, ClientUtil::getResponseEntity);
     } catch (IOException exception) {
       LOGGER.error("Exception while calling {}", httpGet.getURI(), exception);
       throw new HttpClientException(format("Exception while calling %s, message: %s", httpGet.getURI(), exception.getMessage()));
@@ -1,15 +1,15 @@
 package org.folio.clients;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.processor.rule.Rule;
-import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.service.logs.ErrorLogService;
 import org.folio.util.ErrorCode;
-import org.folio.util.HelperUtils;
 import org.folio.util.OkapiConnectionParams;
 import org.folio.util.StringUtil;
 import org.apache.logging.log4j.LogManager;
@@ -23,6 +23,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
@@ -39,15 +41,24 @@ public class ConfigurationsClient {
   private static final String QUERY = "?query=";
   private static final String QUERY_VALUE = "code=\"RULES_OVERRIDE\" AND enabled==true";
   private static final String RECORDS_URL_PART = "/inventory/view/";
+  private static final String CONFIGS = "configs";
+  private static final Predicate<JsonObject> HAS_CONFIGS = response -> !response.getJsonArray(CONFIGS, new JsonArray()).isEmpty();
 
   @Autowired
   private ErrorLogService errorLogService;
+  @Autowired
+  private TenantResponseCache responseCache;
+  /* Jobs which already have the error log about the missing host, by tenant and job execution id */
+  private final Cache<String, Boolean> hostNotFoundJobs = Caffeine.newBuilder()
+    .expireAfterAccess(1, TimeUnit.HOURS)
+    .build();
 
   public Optional<JsonObject> getConfigsFromModConfigByQuery(String jobExecutionId, String query, OkapiConnectionParams params ) {
     String endpoint = format(resourcesPathWithPrefix(CONFIGURATIONS), params.getOkapiUrl()) + QUERY + StringUtil.urlEncode(query);
     Optional<JsonObject> response;
     try {
-      response = getResponseFromGetRequest(endpoint, params);
+      response = Optional.of(responseCache.get(params.getTenantId(), query,
+        () -> getResponseFromGetRequest(endpoint, params).orElseGet(JsonObject::new), HAS_CONFIGS));
     } catch (HttpClientException e) {
       errorLogService.saveGeneralErrorWithMessageValues(ErrorCode.ERROR_QUERY_CONFIGURATIONS.getCode(), Arrays.asList(query, e.getMessage()), jobExecutionId, params.getTenantId());
       response = Optional.empty();
@@ -59,7 +70,7 @@ public class ConfigurationsClient {
     Optional<JsonObject> jsonObject = getConfigsFromModConfigByQuery(jobExecutionId, ConfigurationsClient.QUERY_VALUE_FOR_HOST, params);
     String query = RECORDS_URL_PART + idsUrlPart;
     if (jsonObject.isPresent()) {
-      JsonArray configs = jsonObject.get().getJsonArray("configs");
+      JsonArray configs = jsonObject.get().getJsonArray(CONFIGS);
       if (configs.size() == 0) {
         LOGGER.error(ERROR_QUERY_HOST.getDescription());
         populateHostNotFoundErrorLog(jobExecutionId, params);
@@ -82,7 +93,8 @@ public class ConfigurationsClient {
     String endpoint = format(resourcesPathWithPrefix(CONFIGURATIONS), params.getOkapiUrl()) + QUERY + StringUtil.urlEncode(QUERY_VALUE);
     Optional<JsonObject> rulesFromConfig ;
     try {
-      rulesFromConfig = getResponseFromGetRequest(endpoint, params);
+      rulesFromConfig = Optional.of(responseCache.get(params.getTenantId(), QUERY_VALUE,
+        () -> getResponseFromGetRequest(endpoint, params).orElseGet(JsonObject::new), HAS_CONFIGS));
     } catch (HttpClientException e) {
       errorLogService.saveGeneralErrorWithMessageValues(ErrorCode.ERROR_QUERY_RULES_FROM_CONFIGURATIONS.getCode(), singletonList(e.getMessage()), jobExecutionId, params.getTenantId());
       rulesFromConfig = Optional.empty();
@@ -96,22 +108,15 @@ public class ConfigurationsClient {
   }
 
   private void populateHostNotFoundErrorLog(String jobExecutionId, OkapiConnectionParams params) {
-    Criterion criterion = HelperUtils.getErrorLogCriterionByJobExecutionIdAndErrorCodes(jobExecutionId,
-      singletonList(ERROR_QUERY_HOST.getCode()));
-    errorLogService.getByQuery(criterion, params.getTenantId())
-      .onSuccess(errorLogList -> {
-        long numberOfHostErrorForJob = errorLogList.stream()
-          .filter(errorLog -> errorLog.getErrorMessageCode().contains(ERROR_QUERY_HOST.getCode())).count();
-        if (numberOfHostErrorForJob == 0) {
-          errorLogService.saveGeneralError(ERROR_QUERY_HOST.getCode(), jobExecutionId, params.getTenantId());
-        }
-      });
+    if (hostNotFoundJobs.asMap().putIfAbsent(params.getTenantId() + ":" + jobExecutionId, Boolean.TRUE) == null) {
+      errorLogService.saveGeneralError(ERROR_QUERY_HOST.getCode(), jobExecutionId, params.getTenantId());
+    }
   }
 
   private List<Rule> constructRulesFromJson(JsonObject configRules, String tenantId) {
     List<Rule> rules = new ArrayList<>();
     configRules
-      .getJsonArray("configs")
+      .getJsonArray(CONFIGS)
       .stream()
       .map(JsonObject.class::cast)
       .map(object -> getRules(object, tenantId))
@@ -0,0 +1,115 @@
+package org.folio.clients;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps track of the blocking http requests sent by the export of the job, so they can be aborted when the job is cancelled.
+ * The worker thread exporting the chunk is bound to the job, requests sent by the thread while it is bound are registered
+ * under the job until their responses are read, requests of the cancelled job are aborted before being sent.
+ */
+public final class InFlightRequests {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ThreadLocal<Binding> BINDING = new ThreadLocal<>();
+  private static final Map<String, Set<HttpRequestBase>> REQUESTS = new ConcurrentHashMap<>();
+
+  private InFlightRequests() {
+  }
+
+  /**
+   * Binds the current thread to the job, requests sent by the thread are registered under the job
+   *
+   * @param jobExecutionId id of the job execution
+   * @param cancelled      returns true once the job is cancelled
+   */
+  public static void bind(String jobExecutionId, BooleanSupplier cancelled) {
+    BINDING.set(new Binding(jobExecutionId, cancelled));
+  }
+
+  /**
+   * Unbinds the current thread from the job
+   */
+  public static void unbind() {
+    BINDING.remove();
+  }
+
+  /**
+   * Returns true if the job the current thread is bound to is cancelled
+   */
+  public static boolean isCancelled() {
+    Binding binding = BINDING.get();
+    return binding != null && binding.cancelled.getAsBoolean();
+  }
+
+  /**
+   * Sends the request and reads its response, the request is aborted if the job the current thread is bound to
+   * is cancelled meanwhile
+   *
+   * @param client  http client
+   * @param request request to send
+   * @param reader  reads the response, the response is closed afterwards
+   * @return result of reading the response
+   * @throws IOException if the request fails or is aborted
+   */
+  public static <T> T execute(CloseableHttpClient client, HttpRequestBase request, ResponseReader<T> reader) throws IOException {
+    Binding binding = BINDING.get();
+    if (binding == null) {
+      try (CloseableHttpResponse response = client.execute(request)) {
+        return reader.read(response);
+      }
+    }
+    REQUESTS.computeIfAbsent(binding.jobExecutionId, id -> ConcurrentHashMap.newKeySet()).add(request);
+    try {
+      // the request is registered before the check, so it is aborted either here or by the cancellation
+      if (binding.cancelled.getAsBoolean()) {
+        request.abort();
+      }
+      try (CloseableHttpResponse response = client.execute(request)) {
+        return reader.read(response);
+      }
+    } finally {
+      REQUESTS.computeIfPresent(binding.jobExecutionId, (id, requests) -> {
+        requests.remove(request);
+        return requests.isEmpty() ? null : requests;
+      });
+    }
+  }
+
+  /**
+   * Aborts the requests of the job which are being sent or waiting for the response
+   *
+   * @param jobExecutionId id of the job execution
+   */
+  public static void abort(String jobExecutionId) {
+    Set<HttpRequestBase> requests = REQUESTS.remove(jobExecutionId);
+    if (requests != null) {
+      LOGGER.info("Aborting {} requests of job execution with id {}", requests.size(), jobExecutionId);
+      requests.forEach(HttpRequestBase::abort);
+    }
+  }
+
+  @FunctionalInterface
+  public interface ResponseReader<T> {
+    T read(CloseableHttpResponse response) throws IOException;
+  }
+
+  private static class Binding {
+    private final String jobExecutionId;
+    private final BooleanSupplier cancelled;
+
+    private Binding(String jobExecutionId, BooleanSupplier cancelled) {
+      this.jobExecutionId = jobExecutionId;
+      this.cancelled = cancelled;
+    }
+  }
+}
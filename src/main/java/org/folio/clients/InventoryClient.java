@@ -15,6 +15,7 @@ import org.folio.util.OkapiConnectionParams;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -28,7 +29,6 @@ import static org.folio.util.ExternalPathResolver.CONTENT_TERMS;
 import static org.folio.util.ExternalPathResolver.CONTRIBUTOR_NAME_TYPES;
 import static org.folio.util.ExternalPathResolver.ELECTRONIC_ACCESS_RELATIONSHIPS;
 import static org.folio.util.ExternalPathResolver.HOLDING;
-import static org.folio.util.ExternalPathResolver.HOLDING_NOTE_TYPES;
 import static org.folio.util.ExternalPathResolver.IDENTIFIER_TYPES;
 import static org.folio.util.ExternalPathResolver.INSTANCE;
 import static org.folio.util.ExternalPathResolver.INSTANCE_FORMATS;
@@ -36,7 +36,6 @@ import static org.folio.util.ExternalPathResolver.INSTANCE_TYPES;
 import static org.folio.util.ExternalPathResolver.INSTITUTIONS;
 import static org.folio.util.ExternalPathResolver.ISSUANCE_MODES;
 import static org.folio.util.ExternalPathResolver.ITEM;
-import static org.folio.util.ExternalPathResolver.ITEM_NOTE_TYPES;
 import static org.folio.util.ExternalPathResolver.LIBRARIES;
 import static org.folio.util.ExternalPathResolver.LOAN_TYPES;
 import static org.folio.util.ExternalPathResolver.LOCATIONS;
@@ -150,16 +149,6 @@ public class InventoryClient {
     return getReferenceDataByUrl(endpoint, jobExecutionId, params, LOAN_TYPES);
   }
 
-  public Map<String, JsonObject> getHoldingsNoteTypes(String jobExecutionId, OkapiConnectionParams params) {
-    String endpoint = resourcesPathWithPrefix(HOLDING_NOTE_TYPES) + LIMIT_PARAMETER + REFERENCE_DATA_LIMIT;
-    return getReferenceDataByUrl(endpoint, jobExecutionId, params, HOLDING_NOTE_TYPES);
-  }
-
-  public Map<String, JsonObject> getItemNoteTypes(String jobExecutionId, OkapiConnectionParams params) {
-    String endpoint = resourcesPathWithPrefix(ITEM_NOTE_TYPES) + LIMIT_PARAMETER + REFERENCE_DATA_LIMIT;
-    return getReferenceDataByUrl(endpoint, jobExecutionId, params, ITEM_NOTE_TYPES);
-  }
-
   public Map<String, JsonObject> getCallNumberTypes(String jobExecutionId, OkapiConnectionParams params) {
     String endpoint = resourcesPathWithPrefix(CALL_NUMBER_TYPES) + LIMIT_PARAMETER + REFERENCE_DATA_LIMIT;
     return getReferenceDataByUrl(endpoint, jobExecutionId, params, CALL_NUMBER_TYPES);
@@ -182,16 +171,33 @@ public class InventoryClient {
       }
       return map;
     }
-    responseBody.ifPresent(rb -> {
-      if (rb.containsKey(field)) {
-        JsonArray array = rb.getJsonArray(field);
-        for (Object item : array) {
-          JsonObject jsonItem = JsonObject.mapFrom(item);
-          map.put(jsonItem.getString("id"), jsonItem);
-        }
-      }
-    });
+    responseBody.ifPresent(rb -> map.putAll(mapReferenceDataById(rb, field)));
+
+    return map;
+  }
+
+  /**
+   * Requests reference data without blocking the calling thread
+   *
+   * @param field  reference data key, e.g. identifierTypes
+   * @param params okapi connection parameters
+   * @return future with reference data entries by id, failed if the request failed
+   */
+  public Future<Map<String, JsonObject>> getReferenceDataAsync(String field, OkapiConnectionParams params) {
+    String endpoint = buildQueryEndpoint(resourcesPathWithPrefix(field) + LIMIT_PARAMETER + REFERENCE_DATA_LIMIT, StringUtils.EMPTY);
+    return ClientUtilAsync.getRequest(endpoint, params)
+      .map(responseBody -> mapReferenceDataById(responseBody, field));
+  }
 
+  private Map<String, JsonObject> mapReferenceDataById(JsonObject responseBody, String field) {
+    Map<String, JsonObject> map = new HashMap<>();
+    if (responseBody.containsKey(field)) {
+      JsonArray array = responseBody.getJsonArray(field);
+      for (Object item : array) {
+        JsonObject jsonItem = JsonObject.mapFrom(item);
+        map.put(jsonItem.getString(ID), jsonItem);
+      }
+    }
     return map;
   }
 
@@ -15,6 +15,7 @@ import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.parsetools.JsonParser;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.codec.BodyCodec;
@@ -60,15 +61,8 @@ public class SearchClient {
       promise.complete(Optional.empty());
       return promise.future();
     }
-    String endpoint = format(resourcesPathWithPrefix(SEARCH_IDS), params.getOkapiUrl()) + QUERY + StringUtil.urlEncode(query);
-    HttpRequest<Buffer> request = webClient.getAbs(endpoint);
-    request.putHeader(OKAPI_HEADER_TOKEN, params.getToken());
-    request.putHeader(OKAPI_HEADER_TENANT, params.getTenantId());
-    request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
-    request.putHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
-    if (params.getOkapiUrl().contains("https")) {
-      request.ssl(true);
-    }
+    String endpoint = buildEndpoint(query, params);
+    HttpRequest<Buffer> request = buildRequest(endpoint, params);
     var parser = JsonParser.newParser().objectValueMode();
     parser
       .handler(event -> {
@@ -104,6 +98,58 @@ public class SearchClient {
     return promise.future();
   }
 
+  /**
+   * Retrieves ids of instances found by the query and writes them to the target stream, one id per line.
+   * The response is parsed token by token while it arrives, so neither the response nor the list of ids is kept in memory.
+   *
+   * @param query  cql query
+   * @param params okapi connection params
+   * @param target stream to write ids to, it is not closed by this method
+   * @return number of written ids, 0 if no ids were found or the ids could not be retrieved
+   */
+  public Future<Integer> writeInstancesBulkUUIDs(String query, OkapiConnectionParams params, WriteStream<Buffer> target) {
+    if (StringUtils.isEmpty(query)) {
+      return Future.succeededFuture(0);
+    }
+    Promise<Integer> promise = Promise.promise();
+    String endpoint = buildEndpoint(query, params);
+    var idsStream = new SearchIdsWriteStream(target);
+    buildRequest(endpoint, params).as(BodyCodec.pipe(idsStream)).send(res -> {
+      if (res.succeeded() && res.result().statusCode() != HttpStatus.SC_OK) {
+        logError(new IllegalStateException(format(ERROR_MESSAGE_INVALID_STATUS_CODE, endpoint, res.result().statusCode())), params);
+        promise.complete(0);
+      } else if (nonNull(idsStream.getFailure())) {
+        logError(new IllegalStateException(format(ERROR_MESSAGE_INVALID_BODY, endpoint, idsStream.getFailure().getMessage())), params);
+        promise.complete(0);
+      } else if (res.failed()) {
+        logError(res.cause(), params);
+        promise.complete(0);
+      } else {
+        if (idsStream.getCount() == 0) {
+          logError(new IllegalStateException(format(ERROR_MESSAGE_NO_RECORDS, endpoint)), params);
+        }
+        promise.complete(idsStream.getCount());
+      }
+    });
+    return promise.future();
+  }
+
+  private String buildEndpoint(String query, OkapiConnectionParams params) {
+    return format(resourcesPathWithPrefix(SEARCH_IDS), params.getOkapiUrl()) + QUERY + StringUtil.urlEncode(query);
+  }
+
+  private HttpRequest<Buffer> buildRequest(String endpoint, OkapiConnectionParams params) {
+    HttpRequest<Buffer> request = webClient.getAbs(endpoint);
+    request.putHeader(OKAPI_HEADER_TOKEN, params.getToken());
+    request.putHeader(OKAPI_HEADER_TENANT, params.getTenantId());
+    request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+    request.putHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+    if (params.getOkapiUrl().contains("https")) {
+      request.ssl(true);
+    }
+    return request;
+  }
+
   private void logError(Throwable throwable, OkapiConnectionParams params) {
     LOGGER.error(throwable.getMessage(), nonNull(throwable.getCause()) ? throwable.getCause() : EMPTY);
     errorLogService.saveGeneralErrorWithMessageValues(ErrorCode.ERROR_GETTING_INSTANCES_BY_IDS.getCode(), Arrays.asList(throwable.getMessage()), StringUtils.EMPTY, params.getTenantId());
@@ -0,0 +1,154 @@
+package org.folio.clients;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.parsetools.JsonEvent;
+import io.vertx.core.parsetools.JsonEventType;
+import io.vertx.core.parsetools.JsonParser;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * Parses the response of the search ids endpoint, {@code {"ids":[{"id":"..."}, ...]}}, token by token
+ * and writes the ids to the target stream, one id per line.
+ * Ids are collected into buffers of {@link #FLUSH_THRESHOLD} bytes before writing, backpressure of the target stream
+ * is passed to the response, so neither the response nor the list of ids is kept in memory.
+ */
+class SearchIdsWriteStream implements WriteStream<Buffer> {
+
+  private static final String IDS_LIST = "ids";
+  private static final String ID_FIELD = "id";
+  private static final int FLUSH_THRESHOLD = 64 * 1024;
+  private static final int IDS_LIST_DEPTH = 2;
+  private static final int ID_DEPTH = 3;
+
+  private final WriteStream<Buffer> target;
+  private final JsonParser parser = JsonParser.newParser();
+  private Buffer pending = Buffer.buffer(FLUSH_THRESHOLD);
+  private int depth;
+  private boolean insideIdsList;
+  private int count;
+  private Throwable failure;
+  private Handler<Throwable> exceptionHandler;
+
+  SearchIdsWriteStream(WriteStream<Buffer> target) {
+    this.target = target;
+    parser.handler(this::handleEvent).exceptionHandler(this::fail);
+  }
+
+  /**
+   * Returns number of ids written to the target stream
+   */
+  int getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the error of parsing the response, null if the response is parsed successfully
+   */
+  Throwable getFailure() {
+    return failure;
+  }
+
+  @Override
+  public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    this.exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public Future<Void> write(Buffer data) {
+    if (failure == null) {
+      parser.handle(data);
+    }
+    return failure == null ? Future.succeededFuture() : Future.failedFuture(failure);
+  }
+
+  @Override
+  public void write(Buffer data, Handler<AsyncResult<Void>> handler) {
+    Future<Void> future = write(data);
+    if (handler != null) {
+      future.onComplete(handler);
+    }
+  }
+
+  @Override
+  public Future<Void> end() {
+    if (failure == null) {
+      parser.end();
+    }
+    return failure == null ? flush() : Future.failedFuture(failure);
+  }
+
+  @Override
+  public void end(Handler<AsyncResult<Void>> handler) {
+    Future<Void> future = end();
+    if (handler != null) {
+      future.onComplete(handler);
+    }
+  }
+
+  @Override
+  public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+    target.setWriteQueueMaxSize(maxSize);
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return target.writeQueueFull();
+  }
+
+  @Override
+  public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+    target.drainHandler(handler);
+    return this;
+  }
+
+  private void handleEvent(JsonEvent event) {
+    JsonEventType type = event.type();
+    if (type == JsonEventType.START_OBJECT || type == JsonEventType.START_ARRAY) {
+      depth++;
+      if (type == JsonEventType.START_ARRAY && depth == IDS_LIST_DEPTH && IDS_LIST.equals(event.fieldName())) {
+        insideIdsList = true;
+      }
+    } else if (type == JsonEventType.END_OBJECT || type == JsonEventType.END_ARRAY) {
+      if (type == JsonEventType.END_ARRAY && depth == IDS_LIST_DEPTH) {
+        insideIdsList = false;
+      }
+      depth--;
+    } else if (insideIdsList && depth == ID_DEPTH && ID_FIELD.equals(event.fieldName()) && event.isString()) {
+      appendId(event.stringValue());
+    }
+  }
+
+  private void appendId(String id) {
+    if (count > 0) {
+      pending.appendString(System.lineSeparator());
+    }
+    pending.appendString(id);
+    count++;
+    if (pending.length() >= FLUSH_THRESHOLD) {
+      flush().onFailure(this::fail);
+    }
+  }
+
+  private Future<Void> flush() {
+    if (pending.length() == 0) {
+      return Future.succeededFuture();
+    }
+    Buffer chunk = pending;
+    pending = Buffer.buffer(FLUSH_THRESHOLD);
+    return target.write(chunk);
+  }
+
+  private void fail(Throwable throwable) {
+    if (failure == null) {
+      failure = throwable;
+      if (exceptionHandler != null) {
+        exceptionHandler.handle(throwable);
+      }
+    }
+  }
+}
@@ -2,7 +2,6 @@ package org.folio.clients;
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -26,7 +25,6 @@ import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
-import static org.folio.clients.ClientUtil.getResponseEntity;
 import static org.folio.util.ExternalPathResolver.SRS;
 
 @Component
@@ -49,9 +47,12 @@ public class SourceRecordStorageClient {
     try (CloseableHttpClient client = HttpClients.createDefault()) {
       httpPost.setEntity(new StringEntity(body));
       ClientUtil.setCommonHeaders(httpPost, params);
-      CloseableHttpResponse response = client.execute(httpPost);
-      return Optional.of(getResponseEntity(response));
+      return Optional.of(InFlightRequests.execute(client, httpPost, ClientUtil::getResponseEntity));
     } catch (IOException e) {
+      if (InFlightRequests.isCancelled()) {
+        LOGGER.warn("Request {} is aborted, job execution with id {} is cancelled", httpPost.getURI(), jobExecutionId);
+        return Optional.empty();
+      }
       LOGGER.error("Exception while calling {}", httpPost.getURI(), e);
       errorLogService.saveGeneralErrorWithMessageValues(ErrorCode.ERROR_CALLING_URI.getCode(), Arrays.asList(httpPost.getURI().toString(), e.getMessage()), jobExecutionId, params.getTenantId());
       return Optional.empty();
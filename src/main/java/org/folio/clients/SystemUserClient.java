@@ -0,0 +1,96 @@
+package org.folio.clients;
+
+import static java.lang.String.format;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TOKEN;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.util.OkapiConnectionParams;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs in as the system user of the module, so exports continued by another instance or resumed from a checkpoint
+ * call other modules with a fresh token instead of the token of the user who started the export, which is not stored.
+ * Tokens are cached by tenant for the ttl, concurrent logins of the same tenant wait for a single request.
+ */
+@Component
+public class SystemUserClient {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String LOGIN_PATH = "/authn/login";
+  private static final String USERNAME_KEY = "username";
+  private static final String PASSWORD_KEY = "password";
+
+  private final WebClient webClient;
+  private final String username;
+  private final String password;
+  private final Cache<String, Future<String>> tokens;
+
+  @Autowired
+  public SystemUserClient(Vertx vertx,
+                          @Value("${export.systemUser.username}") String username,
+                          @Value("${export.systemUser.password}") String password,
+                          @Value("${export.cache.ttl}") long ttl) {
+    this.webClient = WebClient.create(vertx);
+    this.username = username;
+    this.password = password;
+    this.tokens = Caffeine.newBuilder()
+      .expireAfterWrite(ttl, TimeUnit.SECONDS)
+      .build();
+  }
+
+  public boolean isConfigured() {
+    return StringUtils.isNotEmpty(username);
+  }
+
+  /**
+   * Returns connection parameters with the token of the system user
+   *
+   * @param params connection parameters without token, the tenant and okapi url are taken from them
+   * @return future with a copy of the connection parameters with the token, failed if the system user is not configured
+   * or the login failed
+   */
+  public Future<OkapiConnectionParams> login(OkapiConnectionParams params) {
+    if (!isConfigured()) {
+      return Future.failedFuture(new IllegalStateException("System user is not configured"));
+    }
+    String tenantId = params.getTenantId();
+    Future<String> token = tokens.get(tenantId, key -> requestToken(params));
+    token.onFailure(e -> tokens.asMap().remove(tenantId, token));
+    return token.map(value -> {
+      Map<String, String> headers = new CaseInsensitiveMap<>(params.getHeaders());
+      headers.put(OKAPI_HEADER_TOKEN, value);
+      return new OkapiConnectionParams(headers);
+    });
+  }
+
+  private Future<String> requestToken(OkapiConnectionParams params) {
+    String endpoint = params.getOkapiUrl() + LOGIN_PATH;
+    return webClient.postAbs(endpoint)
+      .putHeader(OKAPI_HEADER_TENANT, params.getTenantId())
+      .sendJsonObject(new JsonObject().put(USERNAME_KEY, username).put(PASSWORD_KEY, password))
+      .compose(response -> {
+        String token = response.getHeader(OKAPI_HEADER_TOKEN);
+        if (response.statusCode() != HttpStatus.SC_CREATED || StringUtils.isEmpty(token)) {
+          return Future.failedFuture(new IllegalStateException(format("Failed to log in as system user %s to tenant %s, status: %d",
+            username, params.getTenantId(), response.statusCode())));
+        }
+        return Future.succeededFuture(token);
+      })
+      .onFailure(e -> LOGGER.error("Failed to get token of the system user for tenant {}", params.getTenantId(), e));
+  }
+}
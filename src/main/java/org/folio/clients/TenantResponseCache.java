@@ -0,0 +1,94 @@
+package org.folio.clients;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches responses of other modules by tenant. Found entries are kept for the ttl, missing entries and failed requests
+ * for the shorter negative ttl, so a missing configuration entry or a failing module is not requested on every lookup
+ * but a newly added entry is picked up soon. Concurrent lookups of the same key wait for a single request.
+ */
+@Component
+public class TenantResponseCache {
+
+  private final Cache<String, CachedResponse> responses;
+
+  @Autowired
+  public TenantResponseCache(@Value("${export.cache.ttl}") long ttl,
+                             @Value("${export.cache.negativeTtl}") long negativeTtl) {
+    long ttlNanos = TimeUnit.SECONDS.toNanos(ttl);
+    long negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtl);
+    this.responses = Caffeine.newBuilder()
+      .expireAfter(new Expiry<String, CachedResponse>() {
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+          return response.isFound() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+          return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+          return currentDuration;
+        }
+      })
+      .build();
+  }
+
+  /**
+   * Returns the cached response of the tenant, the response is requested if it is not cached yet or is expired
+   *
+   * @param tenantId tenant id
+   * @param key      key of the response within the tenant, e.g. query or id of the requested entry
+   * @param loader   requests the response
+   * @param isFound  tells whether the response contains the requested entry
+   * @return copy of the response
+   * @throws HttpClientException if the request failed, the failure is cached as well
+   */
+  public JsonObject get(String tenantId, String key, ResponseLoader loader, Predicate<JsonObject> isFound) throws HttpClientException {
+    CachedResponse response = responses.get(tenantId + ":" + key, cacheKey -> {
+      try {
+        JsonObject entity = loader.load();
+        return new CachedResponse(entity, isFound.test(entity), null);
+      } catch (HttpClientException e) {
+        return new CachedResponse(null, false, e.getMessage());
+      }
+    });
+    if (response.failure != null) {
+      throw new HttpClientException(response.failure);
+    }
+    // a copy is returned, so callers can not change the cached response
+    return response.entity.copy();
+  }
+
+  @FunctionalInterface
+  public interface ResponseLoader {
+    JsonObject load() throws HttpClientException;
+  }
+
+  private static class CachedResponse {
+    private final JsonObject entity;
+    private final boolean found;
+    private final String failure;
+
+    private CachedResponse(JsonObject entity, boolean found, String failure) {
+      this.entity = entity;
+      this.found = found;
+      this.failure = failure;
+    }
+
+    private boolean isFound() {
+      return found;
+    }
+  }
+}
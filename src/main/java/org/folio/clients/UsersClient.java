@@ -23,13 +23,17 @@ public class UsersClient {
   private static final String FIRST_NAME = "firstName";
   private static final String LAST_NAME = "lastName";
   private static final String USER_NAME = "username";
+  private static final String USER_KEY_PREFIX = "user:";
   @Autowired
   private ErrorLogService errorLogService;
+  @Autowired
+  private TenantResponseCache responseCache;
 
   public Optional<JsonObject> getById(String userId, String jobExecutionId, OkapiConnectionParams params) {
     String endpoint = ClientUtil.buildQueryEndpoint(resourcesPathWithId(USERS), params.getOkapiUrl(), userId);
     try {
-      return Optional.of(ClientUtil.getRequest(params, endpoint));
+      return Optional.of(responseCache.get(params.getTenantId(), USER_KEY_PREFIX + userId,
+        () -> ClientUtil.getRequest(params, endpoint), user -> true));
     } catch (HttpClientException exception) {
       errorLogService.saveGeneralErrorWithMessageValues(ErrorCode.ERROR_GETTING_USER.getCode(), Arrays.asList(userId, exception.getMessage()), jobExecutionId, params.getTenantId());
       return Optional.empty();
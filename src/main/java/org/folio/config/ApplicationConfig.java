@@ -24,7 +24,8 @@ import java.util.Map;
   "org.folio.service",
   "org.folio.clients",
   "org.folio.rest.impl"})
-@PropertySource("classpath:minio.properties")
+@PropertySource({"classpath:minio.properties", "classpath:local-download.properties", "classpath:upload.properties",
+  "classpath:export.properties"})
 public class ApplicationConfig {
 
   private static final int REQUEST_TIMEOUT_ONE_HOUR = 3600000;
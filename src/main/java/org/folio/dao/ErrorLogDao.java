@@ -6,6 +6,7 @@ import org.folio.rest.jaxrs.model.ErrorLogCollection;
 import org.folio.rest.persist.Criteria.Criterion;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ErrorLogDao {
@@ -14,10 +15,11 @@ public interface ErrorLogDao {
    * Gets {@link ErrorLog}
    *
    * @param jobExecutionId id of job execution
+   * @param cursor         cursor of the previous page, the offset is ignored if it is given
    * @param tenantId       tenant id
    * @return future with {@link ErrorLogCollection}
    */
-  Future<ErrorLogCollection> get(String jobExecutionId, int offset, int limit, String tenantId);
+  Future<ErrorLogCollection> get(String jobExecutionId, int offset, int limit, String cursor, String tenantId);
 
   /**
    * Gets {@link ErrorLog}
@@ -37,6 +39,33 @@ public interface ErrorLogDao {
    */
   Future<ErrorLog> save(ErrorLog errorLog, String tenantId);
 
+  /**
+   * Saves list of {@link ErrorLog} by a single multi-row insert
+   *
+   * @param errorLogs errorLogs to save
+   * @param tenantId  tenant id
+   * @return future
+   */
+  Future<Void> saveBatch(List<ErrorLog> errorLogs, String tenantId);
+
+  /**
+   * Counts {@link ErrorLog} of the job by error code with a single aggregate query
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future with numbers of error logs by error code
+   */
+  Future<Map<String, Long>> countByErrorCode(String jobExecutionId, String tenantId);
+
+  /**
+   * Saves {@link ErrorLog} unless an error log with the same id is already saved
+   *
+   * @param errorLog errorLog to save
+   * @param tenantId tenant id
+   * @return future with true if the error log is saved, false if it already exists
+   */
+  Future<Boolean> saveIfAbsent(ErrorLog errorLog, String tenantId);
+
   /**
    * Updates {@link ErrorLog}
    *
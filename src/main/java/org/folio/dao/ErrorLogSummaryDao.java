@@ -0,0 +1,30 @@
+package org.folio.dao;
+
+import io.vertx.core.Future;
+import org.folio.rest.jaxrs.model.ErrorLogSummary;
+
+import java.util.Optional;
+
+/**
+ * Data access object for summaries of error logs, saved once per job execution when the job is finalized
+ */
+public interface ErrorLogSummaryDao {
+
+  /**
+   * Saves {@link ErrorLogSummary}, replacing the summary saved before for the job execution
+   *
+   * @param summary  summary to save
+   * @param tenantId tenant id
+   * @return future with saved {@link ErrorLogSummary}
+   */
+  Future<ErrorLogSummary> save(ErrorLogSummary summary, String tenantId);
+
+  /**
+   * Gets {@link ErrorLogSummary} of the job execution
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future with optional {@link ErrorLogSummary}
+   */
+  Future<Optional<ErrorLogSummary>> getByJobExecutionId(String jobExecutionId, String tenantId);
+}
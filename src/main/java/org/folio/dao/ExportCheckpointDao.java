@@ -0,0 +1,68 @@
+package org.folio.dao;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+
+/**
+ * Data access object for checkpoints of running exports, which allow to resume the export after a module instance is stopped
+ */
+public interface ExportCheckpointDao {
+
+  /**
+   * Saves the checkpoint of the job
+   *
+   * @param jobExecutionId id of job execution
+   * @param checkpoint     checkpoint to save
+   * @param tenantId       tenant id
+   * @return future
+   */
+  Future<Void> save(String jobExecutionId, JsonObject checkpoint, String tenantId);
+
+  /**
+   * Moves the checkpoint of the job past the exported chunk, if the job is still run by the given owner
+   *
+   * @param jobExecutionId        id of job execution
+   * @param owner                 id of the module instance running the job
+   * @param committedChunks       number of chunks exported to the output file
+   * @param outputPath            path to the output file
+   * @param outputLength          length of the output file after the exported chunk
+   * @param exportedRecordsNumber number of records exported in the chunk
+   * @param failedRecordsNumber   number of records failed in the chunk
+   * @param updatedAt             time of the update in milliseconds
+   * @param tenantId              tenant id
+   * @return future with true if the checkpoint is updated, false if the job is resumed by another instance or finished
+   */
+  Future<Boolean> commitChunk(String jobExecutionId, String owner, int committedChunks, String outputPath, long outputLength,
+                              int exportedRecordsNumber, int failedRecordsNumber, long updatedAt, String tenantId);
+
+  /**
+   * Takes over checkpoints of other instances which have not been updated since the given time,
+   * skipping checkpoints locked by instances taking them over at the same time
+   *
+   * @param limit     maximum number of checkpoints to take over
+   * @param owner     id of the module instance taking over the jobs
+   * @param claimedAt time of the take over in milliseconds
+   * @param staleTime checkpoints updated before this time in milliseconds are taken over
+   * @param tenantId  tenant id
+   * @return future with checkpoints taken over
+   */
+  Future<List<JsonObject>> claimStale(int limit, String owner, long claimedAt, long staleTime, String tenantId);
+
+  /**
+   * Deletes the checkpoint of the job
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future
+   */
+  Future<Void> delete(String jobExecutionId, String tenantId);
+
+  /**
+   * Gets ids of tenants which have the table of checkpoints
+   *
+   * @return future with list of tenant ids
+   */
+  Future<List<String>> getTenantIds();
+}
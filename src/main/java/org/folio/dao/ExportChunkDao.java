@@ -0,0 +1,90 @@
+package org.folio.dao;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data access object for jobs and chunks of the exports distributed across module instances
+ */
+public interface ExportChunkDao {
+
+  /**
+   * Saves parameters of the distributed export, which are the same for all chunks of the job
+   *
+   * @param jobExecutionId id of job execution
+   * @param jobPayload     parameters of the job
+   * @param tenantId       tenant id
+   * @return future
+   */
+  Future<Void> saveJob(String jobExecutionId, JsonObject jobPayload, String tenantId);
+
+  /**
+   * Gets parameters of the distributed export
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future with optional parameters of the job
+   */
+  Future<Optional<JsonObject>> getJob(String jobExecutionId, String tenantId);
+
+  /**
+   * Saves chunks of the distributed export, the chunks can be claimed by any module instance once they are saved
+   *
+   * @param chunks   chunks to save
+   * @param tenantId tenant id
+   * @return future
+   */
+  Future<Void> saveChunks(List<JsonObject> chunks, String tenantId);
+
+  /**
+   * Claims chunks which are not claimed yet or whose claim is expired, skipping chunks locked by other module instances.
+   * The last chunk of the job is claimed only when all other chunks of the job are completed.
+   *
+   * @param limit              maximum number of chunks to claim
+   * @param claimedAt          time of the claim in milliseconds
+   * @param claimExpirationTime claims made before this time in milliseconds are considered abandoned
+   * @param tenantId           tenant id
+   * @return future with claimed chunks
+   */
+  Future<List<JsonObject>> claimChunks(int limit, long claimedAt, long claimExpirationTime, String tenantId);
+
+  /**
+   * Marks the claimed chunk as completed, if it is still claimed by the given claim
+   *
+   * @param chunk                 claimed chunk
+   * @param sourcePath            path to the file with exported records of the chunk
+   * @param exportedRecordsNumber number of exported records
+   * @param failedRecordsNumber   number of failed records
+   * @param tenantId              tenant id
+   * @return future with true if the chunk is completed, false if the claim is lost or the job is finished
+   */
+  Future<Boolean> completeChunk(JsonObject chunk, String sourcePath, int exportedRecordsNumber, int failedRecordsNumber, String tenantId);
+
+  /**
+   * Gets completed chunks of the job in the order of chunk numbers
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future with list of completed chunks
+   */
+  Future<List<JsonObject>> getCompletedChunks(String jobExecutionId, String tenantId);
+
+  /**
+   * Deletes the job with all its chunks
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future
+   */
+  Future<Void> deleteJob(String jobExecutionId, String tenantId);
+
+  /**
+   * Gets ids of tenants which have the tables of distributed exports
+   *
+   * @return future with list of tenant ids
+   */
+  Future<List<String>> getTenantIds();
+}
@@ -23,13 +23,26 @@ public interface FileDefinitionDao {
   Future<Optional<FileDefinition>> getById(String id, String tenantId);
 
   /**
-   * Searches for {@link FileDefinition} by status or with updatedDate greater then {@code lastUpdateDate}
+   * Searches for {@link FileDefinition} by job execution id and file name
    *
-   * @param lastUpdateDate time of last fileDefinition changes
+   * @param jobExecutionId id of the job execution the file belongs to
+   * @param fileName       file name
+   * @param tenantId       tenant id
+   * @return future with optional {@link FileDefinition}
+   */
+  Future<Optional<FileDefinition>> getByJobExecutionIdAndFileName(String jobExecutionId, String fileName, String tenantId);
+
+  /**
+   * Searches for the page of {@link FileDefinition} with source path which were updated not later than {@code expirationDate},
+   * ordered by id
+   *
+   * @param expirationDate time of last fileDefinition changes
+   * @param afterId        id of the last entry of the previous page, null for the first page
+   * @param limit          maximum number of entries of the page
    * @param tenantId       tenant id
    * @return future with list of {@link FileDefinition}
    */
-  Future<List<FileDefinition>> getExpiredEntries(Date lastUpdateDate, String tenantId);
+  Future<List<FileDefinition>> getExpiredEntries(Date expirationDate, String afterId, int limit, String tenantId);
 
   /**
    * Saves {@link FileDefinition} to database
@@ -57,4 +70,13 @@ public interface FileDefinitionDao {
    * @return future with true is succeeded
    */
   Future<Boolean> deleteById(String id, String tenantId);
+
+  /**
+   * Deletes {@link FileDefinition}s from database by one statement
+   *
+   * @param ids      ids of {@link FileDefinition}s to delete
+   * @param tenantId tenant id
+   * @return future with number of deleted {@link FileDefinition}s
+   */
+  Future<Integer> deleteByIds(List<String> ids, String tenantId);
 }
@@ -19,9 +19,10 @@ public interface JobExecutionDao {
    * @param query  query string to filter jobExecutions based on matching criteria in fields
    * @param offset starting index in a list of results
    * @param limit  maximum number of results to return
+   * @param cursor cursor of the previous page, the offset is ignored if it is given
    * @return future with {@link JobExecutionCollection}
    */
-  Future<JobExecutionCollection> get(String query, int offset, int limit, String tenantId);
+  Future<JobExecutionCollection> get(String query, int offset, int limit, String cursor, String tenantId);
 
   /**
    * Saves {@link JobExecution}
@@ -68,4 +69,29 @@ public interface JobExecutionDao {
    */
   Future<List<JobExecution>> getExpiredEntries(Date lastUpdateDate, String tenantId);
 
+  /**
+   * Atomically adds the numbers of exported and failed records to the progress of {@link JobExecution},
+   * without reading the job execution
+   *
+   * @param jobExecutionId  job execution id
+   * @param exported        number of exported records to add
+   * @param failed          number of failed records to add
+   * @param lastUpdatedDate last updated date {@link Date}
+   * @param tenantId        tenant id
+   * @return future with true if the progress is updated, false if the job execution or its progress is absent
+   */
+  Future<Boolean> incrementProgress(String jobExecutionId, int exported, int failed, Date lastUpdatedDate, String tenantId);
+
+  /**
+   * Atomically sets the status and the completed date of {@link JobExecution} if the job execution is in progress,
+   * other fields of the job execution are kept as they are
+   *
+   * @param jobExecutionId job execution id
+   * @param status         status to set
+   * @param completedDate  completed date {@link Date}, also set as the last updated date
+   * @param tenantId       tenant id
+   * @return future with true if the status is updated, false if the job execution is absent or not in progress
+   */
+  Future<Boolean> updateStatusIfInProgress(String jobExecutionId, JobExecution.Status status, Date completedDate, String tenantId);
+
 }
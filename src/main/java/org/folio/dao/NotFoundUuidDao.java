@@ -0,0 +1,34 @@
+package org.folio.dao;
+
+import io.vertx.core.Future;
+import org.folio.rest.jaxrs.model.NotFoundUuidCollection;
+
+import java.util.Collection;
+
+/**
+ * Data access object for UUIDs not found in SRS or inventory during the export, stored one row per UUID so they are appended
+ * by the chunks of the job without rewriting the UUIDs saved before
+ */
+public interface NotFoundUuidDao {
+
+  /**
+   * Appends not found UUIDs of the job by a single multi-row insert
+   *
+   * @param jobExecutionId id of job execution
+   * @param uuids          not found UUIDs
+   * @param tenantId       tenant id
+   * @return future
+   */
+  Future<Void> save(String jobExecutionId, Collection<String> uuids, String tenantId);
+
+  /**
+   * Gets a page of not found UUIDs of the job sorted by UUID
+   *
+   * @param jobExecutionId id of job execution
+   * @param offset         offset
+   * @param limit          limit
+   * @param tenantId       tenant id
+   * @return future with {@link NotFoundUuidCollection}
+   */
+  Future<NotFoundUuidCollection> get(String jobExecutionId, int offset, int limit, String tenantId);
+}
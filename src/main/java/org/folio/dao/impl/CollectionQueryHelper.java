@@ -0,0 +1,269 @@
+package org.folio.dao.impl;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.cql2pgjson.exception.QueryValidationException;
+import org.folio.cql2pgjson.model.SqlSelect;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLParseException;
+import org.z3950.zing.cql.CQLParser;
+import org.z3950.zing.cql.CQLSortNode;
+import org.z3950.zing.cql.Modifier;
+import org.z3950.zing.cql.ModifierSet;
+
+import javax.ws.rs.BadRequestException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * Gets pages of collections by CQL query without running an exact count of the matching rows for every page.
+ * The total number of records is the planner estimate when it is greater than the exact count limit, and is counted
+ * exactly otherwise. Pages sorted by at most one field are ordered by the field and id, so the next page can be
+ * taken by a cursor, which holds the sort value and id of the last record of the page, instead of an offset.
+ */
+@Component
+public class CollectionQueryHelper {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String SELECT_QUERY = "SELECT jsonb FROM %s.%s WHERE %s ORDER BY %s LIMIT %d OFFSET %d";
+  private static final String ESTIMATE_QUERY = "EXPLAIN (FORMAT JSON) SELECT 1 FROM %s.%s WHERE %s";
+  private static final String COUNT_QUERY = "SELECT count(*) FROM %s.%s WHERE %s";
+  private static final String SORT_DESCENDING = "sort.descending";
+  private static final String CURSOR_KEY = "key";
+  private static final String CURSOR_ID = "id";
+  private static final Pattern SORT_FIELD_PATTERN = Pattern.compile("\\w+(\\.\\w+)*");
+
+  private final PostgresClientFactory pgClientFactory;
+  private final int exactCountLimit;
+
+  @Autowired
+  public CollectionQueryHelper(PostgresClientFactory pgClientFactory, @Value("${export.paging.exactCountLimit}") int exactCountLimit) {
+    this.pgClientFactory = pgClientFactory;
+    this.exactCountLimit = exactCountLimit;
+  }
+
+  /**
+   * Gets the page of the collection matching the query
+   *
+   * @param table    table name
+   * @param query    CQL query, all the records are matched if it is empty
+   * @param offset   starting index of the page, ignored if the cursor is given
+   * @param limit    maximum number of records of the page
+   * @param cursor   cursor of the previous page, may be null
+   * @param tenantId tenant id
+   * @return future with the page, failed with BadRequestException if the query or cursor is invalid
+   */
+  public Future<Page> get(String table, String query, int offset, int limit, String cursor, String tenantId) {
+    try {
+      SqlSelect sqlSelect = StringUtils.isBlank(query) ? null : new CQL2PgJSON(table + ".jsonb").toSql(query);
+      String where = sqlSelect == null || StringUtils.isBlank(sqlSelect.getWhere()) ? "true" : sqlSelect.getWhere();
+      SortKey sortKey = SortKey.of(table, query);
+      String schema = PostgresClient.convertToPsqlStandard(tenantId);
+      PostgresClient pgClient = pgClientFactory.getInstance(tenantId);
+
+      Future<RowSet<Row>> rows;
+      if (sortKey == null) {
+        if (cursor != null) {
+          throw new BadRequestException("Cursor can be used with queries sorted by at most one field");
+        }
+        String orderBy = StringUtils.isBlank(sqlSelect.getOrderBy()) ? table + ".id" : sqlSelect.getOrderBy();
+        rows = select(pgClient, format(SELECT_QUERY, schema, table, where, orderBy, limit, offset), Tuple.tuple());
+      } else if (cursor == null) {
+        rows = select(pgClient, format(SELECT_QUERY, schema, table, where, sortKey.orderBy(), limit, offset), Tuple.tuple());
+      } else {
+        JsonObject decodedCursor = decodeCursor(cursor);
+        String key = decodedCursor.getString(CURSOR_KEY);
+        UUID id = UUID.fromString(decodedCursor.getString(CURSOR_ID));
+        String keysetWhere = format("(%s) AND %s", where, sortKey.after(key));
+        rows = select(pgClient, format(SELECT_QUERY, schema, table, keysetWhere, sortKey.orderBy(), limit, 0),
+          sortKey.hasValue() && key != null ? Tuple.of(key, id) : Tuple.of(id));
+      }
+      Future<Integer> totalRecords = count(pgClient, schema, table, where);
+      return CompositeFuture.all(rows, totalRecords).map(ar -> {
+        List<JsonObject> records = new ArrayList<>();
+        rows.result().forEach(row -> records.add(row.getJsonObject("jsonb")));
+        String nextCursor = sortKey != null && limit > 0 && records.size() == limit
+          ? sortKey.cursorOf(records.get(records.size() - 1))
+          : null;
+        return new Page(records, totalRecords.result(), nextCursor);
+      });
+    } catch (BadRequestException e) {
+      return Future.failedFuture(e);
+    } catch (FieldException | QueryValidationException | CQLParseException | IOException e) {
+      LOGGER.error("Error while querying {} by query {}", table, query, e);
+      return Future.failedFuture(new BadRequestException(e.getMessage()));
+    } catch (Exception e) {
+      LOGGER.error("Error while querying {} by query {}", table, query, e);
+      return Future.failedFuture(e);
+    }
+  }
+
+  private Future<RowSet<Row>> select(PostgresClient pgClient, String sql, Tuple params) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(sql, params, promise);
+    return promise.future();
+  }
+
+  private Future<Integer> count(PostgresClient pgClient, String schema, String table, String where) {
+    return select(pgClient, format(ESTIMATE_QUERY, schema, table, where), Tuple.tuple())
+      .map(plan -> new JsonArray(plan.iterator().next().getValue(0).toString())
+        .getJsonObject(0).getJsonObject("Plan").getLong("Plan Rows"))
+      .compose(estimate -> estimate > exactCountLimit
+        ? Future.succeededFuture(estimate.intValue())
+        : select(pgClient, format(COUNT_QUERY, schema, table, where), Tuple.tuple())
+          .map(count -> count.iterator().next().getLong(0).intValue()));
+  }
+
+  private JsonObject decodeCursor(String cursor) {
+    try {
+      JsonObject decodedCursor = new JsonObject(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+      UUID.fromString(decodedCursor.getString(CURSOR_ID));
+      if (!(decodedCursor.getValue(CURSOR_KEY) == null || decodedCursor.getValue(CURSOR_KEY) instanceof String)) {
+        throw new IllegalArgumentException("Sort value of the cursor is not a text");
+      }
+      return decodedCursor;
+    } catch (Exception e) {
+      throw new BadRequestException(format("Invalid cursor %s", cursor));
+    }
+  }
+
+  /**
+   * Page of the collection
+   */
+  public static class Page {
+    private final List<JsonObject> records;
+    private final int totalRecords;
+    private final String nextCursor;
+
+    Page(List<JsonObject> records, int totalRecords, String nextCursor) {
+      this.records = records;
+      this.totalRecords = totalRecords;
+      this.nextCursor = nextCursor;
+    }
+
+    public List<JsonObject> getRecords() {
+      return records;
+    }
+
+    public int getTotalRecords() {
+      return totalRecords;
+    }
+
+    /**
+     * @return cursor of the next page, null if the page is the last one or the query can not be paged by cursor
+     */
+    public String getNextCursor() {
+      return nextCursor;
+    }
+  }
+
+  /**
+   * Sort field and direction of the query. Sort values are ordered as CQL2PgJSON orders them: as lower case text
+   * without accents, missing values last in ascending order and first in descending order. The cursor holds the text
+   * of the sort value, which is lower cased and unaccented by the database when the next page is taken.
+   */
+  private static class SortKey {
+    private final String table;
+    private final List<String> path;
+    private final boolean descending;
+
+    private SortKey(String table, List<String> path, boolean descending) {
+      this.table = table;
+      this.path = path;
+      this.descending = descending;
+    }
+
+    /**
+     * @return sort key of the query, sorting by id if the query is not sorted, or null if it is sorted by several fields
+     */
+    static SortKey of(String table, String query) throws CQLParseException, IOException {
+      CQLNode node = StringUtils.isBlank(query) ? null : new CQLParser().parse(query);
+      if (!(node instanceof CQLSortNode)) {
+        return new SortKey(table, List.of(), false);
+      }
+      List<ModifierSet> sortIndexes = ((CQLSortNode) node).getSortIndexes();
+      if (sortIndexes.size() != 1 || !SORT_FIELD_PATTERN.matcher(sortIndexes.get(0).getBase()).matches()) {
+        return null;
+      }
+      boolean descending = sortIndexes.get(0).getModifiers().stream()
+        .map(Modifier::getType)
+        .anyMatch(SORT_DESCENDING::equalsIgnoreCase);
+      return new SortKey(table, List.of(sortIndexes.get(0).getBase().split("\\.")), descending);
+    }
+
+    boolean hasValue() {
+      return !path.isEmpty();
+    }
+
+    String value() {
+      StringBuilder value = new StringBuilder(table).append(".jsonb");
+      for (int i = 0; i < path.size(); i++) {
+        value.append(i == path.size() - 1 ? "->>'" : "->'").append(path.get(i)).append("'");
+      }
+      return format("lower(f_unaccent(%s))", value);
+    }
+
+    String orderBy() {
+      String direction = descending ? " DESC" : " ASC";
+      return hasValue()
+        ? value() + direction + ", " + table + ".id" + direction
+        : table + ".id" + direction;
+    }
+
+    /**
+     * @param key sort value of the last record of the previous page, null if the record has no sort value
+     * @return condition of the records after the last one, the sort value is parameter $1 and the id is the last parameter
+     */
+    String after(String key) {
+      String id = table + ".id";
+      if (!hasValue()) {
+        return format("%s %s $1", id, descending ? "<" : ">");
+      }
+      String value = value();
+      if (descending) {
+        return key == null
+          ? format("((%s IS NULL AND %s < $1) OR %s IS NOT NULL)", value, id, value)
+          : format("(%1$s < lower(f_unaccent($1)) OR (%1$s = lower(f_unaccent($1)) AND %2$s < $2))", value, id);
+      }
+      return key == null
+        ? format("(%s IS NULL AND %s > $1)", value, id)
+        : format("(%1$s > lower(f_unaccent($1)) OR (%1$s = lower(f_unaccent($1)) AND %2$s > $2) OR %1$s IS NULL)", value, id);
+    }
+
+    String cursorOf(JsonObject record) {
+      Object key = hasValue() ? record : null;
+      for (String field : path) {
+        key = key instanceof JsonObject ? ((JsonObject) key).getValue(field) : null;
+      }
+      // the cursor holds the sort value as text, as it is taken from jsonb by ->>
+      JsonObject cursor = new JsonObject()
+        .put(CURSOR_KEY, key == null || key instanceof String ? key : Json.encode(key))
+        .put(CURSOR_ID, record.getString("id"));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.encode().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -6,45 +6,50 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import org.folio.dao.ErrorLogDao;
 import org.folio.rest.jaxrs.model.ErrorLog;
 import org.folio.rest.jaxrs.model.ErrorLogCollection;
 import org.folio.rest.persist.Criteria.Criterion;
-import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.interfaces.Results;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.ws.rs.NotFoundException;
 import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
-import static org.folio.util.HelperUtils.getCQLWrapper;
+import static java.lang.String.format;
 
 @Repository
 public class ErrorLogDaoImpl implements ErrorLogDao {
   private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final String TABLE = "error_logs";
+  private static final String SAVE_IF_ABSENT_QUERY = "INSERT INTO %s.%s (id, jsonb) VALUES ($1, $2) ON CONFLICT (id) DO NOTHING";
+  private static final String COUNT_BY_ERROR_CODE_QUERY = "SELECT jsonb->>'errorMessageCode' AS code, count(*) AS count FROM %s.%s " +
+    "WHERE jsonb->>'jobExecutionId' = $1 GROUP BY jsonb->>'errorMessageCode'";
 
   @Autowired
   private PostgresClientFactory pgClientFactory;
+  @Autowired
+  private CollectionQueryHelper collectionQueryHelper;
 
   @Override
-  public Future<ErrorLogCollection> get(String query, int offset, int limit, String tenantId) {
-    Promise<Results<ErrorLog>> promise = Promise.promise();
-    try {
-      String[] fieldList = {"*"};
-      CQLWrapper cql = getCQLWrapper(TABLE, query, limit, offset);
-      pgClientFactory.getInstance(tenantId).get(TABLE, ErrorLog.class, fieldList, cql, true, false, promise);
-    } catch (Exception e) {
-      LOGGER.error(e);
-      promise.fail(e);
-    }
-    return promise.future().map(results -> new ErrorLogCollection()
-      .withErrorLogs(results.getResults())
-      .withTotalRecords(results.getResultInfo().getTotalRecords()));
+  public Future<ErrorLogCollection> get(String query, int offset, int limit, String cursor, String tenantId) {
+    return collectionQueryHelper.get(TABLE, query, offset, limit, cursor, tenantId)
+      .map(page -> new ErrorLogCollection()
+        .withErrorLogs(page.getRecords().stream()
+          .map(errorLog -> errorLog.mapTo(ErrorLog.class))
+          .collect(Collectors.toList()))
+        .withTotalRecords(page.getTotalRecords())
+        .withNextCursor(page.getNextCursor()));
   }
 
   @Override
@@ -66,6 +71,49 @@ public class ErrorLogDaoImpl implements ErrorLogDao {
     return promise.future().map(errorLog);
   }
 
+  @Override
+  public Future<Void> saveBatch(List<ErrorLog> errorLogs, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      pgClientFactory.getInstance(tenantId).saveBatch(TABLE, errorLogs, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error during saving batch of {} errorLogs", errorLogs.size(), e);
+      promise.fail(e);
+    }
+    return promise.future().mapEmpty();
+  }
+
+  @Override
+  public Future<Boolean> saveIfAbsent(ErrorLog errorLog, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(SAVE_IF_ABSENT_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      Tuple params = Tuple.of(UUID.fromString(errorLog.getId()), PostgresClient.pojo2JsonObject(errorLog));
+      pgClientFactory.getInstance(tenantId).execute(query, params, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error saving errorLog with id {}", errorLog.getId(), e);
+      promise.fail(e);
+    }
+    return promise.future().map(saveResult -> saveResult.rowCount() == 1);
+  }
+
+  @Override
+  public Future<Map<String, Long>> countByErrorCode(String jobExecutionId, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(COUNT_BY_ERROR_CODE_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      pgClientFactory.getInstance(tenantId).execute(query, Tuple.of(jobExecutionId), promise);
+    } catch (Exception e) {
+      LOGGER.error("Error counting error logs of job execution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(rows -> {
+      Map<String, Long> counts = new HashMap<>();
+      rows.forEach(row -> counts.put(row.getString("code"), row.getLong("count")));
+      return counts;
+    });
+  }
+
   @Override
   public Future<ErrorLog> update(ErrorLog errorLog, String tenantId) {
     Promise<ErrorLog> promise = Promise.promise();
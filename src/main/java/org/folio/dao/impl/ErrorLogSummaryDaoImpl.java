@@ -0,0 +1,49 @@
+package org.folio.dao.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.dao.ErrorLogSummaryDao;
+import org.folio.rest.jaxrs.model.ErrorLogSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+
+@Repository
+public class ErrorLogSummaryDaoImpl implements ErrorLogSummaryDao {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String TABLE = "error_log_summaries";
+
+  @Autowired
+  private PostgresClientFactory pgClientFactory;
+
+  @Override
+  public Future<ErrorLogSummary> save(ErrorLogSummary summary, String tenantId) {
+    Promise<String> promise = Promise.promise();
+    // the summary is identified by the job execution, so a job finalized again gets its summary replaced
+    summary.setId(summary.getJobExecutionId());
+    try {
+      pgClientFactory.getInstance(tenantId).upsert(TABLE, summary.getId(), summary, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error saving error log summary of job execution with id {}", summary.getJobExecutionId(), e);
+      promise.fail(e);
+    }
+    return promise.future().map(summary);
+  }
+
+  @Override
+  public Future<Optional<ErrorLogSummary>> getByJobExecutionId(String jobExecutionId, String tenantId) {
+    Promise<ErrorLogSummary> promise = Promise.promise();
+    try {
+      pgClientFactory.getInstance(tenantId).getById(TABLE, jobExecutionId, ErrorLogSummary.class, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error getting error log summary of job execution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(Optional::ofNullable);
+  }
+}
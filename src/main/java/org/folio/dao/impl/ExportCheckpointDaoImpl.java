@@ -0,0 +1,101 @@
+package org.folio.dao.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.dao.ExportCheckpointDao;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+@Repository
+public class ExportCheckpointDaoImpl implements ExportCheckpointDao {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String TABLE = "export_checkpoints";
+  private static final String JSONB_COLUMN = "jsonb";
+  private static final String COMMIT_CHUNK_QUERY = "UPDATE %s.%s SET jsonb = jsonb || jsonb_build_object(" +
+    "'committedChunks', $3::int, 'outputPath', $4::text, 'outputLength', $5::bigint, " +
+    "'exportedRecordsNumber', COALESCE((jsonb->>'exportedRecordsNumber')::int, 0) + $6::int, " +
+    "'failedRecordsNumber', COALESCE((jsonb->>'failedRecordsNumber')::int, 0) + $7::int, 'updatedAt', $8::bigint) " +
+    "WHERE id = $1 AND jsonb->>'owner' = $2";
+  /* Takes over stale checkpoints of other instances skipping the rows locked by instances taking them over at the same time */
+  private static final String CLAIM_STALE_QUERY = "UPDATE %1$s.%2$s SET jsonb = jsonb || jsonb_build_object('owner', $1::text, 'updatedAt', $2::bigint) " +
+    "WHERE id IN (SELECT id FROM %1$s.%2$s WHERE (jsonb->>'updatedAt')::bigint < $3 AND jsonb->>'owner' <> $1 " +
+    "LIMIT $4 FOR UPDATE SKIP LOCKED) " +
+    "RETURNING jsonb";
+
+  @Autowired
+  private PostgresClientFactory pgClientFactory;
+
+  @Override
+  public Future<Void> save(String jobExecutionId, JsonObject checkpoint, String tenantId) {
+    Promise<String> promise = Promise.promise();
+    pgClientFactory.getInstance(tenantId).save(TABLE, jobExecutionId, checkpoint, promise);
+    return promise.future().mapEmpty();
+  }
+
+  @Override
+  public Future<Boolean> commitChunk(String jobExecutionId, String owner, int committedChunks, String outputPath, long outputLength,
+                                     int exportedRecordsNumber, int failedRecordsNumber, long updatedAt, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(COMMIT_CHUNK_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      Tuple params = Tuple.of(UUID.fromString(jobExecutionId), owner, committedChunks, outputPath, outputLength)
+        .addInteger(exportedRecordsNumber)
+        .addInteger(failedRecordsNumber)
+        .addLong(updatedAt);
+      pgClientFactory.getInstance(tenantId).execute(query, params, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error updating checkpoint of job execution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+  }
+
+  @Override
+  public Future<List<JsonObject>> claimStale(int limit, String owner, long claimedAt, long staleTime, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(CLAIM_STALE_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      pgClientFactory.getInstance(tenantId).execute(query, Tuple.of(owner, claimedAt, staleTime, limit), promise);
+    } catch (Exception e) {
+      LOGGER.error("Error taking over stale checkpoints", e);
+      promise.fail(e);
+    }
+    return promise.future().map(rows -> {
+      List<JsonObject> checkpoints = new ArrayList<>();
+      rows.forEach(row -> checkpoints.add(row.getJsonObject(JSONB_COLUMN)));
+      return checkpoints;
+    });
+  }
+
+  @Override
+  public Future<Void> delete(String jobExecutionId, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      pgClientFactory.getInstance(tenantId).delete(TABLE, jobExecutionId, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error deleting checkpoint of job execution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().mapEmpty();
+  }
+
+  @Override
+  public Future<List<String>> getTenantIds() {
+    return pgClientFactory.getTenantIds(TABLE);
+  }
+}
@@ -0,0 +1,147 @@
+package org.folio.dao.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.dao.ExportChunkDao;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+@Repository
+public class ExportChunkDaoImpl implements ExportChunkDao {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String JOBS_TABLE = "export_jobs";
+  private static final String CHUNKS_TABLE = "export_chunks";
+  private static final String JSONB_COLUMN = "jsonb";
+  public static final String STATUS_NEW = "NEW";
+  public static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+  public static final String STATUS_COMPLETED = "COMPLETED";
+  /* Claims chunks skipping the rows locked by claims of other instances, the last chunk of a job waits for all other chunks of the job */
+  private static final String CLAIM_CHUNKS_QUERY = "UPDATE %1$s.%2$s SET jsonb = jsonb || jsonb_build_object('status', '" + STATUS_IN_PROGRESS + "', 'claimedAt', $1::bigint) " +
+    "WHERE id IN (SELECT chunk.id FROM %1$s.%2$s chunk " +
+    "WHERE (chunk.jsonb->>'status' = '" + STATUS_NEW + "' OR (chunk.jsonb->>'status' = '" + STATUS_IN_PROGRESS + "' AND (chunk.jsonb->>'claimedAt')::bigint < $2)) " +
+    "AND (NOT (chunk.jsonb->>'last')::boolean OR NOT EXISTS (SELECT 1 FROM %1$s.%2$s previous " +
+    "WHERE previous.jsonb->>'jobExecutionId' = chunk.jsonb->>'jobExecutionId' AND NOT (previous.jsonb->>'last')::boolean " +
+    "AND previous.jsonb->>'status' <> '" + STATUS_COMPLETED + "')) " +
+    "ORDER BY (chunk.jsonb->>'chunkNumber')::int LIMIT $3 FOR UPDATE SKIP LOCKED) " +
+    "RETURNING jsonb";
+  private static final String COMPLETE_CHUNK_QUERY = "UPDATE %s.%s SET jsonb = jsonb || jsonb_build_object('status', '" + STATUS_COMPLETED + "', " +
+    "'sourcePath', $3::text, 'exportedRecordsNumber', $4::int, 'failedRecordsNumber', $5::int) " +
+    "WHERE id = $1 AND jsonb->>'status' = '" + STATUS_IN_PROGRESS + "' AND (jsonb->>'claimedAt')::bigint = $2";
+  private static final String GET_COMPLETED_CHUNKS_QUERY = "SELECT jsonb FROM %s.%s WHERE jsonb->>'jobExecutionId' = $1 " +
+    "AND jsonb->>'status' = '" + STATUS_COMPLETED + "' ORDER BY (jsonb->>'chunkNumber')::int";
+  private static final String DELETE_CHUNKS_QUERY = "DELETE FROM %s.%s WHERE jsonb->>'jobExecutionId' = $1";
+
+  @Autowired
+  private PostgresClientFactory pgClientFactory;
+
+  @Override
+  public Future<Void> saveJob(String jobExecutionId, JsonObject jobPayload, String tenantId) {
+    Promise<String> promise = Promise.promise();
+    pgClientFactory.getInstance(tenantId).save(JOBS_TABLE, jobExecutionId, jobPayload, promise);
+    return promise.future().mapEmpty();
+  }
+
+  @Override
+  public Future<Optional<JsonObject>> getJob(String jobExecutionId, String tenantId) {
+    Promise<JsonObject> promise = Promise.promise();
+    try {
+      pgClientFactory.getInstance(tenantId).getById(JOBS_TABLE, jobExecutionId, promise);
+    } catch (Exception e) {
+      LOGGER.error(e.getMessage(), e);
+      promise.fail(e);
+    }
+    return promise.future().map(Optional::ofNullable);
+  }
+
+  @Override
+  public Future<Void> saveChunks(List<JsonObject> chunks, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClientFactory.getInstance(tenantId).saveBatch(CHUNKS_TABLE, new JsonArray(new ArrayList<>(chunks)), promise);
+    return promise.future().mapEmpty();
+  }
+
+  @Override
+  public Future<List<JsonObject>> claimChunks(int limit, long claimedAt, long claimExpirationTime, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(CLAIM_CHUNKS_QUERY, PostgresClient.convertToPsqlStandard(tenantId), CHUNKS_TABLE);
+      pgClientFactory.getInstance(tenantId).execute(query, Tuple.of(claimedAt, claimExpirationTime, limit), promise);
+    } catch (Exception e) {
+      LOGGER.error("Error claiming chunks of distributed exports", e);
+      promise.fail(e);
+    }
+    return promise.future().map(this::mapRowsToJson);
+  }
+
+  @Override
+  public Future<Boolean> completeChunk(JsonObject chunk, String sourcePath, int exportedRecordsNumber, int failedRecordsNumber, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(COMPLETE_CHUNK_QUERY, PostgresClient.convertToPsqlStandard(tenantId), CHUNKS_TABLE);
+      Tuple params = Tuple.of(UUID.fromString(chunk.getString("id")), chunk.getLong("claimedAt"), sourcePath, exportedRecordsNumber, failedRecordsNumber);
+      pgClientFactory.getInstance(tenantId).execute(query, params, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error completing chunk with id {}", chunk.getString("id"), e);
+      promise.fail(e);
+    }
+    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+  }
+
+  @Override
+  public Future<List<JsonObject>> getCompletedChunks(String jobExecutionId, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(GET_COMPLETED_CHUNKS_QUERY, PostgresClient.convertToPsqlStandard(tenantId), CHUNKS_TABLE);
+      pgClientFactory.getInstance(tenantId).select(query, Tuple.of(jobExecutionId), promise);
+    } catch (Exception e) {
+      LOGGER.error("Error getting completed chunks of job execution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(this::mapRowsToJson);
+  }
+
+  @Override
+  public Future<Void> deleteJob(String jobExecutionId, String tenantId) {
+    Promise<RowSet<Row>> chunksPromise = Promise.promise();
+    try {
+      String query = format(DELETE_CHUNKS_QUERY, PostgresClient.convertToPsqlStandard(tenantId), CHUNKS_TABLE);
+      pgClientFactory.getInstance(tenantId).execute(query, Tuple.of(jobExecutionId), chunksPromise);
+    } catch (Exception e) {
+      LOGGER.error("Error deleting chunks of job execution with id {}", jobExecutionId, e);
+      chunksPromise.fail(e);
+    }
+    return chunksPromise.future().compose(deleteResult -> {
+      Promise<RowSet<Row>> jobPromise = Promise.promise();
+      pgClientFactory.getInstance(tenantId).delete(JOBS_TABLE, jobExecutionId, jobPromise);
+      return jobPromise.future();
+    }).mapEmpty();
+  }
+
+  @Override
+  public Future<List<String>> getTenantIds() {
+    return pgClientFactory.getTenantIds(CHUNKS_TABLE);
+  }
+
+  private List<JsonObject> mapRowsToJson(RowSet<Row> rows) {
+    List<JsonObject> result = new ArrayList<>();
+    rows.forEach(row -> result.add(row.getJsonObject(JSONB_COLUMN)));
+    return result;
+  }
+}
@@ -6,31 +6,42 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import java.lang.invoke.MethodHandles;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.folio.dao.FileDefinitionDao;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
+import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.interfaces.Results;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
-import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static java.lang.String.format;
 
 @Repository
 public class FileDefinitionDaoImpl implements FileDefinitionDao {
   private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
-  private static final String SOURCE_PATH_FIELD = "'sourcePath'";
-  private static final String NOT_EQUAL_OPERATION = "<>";
-  private static final String METADATA_FIELD = "'metadata'";
-  private static final String UPDATED_DATE_FIELD = "'updatedDate'";
-  private static final String LESS_OR_EQUAL_OPERATION = "<=";
+  private static final String JOB_EXECUTION_ID_FIELD = "'jobExecutionId'";
+  private static final String FILE_NAME_FIELD = "'fileName'";
+  private static final String EQUAL_OPERATION = "=";
   private static final String AND_OPERATION = "AND";
   private static final String TABLE = "file_definitions";
+  /* Expired entries are taken in pages ordered by id, so entries which are not deleted are not taken again */
+  /* Planned with the partial index of file definitions with a source path on id, see add_indexes_for_job_queries.sql */
+  public static final String EXPIRED_ENTRIES_QUERY = "SELECT jsonb FROM %s.%s WHERE (jsonb->>'sourcePath') <> '' "
+    + "AND (jsonb->'metadata'->>'updatedDate') <= $1 AND id > $2 ORDER BY id LIMIT $3";
+  private static final String DELETE_BY_IDS_QUERY = "DELETE FROM %s.%s WHERE id = ANY($1)";
+  /* Format of dates of the metadata, so the expiration date is compared with the updated date as text */
+  private static final DateTimeFormatter UPDATED_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneOffset.UTC);
 
   private PostgresClientFactory pgClientFactory;
 
@@ -51,16 +62,44 @@ public class FileDefinitionDaoImpl implements FileDefinitionDao {
   }
 
   @Override
-  public Future<List<FileDefinition>> getExpiredEntries(Date expirationDate, String tenantId) {
+  public Future<Optional<FileDefinition>> getByJobExecutionIdAndFileName(String jobExecutionId, String fileName, String tenantId) {
     Promise<Results<FileDefinition>> promise = Promise.promise();
     try {
-      Criterion expiredEntriesCriterion = constructExpiredEntriesCriterion(expirationDate);
-      pgClientFactory.getInstance(tenantId).get(TABLE, FileDefinition.class, expiredEntriesCriterion, false, promise);
+      Criteria jobExecutionIdCriteria = new Criteria();
+      jobExecutionIdCriteria.addField(JOB_EXECUTION_ID_FIELD)
+        .setOperation(EQUAL_OPERATION)
+        .setVal(jobExecutionId);
+      Criteria fileNameCriteria = new Criteria();
+      fileNameCriteria.addField(FILE_NAME_FIELD)
+        .setOperation(EQUAL_OPERATION)
+        .setVal(fileName);
+      Criterion criterion = new Criterion();
+      criterion.addCriterion(jobExecutionIdCriteria, AND_OPERATION, fileNameCriteria);
+      pgClientFactory.getInstance(tenantId).get(TABLE, FileDefinition.class, criterion, false, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error during getting fileDefinition by jobExecutionId {} and fileName {}", jobExecutionId, fileName, e);
+      promise.fail(e);
+    }
+    return promise.future().map(results -> results.getResults().stream().findFirst());
+  }
+
+  @Override
+  public Future<List<FileDefinition>> getExpiredEntries(Date expirationDate, String afterId, int limit, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(EXPIRED_ENTRIES_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      UUID fromId = afterId == null ? new UUID(0, 0) : UUID.fromString(afterId);
+      pgClientFactory.getInstance(tenantId).select(query,
+        Tuple.of(UPDATED_DATE_FORMAT.format(expirationDate.toInstant()), fromId, limit), promise);
     } catch (Exception e) {
       LOGGER.error("Error during getting fileDefinition entries by expired date", e);
       promise.fail(e);
     }
-    return promise.future().map(Results::getResults);
+    return promise.future().map(rows -> {
+      List<FileDefinition> fileDefinitions = new ArrayList<>();
+      rows.forEach(row -> fileDefinitions.add(row.getJsonObject("jsonb").mapTo(FileDefinition.class)));
+      return fileDefinitions;
+    });
   }
 
   @Override
@@ -84,20 +123,21 @@ public class FileDefinitionDaoImpl implements FileDefinitionDao {
     return promise.future().map(updateResult -> updateResult.rowCount() == 1);
   }
 
-
-  private Criterion constructExpiredEntriesCriterion(Date expirationDate) {
-    Criterion criterion = new Criterion();
-    Criteria notEmptySourcePathCriteria = new Criteria();
-    notEmptySourcePathCriteria.addField(SOURCE_PATH_FIELD)
-      .setOperation(NOT_EQUAL_OPERATION)
-      .setVal(EMPTY);
-    Criteria lastUpdateDateCriteria = new Criteria();
-    lastUpdateDateCriteria.addField(METADATA_FIELD)
-      .addField(UPDATED_DATE_FIELD)
-      .setOperation(LESS_OR_EQUAL_OPERATION)
-      .setVal(expirationDate.toString());
-    criterion.addCriterion(notEmptySourcePathCriteria, AND_OPERATION, lastUpdateDateCriteria);
-    return criterion;
+  @Override
+  public Future<Integer> deleteByIds(List<String> ids, String tenantId) {
+    if (ids.isEmpty()) {
+      return Future.succeededFuture(0);
+    }
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(DELETE_BY_IDS_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      UUID[] uuids = ids.stream().map(UUID::fromString).toArray(UUID[]::new);
+      pgClientFactory.getInstance(tenantId).execute(query, Tuple.tuple().addArrayOfUUID(uuids), promise);
+    } catch (Exception e) {
+      LOGGER.error("Error during deleting fileDefinitions by ids", e);
+      promise.fail(e);
+    }
+    return promise.future().map(RowSet::rowCount);
   }
 
 }
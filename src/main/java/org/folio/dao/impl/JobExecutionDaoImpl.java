@@ -6,26 +6,29 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
-import org.folio.cql2pgjson.exception.FieldException;
+import io.vertx.sqlclient.Tuple;
 import org.folio.dao.JobExecutionDao;
 import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.rest.jaxrs.model.JobExecutionCollection;
+import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
-import org.folio.rest.persist.cql.CQLWrapper;
 import org.folio.rest.persist.interfaces.Results;
-import org.folio.util.HelperUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.ws.rs.NotFoundException;
 import java.lang.invoke.MethodHandles;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static java.lang.String.format;
 import static java.util.Objects.isNull;
 
 @Repository
@@ -37,24 +40,32 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
   private static final String LAST_UPDATED_DATE_FIELD = "'lastUpdatedDate'";
   private static final String STATUS_FIELD = "'status'";
   private static final SimpleDateFormat DATE_TIME_FORMAT_FOR_POSTGRES = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+  private static final DateTimeFormatter LAST_UPDATED_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneOffset.UTC);
+  private static final String INCREMENT_PROGRESS_QUERY = "UPDATE %s.%s SET jsonb = jsonb_set(jsonb_set(jsonb_set(jsonb, " +
+    "'{progress,exported}', to_jsonb(COALESCE((jsonb->'progress'->>'exported')::int, 0) + $2)), " +
+    "'{progress,failed}', to_jsonb(COALESCE((jsonb->'progress'->>'failed')::int, 0) + $3)), " +
+    "'{lastUpdatedDate}', to_jsonb($4::text)) " +
+    "WHERE id = $1 AND jsonb ? 'progress'";
+  private static final String UPDATE_STATUS_IF_IN_PROGRESS_QUERY = "UPDATE %s.%s SET jsonb = jsonb_set(jsonb_set(jsonb_set(jsonb, " +
+    "'{status}', to_jsonb($2::text)), " +
+    "'{completedDate}', to_jsonb($3::text)), " +
+    "'{lastUpdatedDate}', to_jsonb($3::text)) " +
+    "WHERE id = $1 AND jsonb->>'status' = 'IN_PROGRESS'";
 
   @Autowired
   private PostgresClientFactory pgClientFactory;
+  @Autowired
+  private CollectionQueryHelper collectionQueryHelper;
 
   @Override
-  public Future<JobExecutionCollection> get(String query, int offset, int limit, String tenantId) {
-    Promise<Results<JobExecution>> promise = Promise.promise();
-    try {
-      String[] fieldList = {"*"};
-      CQLWrapper cql = HelperUtils.getCQLWrapper(TABLE, query, limit, offset);
-      pgClientFactory.getInstance(tenantId).get(TABLE, JobExecution.class, fieldList, cql, true, false, promise);
-    } catch (FieldException exception) {
-      LOGGER.error("Error while querying jobExecutions", exception);
-      promise.fail(exception);
-    }
-    return promise.future().map(results -> new JobExecutionCollection()
-      .withJobExecutions(results.getResults())
-      .withTotalRecords(results.getResultInfo().getTotalRecords()));
+  public Future<JobExecutionCollection> get(String query, int offset, int limit, String cursor, String tenantId) {
+    return collectionQueryHelper.get(TABLE, query, offset, limit, cursor, tenantId)
+      .map(page -> new JobExecutionCollection()
+        .withJobExecutions(page.getRecords().stream()
+          .map(jobExecution -> jobExecution.mapTo(JobExecution.class))
+          .collect(Collectors.toList()))
+        .withTotalRecords(page.getTotalRecords())
+        .withNextCursor(page.getNextCursor()));
   }
 
   @Override
@@ -118,6 +129,20 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
     return promise.future().map(updateResult -> updateResult.rowCount() == 1);
   }
 
+  @Override
+  public Future<Boolean> updateStatusIfInProgress(String jobExecutionId, JobExecution.Status status, Date completedDate, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(UPDATE_STATUS_IF_IN_PROGRESS_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      Tuple params = Tuple.of(UUID.fromString(jobExecutionId), status.value(), LAST_UPDATED_DATE_FORMAT.format(completedDate.toInstant()));
+      pgClientFactory.getInstance(tenantId).execute(query, params, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error updating status of jobExecution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+  }
+
   @Override
   public Future<List<JobExecution>> getExpiredEntries(Date expirationDate, String tenantId) {
     LOGGER.debug("Expiration date {}", expirationDate);
@@ -133,7 +158,21 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
 
   }
 
-  private Criterion constructExpiredEntriesCriterion(Date expirationDate) {
+  @Override
+  public Future<Boolean> incrementProgress(String jobExecutionId, int exported, int failed, Date lastUpdatedDate, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(INCREMENT_PROGRESS_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      Tuple params = Tuple.of(UUID.fromString(jobExecutionId), exported, failed, LAST_UPDATED_DATE_FORMAT.format(lastUpdatedDate.toInstant()));
+      pgClientFactory.getInstance(tenantId).execute(query, params, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error incrementing progress of jobExecution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+  }
+
+  public static Criterion constructExpiredEntriesCriterion(Date expirationDate) {
     Criterion criterion = new Criterion();
     Criteria lastUpdateDateCriteria = new Criteria();
     lastUpdateDateCriteria.addField(LAST_UPDATED_DATE_FIELD)
@@ -30,13 +30,19 @@ public class JobProfileDaoImpl implements JobProfileDao {
   private static final String TABLE = "job_profiles";
 
   private PostgresClientFactory pgClientFactory;
+  private ProfileCache profileCache;
 
-  public JobProfileDaoImpl(@Autowired PostgresClientFactory pgClientFactory) {
+  public JobProfileDaoImpl(@Autowired PostgresClientFactory pgClientFactory, @Autowired ProfileCache profileCache) {
     this.pgClientFactory = pgClientFactory;
+    this.profileCache = profileCache;
   }
 
   @Override
   public Future<Optional<JobProfile>> getById(String id, String tenantId) {
+    Optional<JobProfile> cachedJobProfile = profileCache.get(TABLE, id, tenantId, JobProfile.class);
+    if (cachedJobProfile.isPresent()) {
+      return Future.succeededFuture(cachedJobProfile);
+    }
     Promise<JobProfile> promise = Promise.promise();
     try {
       pgClientFactory.getInstance(tenantId).getById(TABLE, id, JobProfile.class, promise);
@@ -44,7 +50,12 @@ public class JobProfileDaoImpl implements JobProfileDao {
       LOGGER.error(e.getMessage(), e);
       promise.fail(e);
     }
-    return promise.future().map(Optional::ofNullable);
+    return promise.future().map(jobProfile -> {
+      if (jobProfile != null) {
+        profileCache.put(TABLE, id, jobProfile, tenantId);
+      }
+      return Optional.ofNullable(jobProfile);
+    });
   }
 
 
@@ -75,14 +86,17 @@ public class JobProfileDaoImpl implements JobProfileDao {
       LOGGER.error("Error updating jobExecution", e);
       promise.fail(e);
     }
-    return promise.future();
+    return promise.future()
+      .onComplete(ar -> profileCache.invalidate(TABLE, jobProfile.getId(), tenantId));
   }
 
   @Override
   public Future<Boolean> deleteById(String id, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
     pgClientFactory.getInstance(tenantId).delete(TABLE, id, promise);
-    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+    return promise.future()
+      .onComplete(ar -> profileCache.invalidate(TABLE, id, tenantId))
+      .map(updateResult -> updateResult.rowCount() == 1);
   }
 
 
@@ -28,6 +28,8 @@ public class MappingProfileDaoImpl implements MappingProfileDao {
 
   @Autowired
   private PostgresClientFactory pgClientFactory;
+  @Autowired
+  private ProfileCache profileCache;
 
   @Override
   public Future<MappingProfileCollection> get(String query, int offset, int limit, String tenantId) {
@@ -72,7 +74,8 @@ public class MappingProfileDaoImpl implements MappingProfileDao {
       LOGGER.error("Error updating jobExecution", e);
       promise.fail(e);
     }
-    return promise.future();
+    return promise.future()
+      .onComplete(ar -> profileCache.invalidate(TABLE, mappingProfile.getId(), tenantId));
   }
 
   @Override
@@ -84,11 +87,17 @@ public class MappingProfileDaoImpl implements MappingProfileDao {
       LOGGER.error(e.getMessage(), e);
       promise.fail(e);
     }
-    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+    return promise.future()
+      .onComplete(ar -> profileCache.invalidate(TABLE, mappingProfileId, tenantId))
+      .map(updateResult -> updateResult.rowCount() == 1);
   }
 
   @Override
   public Future<Optional<MappingProfile>> getById(String mappingProfileId, String tenantId) {
+    Optional<MappingProfile> cachedMappingProfile = profileCache.get(TABLE, mappingProfileId, tenantId, MappingProfile.class);
+    if (cachedMappingProfile.isPresent()) {
+      return Future.succeededFuture(cachedMappingProfile);
+    }
     Promise<MappingProfile> promise = Promise.promise();
     try {
       pgClientFactory.getInstance(tenantId).getById(TABLE, mappingProfileId, MappingProfile.class, promise);
@@ -96,6 +105,11 @@ public class MappingProfileDaoImpl implements MappingProfileDao {
       LOGGER.error(e.getMessage(), e);
       promise.fail(e);
     }
-    return promise.future().map(Optional::ofNullable);
+    return promise.future().map(mappingProfile -> {
+      if (mappingProfile != null) {
+        profileCache.put(TABLE, mappingProfileId, mappingProfile, tenantId);
+      }
+      return Optional.ofNullable(mappingProfile);
+    });
   }
 }
@@ -0,0 +1,74 @@
+package org.folio.dao.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.dao.NotFoundUuidDao;
+import org.folio.rest.jaxrs.model.NotFoundUuidCollection;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+@Repository
+public class NotFoundUuidDaoImpl implements NotFoundUuidDao {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String TABLE = "not_found_uuids";
+  private static final String GET_QUERY = "SELECT (SELECT count(*) FROM %1$s.%2$s WHERE jsonb->>'jobExecutionId' = $1) AS total, " +
+    "ARRAY(SELECT jsonb->>'uuid' FROM %1$s.%2$s WHERE jsonb->>'jobExecutionId' = $1 " +
+    "ORDER BY jsonb->>'uuid' LIMIT $2 OFFSET $3) AS uuids";
+
+  @Autowired
+  private PostgresClientFactory pgClientFactory;
+
+  @Override
+  public Future<Void> save(String jobExecutionId, Collection<String> uuids, String tenantId) {
+    if (uuids.isEmpty()) {
+      return Future.succeededFuture();
+    }
+    JsonArray rows = new JsonArray();
+    uuids.forEach(uuid -> rows.add(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("jobExecutionId", jobExecutionId)
+      .put("uuid", uuid)));
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      pgClientFactory.getInstance(tenantId).saveBatch(TABLE, rows, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error saving not found UUIDs of job execution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().mapEmpty();
+  }
+
+  @Override
+  public Future<NotFoundUuidCollection> get(String jobExecutionId, int offset, int limit, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(GET_QUERY, PostgresClient.convertToPsqlStandard(tenantId), TABLE);
+      pgClientFactory.getInstance(tenantId).execute(query, Tuple.of(jobExecutionId, limit, offset), promise);
+    } catch (Exception e) {
+      LOGGER.error("Error getting not found UUIDs of job execution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(rows -> {
+      Row row = rows.iterator().next();
+      return new NotFoundUuidCollection()
+        .withUuids(Arrays.asList(row.getArrayOfStrings("uuids")))
+        .withTotalRecords(row.getLong("total").intValue());
+    });
+  }
+}
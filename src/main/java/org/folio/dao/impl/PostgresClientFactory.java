@@ -1,12 +1,21 @@
 package org.folio.dao.impl;
 
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import org.folio.rest.persist.PostgresClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class PostgresClientFactory {
+  private static final String GET_SCHEMAS_QUERY = "SELECT schemaname FROM pg_tables WHERE tablename = $1";
 
   @Autowired
   private Vertx vertx;
@@ -20,4 +29,35 @@ public class PostgresClientFactory {
   public PostgresClient getInstance(String tenantId) {
     return PostgresClient.getInstance(vertx, tenantId);
   }
+
+  /**
+   * Returns instance of Postgres Client not bound to a tenant
+   *
+   * @return Postgres Client
+   */
+  public PostgresClient getInstance() {
+    return PostgresClient.getInstance(vertx);
+  }
+
+  /**
+   * Returns ids of the tenants whose schemas of the module contain the given table
+   *
+   * @param tableName name of the table
+   * @return future with list of tenant ids
+   */
+  public Future<List<String>> getTenantIds(String tableName) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    String schemaSuffix = "_" + PostgresClient.getModuleName();
+    getInstance().select(GET_SCHEMAS_QUERY, Tuple.of(tableName), promise);
+    return promise.future().map(rows -> {
+      List<String> tenantIds = new ArrayList<>();
+      rows.forEach(row -> {
+        String schemaName = row.getString(0);
+        if (schemaName.endsWith(schemaSuffix)) {
+          tenantIds.add(schemaName.substring(0, schemaName.length() - schemaSuffix.length()));
+        }
+      });
+      return tenantIds;
+    });
+  }
 }
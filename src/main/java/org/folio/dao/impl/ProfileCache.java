@@ -0,0 +1,54 @@
+package org.folio.dao.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.json.JsonObject;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches job and mapping profiles by tenant, so the profiles of an export are not read from the database for every
+ * job and chunk. The DAOs invalidate the profile when it is updated or deleted, profiles changed by other instances
+ * are picked up after the ttl. Each lookup returns a copy, so callers can change the profile they get.
+ */
+@Component
+public class ProfileCache {
+
+  private final Cache<String, JsonObject> profiles;
+
+  @Autowired
+  public ProfileCache(@Value("${export.cache.ttl}") long ttl) {
+    this.profiles = Caffeine.newBuilder()
+      .expireAfterWrite(ttl, TimeUnit.SECONDS)
+      .build();
+  }
+
+  /**
+   * Returns a copy of the cached profile
+   *
+   * @param table        table of the profile
+   * @param id           profile id
+   * @param tenantId     tenant id
+   * @param profileClass class of the profile
+   * @return copy of the profile, empty if the profile is not cached
+   */
+  public <T> Optional<T> get(String table, String id, String tenantId, Class<T> profileClass) {
+    return Optional.ofNullable(profiles.getIfPresent(key(table, id, tenantId)))
+      .map(profile -> profile.mapTo(profileClass));
+  }
+
+  public void put(String table, String id, Object profile, String tenantId) {
+    profiles.put(key(table, id, tenantId), JsonObject.mapFrom(profile));
+  }
+
+  public void invalidate(String table, String id, String tenantId) {
+    profiles.invalidate(key(table, id, tenantId));
+  }
+
+  private String key(String table, String id, String tenantId) {
+    return tenantId + ":" + table + ":" + id;
+  }
+}
@@ -1,32 +1,56 @@
 package org.folio.rest.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import org.folio.HttpStatus;
 import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.ExportedFile;
 import org.folio.rest.jaxrs.model.FileDownload;
 import org.folio.service.export.storage.ExportStorageService;
+import org.folio.service.export.storage.LocalFileDownloadService;
 import org.folio.service.job.JobExecutionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 public class DataExportHelper {
 
+  private static final int EXPORTED_FILE_NAME_EXPIRATION_TIME_IN_MINUTES = 10;
+
+  /**
+   * Exported file names do not change once the file is generated, so the lookup result
+   * is kept per tenant, job and file to spare loading the job on every download request
+   */
+  private final Cache<String, String> exportedFileNameCache = Caffeine.newBuilder()
+    .expireAfterWrite(EXPORTED_FILE_NAME_EXPIRATION_TIME_IN_MINUTES, TimeUnit.MINUTES)
+    .build();
+
   @Autowired
   private ExportStorageService exportStorageService;
   @Autowired
+  private LocalFileDownloadService localFileDownloadService;
+  @Autowired
   private JobExecutionService jobExecutionService;
 
   public Future<FileDownload> getDownloadLink(String jobExecutionId, String exportFileId, String tenantId) {
     return getDownloadFileName(jobExecutionId, exportFileId, tenantId)
-      .compose(fileName -> exportStorageService.getFileDownloadLink(jobExecutionId, fileName, tenantId))
+      .compose(fileName -> localFileDownloadService.isEnabled()
+        ? localFileDownloadService.getFileDownloadLink(jobExecutionId, fileName, tenantId)
+        : exportStorageService.getFileDownloadLink(jobExecutionId, fileName, tenantId))
       .map(link -> new FileDownload()
         .withFileId(exportFileId)
         .withLink(link));
   }
 
   private Future<String> getDownloadFileName(String jobExecutionId, String exportFileId, String tenantId) {
+    String cacheKey = tenantId + "/" + jobExecutionId + "/" + exportFileId;
+    String cachedFileName = exportedFileNameCache.getIfPresent(cacheKey);
+    if (cachedFileName != null) {
+      return Future.succeededFuture(cachedFileName);
+    }
     return jobExecutionService.getById(jobExecutionId, tenantId)
       .map(job -> job.getExportedFiles()
         .stream()
@@ -34,7 +58,12 @@ public class DataExportHelper {
           .equals(exportFileId))
         .findFirst()
         .orElseThrow(() -> new ServiceException(HttpStatus.HTTP_NOT_FOUND, String.format("Export File with id: %s not found:", exportFileId))))
-      .map(ExportedFile::getFileName);
+      .map(ExportedFile::getFileName)
+      .onSuccess(fileName -> {
+        if (fileName != null) {
+          exportedFileNameCache.put(cacheKey, fileName);
+        }
+      });
   }
 
 }
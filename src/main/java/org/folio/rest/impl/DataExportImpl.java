@@ -2,13 +2,9 @@ package org.folio.rest.impl;
 
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.String.format;
-import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import javax.ws.rs.core.Response;
 
 import io.vertx.core.AsyncResult;
@@ -26,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.ExportRequest;
 import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.rest.jaxrs.model.JobProfile;
 import org.folio.rest.jaxrs.model.QuickExportRequest;
 import org.folio.rest.jaxrs.model.QuickExportResponse;
@@ -33,12 +30,15 @@ import org.folio.rest.jaxrs.resource.DataExport;
 import org.folio.rest.tools.utils.TenantTool;
 import org.folio.service.file.cleanup.StorageCleanupService;
 import org.folio.service.file.definition.FileDefinitionService;
+import org.folio.service.file.upload.FileUploadEventService;
 import org.folio.service.file.upload.FileUploadService;
 import org.folio.service.job.JobExecutionService;
+import org.folio.service.logs.ErrorLogService;
 import org.folio.service.manager.input.InputDataManager;
 import org.folio.service.profiles.jobprofile.JobProfileService;
 import org.folio.service.profiles.mappingprofile.MappingProfileService;
 import org.folio.spring.SpringContextUtil;
+import org.folio.util.ErrorCode;
 import org.folio.util.ExceptionToResponseMapper;
 import org.folio.util.OkapiConnectionParams;
 
@@ -61,9 +61,15 @@ public class DataExportImpl implements DataExport {
   @Autowired
   private FileUploadService fileUploadService;
 
+  @Autowired
+  private FileUploadEventService fileUploadEventService;
+
   @Autowired
   private DataExportHelper dataExportHelper;
 
+  @Autowired
+  private ErrorLogService errorLogService;
+
   @Autowired
   private StorageCleanupService storageCleanupService;
 
@@ -96,18 +102,11 @@ public class DataExportImpl implements DataExport {
                           .map(PostDataExportExportResponse.respond204())
                           .map(Response.class::cast)
                           .onComplete(asyncResultHandler);
-                        AtomicLong periodicId = new AtomicLong();
-                        AtomicReference<FileDefinition> fileDefinitionAtomicReference = new AtomicReference<>(requestFileDefinition);
-                        periodicId.set(vertxContext.owner().setPeriodic(1000, handler -> {
-                          if (allRecordsLoaded(fileDefinitionAtomicReference.get().getSourcePath(), requestFileDefinition.getSize())) {
-                            vertxContext.owner().cancelTimer(periodicId.get());
-                            inputDataManager.init(JsonObject.mapFrom(entity), JsonObject.mapFrom(fileDefinitionAtomicReference.get()),
-                              JsonObject.mapFrom(mappingProfile), JsonObject.mapFrom(updatedJobExecution), okapiHeaders);
-                          } else {
-                            fileDefinitionService.getById(entity.getFileDefinitionId(), tenantId)
-                              .onSuccess(fileDefinitionAtomicReference::set);
-                          }
-                        }));
+                        fileUploadEventService.waitForUpload(requestFileDefinition, tenantId)
+                          .onSuccess(uploadedFileDefinition ->
+                            inputDataManager.init(JsonObject.mapFrom(entity), JsonObject.mapFrom(uploadedFileDefinition),
+                              JsonObject.mapFrom(mappingProfile), JsonObject.mapFrom(updatedJobExecution), okapiHeaders))
+                          .onFailure(e -> failNotStartedExport(requestFileDefinition.getId(), updatedJobExecution.getId(), e));
                       }).onFailure(ar -> failToFetchObjectHelper(ar.getMessage(), asyncResultHandler)))
                   .onFailure(ar -> failToFetchObjectHelper(ar.getMessage(), asyncResultHandler)))
               .onFailure(ar -> failToFetchObjectHelper(ar.getMessage(), asyncResultHandler)))
@@ -115,6 +114,22 @@ public class DataExportImpl implements DataExport {
       .onFailure(ar -> failToFetchObjectHelper(ar.getMessage(), asyncResultHandler));
   }
 
+  /**
+   * Fails the job and its file definition when the export can not be started after the response has been sent
+   *
+   * @param fileDefinitionId id of the file definition the export was requested for
+   * @param jobExecutionId   id of the job execution
+   * @param cause            cause of the failure
+   */
+  private void failNotStartedExport(String fileDefinitionId, String jobExecutionId, Throwable cause) {
+    LOGGER.error("Export for the job execution with id {} is not started: {}", jobExecutionId, cause.getMessage());
+    errorLogService.saveGeneralError(ErrorCode.ERROR_FILE_UPLOAD_NOT_FINISHED.getCode(), jobExecutionId, tenantId);
+    jobExecutionService.updateJobStatusById(jobExecutionId, JobExecution.Status.FAIL, tenantId);
+    fileDefinitionService.getById(fileDefinitionId, tenantId)
+      .compose(fileDefinition -> fileDefinitionService.update(fileDefinition.withStatus(FileDefinition.Status.ERROR), tenantId))
+      .onFailure(e -> LOGGER.error("File definition with id {} is not marked as failed: {}", fileDefinitionId, e.getMessage()));
+  }
+
   @Override
   public void postDataExportQuickExport(QuickExportRequest entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     LOGGER.debug("Starting the data-quick-export process, request: {}", entity);
@@ -145,8 +160,8 @@ public class DataExportImpl implements DataExport {
 
   @Override
   @Validate
-  public void getDataExportJobExecutions(String query, int offset, int limit, String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    vertxContext.runOnContext(v -> jobExecutionService.get(query, offset, limit, tenantId)
+  public void getDataExportJobExecutions(String query, int offset, int limit, String after, String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    vertxContext.runOnContext(v -> jobExecutionService.get(query, offset, limit, after, tenantId)
       .map(GetDataExportJobExecutionsResponse::respond200WithApplicationJson)
       .map(Response.class::cast)
       .otherwise(ExceptionToResponseMapper::map)
@@ -195,6 +210,17 @@ public class DataExportImpl implements DataExport {
 
   }
 
+  @Override
+  public void postDataExportJobExecutionsCancelById(String id, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    succeededFuture().compose(ar -> jobExecutionService.getCancellableById(id, tenantId))
+      .onSuccess(jobExecution -> inputDataManager.cancel(id, okapiHeaders))
+      .map(PostDataExportJobExecutionsCancelByIdResponse.respond204())
+      .map(Response.class::cast)
+      .otherwise(ExceptionToResponseMapper::map)
+      .onComplete(asyncResultHandler);
+  }
+
   private void failToFetchObjectHelper(String errorMessage, Handler<AsyncResult<Response>> asyncResultHandler) {
     LOGGER.error(errorMessage);
     succeededFuture()
@@ -240,8 +266,4 @@ public class DataExportImpl implements DataExport {
            : ExportRequest.IdType.INSTANCE;
   }
 
-  private boolean allRecordsLoaded(String sourcePath, Integer size) {
-    return nonNull(sourcePath) || isNull(size) || size == 0;
-  }
-
 }
@@ -29,6 +29,7 @@ import org.folio.rest.jaxrs.resource.DataExportFileDefinitions;
 import org.folio.rest.tools.utils.TenantTool;
 import org.folio.service.file.definition.FileDefinitionService;
 import org.folio.service.file.upload.FileUploadService;
+import org.folio.service.file.upload.UploadedFileWriter;
 import org.folio.service.job.JobExecutionService;
 import org.folio.spring.SpringContextUtil;
 import org.folio.util.ErrorCode;
@@ -71,6 +72,11 @@ public class DataExportImplFileDefinitionImpl implements DataExportFileDefinitio
       we can save the state here, at the resource fields.
   */
   private Future<FileDefinition> fileUploadStateFuture;
+  /*
+      Writer of the uploading file, the file is opened once on the first chunk and is kept open until the last one,
+      chunks are written one after another following the fileUploadStateFuture chain.
+  */
+  private Future<UploadedFileWriter> fileWriterFuture;
   private String tenantId;
 
   public DataExportImplFileDefinitionImpl(Vertx vertx, String tenantId) { //NOSONAR
@@ -124,7 +130,8 @@ public class DataExportImplFileDefinitionImpl implements DataExportFileDefinitio
     try {
       Future<Response> responseFuture;
       if (okapiHeaders.containsKey(STREAM_ABORT)) {
-        responseFuture = fileUploadService.errorUploading(fileDefinitionId, tenantId)
+        responseFuture = closeFileWriter()
+          .transform(ar -> fileUploadService.errorUploading(fileDefinitionId, tenantId))
           .map(String.format("Upload stream for the file [id = '%s'] has been interrupted", fileDefinitionId))
           .map(DataExportFileDefinitions.PostDataExportFileDefinitionsUploadByFileDefinitionIdResponse::respond400WithTextPlain);
         responseFuture.map(Response.class::cast)
@@ -160,10 +167,19 @@ public class DataExportImplFileDefinitionImpl implements DataExportFileDefinitio
         return Future.succeededFuture(fileDefinition);
       }
     } else {
-      return fileUploadService.saveFileChunk(fileDefinition, data, tenantId);
+      if (fileWriterFuture == null) {
+        fileWriterFuture = fileUploadService.openFileWriter(fileDefinition);
+      }
+      return fileWriterFuture.compose(writer -> data.length == 0 ? writer.close() : writer.write(data));
     }
   }
 
+  private Future<FileDefinition> closeFileWriter() {
+    return fileWriterFuture == null
+      ? succeededFuture()
+      : fileWriterFuture.compose(UploadedFileWriter::close);
+  }
+
   private Future<Void> validateFileNameExtension(String fileName) {
     if (!FilenameUtils.isExtension(fileName.toLowerCase(), CSV_FORMAT_EXTENSION) && !FilenameUtils.isExtension(fileName.toLowerCase(), CQL_FORMAT_EXTENSION)) {
       throw new ServiceException(HttpStatus.HTTP_UNPROCESSABLE_ENTITY, ErrorCode.INVALID_UPLOADED_FILE_EXTENSION);
@@ -31,13 +31,33 @@ public class DataExportImplLogsImpl implements DataExportLogs {
   }
 
   @Override
-  public void getDataExportLogs(@Min(0) @Max(2147483647) int offset, @Min(0) @Max(2147483647) int limit, String query, @Pattern(regexp = "[a-zA-Z]{2}") String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+  public void getDataExportLogs(@Min(0) @Max(2147483647) int offset, @Min(0) @Max(2147483647) int limit, String query, String after, @Pattern(regexp = "[a-zA-Z]{2}") String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     Future.succeededFuture()
-      .compose(ar -> errorLogService.get(query, offset, limit, tenantId))
+      .compose(ar -> errorLogService.get(query, offset, limit, after, tenantId))
       .map(GetDataExportLogsResponse::respond200WithApplicationJson)
       .map(Response.class::cast)
       .otherwise(ExceptionToResponseMapper::map)
       .onComplete(asyncResultHandler);
   }
 
+  @Override
+  public void getDataExportLogsNotFoundUuidsByJobExecutionId(String jobExecutionId, @Min(0) @Max(2147483647) int offset, @Min(0) @Max(2147483647) int limit, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Future.succeededFuture()
+      .compose(ar -> errorLogService.getNotFoundUUIDs(jobExecutionId, offset, limit, tenantId))
+      .map(GetDataExportLogsNotFoundUuidsByJobExecutionIdResponse::respond200WithApplicationJson)
+      .map(Response.class::cast)
+      .otherwise(ExceptionToResponseMapper::map)
+      .onComplete(asyncResultHandler);
+  }
+
+  @Override
+  public void getDataExportLogsSummaryByJobExecutionId(String jobExecutionId, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Future.succeededFuture()
+      .compose(ar -> errorLogService.getSummary(jobExecutionId, tenantId))
+      .map(GetDataExportLogsSummaryByJobExecutionIdResponse::respond200WithApplicationJson)
+      .map(Response.class::cast)
+      .otherwise(ExceptionToResponseMapper::map)
+      .onComplete(asyncResultHandler);
+  }
+
 }
@@ -15,10 +15,11 @@ public interface ExportService {
    * Exports collection of srs records to the destination.
    * Performs converting from json to marc format.
    *
-   * @param marcToExport   collection of srs records on export and count of failed records
-   * @param exportPayload  export payload on export
+   * @param marcToExport      collection of srs records on export and count of failed records
+   * @param recordDescriptors descriptors of the srs records on export, in the same order, used for error logs
+   * @param exportPayload     export payload on export
    */
-  void exportSrsRecord(Pair<List<String>, Integer> marcToExport, ExportPayload exportPayload);
+  void exportSrsRecord(Pair<List<String>, Integer> marcToExport, List<RecordDescriptor> recordDescriptors, ExportPayload exportPayload);
 
   /**
    * Exports collection of marc records to the destination.
@@ -6,7 +6,6 @@ import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -15,7 +14,6 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.HttpStatus;
-import org.folio.clients.InventoryClient;
 import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.service.export.storage.ExportStorageService;
@@ -51,9 +49,6 @@ public class LocalFileSystemExportService implements ExportService {
   private static final String SECOND_INDICATOR = "ind2";
   private static final String INSTANCE_ID_KEY = "i";
   private static final String SUBFIELDS_KEY = "subfields";
-  private static final int SINGLE_INSTANCE_INDEX = 0;
-  private static final String INSTANCES = "instances";
-  private static final int SINGLE_INSTANCE = 1;
   private static final int NUMBER_OF_SYMBOLS_IN_UUID = 36;
   private static final String INSTANCE_FIELD = "\"999\":";
   private static final String INSTANCE_SUBFIELD = "\"i\":\"";
@@ -65,18 +60,17 @@ public class LocalFileSystemExportService implements ExportService {
   private ExportStorageService exportStorageService;
   @Autowired
   private ErrorLogService errorLogService;
-  @Autowired
-  private InventoryClient inventoryClient;
 
   @Override
-  public void exportSrsRecord(Pair<List<String>, Integer> marcToExport, ExportPayload exportPayload) {
+  public void exportSrsRecord(Pair<List<String>, Integer> marcToExport, List<RecordDescriptor> recordDescriptors, ExportPayload exportPayload) {
     FileDefinition fileDefinition = exportPayload.getFileExportDefinition();
     String jobExecutionId = exportPayload.getJobExecutionId();
     OkapiConnectionParams params = exportPayload.getOkapiConnectionParams();
     List<String> jsonRecords = marcToExport.getKey();
     if (CollectionUtils.isNotEmpty(jsonRecords) && fileDefinition != null) {
       int failedRecords = 0;
-      for (String jsonRecord : jsonRecords) {
+      for (int i = 0; i < jsonRecords.size(); i++) {
+        String jsonRecord = jsonRecords.get(i);
         try {
           byte[] bytes = convertJsonRecordToMarcRecord(jsonRecord);
           if (isNotEmpty(bytes)) {
@@ -85,11 +79,12 @@ public class LocalFileSystemExportService implements ExportService {
         } catch (MarcException e) {
           failedRecords++;
           ErrorCode errorCode = ERROR_MARC_RECORD_CANNOT_BE_CONVERTED;
+          RecordDescriptor recordDescriptor = recordDescriptors != null && i < recordDescriptors.size() ? recordDescriptors.get(i) : null;
           if (isJsonValid(jsonRecord)) {
             String instId = getInstanceIdFromMarcRecord(new JsonObject(jsonRecord));
-            handleMarcException(instId, jobExecutionId, params, errorCode, e.getMessage());
+            handleMarcException(instId, recordDescriptor, jobExecutionId, params, errorCode, e.getMessage());
           } else {
-            handleSpecificExceptionWhenJsonIsInvalid(jsonRecord, jobExecutionId, params, errorCode, e.getMessage());
+            handleSpecificExceptionWhenJsonIsInvalid(jsonRecord, recordDescriptor, jobExecutionId, params, errorCode, e.getMessage());
           }
         } catch (RuntimeException e) {
           failedRecords++;
@@ -109,7 +104,8 @@ public class LocalFileSystemExportService implements ExportService {
     }
   }
 
-  private void handleSpecificExceptionWhenJsonIsInvalid(String jsonRecord, String jobExecutionId, OkapiConnectionParams params, ErrorCode errorCode, String marcExceptionMessage) {
+  private void handleSpecificExceptionWhenJsonIsInvalid(String jsonRecord, RecordDescriptor recordDescriptor, String jobExecutionId,
+                                                        OkapiConnectionParams params, ErrorCode errorCode, String marcExceptionMessage) {
     String affectedField = StringUtils.substringAfter(marcExceptionMessage, "Member Name: ");
     if (affectedField.isBlank()) {
       affectedField = ": affected field cannot be determined";
@@ -117,7 +113,7 @@ public class LocalFileSystemExportService implements ExportService {
     String errorLogMessage = StringUtils.substringBefore(marcExceptionMessage, ";") + ". Field name " + String.join(", ", affectedField);
     String instId = tryToRetrieveInstanceIdWhenJsonIsInvalid(jsonRecord);
     if (!instId.isEmpty()) {
-      handleMarcException(instId, jobExecutionId, params, errorCode, errorLogMessage);
+      handleMarcException(instId, recordDescriptor, jobExecutionId, params, errorCode, errorLogMessage);
     } else {
       errorLogService.saveWithAffectedRecord(new JsonObject(), errorCode.getCode(), jobExecutionId, new MarcException(errorLogMessage), params);
     }
@@ -134,11 +130,16 @@ public class LocalFileSystemExportService implements ExportService {
     return instId;
   }
 
-  private void handleMarcException(String instId, String jobExecutionId, OkapiConnectionParams params, ErrorCode errorCode, String errorLogMessage) {
-    inventoryClient.getInstancesByIds(Collections.singletonList(instId), jobExecutionId, params, SINGLE_INSTANCE).ifPresent(instancesByIds -> {
-      JsonArray instances = instancesByIds.getJsonArray(INSTANCES);
-      errorLogService.saveWithAffectedRecord(instances.getJsonObject(SINGLE_INSTANCE_INDEX), errorCode.getCode(), jobExecutionId, new MarcException(errorLogMessage), params);
-    });
+  /**
+   * Saves the error log of the record, the instance is described by the descriptor of the already loaded srs record,
+   * if the descriptor is not available the error log contains the instance id from the 999 field only
+   */
+  private void handleMarcException(String instId, RecordDescriptor recordDescriptor, String jobExecutionId, OkapiConnectionParams params,
+                                   ErrorCode errorCode, String errorLogMessage) {
+    JsonObject instance = recordDescriptor != null && instId.equals(recordDescriptor.getId())
+      ? recordDescriptor.toInstance()
+      : new JsonObject().put("id", instId);
+    errorLogService.saveWithAffectedRecord(instance, errorCode.getCode(), jobExecutionId, new MarcException(errorLogMessage), params);
   }
 
   @SuppressWarnings("OptionalGetWithoutIsPresent")
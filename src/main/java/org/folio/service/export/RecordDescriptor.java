@@ -0,0 +1,107 @@
+package org.folio.service.export;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.apache.commons.collections4.CollectionUtils;
+
+/**
+ * Id, hrid and title of the instance of an exported srs record, taken from the already loaded srs record,
+ * so the error log of a record which cannot be converted to marc is saved without requesting the instance.
+ */
+public class RecordDescriptor {
+  private static final String TITLE_FIELD_TAG_NUMBER = "245";
+  /* Subfields of the 245 field the instance title is mapped from */
+  private static final List<String> TITLE_SUBFIELD_CODES = Arrays.asList("a", "b", "f", "g", "h", "k", "n", "p", "s");
+
+  private final String id;
+  private final String hrid;
+  private final String title;
+
+  public RecordDescriptor(String id, String hrid, String title) {
+    this.id = id;
+    this.hrid = hrid;
+    this.title = title;
+  }
+
+  /**
+   * Creates descriptors of the srs records, in the order of the records
+   *
+   * @param srsRecords srs records
+   * @return descriptors of the srs records
+   */
+  public static List<RecordDescriptor> of(List<JsonObject> srsRecords) {
+    List<RecordDescriptor> descriptors = new ArrayList<>();
+    if (CollectionUtils.isNotEmpty(srsRecords)) {
+      srsRecords.forEach(srsRecord -> descriptors.add(of(srsRecord)));
+    }
+    return descriptors;
+  }
+
+  /**
+   * Creates the descriptor of the srs record
+   *
+   * @param srsRecord srs record
+   * @return descriptor with id and hrid of the instance and title from the 245 field, not found values are null
+   */
+  public static RecordDescriptor of(JsonObject srsRecord) {
+    JsonObject externalIdsHolder = srsRecord.getJsonObject("externalIdsHolder", new JsonObject());
+    JsonObject content = srsRecord.getJsonObject("parsedRecord", new JsonObject()).getJsonObject("content");
+    return new RecordDescriptor(externalIdsHolder.getString("instanceId"), externalIdsHolder.getString("instanceHrid"), getTitle(content));
+  }
+
+  private static String getTitle(JsonObject content) {
+    if (content == null || content.getJsonArray("fields") == null) {
+      return null;
+    }
+    return content.getJsonArray("fields").stream()
+      .filter(JsonObject.class::isInstance)
+      .map(JsonObject.class::cast)
+      .filter(field -> field.containsKey(TITLE_FIELD_TAG_NUMBER))
+      .findFirst()
+      .map(field -> field.getJsonObject(TITLE_FIELD_TAG_NUMBER).getJsonArray("subfields", new JsonArray()).stream()
+        .filter(JsonObject.class::isInstance)
+        .map(JsonObject.class::cast)
+        .flatMap(subfield -> TITLE_SUBFIELD_CODES.stream().map(subfield::getValue))
+        .filter(Objects::nonNull)
+        .map(Object::toString)
+        .collect(Collectors.joining(" ")))
+      .filter(title -> !title.isBlank())
+      .orElse(null);
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getHrid() {
+    return hrid;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  /**
+   * Returns the instance as it is read by the error log of the record, with the fields which are known
+   *
+   * @return instance with id, hrid and title
+   */
+  public JsonObject toInstance() {
+    JsonObject instance = new JsonObject();
+    if (id != null) {
+      instance.put("id", id);
+    }
+    if (hrid != null) {
+      instance.put("hrid", hrid);
+    }
+    if (title != null) {
+      instance.put("title", title);
+    }
+    return instance;
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.service.export.storage;
+
+/**
+ * Single range of a {@code Range: bytes=...} request header resolved against the size of the requested file
+ */
+public final class ByteRange {
+
+  private static final String BYTES_UNIT = "bytes=";
+
+  private final long start;
+  private final long end;
+  private final long size;
+
+  private ByteRange(long start, long end, long size) {
+    this.start = start;
+    this.end = end;
+    this.size = size;
+  }
+
+  /**
+   * Parses the value of the {@code Range} header.
+   * Absent, malformed and multi-range headers are ignored, in that case the whole file is expected to be sent.
+   *
+   * @param rangeHeader value of the {@code Range} header
+   * @param size        size of the requested file in bytes
+   * @return {@link ByteRange} or null if the header should be ignored
+   */
+  public static ByteRange parse(String rangeHeader, long size) {
+    if (rangeHeader == null || !rangeHeader.startsWith(BYTES_UNIT)) {
+      return null;
+    }
+    String rangeSpec = rangeHeader.substring(BYTES_UNIT.length()).trim();
+    int dashIndex = rangeSpec.indexOf('-');
+    if (dashIndex < 0 || rangeSpec.indexOf(',') >= 0) {
+      return null;
+    }
+    String firstBytePosition = rangeSpec.substring(0, dashIndex).trim();
+    String lastBytePosition = rangeSpec.substring(dashIndex + 1).trim();
+    try {
+      if (firstBytePosition.isEmpty()) {
+        if (lastBytePosition.isEmpty()) {
+          return null;
+        }
+        long suffixLength = Long.parseLong(lastBytePosition);
+        return suffixLength <= 0
+          ? new ByteRange(size, size - 1, size)
+          : new ByteRange(Math.max(0, size - suffixLength), size - 1, size);
+      }
+      long first = Long.parseLong(firstBytePosition);
+      long last = lastBytePosition.isEmpty() ? size - 1 : Long.parseLong(lastBytePosition);
+      if (first < 0 || last < first) {
+        return null;
+      }
+      return new ByteRange(first, Math.min(last, size - 1), size);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return true if at least one byte of the range lays inside the file
+   */
+  public boolean isSatisfiable() {
+    return start < size && start <= end;
+  }
+
+  public long getStart() {
+    return start;
+  }
+
+  public long getLength() {
+    return end - start + 1;
+  }
+
+  /**
+   * @return value of the {@code Content-Range} response header
+   */
+  public String toContentRange() {
+    return isSatisfiable()
+      ? "bytes " + start + "-" + end + "/" + size
+      : "bytes */" + size;
+  }
+}
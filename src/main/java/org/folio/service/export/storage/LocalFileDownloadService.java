@@ -0,0 +1,27 @@
+package org.folio.service.export.storage;
+
+import io.vertx.core.Future;
+
+/**
+ * Provides links to download exported files directly from the local file storage of the module,
+ * bypassing the remote object storage
+ */
+public interface LocalFileDownloadService {
+
+  /**
+   * Whether the local download mode is turned on
+   *
+   * @return true if exported files should be downloaded from the local file storage
+   */
+  boolean isEnabled();
+
+  /**
+   * Fetch the signed, time limited link to download a file for a given job by fileName
+   *
+   * @param jobExecutionId The job to which the files are associated
+   * @param exportFileName The name of the file to download
+   * @param tenantId       tenant id
+   * @return A link using which the file can be downloaded
+   */
+  Future<String> getFileDownloadLink(String jobExecutionId, String exportFileName, String tenantId);
+}
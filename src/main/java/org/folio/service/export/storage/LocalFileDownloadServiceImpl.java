@@ -0,0 +1,194 @@
+package org.folio.service.export.storage;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.HttpStatus;
+import org.folio.dao.FileDefinitionDao;
+import org.folio.rest.exceptions.ServiceException;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.invoke.MethodHandles;
+import java.net.URLEncoder;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Serves exported files from the local file storage by a separate http server.
+ * Files are sent with {@link HttpServerResponse#sendFile}, so the content is transferred by the kernel without copying
+ * it through the user space, and single byte ranges are supported to resume or parallelize large downloads.
+ * As with presigned links of the object storage, the links are signed and expire in {@link #EXPIRATION_TIME_IN_MINUTES},
+ * so they can be followed without okapi headers.
+ */
+@Service
+public class LocalFileDownloadServiceImpl implements LocalFileDownloadService, InitializingBean {
+
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int EXPIRATION_TIME_IN_MINUTES = 10;
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final String TENANT_ID_PARAM = "tenantId";
+  private static final String FILE_DEFINITION_ID_PARAM = "fileDefinitionId";
+  private static final String FILE_NAME_PARAM = "fileName";
+  private static final String EXPIRES_PARAM = "expires";
+  private static final String SIGNATURE_PARAM = "signature";
+  private static final String RANGE_HEADER = "Range";
+  private static final String ACCEPT_RANGES_HEADER = "Accept-Ranges";
+  private static final String CONTENT_RANGE_HEADER = "Content-Range";
+  private static final String CONTENT_DISPOSITION_HEADER = "Content-Disposition";
+
+  @Autowired
+  private Vertx vertx;
+  @Autowired
+  private FileDefinitionDao fileDefinitionDao;
+
+  @Value("${local.download.enabled}")
+  private boolean enabled;
+  @Value("${local.download.port}")
+  private int port;
+  @Value("${local.download.baseUrl}")
+  private String baseUrl;
+  @Value("${local.download.secret}")
+  private String secret;
+
+  private SecretKeySpec signingKey;
+
+  @Override
+  public void afterPropertiesSet() {
+    if (enabled) {
+      startServer();
+    }
+  }
+
+  Future<HttpServer> startServer() {
+    signingKey = new SecretKeySpec(StringUtils.isEmpty(secret) ? generateSecret() : secret.getBytes(UTF_8), HMAC_ALGORITHM);
+    Router router = Router.router(vertx);
+    router.get("/:" + TENANT_ID_PARAM + "/:" + FILE_DEFINITION_ID_PARAM + "/:" + FILE_NAME_PARAM).handler(this::handleDownload);
+    return vertx.createHttpServer()
+      .requestHandler(router)
+      .listen(port)
+      .onSuccess(server -> LOGGER.info("Local file download server is listening on port {}", server.actualPort()))
+      .onFailure(e -> LOGGER.error("Local file download server failed to start on port {}", port, e));
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public Future<String> getFileDownloadLink(String jobExecutionId, String exportFileName, String tenantId) {
+    return fileDefinitionDao.getByJobExecutionIdAndFileName(jobExecutionId, exportFileName, tenantId)
+      .map(optionalFileDefinition -> optionalFileDefinition
+        .filter(fileDefinition -> fileDefinition.getSourcePath() != null)
+        .orElseThrow(() -> new ServiceException(HttpStatus.HTTP_NOT_FOUND,
+          String.format("File %s of job execution %s is not present in the local storage", exportFileName, jobExecutionId))))
+      .map(fileDefinition -> buildLink(tenantId, fileDefinition.getId(), exportFileName));
+  }
+
+  private String buildLink(String tenantId, String fileDefinitionId, String fileName) {
+    long expires = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(EXPIRATION_TIME_IN_MINUTES);
+    return StringUtils.removeEnd(baseUrl, "/") + "/" + encode(tenantId) + "/" + fileDefinitionId + "/" + encode(fileName)
+      + "?" + EXPIRES_PARAM + "=" + expires
+      + "&" + SIGNATURE_PARAM + "=" + sign(tenantId, fileDefinitionId, fileName, String.valueOf(expires));
+  }
+
+  private void handleDownload(RoutingContext routingContext) {
+    HttpServerResponse response = routingContext.response();
+    String tenantId = routingContext.pathParam(TENANT_ID_PARAM);
+    String fileDefinitionId = routingContext.pathParam(FILE_DEFINITION_ID_PARAM);
+    String fileName = routingContext.pathParam(FILE_NAME_PARAM);
+    String expires = routingContext.queryParams().get(EXPIRES_PARAM);
+    String signature = routingContext.queryParams().get(SIGNATURE_PARAM);
+
+    if (!isValidLink(tenantId, fileDefinitionId, fileName, expires, signature)) {
+      response.setStatusCode(HttpStatus.HTTP_FORBIDDEN.toInt()).end();
+      return;
+    }
+    fileDefinitionDao.getById(fileDefinitionId, tenantId)
+      .onSuccess(optionalFileDefinition -> optionalFileDefinition
+        .filter(fileDefinition -> fileName.equals(fileDefinition.getFileName()) && fileDefinition.getSourcePath() != null)
+        .ifPresentOrElse(fileDefinition -> sendFile(routingContext, fileDefinition),
+          () -> response.setStatusCode(HttpStatus.HTTP_NOT_FOUND.toInt()).end()))
+      .onFailure(e -> {
+        LOGGER.error("Error while getting file definition with id {} to download", fileDefinitionId, e);
+        response.setStatusCode(HttpStatus.HTTP_INTERNAL_SERVER_ERROR.toInt()).end();
+      });
+  }
+
+  private void sendFile(RoutingContext routingContext, FileDefinition fileDefinition) {
+    HttpServerResponse response = routingContext.response();
+    String path = fileDefinition.getSourcePath();
+    vertx.fileSystem().props(path)
+      .onSuccess(fileProps -> {
+        ByteRange range = ByteRange.parse(routingContext.request().getHeader(RANGE_HEADER), fileProps.size());
+        response.putHeader(ACCEPT_RANGES_HEADER, "bytes")
+          .putHeader(HttpHeaders.CONTENT_TYPE, "application/octet-stream")
+          .putHeader(CONTENT_DISPOSITION_HEADER, "attachment; filename=\"" + fileDefinition.getFileName() + "\"");
+        if (range == null) {
+          response.sendFile(path);
+        } else if (!range.isSatisfiable()) {
+          response.setStatusCode(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code())
+            .putHeader(CONTENT_RANGE_HEADER, range.toContentRange())
+            .end();
+        } else {
+          response.setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code())
+            .putHeader(CONTENT_RANGE_HEADER, range.toContentRange())
+            .sendFile(path, range.getStart(), range.getLength());
+        }
+      })
+      .onFailure(e -> {
+        LOGGER.error("File {} is not available in the local storage", path, e);
+        response.setStatusCode(HttpStatus.HTTP_NOT_FOUND.toInt()).end();
+      });
+  }
+
+  private boolean isValidLink(String tenantId, String fileDefinitionId, String fileName, String expires, String signature) {
+    if (StringUtils.isAnyEmpty(expires, signature) || !StringUtils.isNumeric(expires)
+      || Long.parseLong(expires) < System.currentTimeMillis()) {
+      return false;
+    }
+    String expectedSignature = sign(tenantId, fileDefinitionId, fileName, expires);
+    return MessageDigest.isEqual(expectedSignature.getBytes(UTF_8), signature.getBytes(UTF_8));
+  }
+
+  private String sign(String tenantId, String fileDefinitionId, String fileName, String expires) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      byte[] signature = mac.doFinal(String.join("/", tenantId, fileDefinitionId, fileName, expires).getBytes(UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to sign local download link", e);
+    }
+  }
+
+  private String encode(String value) {
+    return URLEncoder.encode(value, UTF_8).replace("+", "%20");
+  }
+
+  private byte[] generateSecret() {
+    byte[] randomSecret = new byte[32];
+    new SecureRandom().nextBytes(randomSecret);
+    return randomSecret;
+  }
+}
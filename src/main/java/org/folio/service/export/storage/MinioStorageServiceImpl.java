@@ -13,6 +13,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.HttpStatus;
+import org.folio.clients.InFlightRequests;
 import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.jaxrs.model.JobExecution;
@@ -23,6 +24,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.amazonaws.util.StringUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.ListObjectsArgs;
@@ -43,6 +46,15 @@ public class MinioStorageServiceImpl implements ExportStorageService {
   private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final int EXPIRATION_TIME_IN_MINUTES = 10;
+  /**
+   * Presigned links are reused for a shorter period than they are valid for,
+   * so a link handed out from the cache always has some lifetime left
+   */
+  private static final int CACHED_LINK_EXPIRATION_TIME_IN_MINUTES = EXPIRATION_TIME_IN_MINUTES - 2;
+
+  private final Cache<String, String> downloadLinkCache = Caffeine.newBuilder()
+    .expireAfterWrite(CACHED_LINK_EXPIRATION_TIME_IN_MINUTES, TimeUnit.MINUTES)
+    .build();
 
   @Autowired
   private MinioClientFactory minioClientFactory;
@@ -73,6 +85,11 @@ public class MinioStorageServiceImpl implements ExportStorageService {
       throw new ServiceException(HttpStatus.HTTP_INTERNAL_SERVER_ERROR, ErrorCode.S3_BUCKET_NAME_NOT_FOUND);
     }
 
+    String cachedLink = downloadLinkCache.getIfPresent(key);
+    if (cachedLink != null) {
+      return Future.succeededFuture(cachedLink);
+    }
+
     vertx.executeBlocking(blockingFuture -> {
       String url = null;
       try {
@@ -86,6 +103,9 @@ public class MinioStorageServiceImpl implements ExportStorageService {
         promise.fail(asyncResult.cause());
       } else {
         String url = (String) asyncResult.result();
+        if (url != null) {
+          downloadLinkCache.put(key, url);
+        }
         promise.complete(url);
       }
     });
@@ -109,6 +129,10 @@ public class MinioStorageServiceImpl implements ExportStorageService {
         .map(Paths::get)
         .filter(Files::isRegularFile)
         .forEach(file -> {
+          // an object being uploaded can not be interrupted, the upload of the cancelled job stops before the next file
+          if (InFlightRequests.isCancelled()) {
+            throw new ServiceException(HttpStatus.HTTP_INTERNAL_SERVER_ERROR, ErrorCode.ERROR_JOB_IS_CANCELLED);
+          }
           try {
             client.uploadObject(getUploadObjectArgs(bucket, file, folderToSave + "/" + file.getName(file.getNameCount() - 1)));
           } catch (Exception e) {
@@ -137,11 +161,18 @@ public class MinioStorageServiceImpl implements ExportStorageService {
         }
       });
       client.removeObjects(getRemoveObjectsArgs(bucket, objects));
+      invalidateDownloadLinks(buildPrefix(tenantId, jobExecution.getId()));
     } else {
       LOGGER.error("No exported files is present related to jobExecution with id {}", jobExecution.getId());
     }
   }
 
+  private void invalidateDownloadLinks(String prefix) {
+    downloadLinkCache.asMap()
+      .keySet()
+      .removeIf(key -> key.startsWith(prefix + "/"));
+  }
+
   private GetPresignedObjectUrlArgs getGetPresignedObjectUrlArgs(String key, String bucket) {
     return GetPresignedObjectUrlArgs.builder()
       .bucket(bucket)
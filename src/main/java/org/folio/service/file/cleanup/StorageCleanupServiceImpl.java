@@ -1,8 +1,8 @@
 package org.folio.service.file.cleanup;
 
+import com.google.common.collect.Lists;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import org.folio.dao.FileDefinitionDao;
@@ -10,8 +10,10 @@ import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.service.file.storage.FileStorage;
 import org.folio.util.OkapiConnectionParams;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,57 +29,97 @@ public class StorageCleanupServiceImpl implements StorageCleanupService {
   private FileDefinitionDao fileDefinitionDao;
   @Autowired
   private FileStorage fileStorage;
+  /* Number of expired file definitions taken from the database at once */
+  @Value("${export.cleanup.pageSize}")
+  private int pageSize;
+  /* Max number of files deleted at the same time */
+  @Value("${export.cleanup.concurrency}")
+  private int concurrency;
 
   @Override
   public Future<Boolean> cleanStorage(OkapiConnectionParams params) {
-    Promise<Boolean> promise = Promise.promise();
-    return fileDefinitionDao.getExpiredEntries(getFileDefinitionExpirationDate(), params.getTenantId())
-      .compose(fileDefinitions -> deleteExpiredFilesAndRelatedFileDefinitions(fileDefinitions, params.getTenantId()))
-      .compose(compositeFuture -> {
-        promise.complete(isFilesDeleted(compositeFuture));
-        return promise.future();
-      });
+    LOGGER.info("Start process of removing expired files and file definitions");
+    return cleanExpiredEntries(getFileDefinitionExpirationDate(), null, params.getTenantId(), new CleanupResult())
+      .map(this::isFilesDeleted);
   }
 
   private Date getFileDefinitionExpirationDate() {
     return new Date(new Date().getTime() - FILE_DEFINITION_EXPIRATION_TIME_IN_MILLS);
   }
 
-  private Future<CompositeFuture> deleteExpiredFilesAndRelatedFileDefinitions(List<FileDefinition> fileDefinitions, String tenantId) {
-    LOGGER.info("Start process of removing files and file definitions, number of file definitions to clean up: {}", fileDefinitions.size());
-    List<Future> deleteFilesFutures = fileDefinitions.stream()
-      .map(fileDefinition -> deleteExpiredFileAndRelatedFileDefinition(fileDefinition, tenantId))
-      .collect(Collectors.toList());
-    return CompositeFuture.all(deleteFilesFutures);
+  /**
+   * Cleans expired entries page by page, the next page is taken once files and file definitions of the page are deleted
+   */
+  private Future<CleanupResult> cleanExpiredEntries(Date expirationDate, String afterId, String tenantId, CleanupResult result) {
+    return fileDefinitionDao.getExpiredEntries(expirationDate, afterId, pageSize, tenantId)
+      .compose(fileDefinitions -> {
+        if (fileDefinitions.isEmpty()) {
+          return Future.succeededFuture(result);
+        }
+        String lastId = fileDefinitions.get(fileDefinitions.size() - 1).getId();
+        return deleteExpiredFilesAndRelatedFileDefinitions(fileDefinitions, tenantId, result)
+          .compose(v -> fileDefinitions.size() < pageSize
+            ? Future.succeededFuture(result)
+            : cleanExpiredEntries(expirationDate, lastId, tenantId, result));
+      });
+  }
+
+  private Future<Void> deleteExpiredFilesAndRelatedFileDefinitions(List<FileDefinition> fileDefinitions, String tenantId, CleanupResult result) {
+    LOGGER.info("Removing files and file definitions, number of file definitions to clean up: {}", fileDefinitions.size());
+    List<String> deletedFileIds = new ArrayList<>();
+    Future<Void> deleteFilesFuture = Future.succeededFuture();
+    for (List<FileDefinition> partition : Lists.partition(fileDefinitions, Math.max(concurrency, 1))) {
+      deleteFilesFuture = deleteFilesFuture.compose(v -> deleteFiles(partition, deletedFileIds));
+    }
+    return deleteFilesFuture
+      .compose(v -> fileDefinitionDao.deleteByIds(deletedFileIds, tenantId))
+      .map(deletedFileDefinitionsCount -> {
+        if (deletedFileDefinitionsCount < fileDefinitions.size()) {
+          LOGGER.error("{} of {} file definitions were not deleted", fileDefinitions.size() - deletedFileDefinitionsCount, fileDefinitions.size());
+        }
+        result.add(fileDefinitions.size(), deletedFileDefinitionsCount);
+        return null;
+      });
   }
 
-  private Future<Boolean> deleteExpiredFileAndRelatedFileDefinition(FileDefinition fileDefinition, String tenantId) {
-    Promise<Boolean> promise = Promise.promise();
-    return fileStorage.deleteFileAndParentDirectory(fileDefinition)
-      .compose(isFileDeleted -> {
-        fileDefinitionDao.deleteById(fileDefinition.getId(), tenantId);
-        return Future.succeededFuture(true);
-      })
-      .compose(isFileDefinitionDeleted -> {
-        if (Boolean.FALSE.equals(isFileDefinitionDeleted)) {
-          LOGGER.error("File definition with id {} was not deleted", fileDefinition.getId());
+  /**
+   * Deletes files of the file definitions at the same time, ids of the file definitions whose files are deleted are collected
+   */
+  private Future<Void> deleteFiles(List<FileDefinition> fileDefinitions, List<String> deletedFileIds) {
+    List<Future> deleteFileFutures = fileDefinitions.stream()
+      .map(fileStorage::deleteFileAndParentDirectory)
+      .collect(Collectors.toList());
+    return CompositeFuture.join(deleteFileFutures)
+      .map(compositeFuture -> {
+        for (int i = 0; i < fileDefinitions.size(); i++) {
+          if (Boolean.TRUE.equals(compositeFuture.resultAt(i))) {
+            deletedFileIds.add(fileDefinitions.get(i).getId());
+          } else {
+            LOGGER.error("File of the file definition with id {} was not deleted", fileDefinitions.get(i).getId());
+          }
         }
-        promise.complete(isFileDefinitionDeleted);
-        return promise.future();
+        return null;
       });
   }
 
-  private boolean isFilesDeleted(CompositeFuture compositeFuture) {
-    boolean isFilesDeleted = compositeFuture.<Boolean>list()
-      .stream()
-      .reduce((a, b) -> a && b)
-      .orElse(false);
+  private boolean isFilesDeleted(CleanupResult result) {
+    boolean isFilesDeleted = result.expiredCount > 0 && result.deletedCount == result.expiredCount;
     if (isFilesDeleted) {
-      LOGGER.info("File storage cleaning has been successfully completed");
+      LOGGER.info("File storage cleaning has been successfully completed, {} file definitions removed", result.deletedCount);
     } else {
-      LOGGER.warn("File storage cleaning was not completed successfully");
+      LOGGER.warn("File storage cleaning was not completed successfully, {} of {} file definitions removed", result.deletedCount, result.expiredCount);
     }
     return isFilesDeleted;
   }
 
+  private static class CleanupResult {
+    private int expiredCount;
+    private int deletedCount;
+
+    void add(int expired, int deleted) {
+      expiredCount += expired;
+      deletedCount += deleted;
+    }
+  }
+
 }
@@ -0,0 +1,34 @@
+package org.folio.service.file.reader;
+
+import org.folio.rest.jaxrs.model.FileDefinition;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads UUIDs of a small quick export kept in memory, so no input file is written and read again.
+ * Identifiers are validated, counted and de-duplicated the same way as the lines of the uploaded file.
+ */
+public class InMemorySourceReader extends LocalStorageCsvSourceReader {
+
+  private final List<String> identifiers;
+
+  public InMemorySourceReader(List<String> identifiers) {
+    this.identifiers = identifiers;
+  }
+
+  @Override
+  protected boolean hasSource(FileDefinition fileDefinition) {
+    return !identifiers.isEmpty();
+  }
+
+  @Override
+  protected long getMaxUuidsCount() {
+    return identifiers.size();
+  }
+
+  @Override
+  protected void readLines(Consumer<String> lineConsumer) {
+    identifiers.forEach(lineConsumer);
+  }
+}
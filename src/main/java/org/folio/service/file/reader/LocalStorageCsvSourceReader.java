@@ -1,122 +1,227 @@
 package org.folio.service.file.reader;
 
-import com.google.common.collect.Iterables;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.service.logs.ErrorLogService;
+import org.folio.util.UuidSet;
+import org.folio.util.UuidUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
-import static java.util.Objects.nonNull;
-import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.folio.rest.jaxrs.model.FileDefinition.UploadFormat.CQL;
 import static org.folio.util.ErrorCode.INVALID_UUID_FORMAT;
 
-@SuppressWarnings({"java:S2095"})
+/**
+ * Reads UUIDs from the uploaded file in a single buffered pass.
+ * Lines are validated and converted char by char while reading, valid UUIDs are kept as pairs of longs,
+ * so the file is not read again neither to count nor to export the identifiers.
+ * Only the first {@link #MAX_INVALID_LINES_TO_LOG} invalid lines are kept to be reported in the error log.
+ * With deduplication enabled, repeated UUIDs are skipped while reading and are not counted.
+ */
 public class LocalStorageCsvSourceReader implements SourceReader {
   private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final String COMMA = ",";
-  private static final Pattern PATTERN = Pattern.compile("^[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[1-5][a-fA-F0-9]{3}-[89abAB][a-fA-F0-9]{3}-[a-fA-F0-9]{12}$");
-  private static final String SPECIAL_CHARACTERS_REGEX = "[^a-zA-Z0-9\\-]";
+  private static final int MAX_INVALID_LINES_TO_LOG = 100;
+  private static final int MAX_INVALID_LINE_LENGTH_TO_LOG = 100;
+  private static final int INITIAL_CAPACITY = 1024;
+  /* Upper bound of the capacity taken from the counted uuids, larger files grow the array while they are read */
+  private static final int MAX_INITIAL_CAPACITY = 1 << 22;
+  /* Largest even length of an array the JVM can allocate */
+  private static final int MAX_ARRAY_LENGTH = (Integer.MAX_VALUE - 8) & ~1;
 
   private FileDefinition fileDefinition;
-  private Stream<String> fileStream;
-  private Iterator<List<String>> iterator;
   private ErrorLogService errorLogService;
   private String jobExecutionId;
   private String tenantId;
+  private int batchSize;
+  private boolean deduplicationEnabled;
+
+  private long[] uuids;
+  private int uuidsCount;
+  private int position;
+  private boolean loaded;
+  private boolean closed;
 
   @Override
   public void init(FileDefinition fileDefinition, ErrorLogService errorLogService, String jobExecutionId, String tenantId, int batchSize) {
-    if (Objects.isNull(fileDefinition.getSourcePath())) {
-      this.iterator = Collections.emptyIterator();
+    this.errorLogService = errorLogService;
+    this.jobExecutionId = jobExecutionId;
+    this.tenantId = tenantId;
+    this.batchSize = batchSize;
+    this.deduplicationEnabled = false;
+    this.uuids = null;
+    this.uuidsCount = 0;
+    this.position = 0;
+    this.closed = false;
+    if (!hasSource(fileDefinition)) {
+      this.fileDefinition = null;
+      this.loaded = true;
       return;
     }
-    try {
-      this.fileDefinition = fileDefinition;
-      this.errorLogService = errorLogService;
-      this.jobExecutionId = jobExecutionId;
-      this.tenantId = tenantId;
-      this.fileStream = Files.lines(Paths.get(fileDefinition.getSourcePath()));
-      this.iterator = Iterables.partition(fileStream::iterator, batchSize).iterator();
-    } catch (IOException e) {
-      LOGGER.error("Exception while reading from {} ", fileDefinition.getFileName(), e);
-      iterator = Collections.emptyIterator();
-    }
+    this.fileDefinition = fileDefinition;
+    this.loaded = false;
+  }
+
+  @Override
+  public void enableDeduplication() {
+    this.deduplicationEnabled = true;
   }
 
   @Override
   public boolean hasNext() {
-    boolean result = false;
-    try {
-      //handle unchecked java.nio.charset exception
-      result = iterator.hasNext();
-    } catch (Exception exc) {
-      LOGGER.error(exc.getMessage(), exc);
+    if (closed) {
+      return false;
     }
-    return result;
+    load();
+    return position < uuidsCount;
   }
 
   @Override
   public List<String> readNext() {
-    return iterator.next()
-      .stream()
-      .map(s -> s.replaceAll(SPECIAL_CHARACTERS_REGEX, EMPTY).trim())
-      .filter(s -> PATTERN.matcher(s).matches())
-      .collect(Collectors.toList());
+    if (closed) {
+      throw new UncheckedIOException(new IOException("Source reader is closed"));
+    }
+    load();
+    int chunkEnd = Math.min(position + batchSize, uuidsCount);
+    List<String> chunk = new ArrayList<>(chunkEnd - position);
+    for (; position < chunkEnd; position++) {
+      chunk.add(UuidUtils.toString(uuids[2 * position], uuids[2 * position + 1]));
+    }
+    return chunk;
   }
 
   @Override
   public void close() {
-    if (nonNull(fileStream)) {
-      fileStream.close();
-    }
+    closed = true;
+    uuids = null;
   }
 
   @Override
   public int totalCount() {
-    if (nonNull(fileDefinition) && !CQL.equals(fileDefinition.getUploadFormat())) {
-      try (Stream<String> fileLines = Files.lines(Paths.get(fileDefinition.getSourcePath()))) {
-        return getValidUUIDsCountAndSaveErrorIfInvalidFound(fileLines);
-        // handle unchecked java.nio.charset exception
-      } catch (Exception e) {
-        LOGGER.error(e.getMessage(), e);
-      }
+    if (Objects.nonNull(fileDefinition) && !CQL.equals(fileDefinition.getUploadFormat())) {
+      load();
+      return uuidsCount;
     }
     return 0;
   }
 
-  private int getValidUUIDsCountAndSaveErrorIfInvalidFound(Stream<String> fileLines) {
-    List<String> invalidUUIDs = new ArrayList<>();
-    long count = fileLines
-      .filter(s -> {
-        if (StringUtils.isNotEmpty(s) && PATTERN.matcher(s.replaceAll(SPECIAL_CHARACTERS_REGEX, EMPTY).trim()).matches()) {
-          return true;
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+    boolean logInvalidLines = !CQL.equals(fileDefinition.getUploadFormat());
+    List<String> invalidLines = new ArrayList<>();
+    int[] invalidLinesCount = {0};
+    int[] duplicatesCount = {0};
+    UuidSet readUuids = deduplicationEnabled ? new UuidSet() : null;
+    uuids = new long[2 * getInitialCapacity()];
+    try {
+      readLines(line -> {
+        ensureCapacity();
+        if (!line.isEmpty() && UuidUtils.parse(line, uuids, 2 * uuidsCount)) {
+          if (readUuids == null || readUuids.add(uuids[2 * uuidsCount], uuids[2 * uuidsCount + 1])) {
+            uuidsCount++;
+          } else {
+            duplicatesCount[0]++;
+          }
         } else {
-          invalidUUIDs.add(s);
-          return false;
+          if (invalidLines.size() < MAX_INVALID_LINES_TO_LOG) {
+            invalidLines.add(StringUtils.abbreviate(line, MAX_INVALID_LINE_LENGTH_TO_LOG));
+          }
+          invalidLinesCount[0]++;
         }
-      }).count();
-    if (CollectionUtils.isNotEmpty(invalidUUIDs)) {
-      errorLogService.saveGeneralErrorWithMessageValues(INVALID_UUID_FORMAT.getCode(), Arrays.asList(String.join(COMMA, invalidUUIDs)), jobExecutionId, tenantId);
+      });
+    } catch (IOException | UncheckedIOException e) {
+      LOGGER.error("Exception while reading from {} ", fileDefinition.getFileName(), e);
+    }
+    if (duplicatesCount[0] > 0) {
+      LOGGER.info("{} repeated UUIDs are skipped in file {} for job execution {}", duplicatesCount[0], fileDefinition.getFileName(), jobExecutionId);
+    }
+    if (closed) {
+      uuids = null;
+    }
+    if (logInvalidLines && invalidLinesCount[0] > 0) {
+      saveInvalidLines(invalidLines, invalidLinesCount[0]);
     }
-    return (int) count;
   }
 
+  /**
+   * Returns true if there are identifiers to read for the given file definition
+   */
+  protected boolean hasSource(FileDefinition fileDefinition) {
+    return Objects.nonNull(fileDefinition.getSourcePath());
+  }
+
+  /**
+   * Passes lines of the source to the consumer one by one, lines of the uploaded file are read by default
+   */
+  protected void readLines(Consumer<String> lineConsumer) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileDefinition.getSourcePath()), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineConsumer.accept(line);
+      }
+    }
+  }
+
+  /**
+   * Returns the largest number of uuids the source can hold, every uuid of the uploaded file takes at least
+   * {@link UuidUtils#UUID_LENGTH} bytes
+   */
+  protected long getMaxUuidsCount() {
+    try {
+      return Files.size(Paths.get(fileDefinition.getSourcePath())) / UuidUtils.UUID_LENGTH;
+    } catch (IOException e) {
+      return INITIAL_CAPACITY;
+    }
+  }
+
+  /**
+   * Returns number of uuids counted while the file was uploaded or written, so the array is not grown while the file is read.
+   * The count can be set by the client, so it is only a hint limited by the size of the source and {@link #MAX_INITIAL_CAPACITY}
+   */
+  private int getInitialCapacity() {
+    Integer countedUuids = fileDefinition.getUuidsCount();
+    if (countedUuids == null || countedUuids <= 0) {
+      return INITIAL_CAPACITY;
+    }
+    long capacity = Math.min(Math.min(countedUuids, getMaxUuidsCount()), MAX_INITIAL_CAPACITY);
+    return (int) Math.max(capacity, INITIAL_CAPACITY);
+  }
+
+  private void ensureCapacity() {
+    // two longs are kept per uuid, so the capacity is grown in uuids to keep the length of the array even
+    if (2 * uuidsCount >= uuids.length) {
+      if (uuids.length >= MAX_ARRAY_LENGTH) {
+        throw new UncheckedIOException(new IOException("Too many uuids to read from " + fileDefinition.getFileName()));
+      }
+      long capacity = uuids.length / 2;
+      long length = 2 * (capacity + Math.max(capacity >> 1, INITIAL_CAPACITY));
+      uuids = Arrays.copyOf(uuids, (int) Math.min(length, MAX_ARRAY_LENGTH));
+    }
+  }
+
+  private void saveInvalidLines(List<String> invalidLines, int invalidLinesCount) {
+    String message = String.join(COMMA, invalidLines);
+    if (invalidLinesCount > invalidLines.size()) {
+      message += String.format(" and %d more", invalidLinesCount - invalidLines.size());
+    }
+    errorLogService.saveGeneralErrorWithMessageValues(INVALID_UUID_FORMAT.getCode(), Collections.singletonList(message), jobExecutionId, tenantId);
+  }
 
 }
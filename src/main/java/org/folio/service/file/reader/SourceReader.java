@@ -21,6 +21,12 @@ public interface SourceReader {
    */
   void init(FileDefinition fileDefinition, ErrorLogService errorLogService, String jobExecutionId, String tenantId, int batchSize);
 
+  /**
+   * Turns on skipping of identifiers repeated in the source, so each identifier is read only once.
+   * Should be called after {@link #init} and before reading.
+   */
+  void enableDeduplication();
+
   /**
    * Returns {@code true} if the reader has more chunks to read.
    *
@@ -1,6 +1,7 @@
 package org.folio.service.file.storage;
 
 import io.vertx.core.Future;
+import io.vertx.core.file.AsyncFile;
 import org.folio.rest.jaxrs.model.FileDefinition;
 
 import java.util.List;
@@ -20,11 +21,33 @@ public interface FileStorage {
    */
   Future<FileDefinition> saveFileDataAsyncCQL(List<String> uuids, FileDefinition fileDefinition);
 
+  /**
+   * Opens the file of the given file definition for appending, creates it together with parent directories if needed
+   */
+  Future<AsyncFile> openFileForAppend(FileDefinition fileDefinition);
+
   /**
    * Save bytes to the storage in blocking manner
    */
   FileDefinition saveFileDataBlocking(byte[] data, FileDefinition fileDefinition);
 
+  /**
+   * Appends content of the file by the given path to the file of the file definition in blocking manner,
+   * the appended file is deleted afterwards
+   */
+  FileDefinition appendFileBlocking(String sourcePath, FileDefinition fileDefinition);
+
+  /**
+   * Appends content of the file by the given path to the file of the file definition in blocking manner,
+   * the appended file is deleted afterwards only if deleteAppended is true
+   */
+  FileDefinition appendFileBlocking(String sourcePath, FileDefinition fileDefinition, boolean deleteAppended);
+
+  /**
+   * Empties the file of the file definition in blocking manner, the file is created if it does not exist
+   */
+  FileDefinition clearFileBlocking(FileDefinition fileDefinition);
+
   /**
    * Deletes File and related parent directory from the storage and returns true if succeeded
    */
@@ -35,4 +58,15 @@ public interface FileStorage {
    */
   boolean isFileExist(String path);
 
+  /**
+   * Returns the size of the file with provided path in bytes, or 0 if the file does not exist
+   */
+  long getFileSize(String path);
+
+  /**
+   * Truncates the file of the file definition to the given size in blocking manner, fails if the file does not exist
+   * or is shorter than the given size
+   */
+  void truncateFileBlocking(FileDefinition fileDefinition, long size);
+
 }
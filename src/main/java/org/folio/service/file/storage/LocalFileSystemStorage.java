@@ -3,17 +3,22 @@ package org.folio.service.file.storage;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
 import org.folio.clients.InventoryClient;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -37,8 +42,13 @@ public class LocalFileSystemStorage implements FileStorage {
   private InventoryClient inventoryClient;
 
 
-  public LocalFileSystemStorage(@Autowired Vertx vertx) {
-    this.workerExecutor = vertx.createSharedWorkerExecutor("local-file-storage-worker");
+  public LocalFileSystemStorage(Vertx vertx) {
+    this(vertx, VertxOptions.DEFAULT_WORKER_POOL_SIZE);
+  }
+
+  @Autowired
+  public LocalFileSystemStorage(Vertx vertx, @Value("${export.storage.poolSize}") int poolSize) {
+    this.workerExecutor = vertx.createSharedWorkerExecutor("local-file-storage-worker", poolSize);
     this.fileSystem = vertx.fileSystem();
   }
 
@@ -77,6 +87,15 @@ public class LocalFileSystemStorage implements FileStorage {
     return promise.future();
   }
 
+  @Override
+  public Future<AsyncFile> openFileForAppend(FileDefinition fileDefinition) {
+    String path = getFilePath(fileDefinition);
+    return fileSystem.mkdirs(Paths.get(path).getParent().toString())
+      .compose(v -> fileSystem.open(path, new OpenOptions().setAppend(true).setCreate(true)))
+      .onSuccess(file -> fileDefinition.setSourcePath(path))
+      .onFailure(e -> LOGGER.error("Error during opening file in the local system's storage. FileId: {}", fileDefinition.getId(), e));
+  }
+
   @Override
   public FileDefinition saveFileDataBlocking(byte[] data, FileDefinition fileDefinition) {
     try {
@@ -88,14 +107,53 @@ public class LocalFileSystemStorage implements FileStorage {
     return fileDefinition;
   }
 
+  @Override
+  public FileDefinition appendFileBlocking(String sourcePath, FileDefinition fileDefinition) {
+    return appendFileBlocking(sourcePath, fileDefinition, true);
+  }
+
+  @Override
+  public FileDefinition appendFileBlocking(String sourcePath, FileDefinition fileDefinition, boolean deleteAppended) {
+    try (FileChannel source = FileChannel.open(Paths.get(sourcePath), StandardOpenOption.READ);
+         FileChannel target = FileChannel.open(prepareFilePath(fileDefinition), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+      long position = 0;
+      long size = source.size();
+      while (position < size) {
+        position += source.transferTo(position, size - position, target);
+      }
+    } catch (IOException e) {
+      LOGGER.error("Error during appending file {} to the local system's storage. FileId: {}", sourcePath, fileDefinition.getId(), e);
+      throw new RuntimeException(e);
+    }
+    if (deleteAppended) {
+      fileSystem.deleteBlocking(sourcePath);
+    }
+    return fileDefinition;
+  }
+
+  @Override
+  public FileDefinition clearFileBlocking(FileDefinition fileDefinition) {
+    try (FileChannel file = FileChannel.open(prepareFilePath(fileDefinition), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      fileDefinition.setSourcePath(getFilePath(fileDefinition));
+    } catch (IOException e) {
+      LOGGER.error("Error during clearing file in the local system's storage. FileId: {}", fileDefinition.getId(), e);
+      throw new RuntimeException(e);
+    }
+    return fileDefinition;
+  }
+
   private void saveFileData(byte[] data, FileDefinition fileDefinition) throws IOException {
+    Path pathToFile = prepareFilePath(fileDefinition);
+    Files.write(pathToFile, data, pathToFile.toFile().exists() ? StandardOpenOption.APPEND : StandardOpenOption.CREATE);
+  }
+
+  private Path prepareFilePath(FileDefinition fileDefinition) {
     String path = getFilePath(fileDefinition);
     if (!fileSystem.existsBlocking(path)) {
       fileSystem.mkdirsBlocking(path.substring(0, path.indexOf(fileDefinition.getFileName()) - 1));
       fileDefinition.setSourcePath(path);
     }
-    Path pathToFile = Paths.get(path);
-    Files.write(pathToFile, data, pathToFile.toFile().exists() ? StandardOpenOption.APPEND : StandardOpenOption.CREATE);
+    return Paths.get(path);
   }
 
   private String getFilePath(FileDefinition fileDefinition) {
@@ -112,17 +170,20 @@ public class LocalFileSystemStorage implements FileStorage {
   @Override
   public Future<Boolean> deleteFileAndParentDirectory(FileDefinition fileDefinition) {
     Promise<Boolean> promise = Promise.promise();
-    try {
-      Path filePath = Paths.get(fileDefinition.getSourcePath());
-      if (fileSystem.existsBlocking(filePath.toString())) {
-        fileSystem.deleteBlocking(filePath.toString());
-        deleteParentDirectory(filePath);
+    // files are deleted on the worker pool and not in order, so concurrent deletes do not wait for each other
+    workerExecutor.<Boolean>executeBlocking(blockingFuture -> {
+      try {
+        Path filePath = Paths.get(fileDefinition.getSourcePath());
+        if (fileSystem.existsBlocking(filePath.toString())) {
+          fileSystem.deleteBlocking(filePath.toString());
+          deleteParentDirectory(filePath);
+        }
+        blockingFuture.complete(true);
+      } catch (Exception e) {
+        LOGGER.error("Couldn't delete the file with id {} from the storage", fileDefinition.getId(), e);
+        blockingFuture.complete(false);
       }
-      promise.complete(true);
-    } catch (Exception e) {
-      LOGGER.error("Couldn't delete the file with id {} from the storage", fileDefinition.getId(), e);
-      promise.complete(false);
-    }
+    }, false, promise);
     return promise.future();
   }
 
@@ -131,6 +192,26 @@ public class LocalFileSystemStorage implements FileStorage {
     return path != null && !path.isEmpty() && fileSystem.existsBlocking(path);
   }
 
+  @Override
+  public long getFileSize(String path) {
+    return isFileExist(path) ? fileSystem.propsBlocking(path).size() : 0;
+  }
+
+  @Override
+  public void truncateFileBlocking(FileDefinition fileDefinition, long size) {
+    String path = getFilePath(fileDefinition);
+    try (FileChannel file = FileChannel.open(Paths.get(path), StandardOpenOption.WRITE)) {
+      if (file.size() < size) {
+        throw new IOException(String.format("File %s is shorter than %d bytes", path, size));
+      }
+      file.truncate(size);
+      fileDefinition.setSourcePath(path);
+    } catch (IOException e) {
+      LOGGER.error("Error during truncating file in the local system's storage. FileId: {}", fileDefinition.getId(), e);
+      throw new RuntimeException(e);
+    }
+  }
+
   private void deleteParentDirectory(Path filePath) throws IOException {
     Path parentFileDefinitionDirectory = filePath.getParent();
     if (Objects.nonNull(parentFileDefinitionDirectory) && isDirectoryEmpty(parentFileDefinitionDirectory)) {
@@ -0,0 +1,27 @@
+package org.folio.service.file.upload;
+
+import io.vertx.core.Future;
+import org.folio.rest.jaxrs.model.FileDefinition;
+
+/**
+ * Notifies exports waiting for the file uploading about its completion by the Vert.x event bus
+ */
+public interface FileUploadEventService {
+
+  /**
+   * Publishes the event about finished uploading of the file, either completed or failed
+   *
+   * @param fileDefinition {@link FileDefinition} of the uploaded file
+   */
+  void publishUploadFinished(FileDefinition fileDefinition);
+
+  /**
+   * Waits until the data of the file is uploaded. Besides the events published by {@link #publishUploadFinished},
+   * the {@link FileDefinition} is re-read from the database with a fixed interval, in case the event was not received
+   *
+   * @param fileDefinition {@link FileDefinition} of the uploading file
+   * @param tenantId       tenant id
+   * @return future with the {@link FileDefinition} of the uploaded file, failed if the uploading failed
+   */
+  Future<FileDefinition> waitForUpload(FileDefinition fileDefinition, String tenantId);
+}
@@ -0,0 +1,89 @@
+package org.folio.service.file.upload;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.service.file.definition.FileDefinitionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+
+@Service
+public class FileUploadEventServiceImpl implements FileUploadEventService {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String UPLOAD_FINISHED_ADDRESS_PREFIX = "data-export.file-upload.finished.";
+
+  @Autowired
+  private Vertx vertx;
+  @Autowired
+  private FileDefinitionService fileDefinitionService;
+
+  @Value("${upload.wait.fallbackInterval}")
+  private long fallbackInterval;
+  /* Max time of waiting for the upload, the waiting is failed afterwards so an abandoned upload does not hold the export */
+  @Value("${upload.wait.maxWait}")
+  private long maxWait;
+
+  @Override
+  public void publishUploadFinished(FileDefinition fileDefinition) {
+    vertx.eventBus().publish(UPLOAD_FINISHED_ADDRESS_PREFIX + fileDefinition.getId(), JsonObject.mapFrom(fileDefinition));
+  }
+
+  @Override
+  public Future<FileDefinition> waitForUpload(FileDefinition fileDefinition, String tenantId) {
+    if (isUploaded(fileDefinition)) {
+      return Future.succeededFuture(fileDefinition);
+    }
+    Promise<FileDefinition> promise = Promise.promise();
+    MessageConsumer<JsonObject> consumer = vertx.eventBus().consumer(UPLOAD_FINISHED_ADDRESS_PREFIX + fileDefinition.getId(),
+      message -> handleUploadFinished(message.body().mapTo(FileDefinition.class), promise));
+    long timerId = vertx.setPeriodic(fallbackInterval, id -> checkUpload(fileDefinition.getId(), tenantId, promise));
+    // the uploading could be finished before the consumer is registered, so the file definition is checked once it is
+    consumer.completionHandler(ar -> checkUpload(fileDefinition.getId(), tenantId, promise));
+    long deadlineTimerId = vertx.setTimer(maxWait, id -> promise.tryFail(
+      String.format("Uploading of the file with id %s has not been finished in %d ms", fileDefinition.getId(), maxWait)));
+    return promise.future().onComplete(ar -> {
+      vertx.cancelTimer(timerId);
+      vertx.cancelTimer(deadlineTimerId);
+      consumer.unregister();
+    });
+  }
+
+  private void checkUpload(String fileDefinitionId, String tenantId, Promise<FileDefinition> promise) {
+    if (promise.future().isComplete()) {
+      return;
+    }
+    fileDefinitionService.getById(fileDefinitionId, tenantId)
+      .onSuccess(fileDefinition -> {
+        if (FileDefinition.Status.ERROR.equals(fileDefinition.getStatus()) || isUploaded(fileDefinition)) {
+          handleUploadFinished(fileDefinition, promise);
+        }
+      })
+      .onFailure(e -> LOGGER.warn("Couldn't check uploading state of the file definition with id {}", fileDefinitionId, e));
+  }
+
+  private void handleUploadFinished(FileDefinition fileDefinition, Promise<FileDefinition> promise) {
+    if (FileDefinition.Status.ERROR.equals(fileDefinition.getStatus())) {
+      promise.tryFail(String.format("Uploading of the file with id %s has failed", fileDefinition.getId()));
+    } else if (isUploaded(fileDefinition)) {
+      promise.tryComplete(fileDefinition);
+    } else {
+      promise.tryFail(String.format("No data has been uploaded for the file with id %s", fileDefinition.getId()));
+    }
+  }
+
+  private boolean isUploaded(FileDefinition fileDefinition) {
+    return nonNull(fileDefinition.getSourcePath()) || isNull(fileDefinition.getSize()) || fileDefinition.getSize() == 0;
+  }
+}
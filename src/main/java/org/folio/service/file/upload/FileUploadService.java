@@ -28,6 +28,14 @@ public interface FileUploadService {
    */
   Future<FileDefinition> saveFileChunk(FileDefinition fileDefinition, byte[] data, String tenantId);
 
+  /**
+   * Opens the file of the given {@link FileDefinition} in the {@link FileStorage} to write chunks of the uploading file to it
+   *
+   * @param fileDefinition {@link FileDefinition}
+   * @return {@link UploadedFileWriter}
+   */
+  Future<UploadedFileWriter> openFileWriter(FileDefinition fileDefinition);
+
   /**
    * Completes uploading for the given {@link FileDefinition}
    *
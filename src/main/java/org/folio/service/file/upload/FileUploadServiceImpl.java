@@ -50,6 +50,10 @@ public class FileUploadServiceImpl implements FileUploadService {
   private UsersClient usersClient;
   @Autowired
   private Vertx vertx;
+  @Autowired
+  private FileUploadEventService fileUploadEventService;
+  @Autowired
+  private QuickExportFastLane quickExportFastLane;
 
   @Override
   public Future<FileDefinition> startUploading(String fileDefinitionId, String tenantId) {
@@ -68,29 +72,33 @@ public class FileUploadServiceImpl implements FileUploadService {
       .compose(ar -> Future.succeededFuture(fileDefinition));
   }
 
+  @Override
+  public Future<UploadedFileWriter> openFileWriter(FileDefinition fileDefinition) {
+    return fileStorage.openFileForAppend(fileDefinition)
+      .map(file -> new UploadedFileWriter(file, fileDefinition));
+  }
+
   @Override
   public Future<FileDefinition> completeUploading(FileDefinition fileDefinition, String tenantId) {
-    return fileDefinitionService.update(fileDefinition.withStatus(COMPLETED), tenantId);
+    return fileDefinitionService.update(fileDefinition.withStatus(COMPLETED), tenantId)
+      .onSuccess(fileUploadEventService::publishUploadFinished);
   }
 
   @Override
   public Future<FileDefinition> saveUUIDsByCQL(FileDefinition fileDefinition, String query, OkapiConnectionParams params) {
     if (StringUtils.isNotBlank(query)) {
-      return searchClient.getInstancesBulkUUIDsAsync(query, params).compose(optionalInstancesUUIDs -> {
-        List<String> ids = new ArrayList<>();
-        if (optionalInstancesUUIDs.isPresent()) {
-          JsonArray jsonIds = optionalInstancesUUIDs.get().getJsonArray("ids");
-          if (jsonIds.size() > 0) {
-            for (Object id : jsonIds) {
-              ids.add(((JsonObject) id).getString("id"));
-            }
-            return fileStorage.saveFileDataAsyncCQL(ids, fileDefinition)
-              .compose(jobExecution -> jobExecutionService.getById(fileDefinition.getJobExecutionId(), params.getTenantId()))
-              .compose(jobExecution -> updateFileDefinitionWithJobExecution(jobExecution.withProgress(new Progress().withTotal(jsonIds.size())), fileDefinition, params.getTenantId()));
+      return fileStorage.openFileForAppend(fileDefinition)
+        .compose(file -> searchClient.writeInstancesBulkUUIDs(query, params, file)
+          .compose(uuidsCount -> file.close().map(uuidsCount)))
+        .compose(uuidsCount -> {
+          if (uuidsCount == 0) {
+            return fileStorage.deleteFileAndParentDirectory(fileDefinition)
+              .map(deleted -> fileDefinition.withSourcePath(null));
           }
-        }
-        return Future.succeededFuture(fileDefinition);
-      });
+          return jobExecutionService.getById(fileDefinition.getJobExecutionId(), params.getTenantId())
+            .compose(jobExecution -> updateFileDefinitionWithJobExecution(jobExecution.withProgress(new Progress().withTotal(uuidsCount)),
+              fileDefinition.withUuidsCount(uuidsCount), params.getTenantId()));
+        });
     } else {
       return Future.succeededFuture(fileDefinition);
     }
@@ -99,7 +107,8 @@ public class FileUploadServiceImpl implements FileUploadService {
   @Override
   public Future<FileDefinition> errorUploading(String fileDefinitionId, String tenantId) {
     return fileDefinitionService.getById(fileDefinitionId, tenantId)
-      .compose(fileDefinition -> fileDefinitionService.update(fileDefinition.withStatus(ERROR), tenantId));
+      .compose(fileDefinition -> fileDefinitionService.update(fileDefinition.withStatus(ERROR), tenantId))
+      .onSuccess(fileUploadEventService::publishUploadFinished);
   }
 
   @Override
@@ -115,7 +124,7 @@ public class FileUploadServiceImpl implements FileUploadService {
                 .onFailure(ar -> failFileDefinitionAndJobExecution(promise, inProgressFileDef, jobExecution, request, ar.getCause(), params));
             } else {
               List<String> uuids = request.getUuids();
-              fileStorage.saveFileDataAsyncCQL(uuids, inProgressFileDef)
+              saveQuickExportIds(uuids, inProgressFileDef)
                 .onComplete(ar -> {
                   if (ar.succeeded()) {
                     updateFileDefinitionAndJobExecution(jobExecution.withProgress(new Progress().withTotal(uuids.size())), ar.result(), request, params)
@@ -158,7 +167,7 @@ public class FileUploadServiceImpl implements FileUploadService {
         for (Object id : jsonIds) {
           ids.add(((JsonObject) id).getString("id"));
         }
-        return fileStorage.saveFileDataAsyncCQL(ids, fileDefinition)
+        return saveQuickExportIds(ids, fileDefinition)
           .compose(ar -> updateFileDefinitionAndJobExecution(jobExecution.withProgress(new Progress().withTotal(ids.size())), fileDefinition.withStatus(COMPLETED), request, params));
       }
     }
@@ -166,6 +175,12 @@ public class FileUploadServiceImpl implements FileUploadService {
     return fileDefinitionService.update(fileDefinition.withStatus(COMPLETED), params.getTenantId());
   }
 
+  private Future<FileDefinition> saveQuickExportIds(List<String> ids, FileDefinition fileDefinition) {
+    return quickExportFastLane.accepts(ids.size())
+      ? Future.succeededFuture(quickExportFastLane.keepIdentifiers(fileDefinition, ids))
+      : fileStorage.saveFileDataAsyncCQL(ids, fileDefinition);
+  }
+
   private Future<FileDefinition> updateFileDefinitionWithJobExecution(JobExecution jobExecution, FileDefinition fileDefinition, String tenantId) {
     return jobExecutionService.update(jobExecution, tenantId)
       .compose(savedJob -> fileDefinitionService.update(fileDefinition.withJobExecutionId(savedJob.getId()), tenantId));
@@ -0,0 +1,59 @@
+package org.folio.service.file.upload;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps identifiers of small quick exports in memory until the export is started, instead of writing them to the input file.
+ * Chunks of such exports are run on the reserved workers, see {@link org.folio.service.manager.export.ExportChunkScheduler}.
+ */
+@Component
+public class QuickExportFastLane {
+  private static final int IDENTIFIERS_EXPIRATION_TIME_IN_MINUTES = 10;
+
+  /* Identifiers are removed once the export is started, expiration only covers exports failed before the start */
+  private final Cache<String, List<String>> identifiersByFileDefinitionId = Caffeine.newBuilder()
+    .expireAfterWrite(IDENTIFIERS_EXPIRATION_TIME_IN_MINUTES, TimeUnit.MINUTES)
+    .build();
+
+  /* Max number of identifiers of the quick export run in the fast lane, 0 turns the fast lane off */
+  @Value("${export.quick.fastLaneLimit}")
+  private int fastLaneLimit;
+
+  /**
+   * Returns true if the quick export with the given number of identifiers is run in the fast lane
+   *
+   * @param identifiersCount number of identifiers
+   */
+  public boolean accepts(int identifiersCount) {
+    return identifiersCount > 0 && identifiersCount <= fastLaneLimit;
+  }
+
+  /**
+   * Keeps identifiers of the quick export instead of the uploaded file of the file definition
+   *
+   * @param fileDefinition file definition of the quick export
+   * @param identifiers    identifiers to export
+   * @return {@link FileDefinition}
+   */
+  public FileDefinition keepIdentifiers(FileDefinition fileDefinition, List<String> identifiers) {
+    identifiersByFileDefinitionId.put(fileDefinition.getId(), identifiers);
+    return fileDefinition;
+  }
+
+  /**
+   * Returns and forgets identifiers kept for the file definition
+   *
+   * @param fileDefinitionId file definition id
+   * @return identifiers, null if the export is not run in the fast lane
+   */
+  public List<String> takeIdentifiers(String fileDefinitionId) {
+    return fileDefinitionId == null ? null : identifiersByFileDefinitionId.asMap().remove(fileDefinitionId);
+  }
+}
@@ -0,0 +1,53 @@
+package org.folio.service.file.upload;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import org.folio.rest.jaxrs.model.FileDefinition;
+
+/**
+ * Writes chunks of the uploaded file to the file opened once for the whole upload,
+ * counting identifiers of the file as the chunks arrive.
+ */
+public class UploadedFileWriter {
+
+  private final AsyncFile file;
+  private final FileDefinition fileDefinition;
+  private final UuidLineCounter counter = new UuidLineCounter();
+  private Future<FileDefinition> closeFuture;
+
+  public UploadedFileWriter(AsyncFile file, FileDefinition fileDefinition) {
+    this.file = file;
+    this.fileDefinition = fileDefinition;
+  }
+
+  /**
+   * Appends the chunk to the file, the returned future is completed once the chunk is written,
+   * so the next chunk should be written after it to keep the memory used by the upload bounded
+   *
+   * @param data bytes of the file
+   * @return {@link FileDefinition}
+   */
+  public Future<FileDefinition> write(byte[] data) {
+    if (data.length == 0) {
+      return Future.succeededFuture(fileDefinition);
+    }
+    Buffer chunk = Buffer.buffer(data);
+    counter.update(chunk);
+    return file.write(chunk).map(fileDefinition);
+  }
+
+  /**
+   * Flushes and closes the file, sets the number of valid identifiers to the {@link FileDefinition}
+   *
+   * @return {@link FileDefinition}
+   */
+  public Future<FileDefinition> close() {
+    if (closeFuture == null) {
+      counter.finish();
+      closeFuture = file.close()
+        .map(v -> fileDefinition.withUuidsCount(counter.getUuidsCount()));
+    }
+    return closeFuture;
+  }
+}
@@ -0,0 +1,78 @@
+package org.folio.service.file.upload;
+
+import io.vertx.core.buffer.Buffer;
+import org.folio.util.UuidUtils;
+
+/**
+ * Counts valid and invalid lines of the uploaded file with identifiers while its bytes arrive, chunk by chunk.
+ * Lines are split and validated the same way as {@link org.folio.service.file.reader.LocalStorageCsvSourceReader} does,
+ * so the counts match the result of reading the file once the upload is completed.
+ */
+public class UuidLineCounter {
+
+  private static final int INVALID_POSITION = -1;
+
+  private int position;
+  private boolean lineStarted;
+  private boolean skipLineFeed;
+  private int uuidsCount;
+  private int invalidLinesCount;
+
+  /**
+   * Processes next chunk of the uploaded file
+   *
+   * @param chunk bytes of the file
+   */
+  public void update(Buffer chunk) {
+    for (int i = 0; i < chunk.length(); i++) {
+      update(chunk.getByte(i));
+    }
+  }
+
+  /**
+   * Processes the line left after the last chunk of the file, should be called once the upload is completed
+   */
+  public void finish() {
+    if (lineStarted) {
+      completeLine();
+    }
+  }
+
+  public int getUuidsCount() {
+    return uuidsCount;
+  }
+
+  public int getInvalidLinesCount() {
+    return invalidLinesCount;
+  }
+
+  private void update(byte value) {
+    char ch = (char) (value & 0xFF);
+    if (skipLineFeed) {
+      skipLineFeed = false;
+      if (ch == '\n') {
+        return;
+      }
+    }
+    if (ch == '\n' || ch == '\r') {
+      skipLineFeed = ch == '\r';
+      completeLine();
+      return;
+    }
+    lineStarted = true;
+    if (position == INVALID_POSITION || !UuidUtils.isSignificantCharacter(ch)) {
+      return;
+    }
+    position = position < UuidUtils.UUID_LENGTH && UuidUtils.isValidCharacterAt(position, ch) ? position + 1 : INVALID_POSITION;
+  }
+
+  private void completeLine() {
+    if (position == UuidUtils.UUID_LENGTH) {
+      uuidsCount++;
+    } else {
+      invalidLinesCount++;
+    }
+    position = 0;
+    lineStarted = false;
+  }
+}
@@ -20,9 +20,10 @@ public interface JobExecutionService {
    * @param query  query string to filter entities
    * @param offset starting index in a list of results
    * @param limit  maximum number of results to return
+   * @param cursor cursor of the previous page, the offset is ignored if it is given
    * @return future with JobExecutionCollection
    */
-  Future<JobExecutionCollection> get(String query, int offset, int limit, String tenantId);
+  Future<JobExecutionCollection> get(String query, int offset, int limit, String cursor, String tenantId);
 
   /**
    * Saves {@link JobExecution}
@@ -83,15 +84,16 @@ public interface JobExecutionService {
   void prepareAndSaveJobForFailedExport(JobExecution jobExecution, FileDefinition fileExportDefinition, JsonObject user, int totalCount, boolean withProgress, String tenantId);
 
   /**
-   * Increment current value in {@link Progress} of {@link JobExecution}
+   * Increment current value in {@link Progress} of {@link JobExecution}, the values are incremented atomically in the database,
+   * so the progress is not lost when chunks of the job are exported at the same time
    *
    * @param jobExecutionId id of a job
    * @param exported       exported records number
    * @param failed         number of records failed on export
    * @param tenantId       tenant id
-   * @return future
+   * @return future, failed if the job execution or its progress is absent
    */
-  Future<JobExecution> incrementCurrentProgress(String jobExecutionId, final int exported, final int failed, String tenantId);
+  Future<Void> incrementCurrentProgress(String jobExecutionId, final int exported, final int failed, String tenantId);
 
   /**
    * Update status of expired job executions to fail
@@ -110,4 +112,22 @@ public interface JobExecutionService {
    */
   Future<Boolean> deleteById(String id, String tenantId);
 
+  /**
+   * Gets the running {@link JobExecution} to cancel
+   *
+   * @param id       JobExecution id
+   * @param tenantId tenant id
+   * @return future with the {@link JobExecution}, failed with BadRequestException if the job is not in progress
+   */
+  Future<JobExecution> getCancellableById(String id, String tenantId);
+
+  /**
+   * Marks the cancelled {@link JobExecution} as failed if it is still in progress, only the status and the dates are updated
+   *
+   * @param id       JobExecution id
+   * @param tenantId tenant id
+   * @return future with true if the job is marked as failed, false if it is not in progress anymore
+   */
+  Future<Boolean> failCancelled(String id, String tenantId);
+
 }
@@ -25,6 +25,7 @@ import org.folio.util.HelperUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotFoundException;
 import java.lang.invoke.MethodHandles;
 import java.util.Date;
@@ -37,7 +38,6 @@ import java.util.stream.Collectors;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.String.format;
-import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.folio.rest.jaxrs.model.JobExecution.Status.FAIL;
 import static org.folio.rest.jaxrs.model.JobExecution.Status.IN_PROGRESS;
@@ -59,23 +59,21 @@ public class JobExecutionServiceImpl implements JobExecutionService {
   private ErrorLogService errorLogService;
 
   @Override
-  public Future<JobExecutionCollection> get(String query, int offset, int limit, String tenantId) {
+  public Future<JobExecutionCollection> get(String query, int offset, int limit, String cursor, String tenantId) {
     Promise<JobExecutionCollection> jobExecutionPromise = Promise.promise();
-    jobExecutionDao.get(query, offset, limit, tenantId)
+    jobExecutionDao.get(query, offset, limit, cursor, tenantId)
       .onComplete(ar -> {
         if (ar.succeeded()) {
           JobExecutionCollection jobExecutionCollection = ar.result();
           if (CollectionUtils.isEmpty(jobExecutionCollection.getJobExecutions())) {
             jobExecutionPromise.complete(jobExecutionCollection);
           } else {
-            jobProfileService.get(getAssociatedJobProfileIdsQuery(jobExecutionCollection), 0, limit, tenantId)
-              .onSuccess(jobProfileCollection -> {
-                LOGGER.info("Successfully fetched jobProfiles while querying job execution for tenant {}", tenantId);
-                jobExecutionCollection.getJobExecutions().forEach(jobExecution ->
-                  jobProfileCollection.getJobProfiles()
-                    .stream()
-                    .filter(jobProfile -> jobProfile.getId().equals(jobExecution.getJobProfileId()))
-                    .forEach(jobProfile -> jobExecution.setJobProfileName(jobProfile.getName())));
+            jobProfileService.getNamesByIds(getAssociatedJobProfileIds(jobExecutionCollection), tenantId)
+              .onSuccess(jobProfileNames -> {
+                LOGGER.debug("Successfully fetched jobProfile names while querying job execution for tenant {}", tenantId);
+                jobExecutionCollection.getJobExecutions().stream()
+                  .filter(jobExecution -> jobProfileNames.containsKey(jobExecution.getJobProfileId()))
+                  .forEach(jobExecution -> jobExecution.setJobProfileName(jobProfileNames.get(jobExecution.getJobProfileId())));
                 jobExecutionPromise.complete(jobExecutionCollection);
               })
               .onFailure(async -> {
@@ -164,22 +162,11 @@ public class JobExecutionServiceImpl implements JobExecutionService {
   }
 
   @Override
-  public Future<JobExecution> incrementCurrentProgress(String jobExecutionId, int exported, int failed, String tenantId) {
-    return jobExecutionDao.getById(jobExecutionId, tenantId)
-      .compose(jobExecutionOptional -> {
-        if (jobExecutionOptional.isPresent()) {
-          JobExecution jobExecution = jobExecutionOptional.get();
-          Progress progress = jobExecution.getProgress();
-          if (nonNull(progress)) {
-            progress.setExported(progress.getExported() + exported);
-            progress.setFailed(progress.getFailed() + failed);
-            jobExecution.setLastUpdatedDate(new Date());
-            return jobExecutionDao.update(jobExecution, tenantId);
-          }
-          return failedFuture(format("Unable to update progress of job execution with id %s", jobExecutionId));
-        }
-        return failedFuture(format("Job execution with id %s doesn't exist", jobExecutionId));
-      });
+  public Future<Void> incrementCurrentProgress(String jobExecutionId, int exported, int failed, String tenantId) {
+    return jobExecutionDao.incrementProgress(jobExecutionId, exported, failed, new Date(), tenantId)
+      .compose(updated -> Boolean.TRUE.equals(updated)
+        ? succeededFuture()
+        : failedFuture(format("Unable to update progress of job execution with id %s", jobExecutionId)));
   }
 
   @Override
@@ -251,13 +238,13 @@ public class JobExecutionServiceImpl implements JobExecutionService {
     }
   }
 
-  private String getAssociatedJobProfileIdsQuery(JobExecutionCollection jobExecutionCollection) {
-    return String.format("(%s)", jobExecutionCollection
+  private Set<String> getAssociatedJobProfileIds(JobExecutionCollection jobExecutionCollection) {
+    return jobExecutionCollection
       .getJobExecutions()
       .stream()
-      .filter(jobExecution -> isNotEmpty(jobExecution.getJobProfileId()))
-      .map(jobExecution -> "id==" + jobExecution.getJobProfileId())
-      .collect(Collectors.joining(" or ")));
+      .map(JobExecution::getJobProfileId)
+      .filter(StringUtils::isNotEmpty)
+      .collect(Collectors.toSet());
   }
 
   @Override
@@ -281,4 +268,28 @@ public class JobExecutionServiceImpl implements JobExecutionService {
     return promise.future();
   }
 
+  @Override
+  public Future<JobExecution> getCancellableById(String id, String tenantId) {
+    return getById(id, tenantId).compose(jobExecution -> {
+      if (!IN_PROGRESS.equals(jobExecution.getStatus())) {
+        return failedFuture(new BadRequestException(format("Fail to cancel jobExecution with id %s, status is %s", id, jobExecution.getStatus())));
+      }
+      return succeededFuture(jobExecution);
+    });
+  }
+
+  @Override
+  public Future<Boolean> failCancelled(String id, String tenantId) {
+    return jobExecutionDao.updateStatusIfInProgress(id, FAIL, new Date(), tenantId)
+      .compose(updated -> {
+        if (Boolean.FALSE.equals(updated)) {
+          LOGGER.warn("Job execution with id {} is not in progress anymore, it is not marked as cancelled", id);
+          return succeededFuture(false);
+        }
+        ErrorCode errorCode = ErrorCode.ERROR_JOB_IS_CANCELLED;
+        return errorLogService.saveGeneralErrorWithMessageValues(errorCode.getCode(), List.of(errorCode.getDescription()), id, tenantId)
+          .map(true);
+      });
+  }
+
 }
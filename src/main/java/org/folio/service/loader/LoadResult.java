@@ -7,13 +7,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import org.folio.service.manager.export.strategy.AbstractExportStrategy;
+import org.folio.util.UuidSet;
 
 public class LoadResult {
 
   private static final AbstractExportStrategy.EntityType DEFAULT_ENTITY_TYPE = AbstractExportStrategy.EntityType.INSTANCE;
 
   private List<JsonObject> entities = new ArrayList<>();
-  private Collection<String> notFoundEntitiesUUIDs = new ArrayList<>();
+  private Collection<String> notFoundEntitiesUUIDs = new UuidSet();
   private AbstractExportStrategy.EntityType entityType;
 
   public List<JsonObject> getEntities() {
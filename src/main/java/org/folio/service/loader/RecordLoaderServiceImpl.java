@@ -8,17 +8,17 @@ import org.folio.clients.InventoryClient;
 import org.folio.clients.SourceRecordStorageClient;
 import org.folio.service.manager.export.strategy.AbstractExportStrategy;
 import org.folio.util.OkapiConnectionParams;
+import org.folio.util.UuidSet;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Implementation of #RecordLoaderService that uses blocking http client.
@@ -85,38 +85,51 @@ public class RecordLoaderServiceImpl implements RecordLoaderService {
 
 
   private void populateLoadResultFromInventory(Collection<String> entityIds, JsonObject entities, LoadResult loadResult) {
-    List<JsonObject> inventoryRecords = new ArrayList<>();
-    Set<String> entitiesIdentifiersSet = new HashSet<>(entityIds);
     String jsonArrayKey = loadResult.getEntityType().equals(AbstractExportStrategy.EntityType.INSTANCE) ? INSTANCES : HOLDINGS_RECORDS;
+    Map<String, JsonObject> recordsById = new HashMap<>();
+    for (Object entity : entities.getJsonArray(jsonArrayKey)) {
+      JsonObject record = (JsonObject) entity;
+      recordsById.putIfAbsent(record.getString("id"), record);
+    }
+    List<JsonObject> inventoryRecords = new ArrayList<>();
+    UuidSet processedIdentifiers = new UuidSet(entityIds.size());
+    UuidSet notFoundIdentifiers = new UuidSet();
     for (String entityId : entityIds) {
-      for (Object entity : entities.getJsonArray(jsonArrayKey)) {
-        JsonObject record = (JsonObject) entity;
-        if (record.getValue("id").equals(entityId)) {
-          entitiesIdentifiersSet.remove(entityId);
+      if (processedIdentifiers.add(entityId)) {
+        JsonObject record = recordsById.get(entityId);
+        if (record != null) {
           inventoryRecords.add(record);
+        } else {
+          notFoundIdentifiers.add(entityId);
         }
       }
     }
     loadResult.setEntities(inventoryRecords);
-    loadResult.setNotFoundEntitiesUUIDs(entitiesIdentifiersSet);
+    loadResult.setNotFoundEntitiesUUIDs(notFoundIdentifiers);
   }
 
   private void populateLoadResultFromSRS(List<String> uuids, JsonObject underlyingRecords, SrsLoadResult loadResult, AbstractExportStrategy.EntityType entityType) {
     JsonArray records = underlyingRecords.getJsonArray("sourceRecords");
     List<JsonObject> marcRecords = new ArrayList<>();
-    Set<String> singleRecordIdentifiersSet = new HashSet<>(uuids);
+    UuidSet identifiersWithSrs = new UuidSet(records.size());
+    String key = entityIdMap.get(entityType);
     for (Object o : records) {
       JsonObject record = (JsonObject) o;
       marcRecords.add(record);
       JsonObject externalIdsHolder = record.getJsonObject("externalIdsHolder");
-      if (externalIdsHolder != null) {
-        String key = entityIdMap.get(entityType);
-        String id = externalIdsHolder.getString(key);
-        singleRecordIdentifiersSet.remove(id);
+      if (externalIdsHolder != null && externalIdsHolder.getString(key) != null) {
+        identifiersWithSrs.add(externalIdsHolder.getString(key));
+      }
+    }
+    List<String> idsWithoutSrs = new ArrayList<>();
+    UuidSet processedIdentifiers = new UuidSet(uuids.size());
+    for (String uuid : uuids) {
+      if (processedIdentifiers.add(uuid) && !identifiersWithSrs.contains(uuid)) {
+        idsWithoutSrs.add(uuid);
       }
     }
     loadResult.setUnderlyingMarcRecords(marcRecords);
-    loadResult.setIdsWithoutSrs(new ArrayList<>(singleRecordIdentifiersSet));
+    loadResult.setIdsWithoutSrs(idsWithoutSrs);
   }
 
   /**
@@ -0,0 +1,114 @@
+package org.folio.service.logs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.folio.rest.jaxrs.model.ErrorLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts error logs of the jobs exported by this instance per error code, so the job is finalized and its summary is saved
+ * without reading the error logs. Only jobs started on this instance are counted, since the counters of a job resumed
+ * from a checkpoint or exported by several instances would miss error logs saved elsewhere. Counters of jobs which are
+ * not finalized by this instance expire.
+ */
+@Component
+public class ErrorLogCounters {
+  private static final long COUNTERS_EXPIRATION_HOURS = 24;
+
+  /* Number of error logs of the job kept per error code, all of them are kept if it is not greater than 0 */
+  private final int detailsLimit;
+  /* Numbers of error logs by error code, by job execution id */
+  private final Cache<String, Map<String, AtomicLong>> counters = Caffeine.newBuilder()
+    .expireAfterAccess(COUNTERS_EXPIRATION_HOURS, TimeUnit.HOURS)
+    .build();
+
+  @Autowired
+  public ErrorLogCounters(@Value("${export.errorLog.detailsLimitPerCode}") int detailsLimit) {
+    this.detailsLimit = detailsLimit;
+  }
+
+  /**
+   * Starts counting error logs of the job
+   *
+   * @param jobExecutionId job execution id
+   */
+  public void start(String jobExecutionId) {
+    counters.get(jobExecutionId, id -> new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Stops counting error logs of the job, e.g. when chunks of the job are exported by other instances
+   *
+   * @param jobExecutionId job execution id
+   */
+  public void stop(String jobExecutionId) {
+    counters.invalidate(jobExecutionId);
+  }
+
+  /**
+   * Counts the error log if its job is counted
+   *
+   * @param errorLog error log to count
+   * @return true if the error log is to be saved, false if the number of error logs with its code exceeds the details limit
+   */
+  public boolean count(ErrorLog errorLog) {
+    if (errorLog.getJobExecutionId() == null || errorLog.getErrorMessageCode() == null) {
+      return true;
+    }
+    Map<String, AtomicLong> jobCounters = counters.getIfPresent(errorLog.getJobExecutionId());
+    if (jobCounters == null) {
+      return true;
+    }
+    long count = jobCounters.computeIfAbsent(errorLog.getErrorMessageCode(), code -> new AtomicLong()).incrementAndGet();
+    return detailsLimit <= 0 || count <= detailsLimit;
+  }
+
+  /**
+   * Counts the error log of the job which is saved at most once per job, e.g. the error log updated with the number
+   * of failed records, the error log is counted right away, before it is saved
+   *
+   * @param jobExecutionId   job execution id
+   * @param errorMessageCode error code of the error log
+   */
+  public void countOnce(String jobExecutionId, String errorMessageCode) {
+    Map<String, AtomicLong> jobCounters = counters.getIfPresent(jobExecutionId);
+    if (jobCounters != null) {
+      jobCounters.putIfAbsent(errorMessageCode, new AtomicLong(1));
+    }
+  }
+
+  /**
+   * Returns numbers of error logs of the job by error code
+   *
+   * @param jobExecutionId job execution id
+   * @return numbers of error logs by error code, null if the job is not counted
+   */
+  public Map<String, Long> get(String jobExecutionId) {
+    return snapshot(counters.getIfPresent(jobExecutionId));
+  }
+
+  /**
+   * Returns numbers of error logs of the job by error code and stops counting the job
+   *
+   * @param jobExecutionId job execution id
+   * @return numbers of error logs by error code, null if the job is not counted
+   */
+  public Map<String, Long> remove(String jobExecutionId) {
+    return snapshot(counters.asMap().remove(jobExecutionId));
+  }
+
+  private Map<String, Long> snapshot(Map<String, AtomicLong> jobCounters) {
+    if (jobCounters == null) {
+      return null;
+    }
+    return jobCounters.entrySet().stream()
+      .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+  }
+}
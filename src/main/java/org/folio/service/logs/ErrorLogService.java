@@ -5,6 +5,8 @@ import io.vertx.core.json.JsonObject;
 import org.folio.processor.error.TranslationException;
 import org.folio.rest.jaxrs.model.ErrorLog;
 import org.folio.rest.jaxrs.model.ErrorLogCollection;
+import org.folio.rest.jaxrs.model.ErrorLogSummary;
+import org.folio.rest.jaxrs.model.NotFoundUuidCollection;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.util.OkapiConnectionParams;
 import org.marc4j.MarcException;
@@ -18,9 +20,21 @@ public interface ErrorLogService {
    * Returns {@link ErrorLogCollection} grouped by the jobExecutioId
    *
    * @param jobExecutionId id of job execution
+   * @param cursor         cursor of the previous page, the offset is ignored if it is given
    * @return future with {@link ErrorLogCollection}
    */
-  Future<ErrorLogCollection> get(String jobExecutionId, int offset, int limit, String tenantId);
+  Future<ErrorLogCollection> get(String jobExecutionId, int offset, int limit, String cursor, String tenantId);
+
+  /**
+   * Returns a page of UUIDs not found in SRS or inventory during the export of the job
+   *
+   * @param jobExecutionId id of job execution
+   * @param offset         offset
+   * @param limit          limit
+   * @param tenantId       tenant id
+   * @return future with {@link NotFoundUuidCollection}
+   */
+  Future<NotFoundUuidCollection> getNotFoundUUIDs(String jobExecutionId, int offset, int limit, String tenantId);
 
   /**
    * Gets list of {@link ErrorLog}
@@ -129,4 +143,45 @@ public interface ErrorLogService {
    */
   Future<Boolean> isErrorsByErrorCodePresent(List<String> errorCodes, String jobExecutionId, String tenantId);
 
+  /**
+   * Writes the error logs of the tenant which are buffered to be saved in batches
+   *
+   * @param tenantId id of specific tenant
+   * @return future completed once the buffered error logs are written
+   */
+  Future<Void> flush(String tenantId);
+
+  /**
+   * Starts counting error logs of the job by error code, the counters are saved as the summary of the job
+   *
+   * @param jobExecutionId id of specific job execution
+   */
+  void startCounting(String jobExecutionId);
+
+  /**
+   * Stops counting error logs of the job, the summary of the job is counted from the saved error logs
+   *
+   * @param jobExecutionId id of specific job execution
+   */
+  void stopCounting(String jobExecutionId);
+
+  /**
+   * Saves numbers of errors of the finalized job by error code, taken from the counters or counted from the saved error logs
+   * if the job is not counted by this instance
+   *
+   * @param jobExecutionId id of specific job execution
+   * @param tenantId       id of specific tenant
+   * @return future with saved {@link ErrorLogSummary}
+   */
+  Future<ErrorLogSummary> saveSummary(String jobExecutionId, String tenantId);
+
+  /**
+   * Gets numbers of errors of the job by error code, without reading the error logs of the job if it is counted or finalized
+   *
+   * @param jobExecutionId id of specific job execution
+   * @param tenantId       id of specific tenant
+   * @return future with {@link ErrorLogSummary}
+   */
+  Future<ErrorLogSummary> getSummary(String jobExecutionId, String tenantId);
+
 }
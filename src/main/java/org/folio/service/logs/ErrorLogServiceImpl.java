@@ -1,24 +1,31 @@
 package org.folio.service.logs;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.clients.ConfigurationsClient;
 import org.folio.dao.ErrorLogDao;
+import org.folio.dao.ErrorLogSummaryDao;
+import org.folio.dao.NotFoundUuidDao;
 import org.folio.processor.error.RecordInfo;
 import org.folio.processor.error.TranslationException;
 import org.folio.rest.jaxrs.model.AffectedRecord;
+import org.folio.rest.jaxrs.model.ErrorCount;
 import org.folio.rest.jaxrs.model.ErrorLog;
 import org.folio.rest.jaxrs.model.ErrorLogCollection;
+import org.folio.rest.jaxrs.model.ErrorLogSummary;
+import org.folio.rest.jaxrs.model.NotFoundUuidCollection;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.util.HelperUtils;
 import org.folio.util.OkapiConnectionParams;
@@ -27,11 +34,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
 
-import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.folio.util.ErrorCode.SOME_RECORDS_FAILED;
 import static org.folio.util.ErrorCode.SOME_UUIDS_NOT_FOUND;
 import static org.folio.util.HelperUtils.getErrorLogCriterionByJobExecutionIdAndErrorCodes;
@@ -40,32 +47,45 @@ import static org.folio.util.HelperUtils.getErrorLogCriterionByJobExecutionIdAnd
 public class ErrorLogServiceImpl implements ErrorLogService {
   private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final String COMMA_SEPARATOR = ", ";
+  /* Max number of not found UUIDs shown in the error log, all of them are paged through by the not found UUIDs API */
+  private static final int NOT_FOUND_UUIDS_IN_ERROR_LOG_LIMIT = 1000;
 
   @Autowired
   private ErrorLogDao errorLogDao;
   @Autowired
+  private ErrorLogSink errorLogSink;
+  @Autowired
+  private NotFoundUuidDao notFoundUuidDao;
+  @Autowired
+  private ErrorLogSummaryDao errorLogSummaryDao;
+  @Autowired
+  private ErrorLogCounters errorLogCounters;
+  @Autowired
   private ConfigurationsClient configurationsClient;
   @Autowired
   @Qualifier("affectedRecordBuilders")
   private Map<String, AffectedRecordBuilder> affectedRecordsBuilders;
 
   @Override
-  public Future<ErrorLogCollection> get(String jobExecutionId, int offset, int limit, String tenantId) {
-    return errorLogDao.get(jobExecutionId, offset, limit, tenantId);
+  public Future<ErrorLogCollection> get(String jobExecutionId, int offset, int limit, String cursor, String tenantId) {
+    return flush(tenantId).transform(ar -> errorLogDao.get(jobExecutionId, offset, limit, cursor, tenantId))
+      .compose(errorLogCollection -> populateNotFoundUUIDs(errorLogCollection, tenantId));
+  }
+
+  @Override
+  public Future<NotFoundUuidCollection> getNotFoundUUIDs(String jobExecutionId, int offset, int limit, String tenantId) {
+    return notFoundUuidDao.get(jobExecutionId, offset, limit, tenantId);
   }
 
   @Override
   public Future<List<ErrorLog>> getByQuery(Criterion criterion, String tenantId) {
-    return errorLogDao.getByQuery(criterion, tenantId);
+    return flush(tenantId).transform(ar -> errorLogDao.getByQuery(criterion, tenantId));
   }
 
   @Override
   public Future<ErrorLog> save(ErrorLog errorLog, String tenantId) {
-    if (errorLog.getId() == null) {
-      errorLog.setId(UUID.randomUUID().toString());
-    }
-    errorLog.setCreatedDate(new Date());
-    return errorLogDao.save(errorLog, tenantId);
+    errorLogCounters.count(errorLog);
+    return errorLogDao.save(prepareForSave(errorLog), tenantId);
   }
 
   @Override
@@ -80,14 +100,14 @@ public class ErrorLogServiceImpl implements ErrorLogService {
 
   @Override
   public Future<ErrorLog> saveGeneralError(String errorMessageCode, String jobExecutionId, String tenantId) {
-    return save(getGeneralErrorLog(errorMessageCode, jobExecutionId), tenantId);
+    return saveDetails(getGeneralErrorLog(errorMessageCode, jobExecutionId), tenantId);
   }
 
   @Override
   public Future<ErrorLog> saveGeneralErrorWithMessageValues(String errorMessageCode, List<String> errorMessageValues, String jobExecutionId, String tenantId) {
     ErrorLog errorLog = getGeneralErrorLog(errorMessageCode, jobExecutionId)
       .withErrorMessageValues(errorMessageValues);
-    return save(errorLog, tenantId);
+    return saveDetails(errorLog, tenantId);
   }
 
   @Override
@@ -114,7 +134,7 @@ public class ErrorLogServiceImpl implements ErrorLogService {
       .withErrorMessageValues(errorMessageValues)
       .withLogLevel(ErrorLog.LogLevel.ERROR)
       .withJobExecutionId(jobExecutionId);
-    return save(errorLog, params.getTenantId());
+    return saveDetails(errorLog, params.getTenantId());
   }
 
   public Future<ErrorLog> saveWithAffectedRecord(JsonObject instance, String errorMessageCode, String jobExecutionId, MarcException marcException, OkapiConnectionParams params) {
@@ -143,32 +163,26 @@ public class ErrorLogServiceImpl implements ErrorLogService {
       .withJobExecutionId(jobExecutionId)
       .withAffectedRecord(affectedRecord)
       .withCreatedDate(new Date());
-    return save(errorLog, params.getTenantId());
+    return saveDetails(errorLog, params.getTenantId());
   }
 
   @Override
   public void populateUUIDsNotFoundErrorLog(String jobExecutionId, Collection<String> notFoundUUIDs, String tenantId) {
-    errorLogDao.getByQuery(HelperUtils.getErrorLogCriterionByJobExecutionIdAndErrorMessageCode(jobExecutionId, SOME_UUIDS_NOT_FOUND.getCode()), tenantId)
-      .onComplete(ar -> {
-        if (ar.succeeded()) {
-          List<ErrorLog> errorLogs = ar.result();
-          List<String> newUUIDs = Arrays.asList(StringUtils.joinWith(COMMA_SEPARATOR, notFoundUUIDs).replace("[", EMPTY).replace("]", EMPTY));
-          if (errorLogs.isEmpty()) {
-            saveGeneralErrorWithMessageValues(SOME_UUIDS_NOT_FOUND.getCode(), newUUIDs, jobExecutionId, tenantId);
-          } else {
-            ErrorLog errorLog = errorLogs.get(0);
-            String savedUUIDs = errorLog.getErrorMessageValues().get(0);
-            errorLog.setErrorMessageValues(Arrays.asList(savedUUIDs + COMMA_SEPARATOR + newUUIDs));
-            update(errorLog, tenantId);
-          }
-        } else {
-          LOGGER.error("Failed to query error logs by jobExecutionId: {} and reason: {}", jobExecutionId, SOME_UUIDS_NOT_FOUND.getDescription());
-        }
-      });
+    // the UUIDs are appended to their own table, the error log is saved once per job, by the first chunk with not found UUIDs.
+    // It is counted right away, since the job may be finalized before the error log is saved
+    errorLogCounters.countOnce(jobExecutionId, SOME_UUIDS_NOT_FOUND.getCode());
+    ErrorLog errorLog = getGeneralErrorLog(SOME_UUIDS_NOT_FOUND.getCode(), jobExecutionId)
+      .withId(UUID.nameUUIDFromBytes((jobExecutionId + SOME_UUIDS_NOT_FOUND.getCode()).getBytes(StandardCharsets.UTF_8)).toString())
+      .withErrorMessageValues(Collections.singletonList(String.join(COMMA_SEPARATOR, notFoundUUIDs)));
+    notFoundUuidDao.save(jobExecutionId, notFoundUUIDs, tenantId)
+      .compose(v -> errorLogDao.saveIfAbsent(prepareForSave(errorLog), tenantId))
+      .onFailure(e -> LOGGER.error("Failed to save not found UUIDs of job execution with id {}: {}", jobExecutionId, e.getMessage()));
   }
 
   @Override
   public void populateUUIDsNotFoundNumberErrorLog(String jobExecutionId, int numberOfNotFoundUUIDs, String tenantId) {
+    // the error log is counted right away, since the job may be finalized before the error log is saved
+    errorLogCounters.countOnce(jobExecutionId, SOME_RECORDS_FAILED.getCode());
     errorLogDao.getByQuery(HelperUtils.getErrorLogCriterionByJobExecutionIdAndErrorMessageCode(jobExecutionId,SOME_RECORDS_FAILED.getCode()), tenantId)
       .onComplete(ar -> {
         if (ar.succeeded()) {
@@ -176,7 +190,8 @@ public class ErrorLogServiceImpl implements ErrorLogService {
           if (errorLogs.isEmpty()) {
             //replace message with code
             //split values from code
-            saveGeneralErrorWithMessageValues(SOME_RECORDS_FAILED.getCode(), Arrays.asList(String.valueOf(numberOfNotFoundUUIDs)), jobExecutionId, tenantId);
+            ErrorLog errorLog = getGeneralErrorLog(SOME_RECORDS_FAILED.getCode(), jobExecutionId).withErrorMessageValues(Arrays.asList(String.valueOf(numberOfNotFoundUUIDs)));
+            errorLogDao.save(prepareForSave(errorLog), tenantId);
           } else {
             ErrorLog errorLog = errorLogs.get(0);
             List<String> errorMessageValues = errorLog.getErrorMessageValues();
@@ -202,6 +217,87 @@ public class ErrorLogServiceImpl implements ErrorLogService {
     return promise.future();
   }
 
+  @Override
+  public Future<Void> flush(String tenantId) {
+    return errorLogSink.flush(tenantId);
+  }
+
+  @Override
+  public void startCounting(String jobExecutionId) {
+    errorLogCounters.start(jobExecutionId);
+  }
+
+  @Override
+  public void stopCounting(String jobExecutionId) {
+    errorLogCounters.stop(jobExecutionId);
+  }
+
+  @Override
+  public Future<ErrorLogSummary> saveSummary(String jobExecutionId, String tenantId) {
+    Map<String, Long> counters = errorLogCounters.remove(jobExecutionId);
+    return flush(tenantId)
+      .transform(ar -> counters != null ? Future.succeededFuture(counters) : errorLogDao.countByErrorCode(jobExecutionId, tenantId))
+      .compose(counts -> errorLogSummaryDao.save(buildSummary(jobExecutionId, counts), tenantId))
+      .onFailure(e -> LOGGER.error("Failed to save error log summary of job execution with id {}: {}", jobExecutionId, e.getMessage()));
+  }
+
+  @Override
+  public Future<ErrorLogSummary> getSummary(String jobExecutionId, String tenantId) {
+    Map<String, Long> counters = errorLogCounters.get(jobExecutionId);
+    if (counters != null) {
+      return Future.succeededFuture(buildSummary(jobExecutionId, counters));
+    }
+    // jobs finalized before the summaries were introduced, or being exported by other instances, are counted by a query
+    return errorLogSummaryDao.getByJobExecutionId(jobExecutionId, tenantId)
+      .compose(summary -> summary.isPresent()
+        ? Future.succeededFuture(summary.get())
+        : flush(tenantId).transform(ar -> errorLogDao.countByErrorCode(jobExecutionId, tenantId))
+            .map(counts -> buildSummary(jobExecutionId, counts)));
+  }
+
+  private ErrorLogSummary buildSummary(String jobExecutionId, Map<String, Long> counts) {
+    List<ErrorCount> errorCounts = counts.entrySet().stream()
+      .sorted(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder())))
+      .map(entry -> new ErrorCount().withErrorMessageCode(entry.getKey()).withCount(entry.getValue().intValue()))
+      .collect(Collectors.toList());
+    return new ErrorLogSummary()
+      .withJobExecutionId(jobExecutionId)
+      .withErrorCounts(errorCounts)
+      .withTotalErrors(counts.values().stream().mapToInt(Long::intValue).sum());
+  }
+
+  /**
+   * Buffers the error log to be saved in batches, unless the number of error logs of the job with its code
+   * exceeds the limit of kept error logs, the error log is counted in the summary of the job anyway
+   */
+  private Future<ErrorLog> saveDetails(ErrorLog errorLog, String tenantId) {
+    if (!errorLogCounters.count(errorLog)) {
+      return Future.succeededFuture(errorLog);
+    }
+    return errorLogSink.add(prepareForSave(errorLog), tenantId);
+  }
+
+  private Future<ErrorLogCollection> populateNotFoundUUIDs(ErrorLogCollection errorLogCollection, String tenantId) {
+    List<Future> notFoundUUIDsFutures = errorLogCollection.getErrorLogs().stream()
+      .filter(errorLog -> SOME_UUIDS_NOT_FOUND.getCode().equals(errorLog.getErrorMessageCode()))
+      .map(errorLog -> getNotFoundUUIDs(errorLog.getJobExecutionId(), 0, NOT_FOUND_UUIDS_IN_ERROR_LOG_LIMIT, tenantId)
+        .onSuccess(notFoundUUIDs -> {
+          // error logs saved before the UUIDs got their own table keep their values
+          if (!notFoundUUIDs.getUuids().isEmpty()) {
+            errorLog.setErrorMessageValues(Collections.singletonList(String.join(COMMA_SEPARATOR, notFoundUUIDs.getUuids())));
+          }
+        }))
+      .collect(Collectors.toList());
+    return CompositeFuture.all(notFoundUUIDsFutures).map(errorLogCollection);
+  }
+
+  private ErrorLog prepareForSave(ErrorLog errorLog) {
+    if (errorLog.getId() == null) {
+      errorLog.setId(UUID.randomUUID().toString());
+    }
+    return errorLog.withCreatedDate(new Date());
+  }
+
   private ErrorLog getGeneralErrorLog(String errorMessageCode, String jobExecutionId) {
     return new ErrorLog()
       .withErrorMessageCode(errorMessageCode)
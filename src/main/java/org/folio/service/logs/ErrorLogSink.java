@@ -0,0 +1,157 @@
+package org.folio.service.logs;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.dao.ErrorLogDao;
+import org.folio.rest.jaxrs.model.ErrorLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Buffers error logs saved while exporting and writes them by multi-row inserts, once {@link #batchSize} error logs of the tenant
+ * are buffered or on the periodic flush, whichever comes first. The buffer is bounded by {@link #capacity} error logs,
+ * error logs added to the full buffer are dropped and counted, the number of dropped error logs is logged on the periodic flush.
+ */
+@Component
+public class ErrorLogSink {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final ErrorLogDao errorLogDao;
+  private final int batchSize;
+  private final int capacity;
+  /* Error logs not yet written, by tenant id */
+  private final Map<String, TenantBuffer> buffers = new ConcurrentHashMap<>();
+  /* Number of error logs buffered or being written */
+  private final AtomicInteger pending = new AtomicInteger();
+  /* Number of error logs dropped since the last periodic flush */
+  private final AtomicLong dropped = new AtomicLong();
+
+  @Autowired
+  public ErrorLogSink(Vertx vertx,
+                      ErrorLogDao errorLogDao,
+                      @Value("${export.errorLog.batchSize}") int batchSize,
+                      @Value("${export.errorLog.flushInterval}") long flushInterval,
+                      @Value("${export.errorLog.capacity}") int capacity) {
+    this.errorLogDao = errorLogDao;
+    this.batchSize = batchSize;
+    this.capacity = capacity;
+    if (isBuffering() && flushInterval > 0) {
+      vertx.setPeriodic(flushInterval, timerId -> {
+        buffers.keySet().forEach(this::flush);
+        long droppedErrorLogs = dropped.getAndSet(0);
+        if (droppedErrorLogs > 0) {
+          LOGGER.warn("{} error logs were dropped since the buffer of error logs is full", droppedErrorLogs);
+        }
+      });
+    }
+  }
+
+  /**
+   * Adds the error log to the buffer of the tenant
+   *
+   * @param errorLog error log to save, with id and created date set
+   * @param tenantId tenant id
+   * @return future completed once the error log is written, failed if the error log is dropped
+   */
+  public Future<ErrorLog> add(ErrorLog errorLog, String tenantId) {
+    if (!isBuffering()) {
+      return errorLogDao.save(errorLog, tenantId);
+    }
+    if (pending.incrementAndGet() > capacity) {
+      pending.decrementAndGet();
+      dropped.incrementAndGet();
+      return failedFuture(format("Error log of job execution with id %s is dropped, the buffer of error logs is full", errorLog.getJobExecutionId()));
+    }
+    Promise<ErrorLog> promise = Promise.promise();
+    TenantBuffer buffer = buffers.computeIfAbsent(tenantId, id -> new TenantBuffer());
+    buffer.errorLogs.add(new PendingErrorLog(errorLog, promise));
+    if (buffer.size.incrementAndGet() >= batchSize) {
+      write(tenantId, buffer);
+    }
+    return promise.future();
+  }
+
+  /**
+   * Writes the error logs buffered for the tenant, called before the error logs are read and when the job is finalized
+   *
+   * @param tenantId tenant id
+   * @return future completed once all error logs added so far are written
+   */
+  public Future<Void> flush(String tenantId) {
+    TenantBuffer buffer = buffers.get(tenantId);
+    if (buffer == null) {
+      return succeededFuture();
+    }
+    while (buffer.size.get() > 0) {
+      write(tenantId, buffer);
+    }
+    List<Future> writes = new ArrayList<>(buffer.writes);
+    return writes.isEmpty() ? succeededFuture() : CompositeFuture.join(writes).transform(ar -> succeededFuture());
+  }
+
+  private void write(String tenantId, TenantBuffer buffer) {
+    List<PendingErrorLog> batch = new ArrayList<>(batchSize);
+    PendingErrorLog pendingErrorLog;
+    while (batch.size() < batchSize && (pendingErrorLog = buffer.errorLogs.poll()) != null) {
+      buffer.size.decrementAndGet();
+      batch.add(pendingErrorLog);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<ErrorLog> errorLogs = new ArrayList<>(batch.size());
+    batch.forEach(entry -> errorLogs.add(entry.errorLog));
+    Future<Void> write = errorLogDao.saveBatch(errorLogs, tenantId);
+    buffer.writes.add(write);
+    write.onComplete(ar -> {
+      buffer.writes.remove(write);
+      pending.addAndGet(-batch.size());
+      if (ar.succeeded()) {
+        batch.forEach(entry -> entry.promise.complete(entry.errorLog));
+      } else {
+        LOGGER.error("Failed to save {} error logs for tenant {}", batch.size(), tenantId, ar.cause());
+        batch.forEach(entry -> entry.promise.fail(ar.cause()));
+      }
+    });
+  }
+
+  private boolean isBuffering() {
+    return batchSize > 1;
+  }
+
+  private static class TenantBuffer {
+    private final Queue<PendingErrorLog> errorLogs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    /* Batches being written, a flush completes after them */
+    private final Set<Future<Void>> writes = ConcurrentHashMap.newKeySet();
+  }
+
+  private static class PendingErrorLog {
+    private final ErrorLog errorLog;
+    private final Promise<ErrorLog> promise;
+
+    private PendingErrorLog(ErrorLog errorLog, Promise<ErrorLog> promise) {
+      this.errorLog = errorLog;
+      this.promise = promise;
+    }
+  }
+}
@@ -0,0 +1,339 @@
+package org.folio.service.manager.export;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.Objects.nonNull;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.clients.SystemUserClient;
+import org.folio.dao.ExportChunkDao;
+import org.folio.dao.impl.ExportChunkDaoImpl;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.service.file.reader.SourceReader;
+import org.folio.service.file.storage.FileStorage;
+import org.folio.service.manager.input.InputDataManager;
+import org.folio.util.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Distributes chunks of exports across module instances. The identifiers of the job are split into chunks saved to the database,
+ * every instance claims chunks when it has free export workers and exports them to their own files in the file storage
+ * shared by the instances. The last chunk of the job is claimed once all other chunks are completed: the instance claiming it
+ * appends the files of the chunks to the resulting file in the order of chunks, then exports the last chunk directly
+ * to the resulting file, so the post export steps are performed as for the export chunk by chunk.
+ * A chunk claimed by an instance which does not complete it within the claim timeout is claimed again by any instance.
+ */
+@Component
+public class DistributedExportQueue {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String CHUNK_FILE_EXTENSION = ".part";
+  private static final String DELIMITER = "-";
+  private static final int CHUNKS_PAGE_SIZE = 100;
+  private static final String ID_KEY = "id";
+  private static final String JOB_EXECUTION_ID_KEY = "jobExecutionId";
+  private static final String CHUNK_NUMBER_KEY = "chunkNumber";
+  private static final String LAST_KEY = "last";
+  private static final String STATUS_KEY = "status";
+  private static final String IDENTIFIERS_KEY = "identifiers";
+  private static final String CLAIMED_AT_KEY = "claimedAt";
+  private static final String SOURCE_PATH_KEY = "sourcePath";
+
+  private final Vertx vertx;
+  private final ExportChunkDao exportChunkDao;
+  private final ExportJobContextRegistry exportJobContextRegistry;
+  private final ExportChunkScheduler exportChunkScheduler;
+  private final FileStorage fileStorage;
+  private final SystemUserClient systemUserClient;
+  private final boolean enabled;
+  private final long claimTimeout;
+  /* Chunks claimed by this instance and not yet completed, by job execution id and chunk number */
+  private final Map<String, Map<Integer, JsonObject>> claimedChunks = new HashMap<>();
+  private final AtomicBoolean claiming = new AtomicBoolean();
+  private int claimRound;
+
+  @Autowired
+  public DistributedExportQueue(Vertx vertx,
+                                ExportChunkDao exportChunkDao,
+                                ExportJobContextRegistry exportJobContextRegistry,
+                                ExportChunkScheduler exportChunkScheduler,
+                                FileStorage fileStorage,
+                                SystemUserClient systemUserClient,
+                                @Value("${export.distributed.enabled}") boolean enabled,
+                                @Value("${export.distributed.pollInterval}") long pollInterval,
+                                @Value("${export.distributed.claimTimeout}") long claimTimeout) {
+    this.vertx = vertx;
+    this.exportChunkDao = exportChunkDao;
+    this.exportJobContextRegistry = exportJobContextRegistry;
+    this.exportChunkScheduler = exportChunkScheduler;
+    this.fileStorage = fileStorage;
+    this.systemUserClient = systemUserClient;
+    this.enabled = enabled;
+    this.claimTimeout = claimTimeout;
+    if (enabled) {
+      vertx.setPeriodic(pollInterval, timerId -> claimChunks());
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Saves the parameters of the job and splits its identifiers into chunks, the chunks can be claimed by any instance
+   * as soon as they are saved. The source reader is closed once all chunks are saved.
+   *
+   * @param jobPayload   payload with the parameters of the job
+   * @param sourceReader reader of the identifiers of the job
+   * @return future completed when all chunks are saved
+   */
+  public Future<Void> enqueue(ExportPayload jobPayload, SourceReader sourceReader) {
+    String jobExecutionId = jobPayload.getJobExecutionId();
+    String tenantId = jobPayload.getOkapiConnectionParams().getTenantId();
+    return exportChunkDao.saveJob(jobExecutionId, exportJobContextRegistry.toJobJson(jobPayload), tenantId)
+      .compose(v -> saveChunks(jobExecutionId, sourceReader, 0, tenantId))
+      .onSuccess(v -> LOGGER.info("Chunks of job execution with id {} are queued for distributed export", jobExecutionId))
+      .onFailure(e -> exportChunkDao.deleteJob(jobExecutionId, tenantId))
+      .onComplete(ar -> sourceReader.close());
+  }
+
+  private Future<Void> saveChunks(String jobExecutionId, SourceReader sourceReader, int firstChunkNumber, String tenantId) {
+    List<JsonObject> chunks = new ArrayList<>();
+    int chunkNumber = firstChunkNumber;
+    while (chunks.size() < CHUNKS_PAGE_SIZE && sourceReader.hasNext()) {
+      List<String> identifiers = sourceReader.readNext();
+      chunks.add(new JsonObject()
+        .put(ID_KEY, UUID.randomUUID().toString())
+        .put(JOB_EXECUTION_ID_KEY, jobExecutionId)
+        .put(CHUNK_NUMBER_KEY, chunkNumber++)
+        .put(LAST_KEY, !sourceReader.hasNext())
+        .put(STATUS_KEY, ExportChunkDaoImpl.STATUS_NEW)
+        .put(IDENTIFIERS_KEY, new JsonArray(identifiers)));
+    }
+    boolean allChunksSaved = !sourceReader.hasNext();
+    int nextChunkNumber = chunkNumber;
+    return exportChunkDao.saveChunks(chunks, tenantId)
+      .compose(v -> allChunksSaved ? succeededFuture() : saveChunks(jobExecutionId, sourceReader, nextChunkNumber, tenantId));
+  }
+
+  /**
+   * Marks the exported chunk as completed and claims next chunks. The file of the chunk is deleted
+   * if the chunk is not claimed by this instance anymore.
+   *
+   * @param chunkPayload payload of the exported chunk
+   * @return future
+   */
+  public Future<Void> completeChunk(ExportPayload chunkPayload) {
+    FileDefinition chunkFileDefinition = chunkPayload.getFileExportDefinition();
+    JsonObject chunk = releaseClaim(chunkPayload.getJobExecutionId(), chunkPayload.getChunkNumber());
+    if (chunk == null) {
+      deleteChunkFile(chunkFileDefinition.getSourcePath());
+      return succeededFuture();
+    }
+    return exportChunkDao.completeChunk(chunk, chunkFileDefinition.getSourcePath(), chunkPayload.getExportedRecordsNumber(),
+        chunkPayload.getFailedRecordsNumber(), chunkPayload.getOkapiConnectionParams().getTenantId())
+      .onSuccess(completed -> {
+        if (Boolean.FALSE.equals(completed)) {
+          LOGGER.warn("Chunk {} of job execution with id {} is claimed again or the job is finished, the result of the chunk is skipped",
+            chunkPayload.getChunkNumber(), chunkPayload.getJobExecutionId());
+          deleteChunkFile(chunkFileDefinition.getSourcePath());
+        }
+      })
+      .onFailure(e -> LOGGER.error("Failed to complete chunk {} of job execution with id {}", chunkPayload.getChunkNumber(), chunkPayload.getJobExecutionId(), e))
+      .onComplete(ar -> claimChunks())
+      .mapEmpty();
+  }
+
+  /**
+   * Deletes the job with its chunks and the files of the completed chunks, so no instance claims chunks of the job anymore
+   *
+   * @param jobPayload payload of the job
+   * @return future
+   */
+  public Future<Void> finishJob(ExportPayload jobPayload) {
+    return finishJob(jobPayload.getJobExecutionId(), jobPayload.getOkapiConnectionParams().getTenantId());
+  }
+
+  /**
+   * Deletes the job with its chunks and the files of the completed chunks, chunks being exported by other instances
+   * are skipped by them once they fail to be completed
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future
+   */
+  public Future<Void> finishJob(String jobExecutionId, String tenantId) {
+    synchronized (this) {
+      claimedChunks.remove(jobExecutionId);
+    }
+    return exportChunkDao.getCompletedChunks(jobExecutionId, tenantId)
+      .onSuccess(chunks -> chunks.forEach(chunk -> deleteChunkFile(chunk.getString(SOURCE_PATH_KEY))))
+      .compose(chunks -> exportChunkDao.deleteJob(jobExecutionId, tenantId))
+      .onFailure(e -> LOGGER.error("Failed to delete chunks of job execution with id {}", jobExecutionId, e));
+  }
+
+  /**
+   * Claims as many chunks as there are free export workers, tenants are looked through starting from the next one each time
+   */
+  private void claimChunks() {
+    int freeWorkers = exportChunkScheduler.getFreeWorkers();
+    if (freeWorkers == 0 || !claiming.compareAndSet(false, true)) {
+      return;
+    }
+    exportChunkDao.getTenantIds()
+      .compose(tenantIds -> {
+        if (!tenantIds.isEmpty()) {
+          Collections.rotate(tenantIds, -(claimRound++ % tenantIds.size()));
+        }
+        return claimChunks(tenantIds.iterator(), freeWorkers);
+      })
+      .onFailure(e -> LOGGER.error("Failed to claim chunks of distributed exports", e))
+      .onComplete(ar -> claiming.set(false));
+  }
+
+  private Future<Void> claimChunks(Iterator<String> tenantIds, int freeWorkers) {
+    if (freeWorkers <= 0 || !tenantIds.hasNext()) {
+      return succeededFuture();
+    }
+    String tenantId = tenantIds.next();
+    long claimedAt = System.currentTimeMillis();
+    return exportChunkDao.claimChunks(freeWorkers, claimedAt, claimedAt - claimTimeout, tenantId)
+      .compose(chunks -> {
+        chunks.forEach(chunk -> exportClaimedChunk(chunk, tenantId));
+        return claimChunks(tenantIds, freeWorkers - chunks.size());
+      }, e -> {
+        LOGGER.warn("Failed to claim chunks of tenant {}: {}", tenantId, e.getMessage());
+        return claimChunks(tenantIds, freeWorkers);
+      });
+  }
+
+  private void exportClaimedChunk(JsonObject chunk, String tenantId) {
+    String jobExecutionId = chunk.getString(JOB_EXECUTION_ID_KEY);
+    int chunkNumber = chunk.getInteger(CHUNK_NUMBER_KEY);
+    boolean last = chunk.getBoolean(LAST_KEY, false);
+    addClaim(jobExecutionId, chunkNumber, chunk);
+    getJobPayload(jobExecutionId, tenantId).onComplete(ar -> {
+      if (ar.failed() || !ar.result().isPresent()) {
+        LOGGER.warn("Parameters of job execution with id {} are not loaded, chunk {} is skipped", jobExecutionId, chunkNumber);
+        releaseClaim(jobExecutionId, chunkNumber);
+        return;
+      }
+      ExportPayload chunkPayload = createChunkPayload(ar.result().get(), chunk);
+      if (!last) {
+        ExportManager.createProxy(vertx).exportData(exportJobContextRegistry.toMessage(chunkPayload));
+        return;
+      }
+      appendCompletedChunks(chunkPayload)
+        .onSuccess(v -> ExportManager.createProxy(vertx).exportData(exportJobContextRegistry.toMessage(chunkPayload)))
+        .onFailure(e -> {
+          LOGGER.error("Failed to append exported chunks of job execution with id {}", jobExecutionId, e);
+          InputDataManager.createProxy(vertx).proceed(exportJobContextRegistry.toMessage(chunkPayload), ExportResult.failed(ErrorCode.ERROR_SAVING_RECORD_TO_FILE));
+        });
+    });
+  }
+
+  private Future<Void> appendCompletedChunks(ExportPayload lastChunkPayload) {
+    FileDefinition fileExportDefinition = lastChunkPayload.getFileExportDefinition();
+    return exportChunkDao.getCompletedChunks(lastChunkPayload.getJobExecutionId(), lastChunkPayload.getOkapiConnectionParams().getTenantId())
+      .compose(chunks -> vertx.executeBlocking(blockingPromise -> {
+        // an abandoned claim of the last chunk may have appended some chunks already, so the resulting file is written anew
+        // and the files of the chunks are kept until the job is finished
+        fileStorage.clearFileBlocking(fileExportDefinition);
+        for (JsonObject chunk : chunks) {
+          String sourcePath = chunk.getString(SOURCE_PATH_KEY);
+          if (fileStorage.isFileExist(sourcePath)) {
+            fileStorage.appendFileBlocking(sourcePath, fileExportDefinition, false);
+          }
+        }
+        blockingPromise.complete();
+      }, false));
+  }
+
+  /**
+   * Returns the registered parameters of the job, or loads and registers them if this instance has not exported chunks of the job yet
+   */
+  private Future<Optional<ExportPayload>> getJobPayload(String jobExecutionId, String tenantId) {
+    ExportPayload jobPayload = exportJobContextRegistry.getJobPayload(jobExecutionId);
+    if (nonNull(jobPayload)) {
+      return succeededFuture(Optional.of(jobPayload));
+    }
+    return exportChunkDao.getJob(jobExecutionId, tenantId)
+      .compose(optionalJob -> {
+        if (!optionalJob.isPresent()) {
+          return succeededFuture(Optional.empty());
+        }
+        // the token is not stored with the job, so chunks of jobs started by other instances are exported as the system user
+        ExportPayload loadedJobPayload = exportJobContextRegistry.fromJobJson(optionalJob.get());
+        return systemUserClient.login(loadedJobPayload.getOkapiConnectionParams())
+          .map(params -> {
+            loadedJobPayload.setOkapiConnectionParams(params);
+            loadedJobPayload.setDistributed(true);
+            exportJobContextRegistry.register(loadedJobPayload);
+            return Optional.of(loadedJobPayload);
+          });
+      });
+  }
+
+  private synchronized void addClaim(String jobExecutionId, int chunkNumber, JsonObject chunk) {
+    claimedChunks.computeIfAbsent(jobExecutionId, id -> new HashMap<>()).put(chunkNumber, chunk);
+  }
+
+  /**
+   * Removes the claim of the chunk, the job is unregistered once this instance has no claimed chunks of the job
+   *
+   * @return the claimed chunk, or null if the chunk is not claimed by this instance
+   */
+  private synchronized JsonObject releaseClaim(String jobExecutionId, int chunkNumber) {
+    Map<Integer, JsonObject> jobChunks = claimedChunks.get(jobExecutionId);
+    if (jobChunks == null) {
+      return null;
+    }
+    JsonObject chunk = jobChunks.remove(chunkNumber);
+    if (jobChunks.isEmpty()) {
+      claimedChunks.remove(jobExecutionId);
+      exportJobContextRegistry.unregister(jobExecutionId);
+    }
+    return chunk;
+  }
+
+  private ExportPayload createChunkPayload(ExportPayload jobPayload, JsonObject chunk) {
+    int chunkNumber = chunk.getInteger(CHUNK_NUMBER_KEY);
+    boolean last = chunk.getBoolean(LAST_KEY, false);
+    FileDefinition fileExportDefinition = jobPayload.getFileExportDefinition();
+    FileDefinition fileDefinition = last ? fileExportDefinition : new FileDefinition()
+      .withId(fileExportDefinition.getId())
+      // the claim time keeps the file of a chunk claimed again apart from the file of the abandoned claim
+      .withFileName(fileExportDefinition.getFileName() + CHUNK_FILE_EXTENSION + chunkNumber + DELIMITER + chunk.getLong(CLAIMED_AT_KEY))
+      .withJobExecutionId(fileExportDefinition.getJobExecutionId())
+      .withStatus(FileDefinition.Status.IN_PROGRESS)
+      .withMetadata(fileExportDefinition.getMetadata());
+    ExportPayload chunkPayload = new ExportPayload(chunk.getJsonArray(IDENTIFIERS_KEY).getList(), last, fileDefinition,
+      jobPayload.getOkapiConnectionParams(), jobPayload.getJobExecutionId(), jobPayload.getMappingProfile());
+    chunkPayload.setRecordType(jobPayload.getRecordType());
+    chunkPayload.setIdType(jobPayload.getIdType());
+    chunkPayload.setChunkNumber(chunkNumber);
+    chunkPayload.setDistributed(true);
+    return chunkPayload;
+  }
+
+  private void deleteChunkFile(String sourcePath) {
+    if (fileStorage.isFileExist(sourcePath)) {
+      fileStorage.deleteFileAndParentDirectory(new FileDefinition().withSourcePath(sourcePath));
+    }
+  }
+}
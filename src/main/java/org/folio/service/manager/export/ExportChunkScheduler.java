@@ -0,0 +1,296 @@
+package org.folio.service.manager.export;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.json.JsonObject;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs export of chunks on the worker pool of the configured size. Chunks waiting for a free worker are queued
+ * per tenant and per job and are taken in weighted round robin order: a tenant gets as many chunks in a row as its weight,
+ * the jobs of the tenant take turns, so a big export of one tenant does not hold back exports of other tenants.
+ * Time spent by chunks in the queue is published to {@link #QUEUE_WAIT_METRICS_ADDRESS} per tenant.
+ * Chunks of small quick exports bypass the queue and run on the reserved fast lane workers.
+ */
+@Component
+public class ExportChunkScheduler {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  public static final String QUEUE_WAIT_METRICS_ADDRESS = "data-export.scheduler.queue-wait";
+  private static final String WORKER_POOL_NAME = "export-thread-worker";
+  private static final String FAST_LANE_WORKER_POOL_NAME = "export-fast-lane-worker";
+  private static final int DEFAULT_TENANT_WEIGHT = 1;
+
+  private final Vertx vertx;
+  private final WorkerExecutor executor;
+  private final WorkerExecutor fastLaneExecutor;
+  private final int poolSize;
+  private final Map<String, Integer> tenantWeights;
+  /* Tenants with queued chunks in the order of their turns */
+  private final Deque<TenantQueue> tenantQueues = new ArrayDeque<>();
+  private final Map<String, TenantQueue> tenantQueuesById = new HashMap<>();
+  private final Map<String, QueueWaitMetrics> queueWaitMetrics = new LinkedHashMap<>();
+  private int runningChunks;
+  private int queuedChunks;
+
+  @Autowired
+  public ExportChunkScheduler(Vertx vertx,
+                              @Value("${export.worker.poolSize}") int poolSize,
+                              @Value("${export.quick.poolSize}") int fastLanePoolSize,
+                              @Value("${export.scheduler.tenantWeights}") String tenantWeights,
+                              @Value("${export.scheduler.metricsInterval}") long metricsInterval) {
+    this.vertx = vertx;
+    this.poolSize = poolSize;
+    this.tenantWeights = parseTenantWeights(tenantWeights);
+    this.executor = vertx.createSharedWorkerExecutor(WORKER_POOL_NAME, poolSize);
+    this.fastLaneExecutor = vertx.createSharedWorkerExecutor(FAST_LANE_WORKER_POOL_NAME, fastLanePoolSize);
+    if (metricsInterval > 0) {
+      vertx.setPeriodic(metricsInterval, timerId -> publishQueueWaitMetrics());
+    }
+  }
+
+  /**
+   * Queues the export of the chunk, the export is started once a worker is free and it is the turn of the tenant and the job
+   *
+   * @param tenantId       tenant id
+   * @param jobExecutionId job execution id
+   * @param blockingCode   export of the chunk, run on the worker thread
+   * @return future completed with the result of the export
+   */
+  public <T> Future<T> schedule(String tenantId, String jobExecutionId, Handler<Promise<T>> blockingCode) {
+    Promise<T> promise = Promise.promise();
+    ScheduledChunk chunk = new ScheduledChunk(tenantId, System.currentTimeMillis(), () ->
+      executor.<T>executeBlocking(blockingCode, false).onComplete(ar -> {
+        synchronized (this) {
+          runningChunks--;
+        }
+        promise.handle(ar);
+        runQueuedChunks();
+      }),
+      () -> promise.fail(new CancellationException("Export of job execution with id " + jobExecutionId + " is cancelled")));
+    synchronized (this) {
+      tenantQueuesById.computeIfAbsent(tenantId, id -> {
+        TenantQueue tenantQueue = new TenantQueue(tenantWeights.getOrDefault(id, DEFAULT_TENANT_WEIGHT));
+        tenantQueues.addLast(tenantQueue);
+        return tenantQueue;
+      }).add(jobExecutionId, chunk);
+      queuedChunks++;
+    }
+    runQueuedChunks();
+    return promise.future();
+  }
+
+  /**
+   * Removes queued chunks of the cancelled job, so their workers are given to other jobs. Futures of the removed chunks
+   * are failed with {@link CancellationException}, chunks being exported are not interrupted.
+   *
+   * @param tenantId       tenant id
+   * @param jobExecutionId job execution id
+   * @return number of removed chunks
+   */
+  public int cancel(String tenantId, String jobExecutionId) {
+    Deque<ScheduledChunk> removedChunks;
+    synchronized (this) {
+      TenantQueue tenantQueue = tenantQueuesById.get(tenantId);
+      if (tenantQueue == null || (removedChunks = tenantQueue.remove(jobExecutionId)) == null) {
+        return 0;
+      }
+      queuedChunks -= removedChunks.size();
+      if (tenantQueue.isEmpty()) {
+        tenantQueues.remove(tenantQueue);
+        tenantQueuesById.remove(tenantId);
+      }
+    }
+    removedChunks.forEach(chunk -> chunk.cancel.run());
+    return removedChunks.size();
+  }
+
+  /**
+   * Runs the export of the chunk of the small quick export on the reserved workers, not waiting for chunks of other exports
+   *
+   * @param blockingCode export of the chunk, run on the worker thread
+   * @return future completed with the result of the export
+   */
+  public <T> Future<T> scheduleFastLane(Handler<Promise<T>> blockingCode) {
+    return fastLaneExecutor.executeBlocking(blockingCode, false);
+  }
+
+  /**
+   * Returns the number of workers which are neither busy nor reserved by queued chunks
+   */
+  public synchronized int getFreeWorkers() {
+    return Math.max(0, poolSize - runningChunks - queuedChunks);
+  }
+
+  private void runQueuedChunks() {
+    ScheduledChunk chunk;
+    while ((chunk = pollNextChunk()) != null) {
+      chunk.task.run();
+    }
+  }
+
+  private synchronized ScheduledChunk pollNextChunk() {
+    if (runningChunks >= poolSize || tenantQueues.isEmpty()) {
+      return null;
+    }
+    TenantQueue tenantQueue = tenantQueues.peekFirst();
+    ScheduledChunk chunk = tenantQueue.poll();
+    if (tenantQueue.isEmpty()) {
+      tenantQueues.pollFirst();
+      tenantQueuesById.values().remove(tenantQueue);
+    } else if (tenantQueue.isTurnOver()) {
+      tenantQueues.addLast(tenantQueues.pollFirst());
+    }
+    runningChunks++;
+    queuedChunks--;
+    queueWaitMetrics.computeIfAbsent(chunk.tenantId, id -> new QueueWaitMetrics())
+      .add(System.currentTimeMillis() - chunk.queuedAt);
+    return chunk;
+  }
+
+  private void publishQueueWaitMetrics() {
+    JsonObject metrics = new JsonObject();
+    synchronized (this) {
+      queueWaitMetrics.forEach((tenantId, tenantMetrics) -> {
+        TenantQueue tenantQueue = tenantQueuesById.get(tenantId);
+        metrics.put(tenantId, tenantMetrics.toJson().put("queuedChunks", tenantQueue == null ? 0 : tenantQueue.size()));
+      });
+      queueWaitMetrics.clear();
+    }
+    if (!metrics.isEmpty()) {
+      LOGGER.info("Queue wait time of exported chunks by tenant: {}", metrics);
+      vertx.eventBus().publish(QUEUE_WAIT_METRICS_ADDRESS, metrics);
+    }
+  }
+
+  /**
+   * Parses weights of tenants specified as comma separated list of "tenant:weight" pairs
+   */
+  static Map<String, Integer> parseTenantWeights(String tenantWeights) {
+    Map<String, Integer> weights = new HashMap<>();
+    if (isNotBlank(tenantWeights)) {
+      for (String tenantWeight : tenantWeights.split(",")) {
+        String[] pair = tenantWeight.trim().split(":");
+        try {
+          weights.put(pair[0].trim(), Math.max(DEFAULT_TENANT_WEIGHT, Integer.parseInt(pair[1].trim())));
+        } catch (RuntimeException e) {
+          LOGGER.warn("Invalid weight of the tenant is skipped: {}", tenantWeight);
+        }
+      }
+    }
+    return weights;
+  }
+
+  private static class ScheduledChunk {
+    private final String tenantId;
+    private final long queuedAt;
+    private final Runnable task;
+    private final Runnable cancel;
+
+    private ScheduledChunk(String tenantId, long queuedAt, Runnable task, Runnable cancel) {
+      this.tenantId = tenantId;
+      this.queuedAt = queuedAt;
+      this.task = task;
+      this.cancel = cancel;
+    }
+  }
+
+  /**
+   * Queued chunks of the tenant, jobs of the tenant take turns chunk by chunk
+   */
+  private static class TenantQueue {
+    private final int weight;
+    private final Deque<Deque<ScheduledChunk>> jobQueues = new ArrayDeque<>();
+    private final Map<String, Deque<ScheduledChunk>> jobQueuesById = new HashMap<>();
+    private int takenInTurn;
+    private int size;
+
+    private TenantQueue(int weight) {
+      this.weight = weight;
+    }
+
+    private void add(String jobExecutionId, ScheduledChunk chunk) {
+      jobQueuesById.computeIfAbsent(jobExecutionId, id -> {
+        Deque<ScheduledChunk> jobQueue = new ArrayDeque<>();
+        jobQueues.addLast(jobQueue);
+        return jobQueue;
+      }).addLast(chunk);
+      size++;
+    }
+
+    private ScheduledChunk poll() {
+      Deque<ScheduledChunk> jobQueue = jobQueues.pollFirst();
+      ScheduledChunk chunk = jobQueue.pollFirst();
+      if (jobQueue.isEmpty()) {
+        jobQueuesById.values().remove(jobQueue);
+      } else {
+        jobQueues.addLast(jobQueue);
+      }
+      takenInTurn++;
+      size--;
+      return chunk;
+    }
+
+    private Deque<ScheduledChunk> remove(String jobExecutionId) {
+      Deque<ScheduledChunk> jobQueue = jobQueuesById.remove(jobExecutionId);
+      if (jobQueue != null) {
+        jobQueues.remove(jobQueue);
+        size -= jobQueue.size();
+      }
+      return jobQueue;
+    }
+
+    /**
+     * Returns true if the tenant has taken as many chunks in a row as its weight, and resets the counter for the next turn
+     */
+    private boolean isTurnOver() {
+      if (takenInTurn < weight) {
+        return false;
+      }
+      takenInTurn = 0;
+      return true;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+
+    private int size() {
+      return size;
+    }
+  }
+
+  private static class QueueWaitMetrics {
+    private long count;
+    private long totalWait;
+    private long maxWait;
+
+    private void add(long wait) {
+      count++;
+      totalWait += wait;
+      maxWait = Math.max(maxWait, wait);
+    }
+
+    private JsonObject toJson() {
+      return new JsonObject()
+        .put("dequeuedChunks", count)
+        .put("averageWaitMs", count == 0 ? 0 : totalWait / count)
+        .put("maxWaitMs", maxWait);
+    }
+  }
+}
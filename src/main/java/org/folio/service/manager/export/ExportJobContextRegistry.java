@@ -0,0 +1,181 @@
+package org.folio.service.manager.export;
+
+import static java.util.Objects.nonNull;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.folio.rest.jaxrs.model.ExportRequest;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.rest.jaxrs.model.MappingProfile;
+import org.folio.util.OkapiConnectionParams;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the parameters of running exports which are the same for all chunks of a job: mapping profile, file export definition,
+ * okapi connection parameters, record and id types, the fast lane and distributed flags. Messages sent between the input data manager and the export manager
+ * carry only the job execution id as a handle to the job, plus the chunk specific fields, so the mapping profile with
+ * all its transformations is not serialized and deserialized for each chunk.
+ */
+@Component
+public class ExportJobContextRegistry {
+  private static final String OKAPI_URL_HEADER = "x-okapi-url";
+  private static final String JOB_EXECUTION_ID_KEY = "jobExecutionId";
+  private static final String IDENTIFIERS_KEY = "identifiers";
+  private static final String LAST_KEY = "last";
+  private static final String CHUNK_NUMBER_KEY = "chunkNumber";
+  private static final String EXPORTED_RECORDS_NUMBER_KEY = "exportedRecordsNumber";
+  private static final String FAILED_RECORDS_NUMBER_KEY = "failedRecordsNumber";
+  private static final String FILE_EXPORT_DEFINITION_KEY = "fileExportDefinition";
+  private static final String MAPPING_PROFILE_KEY = "mappingProfile";
+  private static final String OKAPI_HEADERS_KEY = "okapiHeaders";
+  /* Only these headers are stored with the job, the token is not stored and is taken again when the job is restored */
+  private static final List<String> STORED_OKAPI_HEADERS = List.of(OKAPI_HEADER_TENANT, OKAPI_URL_HEADER, OKAPI_USERID_HEADER);
+  private static final String RECORD_TYPE_KEY = "recordType";
+  private static final String ID_TYPE_KEY = "idType";
+
+  private final Map<String, ExportPayload> jobPayloads = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the parameters of the job, chunk specific fields of the given payload are ignored
+   *
+   * @param jobPayload payload with the parameters of the job
+   */
+  public void register(ExportPayload jobPayload) {
+    jobPayloads.put(jobPayload.getJobExecutionId(), jobPayload);
+  }
+
+  public void unregister(String jobExecutionId) {
+    jobPayloads.remove(jobExecutionId);
+  }
+
+  public boolean isRegistered(String jobExecutionId) {
+    return jobPayloads.containsKey(jobExecutionId);
+  }
+
+  /**
+   * Returns the payload with the parameters of the job, its file export definition is the resulting file of the job
+   *
+   * @param jobExecutionId job execution id
+   * @return payload of the job, or null if the job is not registered
+   */
+  public ExportPayload getJobPayload(String jobExecutionId) {
+    return jobPayloads.get(jobExecutionId);
+  }
+
+  /**
+   * Creates the message of the chunk, the file export definition is put to the message only if the chunk
+   * is written to a file other than the resulting file of the job
+   *
+   * @param chunkPayload payload of the chunk
+   * @return message of the chunk
+   */
+  public JsonObject toMessage(ExportPayload chunkPayload) {
+    JsonObject message = new JsonObject()
+      .put(JOB_EXECUTION_ID_KEY, chunkPayload.getJobExecutionId())
+      .put(LAST_KEY, chunkPayload.isLast())
+      .put(CHUNK_NUMBER_KEY, chunkPayload.getChunkNumber())
+      .put(EXPORTED_RECORDS_NUMBER_KEY, chunkPayload.getExportedRecordsNumber())
+      .put(FAILED_RECORDS_NUMBER_KEY, chunkPayload.getFailedRecordsNumber());
+    if (nonNull(chunkPayload.getIdentifiers())) {
+      message.put(IDENTIFIERS_KEY, new JsonArray(chunkPayload.getIdentifiers()));
+    }
+    ExportPayload jobPayload = jobPayloads.get(chunkPayload.getJobExecutionId());
+    FileDefinition fileExportDefinition = chunkPayload.getFileExportDefinition();
+    if (nonNull(fileExportDefinition) && (jobPayload == null || fileExportDefinition != jobPayload.getFileExportDefinition())) {
+      message.put(FILE_EXPORT_DEFINITION_KEY, JsonObject.mapFrom(fileExportDefinition));
+    }
+    return message;
+  }
+
+  /**
+   * Restores the payload of the chunk from its message and the parameters of the job.
+   * If the job is not registered, the payload contains only the fields of the message.
+   *
+   * @param message message of the chunk
+   * @return payload of the chunk
+   */
+  public ExportPayload fromMessage(JsonObject message) {
+    ExportPayload chunkPayload = new ExportPayload();
+    chunkPayload.setJobExecutionId(message.getString(JOB_EXECUTION_ID_KEY));
+    ExportPayload jobPayload = jobPayloads.get(chunkPayload.getJobExecutionId());
+    if (nonNull(jobPayload)) {
+      chunkPayload.setFileExportDefinition(jobPayload.getFileExportDefinition());
+      chunkPayload.setOkapiConnectionParams(jobPayload.getOkapiConnectionParams());
+      chunkPayload.setMappingProfile(jobPayload.getMappingProfile());
+      chunkPayload.setRecordType(jobPayload.getRecordType());
+      chunkPayload.setIdType(jobPayload.getIdType());
+      chunkPayload.setFastLane(jobPayload.isFastLane());
+      chunkPayload.setDistributed(jobPayload.isDistributed());
+    }
+    JsonObject fileExportDefinition = message.getJsonObject(FILE_EXPORT_DEFINITION_KEY);
+    if (nonNull(fileExportDefinition)) {
+      chunkPayload.setFileExportDefinition(fileExportDefinition.mapTo(FileDefinition.class));
+    }
+    JsonArray identifiers = message.getJsonArray(IDENTIFIERS_KEY);
+    chunkPayload.setIdentifiers(nonNull(identifiers) ? identifiers.getList() : null);
+    chunkPayload.setLast(message.getBoolean(LAST_KEY, false));
+    chunkPayload.setChunkNumber(message.getInteger(CHUNK_NUMBER_KEY, 0));
+    chunkPayload.setExportedRecordsNumber(message.getInteger(EXPORTED_RECORDS_NUMBER_KEY, 0));
+    chunkPayload.setFailedRecordsNumber(message.getInteger(FAILED_RECORDS_NUMBER_KEY, 0));
+    return chunkPayload;
+  }
+
+  /**
+   * Creates the json with the parameters of the job to be stored in the database,
+   * so the job can be continued by another module instance. Of the okapi headers only tenant, okapi url and user id are stored.
+   *
+   * @param jobPayload payload with the parameters of the job
+   * @return json with the parameters of the job
+   */
+  public JsonObject toJobJson(ExportPayload jobPayload) {
+    JsonObject jobJson = new JsonObject()
+      .put(JOB_EXECUTION_ID_KEY, jobPayload.getJobExecutionId())
+      .put(FILE_EXPORT_DEFINITION_KEY, JsonObject.mapFrom(jobPayload.getFileExportDefinition()))
+      .put(MAPPING_PROFILE_KEY, JsonObject.mapFrom(jobPayload.getMappingProfile()))
+      .put(OKAPI_HEADERS_KEY, toStoredHeaders(jobPayload.getOkapiConnectionParams().getHeaders()))
+      .put(ID_TYPE_KEY, jobPayload.getIdType().value());
+    if (nonNull(jobPayload.getRecordType())) {
+      jobJson.put(RECORD_TYPE_KEY, jobPayload.getRecordType().value());
+    }
+    return jobJson;
+  }
+
+  /**
+   * Restores the payload with the parameters of the job from the json created by {@link #toJobJson(ExportPayload)},
+   * its okapi connection parameters have no token
+   *
+   * @param jobJson json with the parameters of the job
+   * @return payload of the job
+   */
+  public ExportPayload fromJobJson(JsonObject jobJson) {
+    Map<String, String> okapiHeaders = new CaseInsensitiveMap<>();
+    jobJson.getJsonObject(OKAPI_HEADERS_KEY).forEach(header -> okapiHeaders.put(header.getKey(), String.valueOf(header.getValue())));
+    ExportPayload jobPayload = new ExportPayload();
+    jobPayload.setJobExecutionId(jobJson.getString(JOB_EXECUTION_ID_KEY));
+    jobPayload.setFileExportDefinition(jobJson.getJsonObject(FILE_EXPORT_DEFINITION_KEY).mapTo(FileDefinition.class));
+    jobPayload.setMappingProfile(jobJson.getJsonObject(MAPPING_PROFILE_KEY).mapTo(MappingProfile.class));
+    jobPayload.setOkapiConnectionParams(new OkapiConnectionParams(okapiHeaders));
+    jobPayload.setIdType(ExportRequest.IdType.fromValue(jobJson.getString(ID_TYPE_KEY)));
+    if (jobJson.containsKey(RECORD_TYPE_KEY)) {
+      jobPayload.setRecordType(ExportRequest.RecordType.fromValue(jobJson.getString(RECORD_TYPE_KEY)));
+    }
+    return jobPayload;
+  }
+
+  private JsonObject toStoredHeaders(Map<String, String> okapiHeaders) {
+    Map<String, String> headers = new CaseInsensitiveMap<>(okapiHeaders);
+    JsonObject storedHeaders = new JsonObject();
+    STORED_OKAPI_HEADERS.forEach(header -> {
+      if (nonNull(headers.get(header))) {
+        storedHeaders.put(header, headers.get(header));
+      }
+    });
+    return storedHeaders;
+  }
+}
@@ -4,10 +4,9 @@ import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.clients.InFlightRequests;
 import org.folio.rest.exceptions.ServiceException;
-import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.service.file.storage.FileStorage;
-import org.folio.service.job.JobExecutionService;
 import org.folio.service.logs.ErrorLogService;
 import org.folio.service.manager.export.strategy.ExportStrategy;
 import org.folio.service.manager.input.InputDataManager;
@@ -21,9 +20,9 @@ import org.springframework.stereotype.Service;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.WorkerExecutor;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -33,14 +32,9 @@ import io.vertx.core.json.JsonObject;
 @Service
 public class ExportManagerImpl implements ExportManager {
   private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
-  private static final int POOL_SIZE = 2;
   public static final int SRS_LOAD_PARTITION_SIZE = 50;
   public static final int INVENTORY_LOAD_PARTITION_SIZE = 50;
-  /* WorkerExecutor provides a worker pool for export process */
-  private WorkerExecutor executor;
 
-  @Autowired
-  private JobExecutionService jobExecutionService;
   @Autowired
   private InventoryRecordConverterService inventoryRecordService;
   @Autowired
@@ -50,6 +44,12 @@ public class ExportManagerImpl implements ExportManager {
   @Autowired
   private ErrorLogService errorLogService;
   @Autowired
+  private ExportJobContextRegistry exportJobContextRegistry;
+  @Autowired
+  private ExportChunkScheduler exportChunkScheduler;
+  @Autowired
+  private ExportProgressCoalescer exportProgressCoalescer;
+  @Autowired
   @Qualifier("instanceExportStrategyImpl")
   private ExportStrategy instanceExportManager;
   @Autowired
@@ -64,23 +64,39 @@ public class ExportManagerImpl implements ExportManager {
 
   public ExportManagerImpl(Context context) {
     SpringContextUtil.autowireDependencies(this, context);
-    this.executor = context.owner().createSharedWorkerExecutor("export-thread-worker", POOL_SIZE);
-
   }
 
   @Override
   public void exportData(JsonObject request) {
-    ExportPayload exportPayload = request.mapTo(ExportPayload.class);
+    ExportPayload exportPayload = exportJobContextRegistry.fromMessage(request);
+    if (!exportJobContextRegistry.isRegistered(exportPayload.getJobExecutionId())) {
+      LOGGER.warn("Export of job execution with id {} is not running, the chunk is skipped", exportPayload.getJobExecutionId());
+      return;
+    }
+    ExportStrategy exportStrategy = getExportStrategy(exportPayload);
+    String jobExecutionId = exportPayload.getJobExecutionId();
+    Handler<Promise<Object>> export = blockingPromise -> {
+      InFlightRequests.bind(jobExecutionId, () -> !exportJobContextRegistry.isRegistered(jobExecutionId));
+      try {
+        exportStrategy.export(exportPayload, blockingPromise);
+      } finally {
+        InFlightRequests.unbind();
+      }
+    };
+    Future<Object> exportResult = exportPayload.isFastLane()
+      ? exportChunkScheduler.scheduleFastLane(export)
+      : exportChunkScheduler.schedule(exportPayload.getOkapiConnectionParams().getTenantId(), exportPayload.getJobExecutionId(), export);
+    exportResult.onComplete(ar -> handleExportResult(ar, exportPayload));
+  }
+
+  private ExportStrategy getExportStrategy(ExportPayload exportPayload) {
     switch (exportPayload.getIdType()) {
-      case INSTANCE:
-        this.executor.executeBlocking(blockingPromise -> instanceExportManager.export(exportPayload, blockingPromise), ar -> handleExportResult(ar, exportPayload));
-        break;
       case HOLDING:
-        this.executor.executeBlocking(blockingPromise -> holdingExportManager.export(exportPayload, blockingPromise), ar -> handleExportResult(ar, exportPayload));
-        break;
+        return holdingExportManager;
       case AUTHORITY:
-        this.executor.executeBlocking(blockingPromise -> authorityExportManager.export(exportPayload, blockingPromise), ar -> handleExportResult(ar, exportPayload));
-        break;
+        return authorityExportManager;
+      default:
+        return instanceExportManager;
     }
   }
 
@@ -94,10 +110,19 @@ public class ExportManagerImpl implements ExportManager {
    */
   private Future<Void> handleExportResult(AsyncResult<Object> asyncResult, ExportPayload exportPayload) {
     Promise<Void> promise = Promise.promise();
-    JsonObject exportPayloadJson = JsonObject.mapFrom(exportPayload);
+    if (!exportJobContextRegistry.isRegistered(exportPayload.getJobExecutionId())) {
+      // the job is cancelled or already finalized, neither errors nor progress of the chunk are recorded, the input data manager deletes its file
+      LOGGER.info("Export of job execution with id {} is not running anymore, result of the chunk is skipped", exportPayload.getJobExecutionId());
+      clearIdentifiers(exportPayload);
+      exportProgressCoalescer.discard(exportPayload.getJobExecutionId());
+      getInputDataManager().proceed(exportJobContextRegistry.toMessage(exportPayload), ExportResult.failed(ErrorCode.ERROR_JOB_IS_CANCELLED));
+      promise.complete();
+      return promise.future();
+    }
     ExportResult exportResult = getExportResult(asyncResult, exportPayload);
     clearIdentifiers(exportPayload);
-    incrementCurrentProgress(exportPayload)
+    JsonObject exportPayloadJson = exportJobContextRegistry.toMessage(exportPayload);
+    incrementCurrentProgress(exportPayload, exportResult)
       .onComplete(handler -> {
         getInputDataManager().proceed(exportPayloadJson, exportResult);
         promise.complete();
@@ -153,11 +178,15 @@ public class ExportManagerImpl implements ExportManager {
     return ExportResult.inProgress();
   }
 
-  private Future<JobExecution> incrementCurrentProgress(ExportPayload exportPayload) {
-    String tenantId = exportPayload.getOkapiConnectionParams().getTenantId();
-    int exported = exportPayload.getExportedRecordsNumber();
-    int failed = exportPayload.getFailedRecordsNumber();
-    return jobExecutionService.incrementCurrentProgress(exportPayload.getJobExecutionId(), exported, failed, tenantId);
+  /**
+   * Adds numbers of records of the chunk to the progress of the job, the progress kept in memory is written
+   * before the result of the chunk finishing the job is handled
+   */
+  private Future<Void> incrementCurrentProgress(ExportPayload exportPayload, ExportResult exportResult) {
+    String jobExecutionId = exportPayload.getJobExecutionId();
+    Future<Void> progressUpdate = exportProgressCoalescer.increment(jobExecutionId, exportPayload.getExportedRecordsNumber(),
+      exportPayload.getFailedRecordsNumber(), exportPayload.getOkapiConnectionParams().getTenantId());
+    return exportResult.isInProgress() ? progressUpdate : progressUpdate.transform(ar -> exportProgressCoalescer.flush(jobExecutionId));
   }
 
   private InputDataManager getInputDataManager() {
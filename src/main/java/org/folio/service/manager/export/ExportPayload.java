@@ -22,6 +22,9 @@ public class ExportPayload {
   private ExportRequest.IdType idType;
   private int exportedRecordsNumber;
   private int failedRecordsNumber;
+  private int chunkNumber;
+  private boolean fastLane;
+  private boolean distributed;
 
   public ExportPayload() {
   }
@@ -106,4 +109,28 @@ public class ExportPayload {
   public void setFailedRecordsNumber(int failedRecordsNumber) {
     this.failedRecordsNumber = failedRecordsNumber;
   }
+
+  public int getChunkNumber() {
+    return chunkNumber;
+  }
+
+  public void setChunkNumber(int chunkNumber) {
+    this.chunkNumber = chunkNumber;
+  }
+
+  public boolean isFastLane() {
+    return fastLane;
+  }
+
+  public void setFastLane(boolean fastLane) {
+    this.fastLane = fastLane;
+  }
+
+  public boolean isDistributed() {
+    return distributed;
+  }
+
+  public void setDistributed(boolean distributed) {
+    this.distributed = distributed;
+  }
 }
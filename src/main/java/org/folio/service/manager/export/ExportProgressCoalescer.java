@@ -0,0 +1,112 @@
+package org.folio.service.manager.export;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.service.job.JobExecutionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Updates progress of the jobs with numbers of records exported by chunks. With coalescing enabled the numbers are summed up
+ * in memory and written to the job execution once per {@link #flushChunks} chunks or on the periodic flush, whichever comes first,
+ * so the job executions are written much less often than once per chunk.
+ */
+@Component
+public class ExportProgressCoalescer {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final JobExecutionService jobExecutionService;
+  private final int flushChunks;
+  /* Numbers of records not yet written to the job executions, by job execution id */
+  private final Map<String, PendingProgress> pendingProgress = new ConcurrentHashMap<>();
+  /* Writes of the progress being run, by job execution id, a flush of the job completes after the previous writes */
+  private final Map<String, Future<Void>> progressUpdates = new ConcurrentHashMap<>();
+
+  @Autowired
+  public ExportProgressCoalescer(Vertx vertx,
+                                 JobExecutionService jobExecutionService,
+                                 @Value("${export.progress.flushChunks}") int flushChunks,
+                                 @Value("${export.progress.flushInterval}") long flushInterval) {
+    this.jobExecutionService = jobExecutionService;
+    this.flushChunks = flushChunks;
+    if (isCoalescing() && flushInterval > 0) {
+      vertx.setPeriodic(flushInterval, timerId -> pendingProgress.keySet().forEach(this::flush));
+    }
+  }
+
+  /**
+   * Adds numbers of records of the exported chunk to the progress of the job
+   *
+   * @param jobExecutionId job execution id
+   * @param exported       number of exported records
+   * @param failed         number of records failed on export
+   * @param tenantId       tenant id
+   * @return future completed once the progress is written, or right away if the numbers are kept to be written later
+   */
+  public Future<Void> increment(String jobExecutionId, int exported, int failed, String tenantId) {
+    if (!isCoalescing()) {
+      return jobExecutionService.incrementCurrentProgress(jobExecutionId, exported, failed, tenantId);
+    }
+    PendingProgress progress = pendingProgress.merge(jobExecutionId, new PendingProgress(tenantId, exported, failed, 1), PendingProgress::add);
+    return progress.chunks >= flushChunks ? flush(jobExecutionId) : succeededFuture();
+  }
+
+  /**
+   * Writes the numbers of records kept for the job, called before the job is finalized
+   *
+   * @param jobExecutionId job execution id
+   * @return future completed once all numbers added so far are written
+   */
+  public Future<Void> flush(String jobExecutionId) {
+    PendingProgress progress = pendingProgress.remove(jobExecutionId);
+    Future<Void> progressUpdate = progressUpdates.compute(jobExecutionId, (id, previousUpdate) -> {
+      Future<Void> previous = previousUpdate == null ? succeededFuture() : previousUpdate.transform(ar -> succeededFuture());
+      return progress == null ? previous : previous.compose(v -> write(jobExecutionId, progress));
+    });
+    return progressUpdate.onComplete(ar -> progressUpdates.remove(jobExecutionId, progressUpdate));
+  }
+
+  /**
+   * Drops the numbers of records kept for the job which is not running anymore
+   *
+   * @param jobExecutionId job execution id
+   */
+  public void discard(String jobExecutionId) {
+    pendingProgress.remove(jobExecutionId);
+  }
+
+  private Future<Void> write(String jobExecutionId, PendingProgress progress) {
+    return jobExecutionService.incrementCurrentProgress(jobExecutionId, progress.exported, progress.failed, progress.tenantId)
+      .onFailure(e -> LOGGER.error("Failed to update progress of job execution with id {}", jobExecutionId, e));
+  }
+
+  private boolean isCoalescing() {
+    return flushChunks > 1;
+  }
+
+  private static class PendingProgress {
+    private final String tenantId;
+    private final int exported;
+    private final int failed;
+    private final int chunks;
+
+    private PendingProgress(String tenantId, int exported, int failed, int chunks) {
+      this.tenantId = tenantId;
+      this.exported = exported;
+      this.failed = failed;
+      this.chunks = chunks;
+    }
+
+    private PendingProgress add(PendingProgress other) {
+      return new PendingProgress(tenantId, exported + other.exported, failed + other.failed, chunks + other.chunks);
+    }
+  }
+}
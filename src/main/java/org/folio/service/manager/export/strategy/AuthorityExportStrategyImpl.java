@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import org.folio.HttpStatus;
 import org.folio.rest.exceptions.ServiceException;
+import org.folio.service.export.RecordDescriptor;
 import org.folio.service.manager.export.ExportPayload;
 import org.folio.util.ErrorCode;
 
@@ -27,7 +28,7 @@ public class AuthorityExportStrategyImpl extends AbstractExportStrategy {
     var srsLoadResult = loadSrsMarcRecordsInPartitions(identifiers, exportPayload.getJobExecutionId(), params);
     var marcToExport = getSrsRecordService().transformSrsRecords(exportPayload.getMappingProfile(),
       srsLoadResult.getUnderlyingMarcRecords(), fileExportDefinition.getJobExecutionId(), params, getEntityType());
-    getExportService().exportSrsRecord(marcToExport, exportPayload);
+    getExportService().exportSrsRecord(marcToExport, RecordDescriptor.of(srsLoadResult.getUnderlyingMarcRecords()), exportPayload);
     LOGGER.info("Number of authority without srs record: {}", srsLoadResult.getIdsWithoutSrs());
     exportPayload.setExportedRecordsNumber(srsLoadResult.getUnderlyingMarcRecords().size() - marcToExport.getValue());
     exportPayload.setFailedRecordsNumber(identifiers.size() - exportPayload.getExportedRecordsNumber());
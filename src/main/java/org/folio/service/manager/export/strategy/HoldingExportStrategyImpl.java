@@ -9,6 +9,7 @@ import org.folio.HttpStatus;
 import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.jaxrs.model.MappingProfile;
+import org.folio.service.export.RecordDescriptor;
 import org.folio.service.loader.LoadResult;
 import org.folio.service.loader.SrsLoadResult;
 import org.folio.service.manager.export.ExportManagerImpl;
@@ -37,7 +38,7 @@ public class HoldingExportStrategyImpl extends AbstractExportStrategy {
     String jobExecutionId = fileExportDefinition.getJobExecutionId();
     SrsLoadResult srsLoadResult = loadSrsMarcRecordsInPartitions(identifiers, exportPayload.getJobExecutionId(), params);
     Pair<List<String>, Integer> marcToExport = getSrsRecordService().transformSrsRecords(defaultMappingProfile, srsLoadResult.getUnderlyingMarcRecords(), jobExecutionId, params, getEntityType());
-    getExportService().exportSrsRecord(marcToExport, exportPayload);
+    getExportService().exportSrsRecord(marcToExport, RecordDescriptor.of(srsLoadResult.getUnderlyingMarcRecords()), exportPayload);
     LOGGER.info("Number of holdings without srs record: {}", srsLoadResult.getIdsWithoutSrs());
     if (isNotEmpty(srsLoadResult.getIdsWithoutSrs())) {
       generateRecordsOnTheFly(exportPayload, identifiers, fileExportDefinition, defaultMappingProfile, params, srsLoadResult, marcToExport.getValue());
@@ -11,6 +11,7 @@ import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.jaxrs.model.MappingProfile;
 import org.folio.rest.jaxrs.model.RecordType;
+import org.folio.service.export.RecordDescriptor;
 import org.folio.service.loader.LoadResult;
 import org.folio.service.loader.SrsLoadResult;
 import org.folio.service.manager.export.ExportManagerImpl;
@@ -42,7 +43,7 @@ public class InstanceExportStrategyImpl extends AbstractExportStrategy {
       LOGGER.info("Records that are not present in SRS: {}", srsLoadResult.getIdsWithoutSrs());
       Pair<List<String>, Integer> marcToExport = getSrsRecordService().transformSrsRecords(mappingProfile, srsLoadResult.getUnderlyingMarcRecords(),
         exportPayload.getJobExecutionId(), params, getEntityType());
-      getExportService().exportSrsRecord(marcToExport, exportPayload);
+      getExportService().exportSrsRecord(marcToExport, RecordDescriptor.of(srsLoadResult.getUnderlyingMarcRecords()), exportPayload);
       LOGGER.info("Number of instances not found in SRS: {}", srsLoadResult.getIdsWithoutSrs().size());
       if (isNotEmpty(srsLoadResult.getIdsWithoutSrs())) {
         getMappingProfileService().getDefaultInstanceMappingProfile(params)
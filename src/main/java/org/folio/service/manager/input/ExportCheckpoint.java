@@ -0,0 +1,145 @@
+package org.folio.service.manager.input;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.rest.jaxrs.model.FileDefinition;
+
+/**
+ * Checkpoint of the export exported chunk by chunk: the parameters needed to read the identifiers of the job again
+ * and the position reached by the job, i.e. the number of chunks exported to the resulting file and the length of the file after them.
+ */
+public class ExportCheckpoint {
+  private static final String JOB_KEY = "job";
+  private static final String REQUEST_FILE_DEFINITION_KEY = "requestFileDefinition";
+  private static final String DEDUPLICATE_KEY = "deduplicate";
+  private static final String COMMITTED_CHUNKS_KEY = "committedChunks";
+  private static final String OUTPUT_PATH_KEY = "outputPath";
+  private static final String OUTPUT_LENGTH_KEY = "outputLength";
+  private static final String EXPORTED_RECORDS_NUMBER_KEY = "exportedRecordsNumber";
+  private static final String FAILED_RECORDS_NUMBER_KEY = "failedRecordsNumber";
+  private static final String OWNER_KEY = "owner";
+  private static final String UPDATED_AT_KEY = "updatedAt";
+
+  private JsonObject job;
+  private FileDefinition requestFileDefinition;
+  private boolean deduplicate;
+  private int committedChunks;
+  private String outputPath;
+  private long outputLength;
+  private int exportedRecordsNumber;
+  private int failedRecordsNumber;
+  private String owner;
+  private long updatedAt;
+
+  public ExportCheckpoint() {
+  }
+
+  public ExportCheckpoint(JsonObject jsonObject) {
+    this.job = jsonObject.getJsonObject(JOB_KEY);
+    this.requestFileDefinition = jsonObject.getJsonObject(REQUEST_FILE_DEFINITION_KEY).mapTo(FileDefinition.class);
+    this.deduplicate = jsonObject.getBoolean(DEDUPLICATE_KEY, false);
+    this.committedChunks = jsonObject.getInteger(COMMITTED_CHUNKS_KEY, 0);
+    this.outputPath = jsonObject.getString(OUTPUT_PATH_KEY);
+    this.outputLength = jsonObject.getLong(OUTPUT_LENGTH_KEY, 0L);
+    this.exportedRecordsNumber = jsonObject.getInteger(EXPORTED_RECORDS_NUMBER_KEY, 0);
+    this.failedRecordsNumber = jsonObject.getInteger(FAILED_RECORDS_NUMBER_KEY, 0);
+    this.owner = jsonObject.getString(OWNER_KEY);
+    this.updatedAt = jsonObject.getLong(UPDATED_AT_KEY, 0L);
+  }
+
+  public JsonObject toJson() {
+    return new JsonObject()
+      .put(JOB_KEY, job)
+      .put(REQUEST_FILE_DEFINITION_KEY, JsonObject.mapFrom(requestFileDefinition))
+      .put(DEDUPLICATE_KEY, deduplicate)
+      .put(COMMITTED_CHUNKS_KEY, committedChunks)
+      .put(OUTPUT_PATH_KEY, outputPath)
+      .put(OUTPUT_LENGTH_KEY, outputLength)
+      .put(EXPORTED_RECORDS_NUMBER_KEY, exportedRecordsNumber)
+      .put(FAILED_RECORDS_NUMBER_KEY, failedRecordsNumber)
+      .put(OWNER_KEY, owner)
+      .put(UPDATED_AT_KEY, updatedAt);
+  }
+
+  /**
+   * Returns the parameters of the job, see {@link org.folio.service.manager.export.ExportJobContextRegistry#toJobJson}
+   */
+  public JsonObject getJob() {
+    return job;
+  }
+
+  public void setJob(JsonObject job) {
+    this.job = job;
+  }
+
+  public FileDefinition getRequestFileDefinition() {
+    return requestFileDefinition;
+  }
+
+  public void setRequestFileDefinition(FileDefinition requestFileDefinition) {
+    this.requestFileDefinition = requestFileDefinition;
+  }
+
+  public boolean isDeduplicate() {
+    return deduplicate;
+  }
+
+  public void setDeduplicate(boolean deduplicate) {
+    this.deduplicate = deduplicate;
+  }
+
+  public int getCommittedChunks() {
+    return committedChunks;
+  }
+
+  public void setCommittedChunks(int committedChunks) {
+    this.committedChunks = committedChunks;
+  }
+
+  public String getOutputPath() {
+    return outputPath;
+  }
+
+  public void setOutputPath(String outputPath) {
+    this.outputPath = outputPath;
+  }
+
+  public long getOutputLength() {
+    return outputLength;
+  }
+
+  public void setOutputLength(long outputLength) {
+    this.outputLength = outputLength;
+  }
+
+  public int getExportedRecordsNumber() {
+    return exportedRecordsNumber;
+  }
+
+  public void setExportedRecordsNumber(int exportedRecordsNumber) {
+    this.exportedRecordsNumber = exportedRecordsNumber;
+  }
+
+  public int getFailedRecordsNumber() {
+    return failedRecordsNumber;
+  }
+
+  public void setFailedRecordsNumber(int failedRecordsNumber) {
+    this.failedRecordsNumber = failedRecordsNumber;
+  }
+
+  public String getOwner() {
+    return owner;
+  }
+
+  public void setOwner(String owner) {
+    this.owner = owner;
+  }
+
+  public long getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(long updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
@@ -0,0 +1,205 @@
+package org.folio.service.manager.input;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.Objects.nonNull;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import java.lang.invoke.MethodHandles;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.ws.rs.NotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.clients.SystemUserClient;
+import org.folio.dao.ExportCheckpointDao;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.rest.jaxrs.model.JobExecution;
+import org.folio.service.file.storage.FileStorage;
+import org.folio.service.job.JobExecutionService;
+import org.folio.service.manager.export.ExportJobContextRegistry;
+import org.folio.service.manager.export.ExportPayload;
+import org.folio.util.OkapiConnectionParams;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps checkpoints of the exports exported chunk by chunk in the database, so an export interrupted by a crash or a redeploy
+ * of the module instance running it is resumed from the last exported chunk instead of being expired. A checkpoint is moved
+ * after every exported chunk, checkpoints which have not been moved within the stale timeout are taken over by another instance,
+ * which truncates the resulting file to the length recorded by the checkpoint and continues the export with the next chunk.
+ * The file storage has to be shared by the instances for the export to be resumed by another instance.
+ */
+@Component
+public class ExportCheckpointService {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  /* Number of checkpoints of a tenant taken over by the instance in one scan */
+  private static final int RESUME_LIMIT = 1;
+
+  private final Vertx vertx;
+  private final ExportCheckpointDao exportCheckpointDao;
+  private final ExportJobContextRegistry exportJobContextRegistry;
+  private final JobExecutionService jobExecutionService;
+  private final FileStorage fileStorage;
+  private final SystemUserClient systemUserClient;
+  private final boolean enabled;
+  private final long staleTimeout;
+  /* Id of this module instance, the instance owns checkpoints of the exports it runs */
+  private final String owner = UUID.randomUUID().toString();
+  private final AtomicBoolean scanning = new AtomicBoolean();
+
+  @Autowired
+  public ExportCheckpointService(Vertx vertx,
+                                 ExportCheckpointDao exportCheckpointDao,
+                                 ExportJobContextRegistry exportJobContextRegistry,
+                                 JobExecutionService jobExecutionService,
+                                 FileStorage fileStorage,
+                                 SystemUserClient systemUserClient,
+                                 @Value("${export.checkpoint.enabled}") boolean enabled,
+                                 @Value("${export.checkpoint.scanInterval}") long scanInterval,
+                                 @Value("${export.checkpoint.staleTimeout}") long staleTimeout) {
+    this.vertx = vertx;
+    this.exportCheckpointDao = exportCheckpointDao;
+    this.exportJobContextRegistry = exportJobContextRegistry;
+    this.jobExecutionService = jobExecutionService;
+    this.fileStorage = fileStorage;
+    this.systemUserClient = systemUserClient;
+    this.enabled = enabled;
+    this.staleTimeout = staleTimeout;
+    if (enabled) {
+      vertx.setPeriodic(scanInterval, timerId -> resumeStaleExports());
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Saves the checkpoint of the export before its first chunk is exported
+   *
+   * @param jobPayload            payload with the parameters of the job
+   * @param requestFileDefinition definition of the file with identifiers of the job
+   * @param deduplicate           true if identifiers of the job are deduplicated
+   * @return future
+   */
+  public Future<Void> save(ExportPayload jobPayload, FileDefinition requestFileDefinition, boolean deduplicate) {
+    ExportCheckpoint checkpoint = new ExportCheckpoint();
+    checkpoint.setJob(exportJobContextRegistry.toJobJson(jobPayload));
+    checkpoint.setRequestFileDefinition(requestFileDefinition);
+    checkpoint.setDeduplicate(deduplicate);
+    checkpoint.setOwner(owner);
+    checkpoint.setUpdatedAt(System.currentTimeMillis());
+    return exportCheckpointDao.save(jobPayload.getJobExecutionId(), checkpoint.toJson(), jobPayload.getOkapiConnectionParams().getTenantId());
+  }
+
+  /**
+   * Moves the checkpoint of the export past the exported chunk, the length of the resulting file is taken from the file storage
+   *
+   * @param chunkPayload    payload of the exported chunk
+   * @param committedChunks number of chunks exported to the resulting file including the given one
+   * @return future with false if the export is taken over by another instance
+   */
+  public Future<Boolean> commitChunk(ExportPayload chunkPayload, int committedChunks) {
+    String outputPath = chunkPayload.getFileExportDefinition().getSourcePath();
+    return exportCheckpointDao.commitChunk(chunkPayload.getJobExecutionId(), owner, committedChunks, outputPath, fileStorage.getFileSize(outputPath),
+      chunkPayload.getExportedRecordsNumber(), chunkPayload.getFailedRecordsNumber(), System.currentTimeMillis(),
+      chunkPayload.getOkapiConnectionParams().getTenantId());
+  }
+
+  /**
+   * Deletes the checkpoint of the finished export
+   *
+   * @param jobPayload payload with the parameters of the job
+   * @return future
+   */
+  public Future<Void> delete(ExportPayload jobPayload) {
+    return delete(jobPayload.getJobExecutionId(), jobPayload.getOkapiConnectionParams().getTenantId());
+  }
+
+  /**
+   * Deletes the checkpoint of the job, the instance running the job stops the export once it fails to move the checkpoint
+   *
+   * @param jobExecutionId id of job execution
+   * @param tenantId       tenant id
+   * @return future
+   */
+  public Future<Void> delete(String jobExecutionId, String tenantId) {
+    return exportCheckpointDao.delete(jobExecutionId, tenantId)
+      .onFailure(e -> LOGGER.error("Failed to delete checkpoint of job execution with id {}", jobExecutionId, e));
+  }
+
+  /**
+   * Restores the payload with the parameters of the job from the checkpoint, its okapi connection parameters have no token
+   *
+   * @param checkpoint checkpoint of the export
+   * @return payload of the job
+   */
+  public ExportPayload getJobPayload(ExportCheckpoint checkpoint) {
+    return exportJobContextRegistry.fromJobJson(checkpoint.getJob());
+  }
+
+  private void resumeStaleExports() {
+    if (!scanning.compareAndSet(false, true)) {
+      return;
+    }
+    exportCheckpointDao.getTenantIds()
+      .compose(tenantIds -> resumeStaleExports(tenantIds.iterator()))
+      .onFailure(e -> LOGGER.error("Failed to resume interrupted exports", e))
+      .onComplete(ar -> scanning.set(false));
+  }
+
+  private Future<Void> resumeStaleExports(Iterator<String> tenantIds) {
+    if (!tenantIds.hasNext()) {
+      return succeededFuture();
+    }
+    String tenantId = tenantIds.next();
+    long now = System.currentTimeMillis();
+    return exportCheckpointDao.claimStale(RESUME_LIMIT, owner, now, now - staleTimeout, tenantId)
+      .onSuccess(checkpoints -> checkpoints.forEach(checkpoint -> resume(new ExportCheckpoint(checkpoint), tenantId)))
+      .onFailure(e -> LOGGER.error("Failed to take over checkpoints of tenant {}", tenantId, e))
+      .transform(ar -> resumeStaleExports(tenantIds));
+  }
+
+  /**
+   * Resets the progress of the job to the checkpoint, since chunks exported after the checkpoint are exported again,
+   * and resumes the export by the input data manager as the system user, since the token of the user who has started the export
+   * is not stored. The checkpoint of the job which is not running anymore is deleted.
+   */
+  private void resume(ExportCheckpoint checkpoint, String tenantId) {
+    ExportPayload jobPayload = getJobPayload(checkpoint);
+    String jobExecutionId = jobPayload.getJobExecutionId();
+    jobExecutionService.getById(jobExecutionId, tenantId)
+      .compose(jobExecution -> {
+        if (jobExecution.getStatus() != JobExecution.Status.IN_PROGRESS) {
+          LOGGER.info("Job execution with id {} is not in progress, its checkpoint is deleted", jobExecutionId);
+          return exportCheckpointDao.delete(jobExecutionId, tenantId).map(Optional.<OkapiConnectionParams>empty());
+        }
+        return systemUserClient.login(jobPayload.getOkapiConnectionParams())
+          .compose(params -> {
+            if (nonNull(jobExecution.getProgress())) {
+              jobExecution.getProgress()
+                .withExported(checkpoint.getExportedRecordsNumber())
+                .withFailed(checkpoint.getFailedRecordsNumber());
+            }
+            jobExecution.setLastUpdatedDate(new Date());
+            return jobExecutionService.update(jobExecution, tenantId).map(Optional.of(params));
+          });
+      })
+      .onSuccess(resumeParams -> resumeParams.ifPresent(params -> {
+        LOGGER.info("Resuming export of job execution with id {} from chunk {}", jobExecutionId, checkpoint.getCommittedChunks());
+        InputDataManager.createProxy(vertx).resume(checkpoint.toJson(), params.getHeaders());
+      }))
+      .onFailure(e -> {
+        LOGGER.error("Failed to resume export of job execution with id {}", jobExecutionId, e);
+        if (e instanceof NotFoundException) {
+          exportCheckpointDao.delete(jobExecutionId, tenantId);
+        }
+      });
+  }
+}
@@ -1,12 +1,29 @@
 package org.folio.service.manager.input;
 
 import io.vertx.core.shareddata.Shareable;
+import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.service.file.reader.SourceReader;
+import org.folio.service.manager.export.ExportPayload;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class InputDataContext implements Shareable {
 
   private SourceReader sourceReader;
   private int totalRecordsNumber;
+  /* True if the export is exported chunk by chunk and its checkpoint is saved */
+  private boolean checkpointed;
+
+  /* State of the pipelined export, chunks are numbered in the order they are read from the source */
+  private ExportPayload exportPayload;
+  private int nextChunkNumber;
+  private int nextChunkToAssemble;
+  private final Map<Integer, FileDefinition> exportedChunks = new HashMap<>();
+  private List<String> lastChunkIdentifiers;
+  private boolean lastChunkSent;
+  private boolean finalized;
 
   public InputDataContext(SourceReader sourceReader) {
     this.sourceReader = sourceReader;
@@ -27,4 +44,80 @@ public class InputDataContext implements Shareable {
   public void setTotalRecordsNumber(int totalRecordsNumber) {
     this.totalRecordsNumber = totalRecordsNumber;
   }
+
+  public boolean isCheckpointed() {
+    return checkpointed;
+  }
+
+  public void setCheckpointed(boolean checkpointed) {
+    this.checkpointed = checkpointed;
+  }
+
+  /**
+   * Returns true if chunks of the export are exported concurrently
+   */
+  public boolean isPipelined() {
+    return exportPayload != null;
+  }
+
+  /**
+   * Returns payload with the parameters of the pipelined export, its file export definition is the resulting file of the export
+   */
+  public ExportPayload getExportPayload() {
+    return exportPayload;
+  }
+
+  public void setExportPayload(ExportPayload exportPayload) {
+    this.exportPayload = exportPayload;
+  }
+
+  public int getNextChunkNumber() {
+    return nextChunkNumber;
+  }
+
+  public int incrementNextChunkNumber() {
+    return nextChunkNumber++;
+  }
+
+  public int getNextChunkToAssemble() {
+    return nextChunkToAssemble;
+  }
+
+  public void incrementNextChunkToAssemble() {
+    nextChunkToAssemble++;
+  }
+
+  /**
+   * Returns file definitions of the chunks which are exported, but not yet appended to the resulting file, by chunk numbers
+   */
+  public Map<Integer, FileDefinition> getExportedChunks() {
+    return exportedChunks;
+  }
+
+  /**
+   * Returns identifiers of the last chunk, which is exported once all previous chunks are appended to the resulting file
+   */
+  public List<String> getLastChunkIdentifiers() {
+    return lastChunkIdentifiers;
+  }
+
+  public void setLastChunkIdentifiers(List<String> lastChunkIdentifiers) {
+    this.lastChunkIdentifiers = lastChunkIdentifiers;
+  }
+
+  public boolean isLastChunkSent() {
+    return lastChunkSent;
+  }
+
+  public void setLastChunkSent(boolean lastChunkSent) {
+    this.lastChunkSent = lastChunkSent;
+  }
+
+  public boolean isFinalized() {
+    return finalized;
+  }
+
+  public void setFinalized(boolean finalized) {
+    this.finalized = finalized;
+  }
 }
@@ -42,4 +42,22 @@ public interface InputDataManager {  //NOSONAR
    * @param exportResult - result status of an export previous payload
    */
   void proceed(JsonObject payload, ExportResult exportResult);
+
+  /**
+   * Resume the export interrupted on another module instance from its checkpoint: identifiers of the chunks
+   * exported before the checkpoint are skipped and the next chunk is exported.
+   *
+   * @param checkpoint - checkpoint of the export saved by the instance which has started it
+   * @param params     - okapi headers and connection parameters to continue the export with
+   */
+  void resume(JsonObject checkpoint, Map<String, String> params);
+
+  /**
+   * Cancel the running export: no more chunks of the job are exported, chunks waiting for a worker are dropped,
+   * requests sent by the chunks being exported are aborted and the resulting file is deleted.
+   *
+   * @param jobExecutionId - id of the cancelled job execution
+   * @param params         - okapi headers and connection parameters
+   */
+  void cancel(String jobExecutionId, Map<String, String> params);
 }
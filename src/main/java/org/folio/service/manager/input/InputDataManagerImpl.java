@@ -13,16 +13,23 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import io.vertx.core.shareddata.LocalMap;
 import org.apache.commons.io.FilenameUtils;
+import org.folio.clients.InFlightRequests;
 import org.folio.clients.UsersClient;
 import org.folio.rest.jaxrs.model.ExportRequest;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.rest.jaxrs.model.MappingProfile;
 import org.folio.service.file.definition.FileDefinitionService;
+import org.folio.service.file.reader.InMemorySourceReader;
 import org.folio.service.file.reader.LocalStorageCsvSourceReader;
 import org.folio.service.file.reader.SourceReader;
+import org.folio.service.file.storage.FileStorage;
+import org.folio.service.file.upload.QuickExportFastLane;
 import org.folio.service.job.JobExecutionService;
 import org.folio.service.logs.ErrorLogService;
+import org.folio.service.manager.export.DistributedExportQueue;
+import org.folio.service.manager.export.ExportChunkScheduler;
+import org.folio.service.manager.export.ExportJobContextRegistry;
 import org.folio.service.manager.export.ExportManager;
 import org.folio.service.manager.export.ExportPayload;
 import org.folio.service.manager.export.ExportResult;
@@ -31,6 +38,7 @@ import org.folio.spring.SpringContextUtil;
 import org.folio.util.ErrorCode;
 import org.folio.util.OkapiConnectionParams;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
@@ -54,12 +62,12 @@ import static org.folio.util.ErrorCode.errorCodesAccordingToExport;
 @Service
 class InputDataManagerImpl implements InputDataManager {
   private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
-  private static final int POOL_SIZE = 2;
   private static final String INPUT_DATA_LOCAL_MAP_KEY = "inputDataLocalMap";
   private static final String SHARED_WORKER_EXECUTOR_NAME = "input-data-manager-thread-worker";
   private static final String DELIMITER = "-";
   private static final int BATCH_SIZE = 50;
   private static final String MARC_FILE_EXTENSION = ".mrc";
+  private static final String CHUNK_FILE_EXTENSION = ".part";
 
   @Autowired
   private JobExecutionService jobExecutionService;
@@ -71,6 +79,25 @@ class InputDataManagerImpl implements InputDataManager {
   private UsersClient usersClient;
   @Autowired
   private ErrorLogService errorLogService;
+  @Autowired
+  private FileStorage fileStorage;
+  @Autowired
+  private ExportJobContextRegistry exportJobContextRegistry;
+  @Autowired
+  private QuickExportFastLane quickExportFastLane;
+  @Autowired
+  private DistributedExportQueue distributedExportQueue;
+  @Autowired
+  private ExportCheckpointService exportCheckpointService;
+  @Autowired
+  private ExportChunkScheduler exportChunkScheduler;
+
+  /* Number of threads reading identifiers of jobs and dispatching chunks for export */
+  @Value("${export.input.poolSize}")
+  private int poolSize;
+  /* Number of chunks of a job exported at the same time, chunks are exported one by one if it is not greater than 1 */
+  @Value("${export.pipeline.chunksInFlight}")
+  private int chunksInFlight;
 
   private WorkerExecutor executor;
   private LocalMap<String, InputDataContext> inputDataLocalMap;
@@ -80,7 +107,7 @@ class InputDataManagerImpl implements InputDataManager {
 
   public InputDataManagerImpl(Context context) {
     SpringContextUtil.autowireDependencies(this, context);
-    this.executor = context.owner().createSharedWorkerExecutor(SHARED_WORKER_EXECUTOR_NAME, POOL_SIZE);
+    this.executor = context.owner().createSharedWorkerExecutor(SHARED_WORKER_EXECUTOR_NAME, poolSize);
     this.inputDataLocalMap = context.owner().sharedData().getLocalMap(INPUT_DATA_LOCAL_MAP_KEY);
   }
 
@@ -101,6 +128,26 @@ class InputDataManagerImpl implements InputDataManager {
     }, this::handleExportResult);
   }
 
+  @Override
+  public void resume(JsonObject checkpoint, Map<String, String> params) {
+    executor.executeBlocking(blockingFuture -> {
+      resumeBlocking(checkpoint, params);
+      blockingFuture.complete();
+    }, this::handleExportInitResult);
+  }
+
+  @Override
+  public void cancel(String jobExecutionId, Map<String, String> params) {
+    executor.executeBlocking(blockingFuture -> {
+      cancelBlocking(jobExecutionId, new CaseInsensitiveMap<>(params));
+      blockingFuture.complete();
+    }, ar -> {
+      if (ar.failed()) {
+        LOGGER.error("Cancellation of export of job execution with id {} is failed", jobExecutionId, ar.cause());
+      }
+    });
+  }
+
   protected void initBlocking(JsonObject exportRequestJson, JsonObject requestFileDefinitionJson, JsonObject mappingProfileJson, JsonObject jobExecutionJson, Map<String, String> params) {
     FileDefinition requestFileDefinition = requestFileDefinitionJson.mapTo(FileDefinition.class);
     MappingProfile mappingProfile = mappingProfileJson.mapTo(MappingProfile.class);
@@ -141,16 +188,22 @@ class InputDataManagerImpl implements InputDataManager {
       return;
     }
 
+    // error logs are counted only for the job being exported, the summary of the job failed before is counted from the saved error logs
+    errorLogService.startCounting(jobExecutionId);
     SourceReader sourceReader = initSourceReader(requestFileDefinition, jobExecutionId, tenantId, getBatchSize());
+    if (Boolean.TRUE.equals(exportRequest.getDeduplicate())) {
+      sourceReader.enableDeduplication();
+    }
     if (sourceReader.hasNext()) {
       fileDefinitionService.save(fileExportDefinition, tenantId).onSuccess(savedFileExportDefinition -> {
         initInputDataContext(sourceReader, jobExecutionId);
         ExportPayload exportPayload = createExportPayload(exportRequest, savedFileExportDefinition, mappingProfile, jobExecutionId, okapiConnectionParams);
+        exportPayload.setFastLane(sourceReader instanceof InMemorySourceReader);
         LOGGER.debug("Trying to fetch created User name for user ID {}", exportRequest.getMetadata().getCreatedByUserId());
         if (optionalUser.isPresent()) {
           JsonObject user = optionalUser.get();
           jobExecutionService.prepareJobForExport(jobExecutionId, fileExportDefinition, user, sourceReader.totalCount(), isNotCQL(requestFileDefinition), tenantId)
-          .onSuccess(jobExec -> exportNextChunk(exportPayload, sourceReader))
+          .onSuccess(jobExec -> startExport(exportPayload, sourceReader, requestFileDefinition, Boolean.TRUE.equals(exportRequest.getDeduplicate())))
           .onFailure(ar -> {
             jobExecutionService.prepareAndSaveJobForFailedExport(jobExecution, fileExportDefinition, optionalUser.get(), 0, true, tenantId);
             finalizeExport(exportPayload, ExportResult.failed(ErrorCode.FAIL_TO_UPDATE_JOB));
@@ -159,8 +212,12 @@ class InputDataManagerImpl implements InputDataManager {
           finalizeExport(exportPayload, ExportResult.failed(ErrorCode.USER_NOT_FOUND));
         }
       })
-        .onFailure(throwable -> LOGGER.error("Failed to save file definition.", throwable));
+        .onFailure(throwable -> {
+          LOGGER.error("Failed to save file definition.", throwable);
+          errorLogService.stopCounting(jobExecutionId);
+        });
     } else {
+      errorLogService.stopCounting(jobExecutionId);
       errorLogService.saveGeneralError(ErrorCode.ERROR_READING_FROM_INPUT_FILE.getCode(), jobExecutionId, tenantId);
       fileDefinitionService.save(fileExportDefinition.withStatus(FileDefinition.Status.ERROR), tenantId).onSuccess(savedFileDefinition -> {
         if (optionalUser.isPresent()) {
@@ -174,9 +231,111 @@ class InputDataManagerImpl implements InputDataManager {
     }
   }
 
+  /**
+   * Resumes the export from its checkpoint: the resulting file is truncated to the length it had after the last committed chunk,
+   * identifiers of the committed chunks are skipped and the export continues chunk by chunk. The export fails if the resulting file
+   * is not found in the storage of this instance or is shorter than at the checkpoint.
+   */
+  protected void resumeBlocking(JsonObject checkpointJson, Map<String, String> params) {
+    ExportCheckpoint checkpoint = new ExportCheckpoint(checkpointJson);
+    ExportPayload exportPayload = exportCheckpointService.getJobPayload(checkpoint);
+    exportPayload.setOkapiConnectionParams(new OkapiConnectionParams(params));
+    String jobExecutionId = exportPayload.getJobExecutionId();
+    String tenantId = exportPayload.getOkapiConnectionParams().getTenantId();
+    FileDefinition fileExportDefinition = exportPayload.getFileExportDefinition();
+    if (nonNull(checkpoint.getOutputPath())) {
+      fileExportDefinition.setSourcePath(checkpoint.getOutputPath());
+    }
+    SourceReader sourceReader = initSourceReader(checkpoint.getRequestFileDefinition(), jobExecutionId, tenantId, getBatchSize());
+    if (checkpoint.isDeduplicate()) {
+      sourceReader.enableDeduplication();
+    }
+    InputDataContext inputDataContext = new InputDataContext(sourceReader);
+    inputDataContext.setCheckpointed(true);
+    inputDataLocalMap.put(jobExecutionId, inputDataContext);
+    exportJobContextRegistry.register(exportPayload);
+    String outputPath = fileExportDefinition.getSourcePath();
+    if (checkpoint.getOutputLength() > 0 && fileStorage.getFileSize(outputPath) < checkpoint.getOutputLength()) {
+      // the file is written by another instance not sharing its storage with this one, records of the committed chunks would be lost
+      LOGGER.error("Resulting file {} of job execution with id {} is missing or shorter than {} bytes at the checkpoint, the export can not be resumed",
+        outputPath, jobExecutionId, checkpoint.getOutputLength());
+      finalizeExport(exportPayload, ExportResult.failed(ErrorCode.ERROR_RESUMING_EXPORT));
+      return;
+    }
+    if (fileStorage.isFileExist(outputPath)) {
+      fileStorage.truncateFileBlocking(fileExportDefinition, checkpoint.getOutputLength());
+    }
+    for (int chunk = 0; chunk < checkpoint.getCommittedChunks() && sourceReader.hasNext(); chunk++) {
+      sourceReader.readNext();
+    }
+    if (sourceReader.hasNext()) {
+      exportPayload.setChunkNumber(checkpoint.getCommittedChunks());
+      exportNextChunk(exportPayload, sourceReader);
+    } else {
+      // the last chunk is never committed, so identifiers of the job are changed since the checkpoint
+      LOGGER.error("Identifiers of job execution with id {} are exhausted before the checkpoint, the export can not be resumed", jobExecutionId);
+      finalizeExport(exportPayload, ExportResult.failed(ErrorCode.GENERIC_ERROR_CODE));
+    }
+  }
+
+  /**
+   * Stops the export of the cancelled job. Once the job is unregistered, its chunks are not dispatched anymore and results
+   * of the chunks being exported are skipped, the chunks still waiting for a worker are removed from the queue, so the workers
+   * are given to other jobs right away. The job is stopped on other instances through its deleted checkpoint or queued chunks.
+   * The job is marked as failed only after it is unregistered, so the finalization of its last chunk can not mark it completed.
+   */
+  protected void cancelBlocking(String jobExecutionId, Map<String, String> params) {
+    String tenantId = new OkapiConnectionParams(params).getTenantId();
+    ExportPayload jobPayload = exportJobContextRegistry.getJobPayload(jobExecutionId);
+    exportJobContextRegistry.unregister(jobExecutionId);
+    InFlightRequests.abort(jobExecutionId);
+    int removedChunks = exportChunkScheduler.cancel(tenantId, jobExecutionId);
+    LOGGER.info("Export of job execution with id {} is cancelled, {} queued chunks are removed", jobExecutionId, removedChunks);
+    InputDataContext inputDataContext = getInputDataContext(jobExecutionId);
+    if (nonNull(inputDataContext) && inputDataContext.isPipelined()) {
+      synchronized (inputDataContext) {
+        inputDataContext.setFinalized(true);
+        inputDataContext.getExportedChunks().values().forEach(this::deleteChunkFile);
+        inputDataContext.getExportedChunks().clear();
+      }
+    }
+    closeSourceReader(jobExecutionId);
+    removeInputDataContext(jobExecutionId);
+    if (nonNull(jobPayload) && nonNull(jobPayload.getFileExportDefinition())) {
+      FileDefinition fileExportDefinition = jobPayload.getFileExportDefinition();
+      // the resulting file has no source path until the first chunk is written to it
+      if (nonNull(fileExportDefinition.getSourcePath())) {
+        deleteChunkFile(fileExportDefinition);
+      }
+      updateFileDefinitionStatusByResult(fileExportDefinition, ExportResult.failed(ErrorCode.ERROR_JOB_IS_CANCELLED), tenantId);
+    }
+    if (exportCheckpointService.isEnabled()) {
+      exportCheckpointService.delete(jobExecutionId, tenantId);
+    }
+    if (distributedExportQueue.isEnabled()) {
+      distributedExportQueue.finishJob(jobExecutionId, tenantId);
+    }
+    jobExecutionService.failCancelled(jobExecutionId, tenantId)
+      .onFailure(e -> LOGGER.error("Failed to mark cancelled job execution with id {} as failed", jobExecutionId, e))
+      .onComplete(ar -> errorLogService.saveSummary(jobExecutionId, tenantId));
+  }
+
   protected void proceedBlocking(JsonObject payloadJson, ExportResult exportResult) {
-    ExportPayload exportPayload = payloadJson.mapTo(ExportPayload.class);
-    if (exportResult.isInProgress()) {
+    ExportPayload exportPayload = exportJobContextRegistry.fromMessage(payloadJson);
+    if (!exportJobContextRegistry.isRegistered(exportPayload.getJobExecutionId())) {
+      LOGGER.warn("Export of job execution with id {} is already finalized, result of the chunk is skipped", exportPayload.getJobExecutionId());
+      // only a chunk exported to its own file carries the file definition
+      if (nonNull(exportPayload.getFileExportDefinition())) {
+        deleteChunkFile(exportPayload.getFileExportDefinition());
+      }
+      return;
+    }
+    InputDataContext inputDataContext = getInputDataContext(exportPayload.getJobExecutionId());
+    if (exportPayload.isDistributed()) {
+      proceedDistributed(exportPayload, exportResult);
+    } else if (nonNull(inputDataContext) && inputDataContext.isPipelined()) {
+      proceedPipelined(exportPayload, exportResult, inputDataContext);
+    } else if (exportResult.isInProgress()) {
       proceedInProgress(exportPayload);
     } else {
       finalizeExport(exportPayload, exportResult);
@@ -187,23 +346,213 @@ class InputDataManagerImpl implements InputDataManager {
     InputDataContext inputDataContext = getInputDataContext(exportPayload.getJobExecutionId());
     SourceReader sourceReader = inputDataContext.getSourceReader();
     if (nonNull(sourceReader) && sourceReader.hasNext()) {
-      exportNextChunk(exportPayload, sourceReader);
+      if (inputDataContext.isCheckpointed()) {
+        commitChunkAndExportNext(exportPayload, sourceReader);
+      } else {
+        exportNextChunk(exportPayload, sourceReader);
+      }
     } else {
       finalizeExport(exportPayload, ExportResult.failed(ErrorCode.GENERIC_ERROR_CODE));
     }
   }
 
+  /**
+   * Moves the checkpoint of the export past the exported chunk before exporting the next chunk. If the export has been
+   * taken over by another instance meanwhile, it is abandoned here without being finalized.
+   */
+  private void commitChunkAndExportNext(ExportPayload exportPayload, SourceReader sourceReader) {
+    int committedChunks = exportPayload.getChunkNumber() + 1;
+    exportCheckpointService.commitChunk(exportPayload, committedChunks)
+      .onSuccess(committed -> {
+        if (Boolean.TRUE.equals(committed)) {
+          exportPayload.setChunkNumber(committedChunks);
+          exportNextChunk(exportPayload, sourceReader);
+        } else {
+          LOGGER.warn("Export of job execution with id {} is resumed by another module instance, the export is stopped here", exportPayload.getJobExecutionId());
+          abandonExport(exportPayload.getJobExecutionId());
+        }
+      })
+      .onFailure(e -> {
+        // the checkpoint stays behind, so the chunk is exported again if the export is resumed
+        LOGGER.error("Failed to update checkpoint of job execution with id {}", exportPayload.getJobExecutionId(), e);
+        exportPayload.setChunkNumber(committedChunks);
+        exportNextChunk(exportPayload, sourceReader);
+      });
+  }
+
+  private void abandonExport(String jobExecutionId) {
+    closeSourceReader(jobExecutionId);
+    removeInputDataContext(jobExecutionId);
+    exportJobContextRegistry.unregister(jobExecutionId);
+  }
+
   protected SourceReader initSourceReader(FileDefinition requestFileDefinition, String jobExecutionId, String tenantId, int batchSize) {
-    SourceReader sourceReader = new LocalStorageCsvSourceReader();
+    List<String> fastLaneIdentifiers = quickExportFastLane.takeIdentifiers(requestFileDefinition.getId());
+    SourceReader sourceReader = nonNull(fastLaneIdentifiers) ? new InMemorySourceReader(fastLaneIdentifiers) : new LocalStorageCsvSourceReader();
     sourceReader.init(requestFileDefinition, errorLogService, jobExecutionId, tenantId, batchSize);
     return sourceReader;
   }
 
+  private void startExport(ExportPayload exportPayload, SourceReader sourceReader, FileDefinition requestFileDefinition, boolean deduplicate) {
+    if (distributedExportQueue.isEnabled() && !exportPayload.isFastLane()) {
+      startDistributedExport(exportPayload, sourceReader);
+      return;
+    }
+    exportJobContextRegistry.register(exportPayload);
+    if (chunksInFlight > 1) {
+      InputDataContext inputDataContext = getInputDataContext(exportPayload.getJobExecutionId());
+      synchronized (inputDataContext) {
+        inputDataContext.setExportPayload(exportPayload);
+        exportNextChunksPipelined(inputDataContext);
+      }
+    } else if (exportCheckpointService.isEnabled() && !exportPayload.isFastLane()) {
+      startCheckpointedExport(exportPayload, sourceReader, requestFileDefinition, deduplicate);
+    } else {
+      exportNextChunk(exportPayload, sourceReader);
+    }
+  }
+
+  /**
+   * Saves the checkpoint of the export exported chunk by chunk, so the export can be resumed by another instance.
+   * The export is started without the checkpoint if it fails to be saved.
+   */
+  private void startCheckpointedExport(ExportPayload exportPayload, SourceReader sourceReader, FileDefinition requestFileDefinition, boolean deduplicate) {
+    exportCheckpointService.save(exportPayload, requestFileDefinition, deduplicate)
+      .onSuccess(v -> getInputDataContext(exportPayload.getJobExecutionId()).setCheckpointed(true))
+      .onFailure(e -> LOGGER.error("Failed to save checkpoint of job execution with id {}, the export can not be resumed", exportPayload.getJobExecutionId(), e))
+      .onComplete(ar -> exportNextChunk(exportPayload, sourceReader));
+  }
+
+  /**
+   * Queues chunks of the export to be claimed by any module instance, the job is registered by the instances claiming its chunks
+   */
+  private void startDistributedExport(ExportPayload exportPayload, SourceReader sourceReader) {
+    exportPayload.setDistributed(true);
+    // error logs of the chunks exported by other instances are not counted here
+    errorLogService.stopCounting(exportPayload.getJobExecutionId());
+    distributedExportQueue.enqueue(exportPayload, sourceReader)
+      .onSuccess(v -> removeInputDataContext(exportPayload.getJobExecutionId()))
+      .onFailure(e -> {
+        LOGGER.error("Failed to queue chunks of job execution with id {}", exportPayload.getJobExecutionId(), e);
+        finalizeExport(exportPayload, ExportResult.failed(ErrorCode.GENERIC_ERROR_CODE));
+      });
+  }
+
+  /**
+   * Handles the result of the chunk of distributed export. The exported chunk is marked as completed, so the instance
+   * claiming the last chunk can append it to the resulting file. The job is finalized by the instance which has exported
+   * the last chunk or has failed to export a chunk.
+   */
+  private void proceedDistributed(ExportPayload chunkPayload, ExportResult exportResult) {
+    if (exportResult.isInProgress()) {
+      distributedExportQueue.completeChunk(chunkPayload);
+      return;
+    }
+    ExportPayload jobPayload = exportJobContextRegistry.getJobPayload(chunkPayload.getJobExecutionId());
+    if (!chunkPayload.isLast()) {
+      deleteChunkFile(chunkPayload.getFileExportDefinition());
+    }
+    distributedExportQueue.finishJob(jobPayload).onComplete(ar -> finalizeExport(jobPayload, exportResult));
+  }
+
+  /**
+   * Handles the result of the chunk of pipelined export. Exported chunks are appended to the resulting file in the order
+   * they were read from the source, at most {@link #chunksInFlight} chunks are being exported or waiting for the previous
+   * chunks to be appended at the same time. The last chunk is exported after all previous chunks are appended,
+   * directly to the resulting file, so the post export steps are performed as for the export chunk by chunk.
+   */
+  private void proceedPipelined(ExportPayload chunkPayload, ExportResult exportResult, InputDataContext inputDataContext) {
+    synchronized (inputDataContext) {
+      if (inputDataContext.isFinalized()) {
+        // the last chunk is sent after all other chunks are handled, so only a file of the intermediate chunk can be deleted here
+        deleteChunkFile(chunkPayload.getFileExportDefinition());
+        return;
+      }
+      if (!exportResult.isInProgress()) {
+        finalizePipelinedExport(chunkPayload.isLast() ? chunkPayload : inputDataContext.getExportPayload(), exportResult, inputDataContext);
+        return;
+      }
+      inputDataContext.getExportedChunks().put(chunkPayload.getChunkNumber(), chunkPayload.getFileExportDefinition());
+      try {
+        assembleExportedChunks(inputDataContext);
+      } catch (RuntimeException e) {
+        LOGGER.error("Failed to append exported chunks of job execution with id {}", chunkPayload.getJobExecutionId(), e);
+        finalizePipelinedExport(inputDataContext.getExportPayload(), ExportResult.failed(ErrorCode.ERROR_SAVING_RECORD_TO_FILE), inputDataContext);
+        return;
+      }
+      exportNextChunksPipelined(inputDataContext);
+    }
+  }
+
+  private void exportNextChunksPipelined(InputDataContext inputDataContext) {
+    SourceReader sourceReader = inputDataContext.getSourceReader();
+    ExportPayload exportPayload = inputDataContext.getExportPayload();
+    while (inputDataContext.getLastChunkIdentifiers() == null
+      && inputDataContext.getNextChunkNumber() - inputDataContext.getNextChunkToAssemble() < chunksInFlight) {
+      List<String> identifiers = sourceReader.readNext();
+      if (sourceReader.hasNext()) {
+        int chunkNumber = inputDataContext.incrementNextChunkNumber();
+        FileDefinition chunkFileDefinition = createChunkFileDefinition(exportPayload.getFileExportDefinition(), chunkNumber);
+        getExportManager().exportData(exportJobContextRegistry.toMessage(createChunkPayload(exportPayload, identifiers, chunkNumber, chunkFileDefinition, false)));
+      } else {
+        inputDataContext.setLastChunkIdentifiers(identifiers);
+      }
+    }
+    if (!inputDataContext.isLastChunkSent() && inputDataContext.getNextChunkToAssemble() == inputDataContext.getNextChunkNumber()) {
+      inputDataContext.setLastChunkSent(true);
+      int chunkNumber = inputDataContext.incrementNextChunkNumber();
+      getExportManager().exportData(exportJobContextRegistry.toMessage(createChunkPayload(exportPayload, inputDataContext.getLastChunkIdentifiers(),
+        chunkNumber, exportPayload.getFileExportDefinition(), true)));
+    }
+  }
+
+  private void assembleExportedChunks(InputDataContext inputDataContext) {
+    FileDefinition fileExportDefinition = inputDataContext.getExportPayload().getFileExportDefinition();
+    FileDefinition chunkFileDefinition;
+    while ((chunkFileDefinition = inputDataContext.getExportedChunks().remove(inputDataContext.getNextChunkToAssemble())) != null) {
+      if (fileStorage.isFileExist(chunkFileDefinition.getSourcePath())) {
+        fileStorage.appendFileBlocking(chunkFileDefinition.getSourcePath(), fileExportDefinition);
+      }
+      inputDataContext.incrementNextChunkToAssemble();
+    }
+  }
+
+  private void finalizePipelinedExport(ExportPayload exportPayload, ExportResult exportResult, InputDataContext inputDataContext) {
+    inputDataContext.setFinalized(true);
+    inputDataContext.getExportedChunks().values().forEach(this::deleteChunkFile);
+    inputDataContext.getExportedChunks().clear();
+    finalizeExport(exportPayload, exportResult);
+  }
+
+  private void deleteChunkFile(FileDefinition chunkFileDefinition) {
+    if (fileStorage.isFileExist(chunkFileDefinition.getSourcePath())) {
+      fileStorage.deleteFileAndParentDirectory(chunkFileDefinition);
+    }
+  }
+
+  private FileDefinition createChunkFileDefinition(FileDefinition fileExportDefinition, int chunkNumber) {
+    return new FileDefinition()
+      .withId(fileExportDefinition.getId())
+      .withFileName(fileExportDefinition.getFileName() + CHUNK_FILE_EXTENSION + chunkNumber)
+      .withJobExecutionId(fileExportDefinition.getJobExecutionId())
+      .withStatus(FileDefinition.Status.IN_PROGRESS)
+      .withMetadata(fileExportDefinition.getMetadata());
+  }
+
+  private ExportPayload createChunkPayload(ExportPayload exportPayload, List<String> identifiers, int chunkNumber, FileDefinition fileDefinition, boolean last) {
+    ExportPayload chunkPayload = new ExportPayload(identifiers, last, fileDefinition, exportPayload.getOkapiConnectionParams(),
+      exportPayload.getJobExecutionId(), exportPayload.getMappingProfile());
+    chunkPayload.setRecordType(exportPayload.getRecordType());
+    chunkPayload.setIdType(exportPayload.getIdType());
+    chunkPayload.setChunkNumber(chunkNumber);
+    return chunkPayload;
+  }
+
   private void exportNextChunk(ExportPayload exportPayload, SourceReader sourceReader) {
     List<String> identifiers = sourceReader.readNext();
     exportPayload.setIdentifiers(identifiers);
     exportPayload.setLast(!sourceReader.hasNext());
-    getExportManager().exportData(JsonObject.mapFrom(exportPayload));
+    getExportManager().exportData(exportJobContextRegistry.toMessage(exportPayload));
   }
 
   private void finalizeExport(ExportPayload exportPayload, ExportResult exportResult) {
@@ -227,17 +576,27 @@ class InputDataManagerImpl implements InputDataManager {
                 updateFileDefinitionStatusByResult(fileExportDefinition, expResult, tenantId);
               });
     } else {
+      // the completed job gets its summary saved by the check of errors above
+      errorLogService.saveSummary(jobExecutionId, tenantId);
       jobExecutionService.updateJobStatusById(jobExecutionId, status, tenantId);
       updateFileDefinitionStatusByResult(fileExportDefinition, exportResult, tenantId);
     }
+    InputDataContext inputDataContext = getInputDataContext(jobExecutionId);
+    if (nonNull(inputDataContext) && inputDataContext.isCheckpointed()) {
+      exportCheckpointService.delete(exportPayload);
+    }
     closeSourceReader(jobExecutionId);
     removeInputDataContext(jobExecutionId);
+    exportJobContextRegistry.unregister(jobExecutionId);
   }
 
   private Future<Boolean> isSelectedErrorsPresent(String jobExecutionId, String tenantId) {
     Promise<Boolean> promise = Promise.promise();
+    List<String> errorCodes = errorCodesAccordingToExport();
     errorLogService
-        .isErrorsByErrorCodePresent(errorCodesAccordingToExport(), jobExecutionId, tenantId)
+        .saveSummary(jobExecutionId, tenantId)
+        .map(summary -> summary.getErrorCounts().stream()
+          .anyMatch(errorCount -> errorCodes.contains(errorCount.getErrorMessageCode()) && errorCount.getCount() > 0))
         .onSuccess(promise::complete)
         .onFailure(ar -> promise.complete(false));
 
@@ -320,9 +679,10 @@ class InputDataManagerImpl implements InputDataManager {
   }
 
   private void closeSourceReader(String jobExecutionId) {
-    SourceReader sourceReader = getInputDataContext(jobExecutionId).getSourceReader();
-    if (nonNull(sourceReader)) {
-      sourceReader.close();
+    // the job of distributed export may be finalized by an instance which has not read its identifiers
+    InputDataContext inputDataContext = getInputDataContext(jobExecutionId);
+    if (nonNull(inputDataContext) && nonNull(inputDataContext.getSourceReader())) {
+      inputDataContext.getSourceReader().close();
     }
   }
 
@@ -1,11 +1,20 @@
 package org.folio.service.mapping.referencedata;
 
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.clients.InventoryClient;
 import org.folio.util.OkapiConnectionParams;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import static org.apache.commons.lang3.StringUtils.EMPTY;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.folio.util.ExternalPathResolver.ALTERNATIVE_TITLE_TYPES;
 import static org.folio.util.ExternalPathResolver.CONTRIBUTOR_NAME_TYPES;
 import static org.folio.util.ExternalPathResolver.ELECTRONIC_ACCESS_RELATIONSHIPS;
@@ -31,7 +40,11 @@ import static org.folio.util.ExternalPathResolver.CALL_NUMBER_TYPES;
  */
 @Component
 public class ReferenceDataProvider {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final int CACHE_EXPIRATION_AFTER_ACCESS_SECONDS = 60;
+  private static final List<String> TRANSFORMATION_FIELDS_REFERENCE_DATA_KEYS = List.of(ALTERNATIVE_TITLE_TYPES,
+    CONTRIBUTOR_NAME_TYPES, ELECTRONIC_ACCESS_RELATIONSHIPS, INSTANCE_TYPES, IDENTIFIER_TYPES, ISSUANCE_MODES,
+    HOLDING_NOTE_TYPES, ITEM_NOTE_TYPES);
   private Cache<String, ReferenceData> cache;
   private InventoryClient inventoryClient;
 
@@ -53,21 +66,32 @@ public class ReferenceDataProvider {
 
   /**
    * This method returns the reference data that is required for generating the transformation fields during the call for
-   * /transformation-fields API
+   * /transformation-fields API. The reference data is requested concurrently without blocking the event loop.
+   * A type of reference data which fails to load is left empty, so the fields of other types are still built.
    *
    * @param okapiConnectionParams
+   * @return future with the reference data and true if all types of the reference data are loaded
    */
-  public ReferenceData getReferenceDataForTransformationFields(OkapiConnectionParams okapiConnectionParams) {
-    ReferenceDataImpl referenceData = new ReferenceDataImpl();
-    referenceData.put(ALTERNATIVE_TITLE_TYPES, inventoryClient.getAlternativeTitleTypes(EMPTY, okapiConnectionParams));
-    referenceData.put(CONTRIBUTOR_NAME_TYPES, inventoryClient.getContributorNameTypes(EMPTY, okapiConnectionParams));
-    referenceData.put(ELECTRONIC_ACCESS_RELATIONSHIPS, inventoryClient.getElectronicAccessRelationships(EMPTY, okapiConnectionParams));
-    referenceData.put(INSTANCE_TYPES, inventoryClient.getInstanceTypes(EMPTY, okapiConnectionParams));
-    referenceData.put(IDENTIFIER_TYPES, inventoryClient.getIdentifierTypes(EMPTY, okapiConnectionParams));
-    referenceData.put(ISSUANCE_MODES, inventoryClient.getModesOfIssuance(EMPTY, okapiConnectionParams));
-    referenceData.put(HOLDING_NOTE_TYPES, inventoryClient.getHoldingsNoteTypes(EMPTY, okapiConnectionParams));
-    referenceData.put(ITEM_NOTE_TYPES, inventoryClient.getItemNoteTypes(EMPTY, okapiConnectionParams));
-    return referenceData;
+  public Future<Pair<ReferenceData, Boolean>> getReferenceDataForTransformationFields(OkapiConnectionParams okapiConnectionParams) {
+    List<Future> futures = TRANSFORMATION_FIELDS_REFERENCE_DATA_KEYS.stream()
+      .map(key -> inventoryClient.getReferenceDataAsync(key, okapiConnectionParams))
+      .collect(Collectors.toList());
+    CompositeFuture referenceDataFutures = CompositeFuture.join(futures);
+    return referenceDataFutures.transform(ar -> {
+      ReferenceDataImpl referenceData = new ReferenceDataImpl();
+      boolean complete = true;
+      for (int i = 0; i < TRANSFORMATION_FIELDS_REFERENCE_DATA_KEYS.size(); i++) {
+        String key = TRANSFORMATION_FIELDS_REFERENCE_DATA_KEYS.get(i);
+        if (referenceDataFutures.succeeded(i)) {
+          referenceData.put(key, referenceDataFutures.resultAt(i));
+        } else {
+          LOGGER.error("Failed to load reference data {} for transformation fields", key, referenceDataFutures.cause(i));
+          referenceData.put(key, Collections.emptyMap());
+          complete = false;
+        }
+      }
+      return Future.succeededFuture(Pair.of(referenceData, complete));
+    });
   }
 
   /**
@@ -0,0 +1,59 @@
+package org.folio.service.profiles.jobprofile;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches names of job profiles by tenant, so the job executions polled by the UI are populated with the names
+ * of their job profiles without querying the job profiles every time. Names are invalidated when the job profile is
+ * updated or deleted by this instance, and expire after the ttl to pick up changes made by other instances.
+ */
+@Component
+public class JobProfileNameCache {
+
+  private final Cache<String, String> names;
+
+  @Autowired
+  public JobProfileNameCache(@Value("${export.cache.ttl}") long ttl) {
+    this.names = Caffeine.newBuilder()
+      .expireAfterWrite(ttl, TimeUnit.SECONDS)
+      .build();
+  }
+
+  /**
+   * Returns cached names of the job profiles
+   *
+   * @param ids      ids of the job profiles
+   * @param tenantId tenant id
+   * @return names by job profile id, ids which are not cached are absent
+   */
+  public Map<String, String> getAll(Collection<String> ids, String tenantId) {
+    Map<String, String> cachedNames = new HashMap<>();
+    ids.forEach(id -> {
+      String name = names.getIfPresent(key(id, tenantId));
+      if (name != null) {
+        cachedNames.put(id, name);
+      }
+    });
+    return cachedNames;
+  }
+
+  public void put(String id, String name, String tenantId) {
+    names.put(key(id, tenantId), name);
+  }
+
+  public void invalidate(String id, String tenantId) {
+    names.invalidate(key(id, tenantId));
+  }
+
+  private String key(String id, String tenantId) {
+    return tenantId + ":" + id;
+  }
+}
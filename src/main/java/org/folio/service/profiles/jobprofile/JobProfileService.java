@@ -5,6 +5,9 @@ import org.folio.rest.jaxrs.model.JobProfile;
 import org.folio.rest.jaxrs.model.JobProfileCollection;
 import org.folio.util.OkapiConnectionParams;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface JobProfileService {
 
 
@@ -26,6 +29,15 @@ public interface JobProfileService {
    */
   Future<JobProfile> getById(String id, String tenantId);
 
+  /**
+   * Gets names of {@link JobProfile} by ids, the names which are not cached are loaded by a single query
+   *
+   * @param ids      jobProfile ids
+   * @param tenantId tenant id
+   * @return future with names by jobProfile id, ids of not found job profiles are absent
+   */
+  Future<Map<String, String>> getNamesByIds(Collection<String> ids, String tenantId);
+
   /**
    * Gets default {@link JobProfile}
    *
@@ -16,7 +16,12 @@ import org.springframework.stereotype.Service;
 
 import javax.ws.rs.NotFoundException;
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
@@ -34,6 +39,8 @@ public class JobProfileServiceImpl implements JobProfileService {
   private JobProfileDao jobProfileDao;
   @Autowired
   private UsersClient usersClient;
+  @Autowired
+  private JobProfileNameCache jobProfileNameCache;
 
   @Override
   public Future<JobProfile> getById(String id, String tenantId) {
@@ -49,6 +56,31 @@ public class JobProfileServiceImpl implements JobProfileService {
       });
   }
 
+  @Override
+  public Future<Map<String, String>> getNamesByIds(Collection<String> ids, String tenantId) {
+    Map<String, String> names = jobProfileNameCache.getAll(ids, tenantId);
+    List<String> notCachedIds = ids.stream()
+      .filter(id -> !names.containsKey(id))
+      .distinct()
+      .collect(Collectors.toList());
+    if (notCachedIds.isEmpty()) {
+      return succeededFuture(names);
+    }
+    String query = notCachedIds.stream()
+      .map(id -> "id==" + id)
+      .collect(Collectors.joining(" or ", "(", ")"));
+    return jobProfileDao.get(query, 0, notCachedIds.size(), tenantId)
+      .map(jobProfileCollection -> {
+        jobProfileCollection.getJobProfiles().stream()
+          .filter(jobProfile -> Objects.nonNull(jobProfile.getName()))
+          .forEach(jobProfile -> {
+            jobProfileNameCache.put(jobProfile.getId(), jobProfile.getName(), tenantId);
+            names.put(jobProfile.getId(), jobProfile.getName());
+          });
+        return names;
+      });
+  }
+
   @Override
   public Future<JobProfile> getDefault(String tenantId) {
     return getById(DEFAULT_INSTANCE_JOB_PROFILE_ID, tenantId);
@@ -85,6 +117,7 @@ public class JobProfileServiceImpl implements JobProfileService {
       DEFAULT_HOLDINGS_JOB_PROFILE_ID.equals(newId)) {
       throw new ServiceException(HttpStatus.HTTP_FORBIDDEN, "Editing of default job profile is forbidden");
     }
+    jobProfileNameCache.invalidate(newId, params.getTenantId());
     if (jobProfile.getMetadata() != null && isNotEmpty(jobProfile.getMetadata().getUpdatedByUserId())) {
       usersClient.getUserInfoAsync(jobProfile.getMetadata().getUpdatedByUserId(), params)
         .onComplete(optionalUserInfoAr -> {
@@ -114,6 +147,7 @@ public class JobProfileServiceImpl implements JobProfileService {
       DEFAULT_HOLDINGS_JOB_PROFILE_ID.equals(id)) {
       throw new ServiceException(HttpStatus.HTTP_FORBIDDEN, "Deletion of default job profile is forbidden");
     }
+    jobProfileNameCache.invalidate(id, tenantId);
     return jobProfileDao.deleteById(id, tenantId);
   }
 
@@ -8,8 +8,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.NotFoundException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.commons.collections4.CollectionUtils;
@@ -27,6 +31,7 @@ import org.folio.rest.jaxrs.model.MappingProfile;
 import org.folio.rest.jaxrs.model.MappingProfileCollection;
 import org.folio.rest.jaxrs.model.RecordType;
 import org.folio.rest.jaxrs.model.TransformationField;
+import org.folio.rest.jaxrs.model.TransformationFieldCollection;
 import org.folio.rest.jaxrs.model.Transformations;
 import org.folio.service.transformationfields.TransformationFieldsService;
 import org.folio.util.ErrorCode;
@@ -41,6 +46,13 @@ public class MappingProfileServiceImpl implements MappingProfileService {
   private static final String DEFAULT_INSTANCE_MAPPING_PROFILE_ID = "25d81cbe-9686-11ea-bb37-0242ac130002";
   private static final String DEFAULT_HOLDINGS_MAPPING_PROFILE_ID = "1ef7d0ac-f0a8-42b5-bbbb-c7e249009c13";
   private static final String DEFAULT_AUTHORITY_MAPPING_PROFILE_ID = "5d636597-a59d-4391-a270-4e79d5ba70e3";
+  private static final long RECONCILED_VERSIONS_EXPIRATION_MINUTES = 60;
+
+  /* Versions of mapping profiles whose transformations are reconciled with the transformation fields, they expire
+   so changes of the reference data the field ids are built from are picked up */
+  private final Cache<String, Boolean> reconciledVersions = Caffeine.newBuilder()
+    .expireAfterWrite(RECONCILED_VERSIONS_EXPIRATION_MINUTES, TimeUnit.MINUTES)
+    .build();
 
   @Autowired
   private MappingProfileDao mappingProfileDao;
@@ -108,7 +120,19 @@ public class MappingProfileServiceImpl implements MappingProfileService {
     return mappingProfileDao.getById(mappingProfileId, params.getTenantId())
       .compose(optionalMappingProfile -> {
         if (optionalMappingProfile.isPresent()) {
-          return updateTransformationFields(optionalMappingProfile.get(), params);
+          MappingProfile mappingProfile = optionalMappingProfile.get();
+          String version = getVersion(mappingProfile, params.getTenantId());
+          if (CollectionUtils.isEmpty(mappingProfile.getTransformations()) || reconciledVersions.getIfPresent(version) != null) {
+            return Future.succeededFuture(mappingProfile);
+          }
+          return transformationFieldsService.getTransformationFieldsWithCompleteness(params)
+            .compose(fields -> updateTransformationFields(mappingProfile, fields.getLeft(), params)
+              .onSuccess(reconciledMappingProfile -> {
+                // the profile reconciled with fields built without some types of the reference data is reconciled again
+                if (Boolean.TRUE.equals(fields.getRight())) {
+                  reconciledVersions.put(version, true);
+                }
+              }));
         } else {
           String errorMessage = String.format("Mapping profile not found with id %s", mappingProfileId);
           LOGGER.error(errorMessage);
@@ -117,27 +141,33 @@ public class MappingProfileServiceImpl implements MappingProfileService {
       });
   }
 
-  private Future<MappingProfile> updateTransformationFields(MappingProfile mappingProfile, OkapiConnectionParams params) {
-    return transformationFieldsService.getTransformationFields(params).compose(fieldCollection -> {
-      boolean updateMappingProfile = false;
-      for (Transformations profileTransformation : mappingProfile.getTransformations()) {
-        for (TransformationField transformationField : fieldCollection.getTransformationFields()) {
-          if (transformationField.getReferenceDataValue() != null) {
-            String profileTransformationPath = profileTransformation.getPath();
-            String transformationFieldPath = transformationField.getPath();
-            String profileTransformationId = profileTransformation.getFieldId();
-            String transformationFieldId = transformationField.getFieldId();
-            if (profileTransformationPath.equals(transformationFieldPath) && !profileTransformationId.equals(transformationFieldId)) {
-              profileTransformation.setFieldId(transformationFieldId);
-              updateMappingProfile = true;
-            }
+  private String getVersion(MappingProfile mappingProfile, String tenantId) {
+    Object updatedDate = mappingProfile.getMetadata() == null || mappingProfile.getMetadata().getUpdatedDate() == null
+      ? StringUtils.EMPTY
+      : mappingProfile.getMetadata().getUpdatedDate().getTime();
+    return tenantId + ":" + mappingProfile.getId() + ":" + updatedDate;
+  }
+
+  private Future<MappingProfile> updateTransformationFields(MappingProfile mappingProfile, TransformationFieldCollection fieldCollection,
+                                                            OkapiConnectionParams params) {
+    boolean updateMappingProfile = false;
+    for (Transformations profileTransformation : mappingProfile.getTransformations()) {
+      for (TransformationField transformationField : fieldCollection.getTransformationFields()) {
+        if (transformationField.getReferenceDataValue() != null) {
+          String profileTransformationPath = profileTransformation.getPath();
+          String transformationFieldPath = transformationField.getPath();
+          String profileTransformationId = profileTransformation.getFieldId();
+          String transformationFieldId = transformationField.getFieldId();
+          if (profileTransformationPath.equals(transformationFieldPath) && !profileTransformationId.equals(transformationFieldId)) {
+            profileTransformation.setFieldId(transformationFieldId);
+            updateMappingProfile = true;
           }
         }
       }
-      return updateMappingProfile
-        ? mappingProfileDao.update(mappingProfile, params.getTenantId())
-        : Future.succeededFuture(mappingProfile);
-    });
+    }
+    return updateMappingProfile
+      ? mappingProfileDao.update(mappingProfile, params.getTenantId())
+      : Future.succeededFuture(mappingProfile);
   }
 
   @Override
@@ -184,7 +214,7 @@ public class MappingProfileServiceImpl implements MappingProfileService {
     return promise.future();
   }
 
-  private Future<Void> validateTransformation(MappingProfile mappingProfile, org.folio.rest.jaxrs.model.TransformationFieldCollection transformationFieldCollection) {
+  private Future<Void> validateTransformation(MappingProfile mappingProfile, TransformationFieldCollection transformationFieldCollection) {
     List<TransformationField> transformationFields = transformationFieldCollection.getTransformationFields();
     try {
       mappingProfile.getTransformations().stream()
@@ -0,0 +1,52 @@
+package org.folio.service.transformationfields;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.rest.jaxrs.model.TransformationFieldCollection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches transformation fields by tenant, so the reference data they are built from is not requested on every call
+ * of the transformation fields API and on every validation of a mapping profile. Fields expire after the ttl to pick up
+ * changes of the reference data. Concurrent lookups of the same tenant wait for a single load, failed loads and fields built
+ * without some types of the reference data are not cached.
+ */
+@Component
+public class TransformationFieldsCache {
+
+  private final Cache<String, Future<Pair<TransformationFieldCollection, Boolean>>> fields;
+
+  @Autowired
+  public TransformationFieldsCache(@Value("${export.cache.ttl}") long ttl) {
+    this.fields = Caffeine.newBuilder()
+      .expireAfterWrite(ttl, TimeUnit.SECONDS)
+      .build();
+  }
+
+  /**
+   * Returns transformation fields of the tenant, the fields are loaded if they are not cached yet or are expired
+   *
+   * @param tenantId tenant id
+   * @param loader   loads transformation fields of the tenant and whether all types of the reference data are loaded
+   * @return future with a copy of the transformation fields collection and true if all types of the reference data are loaded
+   */
+  public Future<Pair<TransformationFieldCollection, Boolean>> get(String tenantId, Supplier<Future<Pair<TransformationFieldCollection, Boolean>>> loader) {
+    Future<Pair<TransformationFieldCollection, Boolean>> tenantFields = fields.get(tenantId, key -> loader.get());
+    tenantFields.onComplete(ar -> {
+      if (ar.failed() || !ar.result().getRight()) {
+        fields.asMap().remove(tenantId, tenantFields);
+      }
+    });
+    // a copy of the list is returned, so callers can not change the cached collection
+    return tenantFields.map(loaded -> Pair.of(new TransformationFieldCollection()
+      .withTransformationFields(new ArrayList<>(loaded.getLeft().getTransformationFields()))
+      .withTotalRecords(loaded.getLeft().getTotalRecords()), loaded.getRight()));
+  }
+}
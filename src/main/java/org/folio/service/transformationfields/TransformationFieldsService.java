@@ -1,6 +1,7 @@
 package org.folio.service.transformationfields;
 
 import io.vertx.core.Future;
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.rest.jaxrs.model.TransformationField;
 import org.folio.rest.jaxrs.model.TransformationFieldCollection;
 import org.folio.rest.jaxrs.model.Transformations;
@@ -18,6 +19,15 @@ public interface TransformationFieldsService {
    */
   Future<TransformationFieldCollection> getTransformationFields(OkapiConnectionParams okapiConnectionParams);
 
+  /**
+   * Retrieves transformation fields {@link TransformationFieldCollection} as {@link #getTransformationFields(OkapiConnectionParams)},
+   * and whether the fields are built with all types of the reference data
+   *
+   * @param okapiConnectionParams okapi headers and connection parameters
+   * @return future with list of {@link TransformationField} and true if all types of the reference data are loaded
+   */
+  Future<Pair<TransformationFieldCollection, Boolean>> getTransformationFieldsWithCompleteness(OkapiConnectionParams okapiConnectionParams);
+
   /**
    * Validates transformations fields on the correctness of inputs for each separate
    * part of the transformation: tag, indicators and subfield.
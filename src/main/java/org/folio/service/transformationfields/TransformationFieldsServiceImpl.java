@@ -6,12 +6,16 @@ import io.vertx.core.json.JsonObject;
 
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.TransformationField;
 import org.folio.rest.jaxrs.model.TransformationField.RecordType;
 import org.folio.rest.jaxrs.model.TransformationFieldCollection;
 import org.folio.rest.jaxrs.model.Transformations;
 import org.folio.service.mapping.referencedata.ReferenceData;
+import org.folio.service.mapping.referencedata.ReferenceDataImpl;
 import org.folio.service.mapping.referencedata.ReferenceDataProvider;
 import org.folio.service.transformationfields.builder.DisplayNameKeyBuilder;
 import org.folio.service.transformationfields.builder.FieldIdBuilder;
@@ -20,6 +24,7 @@ import org.folio.util.OkapiConnectionParams;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -34,6 +39,7 @@ import static org.folio.rest.jaxrs.model.TransformationField.RecordType.ITEM;
 
 @Service
 public class TransformationFieldsServiceImpl implements TransformationFieldsService {
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final String REFERENCE_DATA_NAME_KEY = "name";
   private static final String ITEM_EMPTY_TRANSFORMATION_ERROR_MESSAGE = "Transformations for fields with item record type cannot be empty. Please provide a value.";
@@ -46,18 +52,23 @@ public class TransformationFieldsServiceImpl implements TransformationFieldsServ
   private FieldIdBuilder fieldIdBuilder;
   @Autowired
   private ReferenceDataProvider referenceDataProvider;
+  @Autowired
+  private TransformationFieldsCache transformationFieldsCache;
 
   @Override
   public Future<TransformationFieldCollection> getTransformationFields(OkapiConnectionParams okapiConnectionParams) {
-    Promise<TransformationFieldCollection> promise = Promise.promise();
-    List<TransformationField> transformationFields = new ArrayList<>();
-    ReferenceData referenceData = referenceDataProvider.getReferenceDataForTransformationFields(okapiConnectionParams);
-    transformationFields.addAll(buildTransformationFields(INSTANCE, TransformationConfigConstants.INSTANCE_FIELDS_CONFIGS, referenceData));
-    transformationFields.addAll(buildTransformationFields(HOLDINGS, TransformationConfigConstants.HOLDINGS_FIELDS_CONFIGS, referenceData));
-    transformationFields.addAll(buildTransformationFields(ITEM, TransformationConfigConstants.ITEM_FIELDS_CONFIGS, referenceData));
-    transformationFields.sort(Comparator.comparing(TransformationField::getFieldId));
-    promise.complete(new TransformationFieldCollection().withTransformationFields(transformationFields).withTotalRecords(transformationFields.size()));
-    return promise.future();
+    return getTransformationFieldsWithCompleteness(okapiConnectionParams).map(Pair::getLeft);
+  }
+
+  @Override
+  public Future<Pair<TransformationFieldCollection, Boolean>> getTransformationFieldsWithCompleteness(OkapiConnectionParams okapiConnectionParams) {
+    return transformationFieldsCache.get(okapiConnectionParams.getTenantId(), () ->
+        referenceDataProvider.getReferenceDataForTransformationFields(okapiConnectionParams)
+          .map(referenceData -> Pair.of(buildTransformationFields(referenceData.getLeft()), referenceData.getRight())))
+      .recover(e -> {
+        LOGGER.error("Failed to get reference data for transformation fields, fields are built without reference data", e);
+        return Future.succeededFuture(Pair.of(buildTransformationFields(new ReferenceDataImpl()), false));
+      });
   }
 
   @Override
@@ -75,6 +86,15 @@ public class TransformationFieldsServiceImpl implements TransformationFieldsServ
     return promise.future();
   }
 
+  private TransformationFieldCollection buildTransformationFields(ReferenceData referenceData) {
+    List<TransformationField> transformationFields = new ArrayList<>();
+    transformationFields.addAll(buildTransformationFields(INSTANCE, TransformationConfigConstants.INSTANCE_FIELDS_CONFIGS, referenceData));
+    transformationFields.addAll(buildTransformationFields(HOLDINGS, TransformationConfigConstants.HOLDINGS_FIELDS_CONFIGS, referenceData));
+    transformationFields.addAll(buildTransformationFields(ITEM, TransformationConfigConstants.ITEM_FIELDS_CONFIGS, referenceData));
+    transformationFields.sort(Comparator.comparing(TransformationField::getFieldId));
+    return new TransformationFieldCollection().withTransformationFields(transformationFields).withTotalRecords(transformationFields.size());
+  }
+
   private List<TransformationField> buildTransformationFields(RecordType recordType, Set<TransformationFieldsConfig> transformationFieldsConfigs, ReferenceData referenceData) {
     List<TransformationField> transformationFields = new ArrayList<>();
     for (TransformationFieldsConfig transformationFieldsConfig : transformationFieldsConfigs) {
@@ -89,7 +109,7 @@ public class TransformationFieldsServiceImpl implements TransformationFieldsServ
   }
 
   private List<TransformationField> buildTransformationFieldsByReferenceData(RecordType recordType, TransformationFieldsConfig transformationFieldsConfig, ReferenceData referenceData) {
-    Map<String, JsonObject> referenceDataEntries = referenceData.get(transformationFieldsConfig.getReferenceDataKey());
+    Map<String, JsonObject> referenceDataEntries = MapUtils.emptyIfNull(referenceData.get(transformationFieldsConfig.getReferenceDataKey()));
     List<TransformationField> subTransformationFields = new ArrayList<>();
     for (Map.Entry<String, JsonObject> referenceDataEntry : referenceDataEntries.entrySet()) {
       String referenceDataValue = referenceDataEntry.getValue().getString(REFERENCE_DATA_NAME_KEY);
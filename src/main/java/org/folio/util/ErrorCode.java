@@ -48,6 +48,9 @@ public enum ErrorCode {
   ERROR_ONLY_DEFAULT_HOLDING_JOB_PROFILE_IS_SUPPORTED("error.messagePlaceholder", "For exporting holding records only the default holding job profile is supported"),
   ERROR_ONLY_DEFAULT_AUTHORITY_JOB_PROFILE_IS_SUPPORTED("error.messagePlaceholder", "For exporting authority records only the default authority job profile is supported"),
   ERROR_JOB_IS_EXPIRED("error.messagePlaceholder", "Job was expired: no updates for more than 1 hour"),
+  ERROR_JOB_IS_CANCELLED("error.messagePlaceholder", "Job was cancelled"),
+  ERROR_RESUMING_EXPORT("error.messagePlaceholder", "Export can not be resumed: the resulting file is not found or is shorter than at the checkpoint"),
+  ERROR_FILE_UPLOAD_NOT_FINISHED("error.messagePlaceholder", "Export is not started: uploading of the file with identifiers failed or did not finish in time"),
   ERROR_FILE_BEING_UPLOADED_IS_TOO_LARGE("error.fileIsTooLarge", "File being uploaded is too large");
 
   private final String code;
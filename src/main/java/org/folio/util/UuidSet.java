@@ -0,0 +1,285 @@
+package org.folio.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact set of UUIDs backed by an open-addressing table of primitive longs.
+ * Each UUID takes two longs instead of a {@link String} plus a hash map entry, which is about 16 bytes against 100.
+ * Values are kept in their canonical lower case form; strings that are not UUIDs are kept aside in a regular set,
+ * so the class can be used wherever a {@code Set<String>} of identifiers is expected.
+ * The class is not thread-safe and its iterator does not support removal.
+ */
+public class UuidSet extends AbstractSet<String> {
+
+  private static final int MIN_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+
+  /**
+   * Pairs of the most and the least significant bits, the nil UUID marks a free slot
+   */
+  private long[] table;
+  private int mask;
+  private int uuidsCount;
+  private boolean containsNilUuid;
+  private Set<String> nonUuidValues;
+
+  public UuidSet() {
+    this(MIN_CAPACITY);
+  }
+
+  public UuidSet(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  public UuidSet(Collection<String> values) {
+    this(values.size());
+    addAll(values);
+  }
+
+  /**
+   * Adds the UUID given by its bits to the set
+   *
+   * @param mostSigBits  the most significant bits of the UUID
+   * @param leastSigBits the least significant bits of the UUID
+   * @return true if the set did not already contain the UUID
+   */
+  public boolean add(long mostSigBits, long leastSigBits) {
+    if (mostSigBits == 0 && leastSigBits == 0) {
+      boolean added = !containsNilUuid;
+      containsNilUuid = true;
+      return added;
+    }
+    int slot = indexOf(mostSigBits, leastSigBits);
+    if (slot >= 0) {
+      return false;
+    }
+    if (uuidsCount + 1 > (mask + 1) * LOAD_FACTOR) {
+      resize();
+    }
+    insert(mostSigBits, leastSigBits);
+    uuidsCount++;
+    return true;
+  }
+
+  /**
+   * Checks whether the UUID given by its bits is present in the set
+   *
+   * @param mostSigBits  the most significant bits of the UUID
+   * @param leastSigBits the least significant bits of the UUID
+   * @return true if the set contains the UUID
+   */
+  public boolean contains(long mostSigBits, long leastSigBits) {
+    if (mostSigBits == 0 && leastSigBits == 0) {
+      return containsNilUuid;
+    }
+    return indexOf(mostSigBits, leastSigBits) >= 0;
+  }
+
+  /**
+   * Removes the UUID given by its bits from the set
+   *
+   * @param mostSigBits  the most significant bits of the UUID
+   * @param leastSigBits the least significant bits of the UUID
+   * @return true if the set contained the UUID
+   */
+  public boolean remove(long mostSigBits, long leastSigBits) {
+    if (mostSigBits == 0 && leastSigBits == 0) {
+      boolean removed = containsNilUuid;
+      containsNilUuid = false;
+      return removed;
+    }
+    int slot = indexOf(mostSigBits, leastSigBits);
+    if (slot < 0) {
+      return false;
+    }
+    shiftBackFrom(slot);
+    uuidsCount--;
+    return true;
+  }
+
+  @Override
+  public boolean add(String value) {
+    long[] bits = new long[2];
+    if (UuidUtils.parseCanonical(value, bits, 0)) {
+      return add(bits[0], bits[1]);
+    }
+    if (nonUuidValues == null) {
+      nonUuidValues = new HashSet<>();
+    }
+    return nonUuidValues.add(value);
+  }
+
+  @Override
+  public boolean contains(Object value) {
+    if (!(value instanceof String)) {
+      return false;
+    }
+    long[] bits = new long[2];
+    if (UuidUtils.parseCanonical((String) value, bits, 0)) {
+      return contains(bits[0], bits[1]);
+    }
+    return nonUuidValues != null && nonUuidValues.contains(value);
+  }
+
+  @Override
+  public boolean remove(Object value) {
+    if (!(value instanceof String)) {
+      return false;
+    }
+    long[] bits = new long[2];
+    if (UuidUtils.parseCanonical((String) value, bits, 0)) {
+      return remove(bits[0], bits[1]);
+    }
+    return nonUuidValues != null && nonUuidValues.remove(value);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> values) {
+    boolean modified = false;
+    for (Object value : values) {
+      modified |= remove(value);
+    }
+    return modified;
+  }
+
+  @Override
+  public int size() {
+    return uuidsCount + (containsNilUuid ? 1 : 0) + (nonUuidValues == null ? 0 : nonUuidValues.size());
+  }
+
+  @Override
+  public void clear() {
+    allocate(MIN_CAPACITY);
+    uuidsCount = 0;
+    containsNilUuid = false;
+    nonUuidValues = null;
+  }
+
+  @Override
+  public Iterator<String> iterator() {
+    return new Iterator<>() {
+      private int slot = nextOccupiedSlot(0);
+      private boolean nilUuidPending = containsNilUuid;
+      private final Iterator<String> nonUuidIterator = nonUuidValues == null ? null : nonUuidValues.iterator();
+
+      @Override
+      public boolean hasNext() {
+        return slot < table.length || nilUuidPending || (nonUuidIterator != null && nonUuidIterator.hasNext());
+      }
+
+      @Override
+      public String next() {
+        if (slot < table.length) {
+          String value = UuidUtils.toString(table[slot], table[slot + 1]);
+          slot = nextOccupiedSlot(slot + 2);
+          return value;
+        }
+        if (nilUuidPending) {
+          nilUuidPending = false;
+          return UuidUtils.toString(0, 0);
+        }
+        if (nonUuidIterator != null) {
+          return nonUuidIterator.next();
+        }
+        throw new NoSuchElementException();
+      }
+    };
+  }
+
+  private int nextOccupiedSlot(int from) {
+    int slot = from;
+    while (slot < table.length && isFree(slot)) {
+      slot += 2;
+    }
+    return slot;
+  }
+
+  private int indexOf(long mostSigBits, long leastSigBits) {
+    int index = hash(mostSigBits, leastSigBits) & mask;
+    while (true) {
+      int slot = 2 * index;
+      if (isFree(slot)) {
+        return -1;
+      }
+      if (table[slot] == mostSigBits && table[slot + 1] == leastSigBits) {
+        return slot;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private void insert(long mostSigBits, long leastSigBits) {
+    int index = hash(mostSigBits, leastSigBits) & mask;
+    while (!isFree(2 * index)) {
+      index = (index + 1) & mask;
+    }
+    table[2 * index] = mostSigBits;
+    table[2 * index + 1] = leastSigBits;
+  }
+
+  /**
+   * Removes the entry at the given slot keeping the probe sequences of the following entries unbroken
+   */
+  private void shiftBackFrom(int removedSlot) {
+    int freeIndex = removedSlot / 2;
+    int index = freeIndex;
+    while (true) {
+      index = (index + 1) & mask;
+      int slot = 2 * index;
+      if (isFree(slot)) {
+        break;
+      }
+      int homeIndex = hash(table[slot], table[slot + 1]) & mask;
+      boolean reachableFromFreeIndex = freeIndex <= index
+        ? freeIndex < homeIndex && homeIndex <= index
+        : freeIndex < homeIndex || homeIndex <= index;
+      if (!reachableFromFreeIndex) {
+        table[2 * freeIndex] = table[slot];
+        table[2 * freeIndex + 1] = table[slot + 1];
+        freeIndex = index;
+      }
+    }
+    table[2 * freeIndex] = 0;
+    table[2 * freeIndex + 1] = 0;
+  }
+
+  private void resize() {
+    long[] oldTable = table;
+    allocate(2 * (mask + 1));
+    for (int slot = 0; slot < oldTable.length; slot += 2) {
+      if (oldTable[slot] != 0 || oldTable[slot + 1] != 0) {
+        insert(oldTable[slot], oldTable[slot + 1]);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    table = new long[2 * capacity];
+    mask = capacity - 1;
+  }
+
+  private boolean isFree(int slot) {
+    return table[slot] == 0 && table[slot + 1] == 0;
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * LOAD_FACTOR < expectedSize) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static int hash(long mostSigBits, long leastSigBits) {
+    long hash = mostSigBits * 0x9E3779B97F4A7C15L ^ leastSigBits;
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    return (int) hash;
+  }
+}
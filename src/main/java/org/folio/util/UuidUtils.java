@@ -0,0 +1,150 @@
+package org.folio.util;
+
+import java.util.UUID;
+
+/**
+ * Char-level UUID validation and conversion used while reading uploaded files with identifiers.
+ * Works without regular expressions and intermediate strings, so it is cheap enough to be applied to every line of large files.
+ */
+public final class UuidUtils {
+
+  public static final int UUID_LENGTH = 36;
+  private static final int VERSION_POSITION = 14;
+  private static final int VARIANT_POSITION = 19;
+
+  private UuidUtils() {
+  }
+
+  /**
+   * Parses the UUID from the line of the uploaded file.
+   * All characters except latin letters, digits and '-' are skipped, so quoted values and trailing separators are accepted.
+   * The remaining characters should form a UUID of version 1-5 with IETF variant.
+   *
+   * @param line   line to parse
+   * @param target array to put the most and the least significant bits of the UUID to
+   * @param offset index in {@code target} for the most significant bits, the least significant bits are put right after it
+   * @return true if the line contains valid UUID, {@code target} is not modified otherwise
+   */
+  public static boolean parse(CharSequence line, long[] target, int offset) {
+    long mostSigBits = 0;
+    long leastSigBits = 0;
+    int position = 0;
+    for (int i = 0; i < line.length(); i++) {
+      char ch = line.charAt(i);
+      if (!isSignificantCharacter(ch)) {
+        continue;
+      }
+      if (position == UUID_LENGTH || !isValidCharacterAt(position, ch)) {
+        return false;
+      }
+      if (!isDashPosition(position)) {
+        if (position < VARIANT_POSITION) {
+          mostSigBits = (mostSigBits << 4) | Character.digit(ch, 16);
+        } else {
+          leastSigBits = (leastSigBits << 4) | Character.digit(ch, 16);
+        }
+      }
+      position++;
+    }
+    if (position != UUID_LENGTH) {
+      return false;
+    }
+    target[offset] = mostSigBits;
+    target[offset + 1] = leastSigBits;
+    return true;
+  }
+
+  /**
+   * Checks whether the character is taken into account while parsing the line of the uploaded file,
+   * all characters except latin letters, digits and '-' are skipped
+   *
+   * @param ch character to check
+   * @return true if the character is significant
+   */
+  public static boolean isSignificantCharacter(char ch) {
+    return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '-';
+  }
+
+  /**
+   * Checks whether the significant character is allowed at the given position of a UUID of version 1-5 with IETF variant
+   *
+   * @param position position of the character, 0 to 35
+   * @param ch       character to check
+   * @return true if the character is allowed at the position
+   */
+  public static boolean isValidCharacterAt(int position, char ch) {
+    if (isDashPosition(position)) {
+      return ch == '-';
+    }
+    int digit = ch > 'f' ? -1 : Character.digit(ch, 16);
+    if (position == VERSION_POSITION) {
+      return digit >= 1 && digit <= 5;
+    }
+    if (position == VARIANT_POSITION) {
+      return digit >= 8 && digit <= 11;
+    }
+    return digit >= 0;
+  }
+
+  /**
+   * Parses the UUID in its canonical 36 characters form, any version and variant are accepted
+   *
+   * @param value  value to parse
+   * @param target array to put the most and the least significant bits of the UUID to
+   * @param offset index in {@code target} for the most significant bits, the least significant bits are put right after it
+   * @return true if the value is a UUID, {@code target} is not modified otherwise
+   */
+  public static boolean parseCanonical(CharSequence value, long[] target, int offset) {
+    if (value == null || value.length() != UUID_LENGTH) {
+      return false;
+    }
+    long mostSigBits = 0;
+    long leastSigBits = 0;
+    for (int position = 0; position < UUID_LENGTH; position++) {
+      char ch = value.charAt(position);
+      if (isDashPosition(position)) {
+        if (ch != '-') {
+          return false;
+        }
+        continue;
+      }
+      int digit = Character.digit(ch, 16);
+      if (digit < 0 || ch > 'f') {
+        return false;
+      }
+      if (position < VARIANT_POSITION) {
+        mostSigBits = (mostSigBits << 4) | digit;
+      } else {
+        leastSigBits = (leastSigBits << 4) | digit;
+      }
+    }
+    target[offset] = mostSigBits;
+    target[offset + 1] = leastSigBits;
+    return true;
+  }
+
+  /**
+   * Checks whether the line of the uploaded file contains valid UUID, see {@link #parse(CharSequence, long[], int)}
+   *
+   * @param line line to check
+   * @return true if the line contains valid UUID
+   */
+  public static boolean isValid(CharSequence line) {
+    return parse(line, new long[2], 0);
+  }
+
+  /**
+   * Formats the UUID to its canonical lower case string representation
+   *
+   * @param mostSigBits  the most significant bits of the UUID
+   * @param leastSigBits the least significant bits of the UUID
+   * @return UUID string
+   */
+  public static String toString(long mostSigBits, long leastSigBits) {
+    return new UUID(mostSigBits, leastSigBits).toString();
+  }
+
+  private static boolean isDashPosition(int position) {
+    return position == 8 || position == 13 || position == 18 || position == 23;
+  }
+}
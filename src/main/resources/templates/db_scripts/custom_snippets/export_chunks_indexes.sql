@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS export_chunks_status_chunk_number_idx ON ${myuniversity}_${mymodule}.export_chunks ((jsonb->>'status'), ((jsonb->>'chunkNumber')::int));
+CREATE INDEX IF NOT EXISTS export_chunks_job_execution_id_idx ON ${myuniversity}_${mymodule}.export_chunks ((jsonb->>'jobExecutionId'));
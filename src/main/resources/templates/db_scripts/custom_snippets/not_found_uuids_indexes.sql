@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS not_found_uuids_job_execution_id_uuid_idx ON ${myuniversity}_${mymodule}.not_found_uuids ((jsonb->>'jobExecutionId'), (jsonb->>'uuid'));
@@ -0,0 +1,11 @@
+-- error logs of the job are read by job execution id and error code on every chunk and at finalization
+CREATE INDEX IF NOT EXISTS error_logs_job_execution_id_error_message_code_idx
+  ON ${myuniversity}_${mymodule}.error_logs ((jsonb->>'jobExecutionId'), (jsonb->>'errorMessageCode'));
+
+-- expired jobs are looked up by status and last updated date
+CREATE INDEX IF NOT EXISTS job_executions_status_last_updated_date_idx
+  ON ${myuniversity}_${mymodule}.job_executions ((jsonb->>'status'), (jsonb->>'lastUpdatedDate'));
+
+-- expired file definitions with files are paged through by id, the updated date is checked on the rows of the page
+CREATE INDEX IF NOT EXISTS file_definitions_with_source_path_id_idx
+  ON ${myuniversity}_${mymodule}.file_definitions (id) WHERE (jsonb->>'sourcePath') <> '';
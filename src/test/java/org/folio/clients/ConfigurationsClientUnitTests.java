@@ -1,31 +1,24 @@
 package org.folio.clients;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.impl.RestVerticleTestBase.TENANT_ID;
-import static org.folio.rest.jaxrs.model.ErrorLog.LogLevel.ERROR;
 import static org.folio.util.ErrorCode.ERROR_QUERY_HOST;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.times;
 
-import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.junit5.VertxExtension;
-import java.util.Collections;
-import java.util.Date;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.apache.commons.collections4.map.HashedMap;
-import org.folio.rest.jaxrs.model.ErrorLog;
-import org.folio.rest.jaxrs.model.Metadata;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.service.logs.ErrorLogServiceImpl;
 import org.folio.util.OkapiConnectionParams;
@@ -51,6 +44,8 @@ class ConfigurationsClientUnitTests {
   private ConfigurationsClient configurationsClient;
   @Mock
   private ErrorLogServiceImpl errorLogService;
+  @Spy
+  private TenantResponseCache responseCache = new TenantResponseCache(300, 30);
 
   @BeforeAll
   public static void beforeClass() {
@@ -66,9 +61,6 @@ class ConfigurationsClientUnitTests {
     jsonObject.put("configs", new JsonArray());
     doReturn(Optional.of(jsonObject)).when(configurationsClient)
       .getResponseFromGetRequest(anyString(), any(OkapiConnectionParams.class));
-    when(errorLogService.getByQuery(any(Criterion.class), eq(okapiConnectionParams.getTenantId())))
-      .thenReturn(Future.succeededFuture(
-        Collections.emptyList()));
 
     configurationsClient.getInventoryRecordLink(EMPTY, EMPTY, okapiConnectionParams);
 
@@ -76,31 +68,33 @@ class ConfigurationsClientUnitTests {
   }
 
   @Test
-  void shouldNotSaveGeneralErrorForHost_whenErrorIsAlreadyPresent() throws HttpClientException {
+  void shouldNotSaveGeneralErrorForHost_whenErrorIsAlreadySavedForTheJob() throws HttpClientException {
     JsonObject jsonObject = new JsonObject();
     jsonObject.put("configs", new JsonArray());
     doReturn(Optional.of(jsonObject)).when(configurationsClient)
       .getResponseFromGetRequest(anyString(), any(OkapiConnectionParams.class));
-    when(errorLogService.getByQuery(any(Criterion.class), eq(okapiConnectionParams.getTenantId())))
-      .thenReturn(Future.succeededFuture(
-        getMockErrorLogList()));
+    String jobExecutionId = UUID.randomUUID().toString();
 
-    configurationsClient.getInventoryRecordLink(EMPTY, EMPTY, okapiConnectionParams);
+    configurationsClient.getInventoryRecordLink(EMPTY, jobExecutionId, okapiConnectionParams);
+    configurationsClient.getInventoryRecordLink(EMPTY, jobExecutionId, okapiConnectionParams);
 
-    Mockito.verify(errorLogService, never()).saveGeneralError(anyString(), anyString(), anyString());
+    Mockito.verify(errorLogService).saveGeneralError(ERROR_QUERY_HOST.getCode(), jobExecutionId, TENANT_ID);
+    Mockito.verify(errorLogService, never()).getByQuery(any(Criterion.class), anyString());
   }
 
-  private List<ErrorLog> getMockErrorLogList() {
-    ErrorLog errorLog = new ErrorLog()
-      .withId(UUID.randomUUID().toString())
-      .withJobExecutionId(UUID.randomUUID().toString())
-      .withLogLevel(ERROR)
-      .withErrorMessageCode(ERROR_QUERY_HOST.getCode())
-      .withCreatedDate(new Date())
-      .withMetadata(new Metadata()
-        .withCreatedByUserId(UUID.randomUUID().toString())
-        .withUpdatedByUserId(UUID.randomUUID().toString()));
-    return Collections.singletonList(errorLog);
+  @Test
+  void shouldRequestHostOnce_forRecordLinksOfTheTenant() throws HttpClientException {
+    JsonObject jsonObject = new JsonObject()
+      .put("configs", new JsonArray().add(new JsonObject().put("value", "http://localhost:3000")));
+    doReturn(Optional.of(jsonObject)).when(configurationsClient)
+      .getResponseFromGetRequest(anyString(), any(OkapiConnectionParams.class));
+
+    String firstLink = configurationsClient.getInventoryRecordLink("1", EMPTY, okapiConnectionParams);
+    String secondLink = configurationsClient.getInventoryRecordLink("2", EMPTY, okapiConnectionParams);
+
+    assertEquals("http://localhost:3000/inventory/view/1", firstLink);
+    assertEquals("http://localhost:3000/inventory/view/2", secondLink);
+    Mockito.verify(configurationsClient, times(1)).getResponseFromGetRequest(anyString(), any(OkapiConnectionParams.class));
   }
 
 }
@@ -0,0 +1,54 @@
+package org.folio.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TenantResponseCacheUnitTest {
+  private static final String TENANT_ID = "diku";
+  private static final String KEY = "code=\"FOLIO_HOST\"";
+
+  private final AtomicInteger requests = new AtomicInteger();
+
+  @Test
+  void shouldRequestResponseOncePerTenant_whileItIsNotExpired() throws HttpClientException {
+    TenantResponseCache responseCache = new TenantResponseCache(300, 0);
+    TenantResponseCache.ResponseLoader loader = () -> new JsonObject().put("requests", requests.incrementAndGet());
+
+    responseCache.get(TENANT_ID, KEY, loader, entity -> true);
+    JsonObject response = responseCache.get(TENANT_ID, KEY, loader, entity -> true);
+    responseCache.get("other_tenant", KEY, loader, entity -> true);
+
+    assertEquals(1, response.getInteger("requests").intValue());
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void shouldKeepMissingEntriesForNegativeTtl() throws HttpClientException {
+    TenantResponseCache responseCache = new TenantResponseCache(300, 0);
+    TenantResponseCache.ResponseLoader loader = () -> new JsonObject().put("requests", requests.incrementAndGet());
+
+    responseCache.get(TENANT_ID, KEY, loader, entity -> false);
+    responseCache.get(TENANT_ID, KEY, loader, entity -> false);
+
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void shouldCacheFailedRequest() {
+    TenantResponseCache responseCache = new TenantResponseCache(300, 300);
+    TenantResponseCache.ResponseLoader loader = () -> {
+      requests.incrementAndGet();
+      throw new HttpClientException("Get invalid response with status: 500");
+    };
+
+    assertThrows(HttpClientException.class, () -> responseCache.get(TENANT_ID, KEY, loader, entity -> true));
+    HttpClientException exception = assertThrows(HttpClientException.class, () -> responseCache.get(TENANT_ID, KEY, loader, entity -> true));
+
+    assertEquals("Get invalid response with status: 500", exception.getMessage());
+    assertEquals(1, requests.get());
+  }
+}
@@ -5,13 +5,13 @@ import io.vertx.core.Handler;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import org.folio.dao.impl.CollectionQueryHelper;
 import org.folio.dao.impl.ErrorLogDaoImpl;
 import org.folio.dao.impl.PostgresClientFactory;
 import org.folio.rest.jaxrs.model.ErrorLog;
 import org.folio.rest.jaxrs.model.ErrorLogCollection;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
-import org.folio.rest.persist.cql.CQLWrapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +43,8 @@ class ErrorLogDaoImplUnitTest {
   private PostgresClientFactory postgresClientFactory;
   @Mock
   private PostgresClient postgresClient;
+  @Mock
+  private CollectionQueryHelper collectionQueryHelper;
   private ErrorLog errorLog;
 
   @BeforeEach
@@ -52,14 +54,13 @@ class ErrorLogDaoImplUnitTest {
   }
 
   @Test
-  void shouldFailToGetLogErrorCollection_whenPgClientThrewException(VertxTestContext context) {
+  void shouldFailToGetLogErrorCollection_whenQueryFailed(VertxTestContext context) {
     // given
-    when(postgresClientFactory.getInstance(TENANT_ID)).thenReturn(postgresClient);
-    doThrow(RuntimeException.class)
-      .when(postgresClient).get(eq(TABLE), eq(ErrorLog.class), any(String[].class), any(CQLWrapper.class), any(Boolean.class), any(Boolean.class), any(Handler.class));
+    when(collectionQueryHelper.get(TABLE, "jobExecutionid", 0, 0, null, TENANT_ID))
+      .thenReturn(Future.failedFuture(new RuntimeException()));
 
     // when
-    Future<ErrorLogCollection> future = errorLogDao.get("jobExecutionid", 0, 0, TENANT_ID);
+    Future<ErrorLogCollection> future = errorLogDao.get("jobExecutionid", 0, 0, null, TENANT_ID);
 
     // then
     future.onComplete(ar -> {
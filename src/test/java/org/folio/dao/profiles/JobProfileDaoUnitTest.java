@@ -10,6 +10,7 @@ import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import org.folio.dao.impl.JobProfileDaoImpl;
 import org.folio.dao.impl.PostgresClientFactory;
+import org.folio.dao.impl.ProfileCache;
 import org.folio.rest.jaxrs.model.JobProfile;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.UUID;
@@ -47,6 +49,8 @@ class JobProfileDaoUnitTest {
   private PostgresClient postgresClient;
   @Mock
   private AsyncResult<RowSet<Row>> updateResult;
+  @Spy
+  private ProfileCache profileCache = new ProfileCache(300);
 
   @BeforeAll
   public static void setUp() {
@@ -0,0 +1,29 @@
+package org.folio.dao.profiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.folio.dao.impl.ProfileCache;
+import org.folio.rest.jaxrs.model.MappingProfile;
+import org.junit.jupiter.api.Test;
+
+class ProfileCacheUnitTest {
+  private static final String TABLE = "mapping_profiles";
+  private static final String TENANT_ID = "diku";
+  private static final String MAPPING_PROFILE_ID = UUID.randomUUID().toString();
+
+  @Test
+  void shouldReturnCopyOfCachedProfile_untilItIsInvalidated() {
+    ProfileCache profileCache = new ProfileCache(300);
+    profileCache.put(TABLE, MAPPING_PROFILE_ID, new MappingProfile().withId(MAPPING_PROFILE_ID).withName("Profile"), TENANT_ID);
+
+    profileCache.get(TABLE, MAPPING_PROFILE_ID, TENANT_ID, MappingProfile.class)
+      .ifPresent(mappingProfile -> mappingProfile.setName("Changed"));
+
+    assertEquals("Profile", profileCache.get(TABLE, MAPPING_PROFILE_ID, TENANT_ID, MappingProfile.class).get().getName());
+    assertTrue(profileCache.get(TABLE, MAPPING_PROFILE_ID, "other_tenant", MappingProfile.class).isEmpty());
+    profileCache.invalidate(TABLE, MAPPING_PROFILE_ID, TENANT_ID);
+    assertTrue(profileCache.get(TABLE, MAPPING_PROFILE_ID, TENANT_ID, MappingProfile.class).isEmpty());
+  }
+}
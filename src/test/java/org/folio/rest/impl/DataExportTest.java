@@ -369,7 +369,7 @@ class DataExportTest extends RestVerticleTestBase {
     vertx.setTimer(TIMER_DELAY, handler ->
       jobExecutionDao.getById(jobExecutionId, tenantId).onSuccess(optionalJobExecution -> {
         JobExecution jobExecution = optionalJobExecution.get();
-        errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, tenantId).onSuccess(errorLogCollection -> {
+        errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, null, tenantId).onSuccess(errorLogCollection -> {
           context.verify(() -> {
             assertJobExecution(jobExecution, FAIL, 0);
             assertErrorLogs(errorLogCollection, jobExecutionId);
@@ -545,7 +545,7 @@ class DataExportTest extends RestVerticleTestBase {
       jobExecutionDao.getById(jobExecutionId, tenantId)
         .onSuccess(optionalJobExecution -> {
           JobExecution jobExecution = optionalJobExecution.get();
-          errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, tenantId).onSuccess(errorLogs -> {
+          errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, null, tenantId).onSuccess(errorLogs -> {
             context.verify(() -> {
               assertJobExecution(jobExecution, FAIL, EXPORTED_RECORDS_EMPTY);
               validateExternalCallsForSrs(1);
@@ -574,7 +574,7 @@ class DataExportTest extends RestVerticleTestBase {
       jobExecutionDao.getById(jobExecutionId, tenantId)
         .onSuccess(optionalJobExecution -> {
           JobExecution jobExecution = optionalJobExecution.get();
-          errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, tenantId).onSuccess(errorLogs -> {
+          errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, null, tenantId).onSuccess(errorLogs -> {
             context.verify(() -> {
               assertEquals(FAIL, jobExecution.getStatus());
               assertNotNull(jobExecution.getCompletedDate());
@@ -606,7 +606,7 @@ class DataExportTest extends RestVerticleTestBase {
       jobExecutionDao.getById(jobExecutionId, tenantId)
         .onSuccess(optionalJobExecution -> {
           JobExecution jobExecution = optionalJobExecution.get();
-          errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, tenantId).onSuccess(errorLogs -> {
+          errorLogService.get("jobExecutionId=" + jobExecutionId, 0, 20, null, tenantId).onSuccess(errorLogs -> {
             context.verify(() -> {
               assertEquals(FAIL, jobExecution.getStatus());
               assertNotNull(jobExecution.getCompletedDate());
@@ -0,0 +1,91 @@
+package org.folio.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.dao.ErrorLogDao;
+import org.folio.dao.ErrorLogSummaryDao;
+import org.folio.rest.jaxrs.model.ErrorCount;
+import org.folio.rest.jaxrs.model.ErrorLog;
+import org.folio.rest.jaxrs.model.ErrorLogSummary;
+import org.folio.service.ApplicationTestConfig;
+import org.folio.spring.SpringContextUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RunWith(VertxUnitRunner.class)
+@ExtendWith(VertxExtension.class)
+class ErrorLogSummaryDaoTest extends RestVerticleTestBase {
+
+  private static final String FIRST_ERROR_CODE = "error.first";
+  private static final String SECOND_ERROR_CODE = "error.second";
+
+  @Autowired
+  private ErrorLogDao errorLogDao;
+  @Autowired
+  private ErrorLogSummaryDao errorLogSummaryDao;
+
+  private final String jobExecutionId = UUID.randomUUID().toString();
+
+  public ErrorLogSummaryDaoTest() {
+    Context vertxContext = vertx.getOrCreateContext();
+    SpringContextUtil.init(vertxContext.owner(), vertxContext, ApplicationTestConfig.class);
+    SpringContextUtil.autowireDependencies(this, vertxContext);
+  }
+
+  @Test
+  void shouldCountErrorLogsOfJobByErrorCode(VertxTestContext context) {
+    // when
+    errorLogDao.saveBatch(List.of(errorLog(jobExecutionId, FIRST_ERROR_CODE), errorLog(jobExecutionId, FIRST_ERROR_CODE),
+        errorLog(jobExecutionId, SECOND_ERROR_CODE), errorLog(UUID.randomUUID().toString(), SECOND_ERROR_CODE)), TENANT_ID)
+      .compose(v -> errorLogDao.countByErrorCode(jobExecutionId, TENANT_ID))
+      .onComplete(context.succeeding(counts -> context.verify(() -> {
+        // then
+        assertEquals(Map.of(FIRST_ERROR_CODE, 2L, SECOND_ERROR_CODE, 1L), counts);
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldReplaceSummaryOfJob_whenJobIsFinalizedAgain(VertxTestContext context) {
+    // when
+    errorLogSummaryDao.save(summary(1), TENANT_ID)
+      .compose(v -> errorLogSummaryDao.save(summary(5), TENANT_ID))
+      .compose(v -> CompositeFuture.all(errorLogSummaryDao.getByJobExecutionId(jobExecutionId, TENANT_ID),
+        errorLogSummaryDao.getByJobExecutionId(UUID.randomUUID().toString(), TENANT_ID)))
+      .onComplete(context.succeeding(summaries -> context.verify(() -> {
+        // then
+        ErrorLogSummary summary = summaries.<Optional<ErrorLogSummary>>resultAt(0).orElseThrow();
+        assertEquals(5, summary.getTotalErrors().intValue());
+        assertEquals(FIRST_ERROR_CODE, summary.getErrorCounts().get(0).getErrorMessageCode());
+        assertFalse(summaries.<Optional<ErrorLogSummary>>resultAt(1).isPresent());
+        context.completeNow();
+      })));
+  }
+
+  private ErrorLogSummary summary(int count) {
+    return new ErrorLogSummary()
+      .withJobExecutionId(jobExecutionId)
+      .withErrorCounts(List.of(new ErrorCount().withErrorMessageCode(FIRST_ERROR_CODE).withCount(count)))
+      .withTotalErrors(count);
+  }
+
+  private ErrorLog errorLog(String jobExecutionId, String errorMessageCode) {
+    return new ErrorLog()
+      .withId(UUID.randomUUID().toString())
+      .withJobExecutionId(jobExecutionId)
+      .withErrorMessageCode(errorMessageCode)
+      .withLogLevel(ErrorLog.LogLevel.ERROR);
+  }
+}
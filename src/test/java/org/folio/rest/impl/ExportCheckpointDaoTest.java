@@ -0,0 +1,108 @@
+package org.folio.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.vertx.core.Context;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.UUID;
+import org.folio.dao.ExportCheckpointDao;
+import org.folio.service.ApplicationTestConfig;
+import org.folio.spring.SpringContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RunWith(VertxUnitRunner.class)
+@ExtendWith(VertxExtension.class)
+class ExportCheckpointDaoTest extends RestVerticleTestBase {
+
+  private static final long STALE_TIMEOUT = 60000;
+  private static final String OWNER = "instance-1";
+  private static final String ANOTHER_OWNER = "instance-2";
+
+  @Autowired
+  private ExportCheckpointDao exportCheckpointDao;
+
+  private final String jobExecutionId = UUID.randomUUID().toString();
+
+  public ExportCheckpointDaoTest() {
+    Context vertxContext = vertx.getOrCreateContext();
+    SpringContextUtil.init(vertxContext.owner(), vertxContext, ApplicationTestConfig.class);
+    SpringContextUtil.autowireDependencies(this, vertxContext);
+  }
+
+  @AfterEach
+  void deleteCheckpoint(VertxTestContext context) {
+    exportCheckpointDao.delete(jobExecutionId, TENANT_ID).onComplete(ar -> context.completeNow());
+  }
+
+  @Test
+  void shouldAccumulateRecordsNumbers_andRejectCommitOfAnotherOwner_whenChunksAreCommitted(VertxTestContext context) {
+    // given
+    long now = System.currentTimeMillis();
+
+    // when
+    exportCheckpointDao.save(jobExecutionId, createCheckpoint(now), TENANT_ID)
+      .compose(v -> exportCheckpointDao.commitChunk(jobExecutionId, OWNER, 1, "./storage/files/file.mrc", 100, 2, 0, now, TENANT_ID))
+      .compose(committed -> {
+        context.verify(() -> assertTrue(committed));
+        return exportCheckpointDao.commitChunk(jobExecutionId, OWNER, 2, "./storage/files/file.mrc", 150, 1, 1, now, TENANT_ID);
+      })
+      .compose(committed -> {
+        context.verify(() -> assertTrue(committed));
+        return exportCheckpointDao.commitChunk(jobExecutionId, ANOTHER_OWNER, 3, "./storage/files/file.mrc", 200, 2, 0, now, TENANT_ID);
+      })
+      .compose(committed -> {
+        context.verify(() -> assertFalse(committed));
+        return exportCheckpointDao.claimStale(1, ANOTHER_OWNER, now, now + 1, TENANT_ID);
+      })
+      .onComplete(context.succeeding(checkpoints -> context.verify(() -> {
+        // then
+        assertEquals(1, checkpoints.size());
+        JsonObject checkpoint = checkpoints.get(0);
+        assertEquals(2, checkpoint.getInteger("committedChunks").intValue());
+        assertEquals(150, checkpoint.getLong("outputLength").longValue());
+        assertEquals(3, checkpoint.getInteger("exportedRecordsNumber").intValue());
+        assertEquals(1, checkpoint.getInteger("failedRecordsNumber").intValue());
+        assertEquals(ANOTHER_OWNER, checkpoint.getString("owner"));
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldNotTakeOverCheckpoint_whenCheckpointIsNotStale_orOwnedByTheSameInstance(VertxTestContext context) {
+    // given
+    long now = System.currentTimeMillis();
+
+    // when
+    exportCheckpointDao.save(jobExecutionId, createCheckpoint(now), TENANT_ID)
+      .compose(v -> exportCheckpointDao.claimStale(1, ANOTHER_OWNER, now, now - STALE_TIMEOUT, TENANT_ID))
+      .compose(checkpoints -> {
+        context.verify(() -> assertTrue(checkpoints.isEmpty()));
+        return exportCheckpointDao.claimStale(1, OWNER, now + 2 * STALE_TIMEOUT, now + STALE_TIMEOUT, TENANT_ID);
+      })
+      .onComplete(context.succeeding(checkpoints -> context.verify(() -> {
+        // then
+        assertTrue(checkpoints.isEmpty());
+        context.completeNow();
+      })));
+  }
+
+  private JsonObject createCheckpoint(long updatedAt) {
+    return new JsonObject()
+      .put("job", new JsonObject().put("jobExecutionId", jobExecutionId))
+      .put("committedChunks", 0)
+      .put("outputLength", 0)
+      .put("exportedRecordsNumber", 0)
+      .put("failedRecordsNumber", 0)
+      .put("owner", OWNER)
+      .put("updatedAt", updatedAt);
+  }
+}
@@ -0,0 +1,136 @@
+package org.folio.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.folio.dao.ExportChunkDao;
+import org.folio.dao.impl.ExportChunkDaoImpl;
+import org.folio.service.ApplicationTestConfig;
+import org.folio.spring.SpringContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RunWith(VertxUnitRunner.class)
+@ExtendWith(VertxExtension.class)
+class ExportChunkDaoTest extends RestVerticleTestBase {
+
+  private static final long CLAIM_TIMEOUT = 60000;
+
+  @Autowired
+  private ExportChunkDao exportChunkDao;
+
+  private final String jobExecutionId = UUID.randomUUID().toString();
+
+  public ExportChunkDaoTest() {
+    Context vertxContext = vertx.getOrCreateContext();
+    SpringContextUtil.init(vertxContext.owner(), vertxContext, ApplicationTestConfig.class);
+    SpringContextUtil.autowireDependencies(this, vertxContext);
+  }
+
+  @AfterEach
+  void deleteJob(VertxTestContext context) {
+    exportChunkDao.deleteJob(jobExecutionId, TENANT_ID).onComplete(ar -> context.completeNow());
+  }
+
+  @Test
+  void shouldClaimEachChunkOnce_andNotClaimLastChunk_whenOtherChunksAreNotCompleted(VertxTestContext context) {
+    // given
+    List<JsonObject> chunks = Arrays.asList(createChunk(0, false), createChunk(1, false), createChunk(2, false), createChunk(3, true));
+    long claimedAt = System.currentTimeMillis();
+
+    // when
+    saveJobWithChunks(chunks)
+      .compose(v -> CompositeFuture.all(
+        exportChunkDao.claimChunks(2, claimedAt, claimedAt - CLAIM_TIMEOUT, TENANT_ID),
+        exportChunkDao.claimChunks(2, claimedAt, claimedAt - CLAIM_TIMEOUT, TENANT_ID)))
+      .onComplete(context.succeeding(claims -> context.verify(() -> {
+        // then
+        Set<Integer> claimedChunkNumbers = new HashSet<>();
+        for (int i = 0; i < claims.size(); i++) {
+          List<JsonObject> claimedChunks = claims.resultAt(i);
+          claimedChunks.forEach(chunk -> assertTrue(claimedChunkNumbers.add(chunk.getInteger("chunkNumber"))));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), claimedChunkNumbers);
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldClaimLastChunk_whenOtherChunksAreCompleted(VertxTestContext context) {
+    // given
+    List<JsonObject> chunks = Arrays.asList(createChunk(0, false), createChunk(1, true));
+    long claimedAt = System.currentTimeMillis();
+
+    // when
+    saveJobWithChunks(chunks)
+      .compose(v -> exportChunkDao.claimChunks(2, claimedAt, claimedAt - CLAIM_TIMEOUT, TENANT_ID))
+      .compose(claimedChunks -> {
+        context.verify(() -> assertEquals(1, claimedChunks.size()));
+        return exportChunkDao.completeChunk(claimedChunks.get(0), "./storage/files/chunk-0", 2, 0, TENANT_ID);
+      })
+      .compose(completed -> {
+        context.verify(() -> assertTrue(completed));
+        return exportChunkDao.claimChunks(2, claimedAt, claimedAt - CLAIM_TIMEOUT, TENANT_ID);
+      })
+      .onComplete(context.succeeding(claimedChunks -> context.verify(() -> {
+        // then
+        assertEquals(1, claimedChunks.size());
+        assertTrue(claimedChunks.get(0).getBoolean("last"));
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldClaimChunkAgain_andRejectCompletionOfExpiredClaim_whenClaimIsExpired(VertxTestContext context) {
+    // given
+    List<JsonObject> chunks = Arrays.asList(createChunk(0, false), createChunk(1, true));
+    long expiredClaimAt = System.currentTimeMillis() - 2 * CLAIM_TIMEOUT;
+    long claimedAt = System.currentTimeMillis();
+
+    // when
+    saveJobWithChunks(chunks)
+      .compose(v -> exportChunkDao.claimChunks(1, expiredClaimAt, expiredClaimAt - CLAIM_TIMEOUT, TENANT_ID))
+      .compose(expiredClaims -> exportChunkDao.claimChunks(1, claimedAt, claimedAt - CLAIM_TIMEOUT, TENANT_ID)
+        .compose(claims -> {
+          context.verify(() -> assertEquals(expiredClaims.get(0).getString("id"), claims.get(0).getString("id")));
+          return exportChunkDao.completeChunk(expiredClaims.get(0), null, 2, 0, TENANT_ID);
+        }))
+      .onComplete(context.succeeding(completed -> context.verify(() -> {
+        // then
+        assertFalse(completed);
+        context.completeNow();
+      })));
+  }
+
+  private Future<Void> saveJobWithChunks(List<JsonObject> chunks) {
+    return exportChunkDao.saveJob(jobExecutionId, new JsonObject().put("id", jobExecutionId), TENANT_ID)
+      .compose(v -> exportChunkDao.saveChunks(chunks, TENANT_ID));
+  }
+
+  private JsonObject createChunk(int chunkNumber, boolean last) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("jobExecutionId", jobExecutionId)
+      .put("chunkNumber", chunkNumber)
+      .put("last", last)
+      .put("status", ExportChunkDaoImpl.STATUS_NEW)
+      .put("identifiers", new JsonArray().add(UUID.randomUUID().toString()));
+  }
+}
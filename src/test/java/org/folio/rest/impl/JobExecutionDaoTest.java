@@ -0,0 +1,127 @@
+package org.folio.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.folio.dao.JobExecutionDao;
+import org.folio.rest.jaxrs.model.JobExecution;
+import org.folio.rest.jaxrs.model.Progress;
+import org.folio.service.ApplicationTestConfig;
+import org.folio.spring.SpringContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RunWith(VertxUnitRunner.class)
+@ExtendWith(VertxExtension.class)
+class JobExecutionDaoTest extends RestVerticleTestBase {
+
+  private static final int CHUNKS_NUMBER = 20;
+
+  @Autowired
+  private JobExecutionDao jobExecutionDao;
+
+  private final String jobExecutionId = UUID.randomUUID().toString();
+
+  public JobExecutionDaoTest() {
+    Context vertxContext = vertx.getOrCreateContext();
+    SpringContextUtil.init(vertxContext.owner(), vertxContext, ApplicationTestConfig.class);
+    SpringContextUtil.autowireDependencies(this, vertxContext);
+  }
+
+  @AfterEach
+  void deleteJobExecution(VertxTestContext context) {
+    jobExecutionDao.deleteById(jobExecutionId, TENANT_ID).onComplete(ar -> context.completeNow());
+  }
+
+  @Test
+  void shouldNotLoseProgress_whenProgressIsIncrementedConcurrently(VertxTestContext context) {
+    // given
+    JobExecution jobExecution = new JobExecution()
+      .withId(jobExecutionId)
+      .withStatus(JobExecution.Status.IN_PROGRESS)
+      .withProgress(new Progress().withExported(0).withFailed(0).withTotal(CHUNKS_NUMBER * 3));
+
+    // when
+    jobExecutionDao.save(jobExecution, TENANT_ID)
+      .compose(savedJobExecution -> {
+        List<Future> increments = new ArrayList<>();
+        for (int chunk = 0; chunk < CHUNKS_NUMBER; chunk++) {
+          increments.add(jobExecutionDao.incrementProgress(jobExecutionId, 2, 1, new Date(), TENANT_ID));
+        }
+        return CompositeFuture.all(increments);
+      })
+      .compose(v -> jobExecutionDao.getById(jobExecutionId, TENANT_ID))
+      .onComplete(context.succeeding(optionalJobExecution -> context.verify(() -> {
+        // then
+        Progress progress = optionalJobExecution.get().getProgress();
+        assertEquals(CHUNKS_NUMBER * 2, progress.getExported().intValue());
+        assertEquals(CHUNKS_NUMBER, progress.getFailed().intValue());
+        assertEquals(CHUNKS_NUMBER * 3, progress.getTotal().intValue());
+        assertNotNull(optionalJobExecution.get().getLastUpdatedDate());
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldNotUpdateProgress_whenJobExecutionHasNoProgress(VertxTestContext context) {
+    // given
+    JobExecution jobExecution = new JobExecution()
+      .withId(jobExecutionId)
+      .withStatus(JobExecution.Status.NEW);
+
+    // when
+    jobExecutionDao.save(jobExecution, TENANT_ID)
+      .compose(savedJobExecution -> jobExecutionDao.incrementProgress(jobExecutionId, 2, 1, new Date(), TENANT_ID))
+      .onComplete(context.succeeding(updated -> context.verify(() -> {
+        // then
+        assertFalse(updated);
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldUpdateOnlyStatusAndDates_whenJobExecutionIsInProgress(VertxTestContext context) {
+    // given
+    JobExecution jobExecution = new JobExecution()
+      .withId(jobExecutionId)
+      .withStatus(JobExecution.Status.IN_PROGRESS)
+      .withProgress(new Progress().withExported(0).withFailed(0).withTotal(3));
+
+    // when
+    jobExecutionDao.save(jobExecution, TENANT_ID)
+      .compose(savedJobExecution -> jobExecutionDao.incrementProgress(jobExecutionId, 2, 1, new Date(), TENANT_ID))
+      .compose(incremented -> jobExecutionDao.updateStatusIfInProgress(jobExecutionId, JobExecution.Status.FAIL, new Date(), TENANT_ID))
+      .compose(updated -> {
+        assertTrue(updated);
+        return jobExecutionDao.updateStatusIfInProgress(jobExecutionId, JobExecution.Status.COMPLETED, new Date(), TENANT_ID);
+      })
+      .compose(updated -> {
+        assertFalse(updated);
+        return jobExecutionDao.getById(jobExecutionId, TENANT_ID);
+      })
+      .onComplete(context.succeeding(optionalJobExecution -> context.verify(() -> {
+        // then
+        JobExecution updatedJobExecution = optionalJobExecution.get();
+        assertEquals(JobExecution.Status.FAIL, updatedJobExecution.getStatus());
+        assertNotNull(updatedJobExecution.getCompletedDate());
+        assertEquals(2, updatedJobExecution.getProgress().getExported().intValue());
+        assertEquals(1, updatedJobExecution.getProgress().getFailed().intValue());
+        context.completeNow();
+      })));
+  }
+}
@@ -0,0 +1,113 @@
+package org.folio.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.folio.dao.JobExecutionDao;
+import org.folio.rest.jaxrs.model.JobExecution;
+import org.folio.service.ApplicationTestConfig;
+import org.folio.spring.SpringContextUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RunWith(VertxUnitRunner.class)
+@ExtendWith(VertxExtension.class)
+class JobExecutionPagingTest extends RestVerticleTestBase {
+
+  @Autowired
+  private JobExecutionDao jobExecutionDao;
+
+  private final String jobProfileId = UUID.randomUUID().toString();
+
+  public JobExecutionPagingTest() {
+    Context vertxContext = vertx.getOrCreateContext();
+    SpringContextUtil.init(vertxContext.owner(), vertxContext, ApplicationTestConfig.class);
+    SpringContextUtil.autowireDependencies(this, vertxContext);
+  }
+
+  @Test
+  void shouldPageThroughJobExecutionsByCursor(VertxTestContext context) {
+    // given
+    String query = "jobProfileId==" + jobProfileId + " sortBy completedDate/sort.descending";
+    CompositeFuture.all(
+        jobExecutionDao.save(jobExecution("first", 1000), TENANT_ID),
+        jobExecutionDao.save(jobExecution("second", 2000), TENANT_ID),
+        jobExecutionDao.save(jobExecution("third", 3000), TENANT_ID))
+      // when
+      .compose(v -> jobExecutionDao.get(query, 0, 2, null, TENANT_ID))
+      .compose(firstPage -> {
+        assertEquals(3, firstPage.getTotalRecords().intValue());
+        assertEquals(List.of("third", "second"), names(firstPage.getJobExecutions()));
+        assertNotNull(firstPage.getNextCursor());
+        return jobExecutionDao.get(query, 0, 2, firstPage.getNextCursor(), TENANT_ID);
+      })
+      .onComplete(context.succeeding(secondPage -> context.verify(() -> {
+        // then
+        assertEquals(3, secondPage.getTotalRecords().intValue());
+        assertEquals(List.of("first"), names(secondPage.getJobExecutions()));
+        assertNull(secondPage.getNextCursor());
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldPageThroughJobExecutionsByCursor_inCaseInsensitiveUnaccentedOrder_withMissingValuesLast(VertxTestContext context) {
+    // given
+    String query = "jobProfileId==" + jobProfileId + " sortBy jobProfileName";
+    CompositeFuture.all(
+        jobExecutionDao.save(jobExecution("beta", 1000), TENANT_ID),
+        jobExecutionDao.save(jobExecution("Alpha", 2000), TENANT_ID),
+        jobExecutionDao.save(jobExecution("\u00c1dam", 3000), TENANT_ID),
+        jobExecutionDao.save(jobExecution(null, 4000), TENANT_ID))
+      // when
+      .compose(v -> jobExecutionDao.get(query, 0, 2, null, TENANT_ID))
+      .compose(firstPage -> {
+        assertEquals(List.of("\u00c1dam", "Alpha"), names(firstPage.getJobExecutions()));
+        return jobExecutionDao.get(query, 0, 2, firstPage.getNextCursor(), TENANT_ID);
+      })
+      .compose(secondPage -> {
+        assertEquals(Arrays.asList("beta", null), names(secondPage.getJobExecutions()));
+        return jobExecutionDao.get(query, 0, 2, secondPage.getNextCursor(), TENANT_ID);
+      })
+      .onComplete(context.succeeding(thirdPage -> context.verify(() -> {
+        // then
+        assertTrue(thirdPage.getJobExecutions().isEmpty());
+        assertNull(thirdPage.getNextCursor());
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldFailToPageByCursor_whenQueryIsSortedBySeveralFields(VertxTestContext context) {
+    // when
+    jobExecutionDao.get("jobProfileId==" + jobProfileId + " sortBy completedDate hrId", 0, 2, "cursor", TENANT_ID)
+      .onComplete(context.failing(e -> context.completeNow()));
+  }
+
+  private JobExecution jobExecution(String jobProfileName, long completedDate) {
+    return new JobExecution()
+      .withJobProfileId(jobProfileId)
+      .withJobProfileName(jobProfileName)
+      .withCompletedDate(new Date(completedDate));
+  }
+
+  private List<String> names(List<JobExecution> jobExecutions) {
+    return jobExecutions.stream()
+      .map(JobExecution::getJobProfileName)
+      .collect(Collectors.toList());
+  }
+}
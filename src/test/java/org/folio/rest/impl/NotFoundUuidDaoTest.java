@@ -0,0 +1,68 @@
+package org.folio.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.util.List;
+import java.util.UUID;
+import org.folio.dao.NotFoundUuidDao;
+import org.folio.service.ApplicationTestConfig;
+import org.folio.spring.SpringContextUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RunWith(VertxUnitRunner.class)
+@ExtendWith(VertxExtension.class)
+class NotFoundUuidDaoTest extends RestVerticleTestBase {
+
+  private static final String FIRST_UUID = "0c8b4d1e-3d4e-4b4a-9d0c-1d6a3e0f1a01";
+  private static final String SECOND_UUID = "0c8b4d1e-3d4e-4b4a-9d0c-1d6a3e0f1a02";
+  private static final String THIRD_UUID = "0c8b4d1e-3d4e-4b4a-9d0c-1d6a3e0f1a03";
+
+  @Autowired
+  private NotFoundUuidDao notFoundUuidDao;
+
+  private final String jobExecutionId = UUID.randomUUID().toString();
+
+  public NotFoundUuidDaoTest() {
+    Context vertxContext = vertx.getOrCreateContext();
+    SpringContextUtil.init(vertxContext.owner(), vertxContext, ApplicationTestConfig.class);
+    SpringContextUtil.autowireDependencies(this, vertxContext);
+  }
+
+  @Test
+  void shouldPageThroughUUIDsAppendedByChunks(VertxTestContext context) {
+    // when
+    CompositeFuture.all(
+        notFoundUuidDao.save(jobExecutionId, List.of(THIRD_UUID, FIRST_UUID), TENANT_ID),
+        notFoundUuidDao.save(jobExecutionId, List.of(SECOND_UUID), TENANT_ID),
+        notFoundUuidDao.save(UUID.randomUUID().toString(), List.of(FIRST_UUID), TENANT_ID))
+      .compose(v -> notFoundUuidDao.get(jobExecutionId, 1, 2, TENANT_ID))
+      .onComplete(context.succeeding(notFoundUuids -> context.verify(() -> {
+        // then
+        assertEquals(3, notFoundUuids.getTotalRecords().intValue());
+        assertEquals(List.of(SECOND_UUID, THIRD_UUID), notFoundUuids.getUuids());
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldReturnTotalRecords_whenOffsetIsBeyondLastUUID(VertxTestContext context) {
+    // when
+    notFoundUuidDao.save(jobExecutionId, List.of(FIRST_UUID), TENANT_ID)
+      .compose(v -> notFoundUuidDao.get(jobExecutionId, 10, 10, TENANT_ID))
+      .onComplete(context.succeeding(notFoundUuids -> context.verify(() -> {
+        // then
+        assertEquals(1, notFoundUuids.getTotalRecords().intValue());
+        assertTrue(notFoundUuids.getUuids().isEmpty());
+        context.completeNow();
+      })));
+  }
+}
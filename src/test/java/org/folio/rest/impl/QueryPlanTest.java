@@ -0,0 +1,74 @@
+package org.folio.rest.impl;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertTrue;
+
+import io.vertx.core.Future;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.sqlclient.Tuple;
+import java.util.Date;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.folio.dao.impl.FileDefinitionDaoImpl;
+import org.folio.dao.impl.JobExecutionDaoImpl;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.util.HelperUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.runner.RunWith;
+
+/**
+ * Checks the queries of the DAOs for the jobs and their error logs are planned with the indexes of the migration scripts.
+ * Sequential scans are disabled, since the tables are too small for the planner to prefer an index otherwise.
+ */
+@RunWith(VertxUnitRunner.class)
+@ExtendWith(VertxExtension.class)
+class QueryPlanTest extends RestVerticleTestBase {
+
+  private static final Date EXPIRATION_DATE = new Date(0);
+
+  @Test
+  void shouldUseJobExecutionIdIndex_whenErrorLogsAreQueriedByJobExecutionId(VertxTestContext context) {
+    String query = format("SELECT jsonb FROM %s.error_logs %s", schema(),
+      HelperUtils.getErrorLogCriterionByJobExecutionId(UUID.randomUUID().toString()));
+
+    assertPlanUsesIndex(query, Tuple.tuple(), "error_logs_job_execution_id_error_message_code_idx", context);
+  }
+
+  @Test
+  void shouldUseStatusIndex_whenExpiredJobExecutionsAreQueried(VertxTestContext context) {
+    String query = format("SELECT jsonb FROM %s.job_executions %s", schema(),
+      JobExecutionDaoImpl.constructExpiredEntriesCriterion(EXPIRATION_DATE));
+
+    assertPlanUsesIndex(query, Tuple.tuple(), "job_executions_status_last_updated_date_idx", context);
+  }
+
+  @Test
+  void shouldUseSourcePathIdIndex_whenExpiredFileDefinitionsArePagedThrough(VertxTestContext context) {
+    String query = format(FileDefinitionDaoImpl.EXPIRED_ENTRIES_QUERY, schema(), "file_definitions");
+
+    assertPlanUsesIndex(query, Tuple.of("2020-01-01T00:00:00.000+0000", UUID.randomUUID(), 500),
+      "file_definitions_with_source_path_id_idx", context);
+  }
+
+  private void assertPlanUsesIndex(String query, Tuple params, String indexName, VertxTestContext context) {
+    // when
+    PostgresClient.getInstance(vertx, TENANT_ID).withTrans(conn -> conn.execute("SET LOCAL enable_seqscan = off")
+        .compose(v -> conn.execute("EXPLAIN " + query, params))
+        .compose(rows -> Future.succeededFuture(StreamSupport.stream(rows.spliterator(), false)
+          .map(row -> row.getString(0))
+          .collect(Collectors.joining("\n")))))
+      .onComplete(context.succeeding(plan -> context.verify(() -> {
+        // then
+        assertTrue(plan, plan.contains(indexName));
+        context.completeNow();
+      })));
+  }
+
+  private String schema() {
+    return PostgresClient.convertToPsqlStandard(TENANT_ID);
+  }
+}
@@ -3,6 +3,7 @@ package org.folio.rest.impl;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 
 import io.vertx.core.Context;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.commons.collections4.map.HashedMap;
@@ -17,6 +18,9 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -110,4 +114,39 @@ public class SearchClientTest extends RestVerticleTestBase {
       testContext.completeNow();
     }).onFailure(testContext::failNow);
   }
+
+  @Test
+  void shouldWriteInstanceBulkUUIDsToStream(VertxTestContext testContext) throws IOException {
+    // given
+    String query = "cql query";
+    Path file = Files.createTempFile("instance-ids", ".csv");
+    // when
+    vertx.fileSystem().open(file.toString(), new OpenOptions())
+      .compose(asyncFile -> searchClient.writeInstancesBulkUUIDs(query, okapiConnectionParams, asyncFile)
+        .compose(uuidsCount -> asyncFile.close().map(uuidsCount)))
+      .onSuccess(uuidsCount -> testContext.verify(() -> {
+        //then
+        Assert.assertEquals(2, uuidsCount.intValue());
+        Assert.assertEquals(2, Files.readAllLines(file).size());
+        Files.delete(file);
+        testContext.completeNow();
+      })).onFailure(testContext::failNow);
+  }
+
+  @Test
+  void shouldWriteNoUUIDs_whenRequestInstanceBulkUUIDsAndInvalidJsonBodyReturned(VertxTestContext testContext) throws IOException {
+    // given
+    String query = "invalid json returned";
+    Path file = Files.createTempFile("instance-ids", ".csv");
+    // when
+    vertx.fileSystem().open(file.toString(), new OpenOptions())
+      .compose(asyncFile -> searchClient.writeInstancesBulkUUIDs(query, okapiConnectionParams, asyncFile)
+        .compose(uuidsCount -> asyncFile.close().map(uuidsCount)))
+      .onSuccess(uuidsCount -> testContext.verify(() -> {
+        //then
+        Assert.assertEquals(0, uuidsCount.intValue());
+        Files.delete(file);
+        testContext.completeNow();
+      })).onFailure(testContext::failNow);
+  }
 }
@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Date;
+import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.dao.FileDefinitionDao;
 import org.folio.rest.jaxrs.model.FileDefinition;
@@ -231,6 +232,34 @@ class StorageCleanupServiceImplTest extends RestVerticleTestBase {
     });
   }
 
+  @Test
+  void shouldReturnExpiredFileDefinitionsPageByPage_andDeleteThemByIds(VertxTestContext context) {
+    // given
+    fileDefinition1.getMetadata()
+      .withUpdatedDate(new Date(new Date().getTime() - ONE_HOUR_ONE_MINUTE_IN_MILLIS));
+    fileDefinition2.getMetadata()
+      .withUpdatedDate(new Date(new Date().getTime() - ONE_HOUR_ONE_MINUTE_IN_MILLIS));
+    Date expirationDate = new Date(new Date().getTime() - FIFTY_NINE_MINUTES_IN_MILLIS);
+
+    // when
+    fileDefinitionDao.save(fileDefinition1, TENANT_ID)
+      .compose(saveFileDefinition1Ar -> fileDefinitionDao.save(fileDefinition2, TENANT_ID))
+      .compose(saveFileDefinition2Ar -> fileDefinitionDao.getExpiredEntries(expirationDate, null, 1, TENANT_ID))
+      .compose(firstPage -> fileDefinitionDao.getExpiredEntries(expirationDate, firstPage.get(0).getId(), 1, TENANT_ID)
+        .compose(secondPage -> fileDefinitionDao.getExpiredEntries(expirationDate, secondPage.get(0).getId(), 1, TENANT_ID)
+          .compose(thirdPage -> fileDefinitionDao.deleteByIds(List.of(FILE_DEFINITION_ID_1, FILE_DEFINITION_ID_2), TENANT_ID)
+            .onComplete(ar -> context.verify(() -> {
+              // pages are ordered by id
+              assertEquals(FILE_DEFINITION_ID_2, firstPage.get(0).getId());
+              assertEquals(FILE_DEFINITION_ID_1, secondPage.get(0).getId());
+              assertTrue(thirdPage.isEmpty());
+              assertTrue(ar.succeeded());
+              assertEquals(2, ar.result().intValue());
+              context.completeNow();
+            })))))
+      .onFailure(context::failNow);
+  }
+
   private void clearFileDefinitionTable(VertxTestContext context) {
     PostgresClient.getInstance(vertx, TENANT_ID).delete(FILE_DEFINITIONS_TABLE, new Criterion(), event -> {
       if (event.failed()) {
@@ -182,4 +182,32 @@ public class StorageTestSuite {
   class SearchClientTestNested extends SearchClientTest {
 
   }
+
+  @Nested
+  class ExportChunkDaoTestNested extends ExportChunkDaoTest {
+  }
+
+  @Nested
+  class ExportCheckpointDaoTestNested extends ExportCheckpointDaoTest {
+  }
+
+  @Nested
+  class JobExecutionDaoTestNested extends JobExecutionDaoTest {
+  }
+
+  @Nested
+  class NotFoundUuidDaoTestNested extends NotFoundUuidDaoTest {
+  }
+
+  @Nested
+  class ErrorLogSummaryDaoTestNested extends ErrorLogSummaryDaoTest {
+  }
+
+  @Nested
+  class QueryPlanTestNested extends QueryPlanTest {
+  }
+
+  @Nested
+  class JobExecutionPagingTestNested extends JobExecutionPagingTest {
+  }
 }
@@ -1,5 +1,6 @@
 package org.folio.rest.impl;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -8,6 +9,8 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.commons.collections4.map.HashedMap;
 import org.folio.clients.UsersClient;
 import org.folio.rest.jaxrs.model.UserInfo;
+import org.folio.service.ApplicationTestConfig;
+import org.folio.spring.SpringContextUtil;
 import org.folio.util.OkapiConnectionParams;
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeAll;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +33,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class UsersClientTest extends RestVerticleTestBase {
   private static OkapiConnectionParams okapiConnectionParams;
 
+  @Autowired
+  private UsersClient usersClient;
+
+  public UsersClientTest() {
+    Context vertxContext = vertx.getOrCreateContext();
+    SpringContextUtil.init(vertxContext.owner(), vertxContext, ApplicationTestConfig.class);
+    SpringContextUtil.autowireDependencies(this, vertxContext);
+  }
+
   @BeforeAll
   public static void beforeClass() {
     Map<String, String> headers = new HashedMap<>();
@@ -39,8 +52,6 @@ class UsersClientTest extends RestVerticleTestBase {
 
   @Test
   void shouldReturnUserById() {
-    // given
-    UsersClient usersClient = new UsersClient();
     // when
     Optional<JsonObject> optionalUser = usersClient.getById(UUID.randomUUID().toString(), UUID.randomUUID().toString(), okapiConnectionParams);
     // then
@@ -49,8 +60,6 @@ class UsersClientTest extends RestVerticleTestBase {
 
   @Test
   void shouldReturnUserInfoById(VertxTestContext context) {
-    // given
-    UsersClient usersClient = new UsersClient();
     // when
     Future<UserInfo> userInfo = usersClient.getUserInfoAsync(UUID.randomUUID().toString(), okapiConnectionParams);
     // then
@@ -17,6 +17,7 @@ import org.folio.rest.jaxrs.model.ExportedFile;
 import org.folio.rest.jaxrs.model.FileDownload;
 import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.service.export.storage.ExportStorageService;
+import org.folio.service.export.storage.LocalFileDownloadService;
 import org.folio.service.job.JobExecutionService;
 import org.folio.util.ErrorCode;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,8 @@ class DataExportHelperUnitTest {
   @Mock
   private ExportStorageService exportStorageService;
   @Mock
+  private LocalFileDownloadService localFileDownloadService;
+  @Mock
   private JobExecutionService jobExecutionService;
   @InjectMocks
   @Spy
@@ -96,4 +99,47 @@ class DataExportHelperUnitTest {
       assertTrue(ar.failed());
     });
   }
+
+  @Test
+  void getDownloadLink_shouldNotLoadJobForAlreadyResolvedFile() {
+    // given
+    ExportedFile exportedFile = new ExportedFile().withFileId(UUID.randomUUID().toString()).withFileName("testFile-timestemp.mrc");
+    JobExecution jobExecution = new JobExecution().withExportedFiles(Collections.singleton(exportedFile));
+    String jobExecutionId = UUID.randomUUID().toString();
+
+    String url = "https://test.aws.amazon.com";
+    Mockito.when(exportStorageService.getFileDownloadLink(anyString(), anyString(), anyString())).thenReturn(succeededFuture(url));
+    Mockito.when(jobExecutionService.getById(anyString(), anyString())).thenReturn(succeededFuture(jobExecution));
+
+    // when
+    Future<FileDownload> linkFuture = helper.getDownloadLink(jobExecutionId, exportedFile.getFileId(), TENANT)
+      .compose(fileDownload -> helper.getDownloadLink(jobExecutionId, exportedFile.getFileId(), TENANT));
+    // then
+    linkFuture.onComplete(ar -> {
+      assertTrue(ar.succeeded());
+      assertEquals(url, ar.result().getLink());
+      Mockito.verify(jobExecutionService, Mockito.times(1)).getById(jobExecutionId, TENANT);
+    });
+  }
+
+  @Test
+  void getDownloadLink_shouldGetLocalDownloadLinkIfLocalDownloadEnabled() {
+    // given
+    ExportedFile exportedFile = new ExportedFile().withFileId(UUID.randomUUID().toString()).withFileName("testFile-timestemp.mrc");
+    JobExecution jobExecution = new JobExecution().withExportedFiles(Collections.singleton(exportedFile));
+
+    String url = "http://localhost:8082/testTenant/file-definition-id/testFile-timestemp.mrc";
+    Mockito.when(localFileDownloadService.isEnabled()).thenReturn(true);
+    Mockito.when(localFileDownloadService.getFileDownloadLink(anyString(), anyString(), anyString())).thenReturn(succeededFuture(url));
+    Mockito.when(jobExecutionService.getById(anyString(), anyString())).thenReturn(succeededFuture(jobExecution));
+
+    // when
+    Future<FileDownload> linkFuture = helper.getDownloadLink(UUID.randomUUID().toString(), exportedFile.getFileId(), TENANT);
+    // then
+    linkFuture.onComplete(ar -> {
+      assertTrue(ar.succeeded());
+      assertEquals(url, ar.result().getLink());
+      Mockito.verifyNoInteractions(exportStorageService);
+    });
+  }
 }
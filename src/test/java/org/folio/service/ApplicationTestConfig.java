@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +20,8 @@ import java.util.Map;
   "org.folio.service",
   "org.folio.clients",
   "org.folio.rest.impl"})
+@PropertySource({"classpath:minio.properties", "classpath:local-download.properties", "classpath:upload.properties",
+  "classpath:export.properties"})
 public class ApplicationTestConfig {
 
   @Bean
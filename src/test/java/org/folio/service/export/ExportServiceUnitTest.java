@@ -7,7 +7,6 @@ import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.assertj.core.util.Lists;
 import org.folio.TestUtil;
-import org.folio.clients.InventoryClient;
 import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.jaxrs.model.MappingProfile;
@@ -31,10 +30,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.folio.util.ErrorCode.ERROR_MARC_RECORD_CANNOT_BE_CONVERTED;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -53,7 +52,6 @@ class ExportServiceUnitTest {
   private static final String TENANT = "tenant";
   private static final String RECORDS_RESPONSE_JSON_FILE_PATH = "mockData/srs/get_marc_bib_records_response.json";
   private static final String LONG_SRS_RECORD_JSON_FILE_PATH = "mockData/srs/srs_record_content_117000_characters_length.json";
-  private static final String INSTANCES_RESPONSE_JSON_FILE_PATH = "clients/inventory/get_instances_response.json";
   private static final String INSTANCE_ID = "6666df22-5df3-412b-b9cc-cbdddb928e93";
 
   @Mock
@@ -62,8 +60,6 @@ class ExportServiceUnitTest {
   private ExportStorageService exportStorageService;
   @Mock
   private ErrorLogService errorLogService;
-  @Mock
-  private InventoryClient inventoryClient;
   @InjectMocks
   private ExportService exportService = new LocalFileSystemExportService();
 
@@ -71,6 +67,7 @@ class ExportServiceUnitTest {
   private final String jobExecutionId = UUID.randomUUID().toString();
   private final OkapiConnectionParams params = new OkapiConnectionParams();
   private final ExportPayload exportPayload = new ExportPayload(emptyList(), true, fileDefinition, params, jobExecutionId, new MappingProfile());
+  private final RecordDescriptor recordDescriptor = new RecordDescriptor(INSTANCE_ID, "in00000000011", "Interesting Times");
 
   @Test
   void shouldPassExportFor_1_SrsRecord() {
@@ -81,7 +78,7 @@ class ExportServiceUnitTest {
 
     when(fileStorage.saveFileDataBlocking(any(byte[].class), any(FileDefinition.class))).thenReturn(fileDefinition);
     // when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, emptyList(), exportPayload);
     // then
     Mockito.verify(fileStorage, Mockito.times(1)).saveFileDataBlocking(any(byte[].class), any(FileDefinition.class));
     assertEquals(0, marcRecordsToExport.getValue().intValue());
@@ -92,7 +89,7 @@ class ExportServiceUnitTest {
     // given
     Pair<List<String>, Integer> marcRecordsToExport = Pair.of(null, 0);
     // when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, emptyList(), exportPayload);
     // then
     Mockito.verify(fileStorage, Mockito.times(0)).saveFileDataBlocking(any(byte[].class), any(FileDefinition.class));
     assertEquals(0, marcRecordsToExport.getValue().intValue());
@@ -102,14 +99,11 @@ class ExportServiceUnitTest {
   void shouldSaveErrorLog_whenJsonCannotBeConvertedToMarcRecordBecauseOfLargeSize() {
     //given
     String record = TestUtil.readFileContentFromResources(LONG_SRS_RECORD_JSON_FILE_PATH);
-    String stringJson = TestUtil.readFileContentFromResources(INSTANCES_RESPONSE_JSON_FILE_PATH);
-    JsonObject instances = new JsonObject(stringJson);
-    JsonObject instance = instances.getJsonArray("instances").getJsonObject(0);
+    JsonObject instance = recordDescriptor.toInstance();
     Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(record), 0);
 
-    when(inventoryClient.getInstancesByIds(Collections.singletonList(INSTANCE_ID), jobExecutionId, params, 1)).thenReturn(Optional.of(instances));
     //when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, singletonList(recordDescriptor), exportPayload);
     //then
     Mockito.verify(errorLogService, Mockito.times(1)).saveWithAffectedRecord(eq(instance), eq(ERROR_MARC_RECORD_CANNOT_BE_CONVERTED.getCode()), eq(jobExecutionId), any(MarcException.class), eq(params));
     assertEquals(1, marcRecordsToExport.getValue().intValue());
@@ -125,14 +119,24 @@ class ExportServiceUnitTest {
       "{\"945\":{\"subfields\":[{\"z\":\"05-22-15\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
       "{\"999\":{\"subfields\":[{\"s\":\"b26859f1-8c79-47b3-b047-1ecde668492f\"}," +
       "{\"i\":\"6666df22-5df3-412b-b9cc-cbdddb928e93\"}],\"ind1\":\"f\",\"ind2\":\"f\"}}]}\n";
-    String stringJson = TestUtil.readFileContentFromResources(INSTANCES_RESPONSE_JSON_FILE_PATH);
-    JsonObject instances = new JsonObject(stringJson);
-    JsonObject instance = instances.getJsonArray("instances").getJsonObject(0);
+    JsonObject instance = recordDescriptor.toInstance();
     Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(record), 0);
 
-    when(inventoryClient.getInstancesByIds(Collections.singletonList(INSTANCE_ID), jobExecutionId, params, 1)).thenReturn(Optional.of(instances));
     //when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, singletonList(recordDescriptor), exportPayload);
+    //then
+    Mockito.verify(errorLogService, Mockito.times(1)).saveWithAffectedRecord(eq(instance), eq(ERROR_MARC_RECORD_CANNOT_BE_CONVERTED.getCode()), eq(jobExecutionId), any(MarcException.class), eq(params));
+    assertEquals(1, marcRecordsToExport.getValue().intValue());
+  }
+
+  @Test
+  void shouldSaveErrorLogWithInstanceIdOnly_whenRecordDescriptorIsNotAvailable() {
+    //given
+    String record = TestUtil.readFileContentFromResources(LONG_SRS_RECORD_JSON_FILE_PATH);
+    JsonObject instance = new JsonObject().put("id", INSTANCE_ID);
+    Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(record), 0);
+    //when
+    exportService.exportSrsRecord(marcRecordsToExport, emptyList(), exportPayload);
     //then
     Mockito.verify(errorLogService, Mockito.times(1)).saveWithAffectedRecord(eq(instance), eq(ERROR_MARC_RECORD_CANNOT_BE_CONVERTED.getCode()), eq(jobExecutionId), any(MarcException.class), eq(params));
     assertEquals(1, marcRecordsToExport.getValue().intValue());
@@ -148,14 +152,11 @@ class ExportServiceUnitTest {
       "{\"945\":{\"subfields\":[{\"z\":\"05-22-15\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
       "{\"999\":{\"subfields\":[{\"s\":\"b26859f1-8c79-47b3-b047-1ecde668492f\"}," +
       "{\"i\":\"6666df22-5df3-412b-b9cc-cbdddb928e93\"}],\"ind1\":\"f\",\"ind2\":\"f\"}}]}\n";
-    String stringJson = TestUtil.readFileContentFromResources(INSTANCES_RESPONSE_JSON_FILE_PATH);
-    JsonObject instances = new JsonObject(stringJson);
-    JsonObject instance = instances.getJsonArray("instances").getJsonObject(0);
+    JsonObject instance = recordDescriptor.toInstance();
     Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(record), 0);
 
-    when(inventoryClient.getInstancesByIds(Collections.singletonList(INSTANCE_ID), jobExecutionId, params, 1)).thenReturn(Optional.of(instances));
     //when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, singletonList(recordDescriptor), exportPayload);
     //then
     Mockito.verify(errorLogService, Mockito.times(1)).saveWithAffectedRecord(eq(instance), eq(ERROR_MARC_RECORD_CANNOT_BE_CONVERTED.getCode()), eq(jobExecutionId), any(MarcException.class), eq(params));
     assertEquals(1, marcRecordsToExport.getValue().intValue());
@@ -171,14 +172,11 @@ class ExportServiceUnitTest {
       "{\"945\":{\"subfields\":[{\"z\":\"05-22-15\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
       "{\"999\":{\"subfields\":[{\"s\":\"b26859f1-8c79-47b3-b047-1ecde668492f\"}," +
       "{\"i\":\"6666df22-5df3-412b-b9cc-cbdddb928e93\"}],\"ind1\":\"f\",\"ind2\":\"f\"}}]}\n";
-    String stringJson = TestUtil.readFileContentFromResources(INSTANCES_RESPONSE_JSON_FILE_PATH);
-    JsonObject instances = new JsonObject(stringJson);
-    JsonObject instance = instances.getJsonArray("instances").getJsonObject(0);
+    JsonObject instance = recordDescriptor.toInstance();
     Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(record), 0);
 
-    when(inventoryClient.getInstancesByIds(Collections.singletonList(INSTANCE_ID), jobExecutionId, params, 1)).thenReturn(Optional.of(instances));
     //when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, singletonList(recordDescriptor), exportPayload);
     //then
     Mockito.verify(errorLogService, Mockito.times(1)).saveWithAffectedRecord(eq(instance), eq(ERROR_MARC_RECORD_CANNOT_BE_CONVERTED.getCode()), eq(jobExecutionId), any(MarcException.class), eq(params));
     assertEquals(1, marcRecordsToExport.getValue().intValue());
@@ -194,14 +192,11 @@ class ExportServiceUnitTest {
       "{\"945\":{\"subfields\":[{\"z\":\"05-22-15\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
       "{\"999\":{\"subfields\":[{\"s\":\"b26859f1-8c79-47b3-b047-1ecde668492f\"}," +
       "{\"i\":\"6666df22-5df3-412b-b9cc-cbdddb928e93\"}],\"ind1\":\"f\",\"ind2\":\"f\"}}]}\n";
-    String stringJson = TestUtil.readFileContentFromResources(INSTANCES_RESPONSE_JSON_FILE_PATH);
-    JsonObject instances = new JsonObject(stringJson);
-    JsonObject instance = instances.getJsonArray("instances").getJsonObject(0);
+    JsonObject instance = recordDescriptor.toInstance();
     Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(record), 0);
 
-    when(inventoryClient.getInstancesByIds(Collections.singletonList(INSTANCE_ID), jobExecutionId, params, 1)).thenReturn(Optional.of(instances));
     //when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, singletonList(recordDescriptor), exportPayload);
     //then
     Mockito.verify(errorLogService, Mockito.times(1)).saveWithAffectedRecord(eq(instance), eq(ERROR_MARC_RECORD_CANNOT_BE_CONVERTED.getCode()), eq(jobExecutionId), any(MarcException.class), eq(params));
     assertEquals(1, marcRecordsToExport.getValue().intValue());
@@ -220,7 +215,7 @@ class ExportServiceUnitTest {
     JsonObject instance = new JsonObject(); // In this case instance is just empty object because 999 field is corrupted.
     Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(record), 0);
     //when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, singletonList(recordDescriptor), exportPayload);
     //then
     Mockito.verify(errorLogService, Mockito.times(1)).saveWithAffectedRecord(eq(instance), eq(ERROR_MARC_RECORD_CANNOT_BE_CONVERTED.getCode()), eq(jobExecutionId), any(MarcException.class), eq(params));
     assertEquals(1, marcRecordsToExport.getValue().intValue());
@@ -256,7 +251,7 @@ class ExportServiceUnitTest {
     Pair<List<String>, Integer> marcRecordsToExport = MutablePair.of(Collections.singletonList(inventoryRecord), 0);
 
     // when
-    exportService.exportSrsRecord(marcRecordsToExport, exportPayload);
+    exportService.exportSrsRecord(marcRecordsToExport, emptyList(), exportPayload);
     // then
     Mockito.verify(fileStorage, never()).saveFileDataBlocking(any(byte[].class), any(FileDefinition.class));
     assertEquals(0, marcRecordsToExport.getValue().intValue());
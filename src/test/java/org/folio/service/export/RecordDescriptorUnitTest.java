@@ -0,0 +1,38 @@
+package org.folio.service.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.vertx.core.json.JsonObject;
+import java.util.List;
+import org.folio.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class RecordDescriptorUnitTest {
+  private static final String RECORDS_RESPONSE_JSON_FILE_PATH = "mockData/srs/get_marc_bib_records_response.json";
+
+  @Test
+  void shouldDescribeSrsRecord_byExternalIdsAndTitleField() {
+    JsonObject srsRecord = new JsonObject(TestUtil.readFileContentFromResources(RECORDS_RESPONSE_JSON_FILE_PATH))
+      .getJsonArray("sourceRecords").getJsonObject(0);
+    srsRecord.getJsonObject("externalIdsHolder").put("instanceHrid", "in00000000001");
+
+    List<RecordDescriptor> descriptors = RecordDescriptor.of(List.of(srsRecord));
+
+    assertEquals(1, descriptors.size());
+    assertEquals(new JsonObject()
+      .put("id", "ae573875-fbc8-40e7-bda7-0ac283354226")
+      .put("hrid", "in00000000001")
+      .put("title", "The Law of Federal income taxation."), descriptors.get(0).toInstance());
+  }
+
+  @Test
+  void shouldLeaveUnknownValuesEmpty_whenSrsRecordHasNoExternalIdsAndContent() {
+    RecordDescriptor descriptor = RecordDescriptor.of(new JsonObject());
+
+    assertNull(descriptor.getId());
+    assertNull(descriptor.getHrid());
+    assertNull(descriptor.getTitle());
+    assertEquals(new JsonObject(), descriptor.toInstance());
+  }
+}
@@ -0,0 +1,158 @@
+package org.folio.service.export.storage;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.folio.dao.FileDefinitionDao;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.internal.util.reflection.FieldSetter;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+class LocalFileDownloadServiceUnitTest {
+
+  private static final String TENANT_ID = "diku";
+  private static final String FILE_NAME = "testFile-1.mrc";
+  private static final String FILE_CONTENT = "0123456789";
+
+  @Mock
+  private FileDefinitionDao fileDefinitionDao;
+  @Spy
+  private Vertx vertx = Vertx.vertx();
+  @InjectMocks
+  private LocalFileDownloadServiceImpl localFileDownloadService = new LocalFileDownloadServiceImpl();
+
+  private Path exportedFile;
+  private FileDefinition fileDefinition;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    exportedFile = Files.createTempFile("local-download", ".mrc");
+    Files.write(exportedFile, FILE_CONTENT.getBytes(StandardCharsets.UTF_8));
+    fileDefinition = new FileDefinition()
+      .withId(UUID.randomUUID().toString())
+      .withJobExecutionId(UUID.randomUUID().toString())
+      .withFileName(FILE_NAME)
+      .withSourcePath(exportedFile.toString());
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(exportedFile);
+    vertx.close();
+  }
+
+  @Test
+  void shouldServeRequestedRangeOfFile(VertxTestContext context) throws NoSuchFieldException {
+    // given
+    when(fileDefinitionDao.getByJobExecutionIdAndFileName(anyString(), anyString(), anyString())).thenReturn(succeededFuture(Optional.of(fileDefinition)));
+    when(fileDefinitionDao.getById(fileDefinition.getId(), TENANT_ID)).thenReturn(succeededFuture(Optional.of(fileDefinition)));
+    WebClient webClient = WebClient.create(vertx);
+    // when
+    startServer()
+      .compose(baseUrl -> localFileDownloadService.getFileDownloadLink(fileDefinition.getJobExecutionId(), FILE_NAME, TENANT_ID))
+      .compose(link -> webClient.getAbs(link).putHeader("Range", "bytes=2-5").send())
+      // then
+      .onComplete(context.succeeding(response -> context.verify(() -> {
+        Assertions.assertEquals(206, response.statusCode());
+        Assertions.assertEquals("bytes 2-5/10", response.getHeader("Content-Range"));
+        Assertions.assertEquals("2345", response.bodyAsString());
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldServeWholeFileWithoutRange(VertxTestContext context) throws NoSuchFieldException {
+    // given
+    when(fileDefinitionDao.getByJobExecutionIdAndFileName(anyString(), anyString(), anyString())).thenReturn(succeededFuture(Optional.of(fileDefinition)));
+    when(fileDefinitionDao.getById(fileDefinition.getId(), TENANT_ID)).thenReturn(succeededFuture(Optional.of(fileDefinition)));
+    WebClient webClient = WebClient.create(vertx);
+    // when
+    startServer()
+      .compose(baseUrl -> localFileDownloadService.getFileDownloadLink(fileDefinition.getJobExecutionId(), FILE_NAME, TENANT_ID))
+      .compose(link -> webClient.getAbs(link).send())
+      // then
+      .onComplete(context.succeeding(response -> context.verify(() -> {
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        Assertions.assertEquals(FILE_CONTENT, response.bodyAsString());
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldRejectLinkWithInvalidSignature(VertxTestContext context) throws NoSuchFieldException {
+    // given
+    when(fileDefinitionDao.getByJobExecutionIdAndFileName(anyString(), anyString(), anyString())).thenReturn(succeededFuture(Optional.of(fileDefinition)));
+    WebClient webClient = WebClient.create(vertx);
+    // when
+    startServer()
+      .compose(baseUrl -> localFileDownloadService.getFileDownloadLink(fileDefinition.getJobExecutionId(), FILE_NAME, TENANT_ID))
+      .compose(link -> webClient.getAbs(link + "tampered").send())
+      // then
+      .onComplete(context.succeeding(response -> context.verify(() -> {
+        Assertions.assertEquals(403, response.statusCode());
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldParseByteRanges() {
+    ByteRange range = ByteRange.parse("bytes=2-", 10);
+    Assertions.assertEquals(2, range.getStart());
+    Assertions.assertEquals(8, range.getLength());
+    Assertions.assertEquals("bytes 2-9/10", range.toContentRange());
+
+    range = ByteRange.parse("bytes=-3", 10);
+    Assertions.assertEquals("bytes 7-9/10", range.toContentRange());
+
+    range = ByteRange.parse("bytes=5-100", 10);
+    Assertions.assertEquals("bytes 5-9/10", range.toContentRange());
+
+    Assertions.assertFalse(ByteRange.parse("bytes=10-", 10).isSatisfiable());
+    Assertions.assertEquals("bytes */10", ByteRange.parse("bytes=10-", 10).toContentRange());
+    Assertions.assertNull(ByteRange.parse(null, 10));
+    Assertions.assertNull(ByteRange.parse("bytes=5-2", 10));
+    Assertions.assertNull(ByteRange.parse("bytes=0-1,4-5", 10));
+    Assertions.assertNull(ByteRange.parse("items=0-1", 10));
+  }
+
+  private Future<String> startServer() throws NoSuchFieldException {
+    FieldSetter.setField(localFileDownloadService, LocalFileDownloadServiceImpl.class.getDeclaredField("enabled"), true);
+    FieldSetter.setField(localFileDownloadService, LocalFileDownloadServiceImpl.class.getDeclaredField("port"), 0);
+    FieldSetter.setField(localFileDownloadService, LocalFileDownloadServiceImpl.class.getDeclaredField("secret"), "secret");
+    return localFileDownloadService.startServer()
+      .map(server -> {
+        String baseUrl = "http://localhost:" + server.actualPort();
+        try {
+          FieldSetter.setField(localFileDownloadService, LocalFileDownloadServiceImpl.class.getDeclaredField("baseUrl"), baseUrl);
+        } catch (NoSuchFieldException e) {
+          throw new IllegalStateException(e);
+        }
+        return baseUrl;
+      });
+  }
+}
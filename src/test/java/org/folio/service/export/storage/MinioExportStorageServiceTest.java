@@ -176,6 +176,34 @@ class MinioExportStorageServiceTest {
     });
   }
 
+  @Test
+  void testGenerateURLIsReusedForSameFile(VertxTestContext testContext)
+    throws IOException, ServerException, InsufficientDataException, ErrorResponseException, NoSuchAlgorithmException,
+    InvalidKeyException, InvalidResponseException, XmlParserException, InternalException, NoSuchFieldException {
+    // given
+    String jobExecutionId = UUID.randomUUID().toString();
+    String fileName = "testFile-timestemp.mrc";
+
+    var client = Mockito.mock(MinioClient.class);
+    when(minioClientFactory.getClient()).thenReturn(client);
+
+    var response = "https://test-aws-export-vk.s3.amazonaws.com";
+    when(client.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class))).thenReturn(response);
+    FieldSetter.setField(exportStorageService, exportStorageService.getClass().getDeclaredField("bucket"), BUCKET_NAME);
+    // when
+    Future<String> linkFuture = exportStorageService.getFileDownloadLink(jobExecutionId, fileName, TENANT_ID)
+      .compose(link -> exportStorageService.getFileDownloadLink(jobExecutionId, fileName, TENANT_ID));
+    // then
+    linkFuture.onComplete(ar -> {
+      testContext.verify(() -> {
+        Assertions.assertTrue(ar.succeeded());
+        Assertions.assertEquals(response, ar.result());
+        verify(client, times(1)).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+        testContext.completeNow();
+      });
+    });
+  }
+
   @Test
   void testBucketNameNotFoundInS3(VertxTestContext testContext)
     throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException,
@@ -6,9 +6,14 @@ import org.junit.Assert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +29,7 @@ class LocalStorageCsvSourceReaderUnitTest {
   private static final String NONEXISTING_FILE_NAME = "nonexistingfile";
   private static final String INVENTORY_UUIDS_FILE_NAME = "src/test/resources/files/InventoryUUIDs.csv";
   private static final String INVENTORY_UUIDS_WITH_WRONG_FORMATS = "src/test/resources/files/InventoryUUIDsWithInvalidUUIDs.csv";
+  private static final String INVENTORY_UUIDS_WITH_DUPLICATES = "src/test/resources/files/InventoryUUIDsWithDuplicates.csv";
   private static final String INVENTORY_INVALID_FILE_CONTENT = "src/test/resources/files/InventoryInvalidFileContent.csv";
   private static final String UUID_PATTERN = "^[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[1-5][a-fA-F0-9]{3}-[89abAB][a-fA-F0-9]{3}-[a-fA-F0-9]{12}$";
   private static final long TOTAL_COUNT_5 = 5L;
@@ -95,6 +101,70 @@ class LocalStorageCsvSourceReaderUnitTest {
     Mockito.verify(errorLogService).saveGeneralErrorWithMessageValues(anyString(), anyList(),anyString(), anyString());
   }
 
+  @Test
+  void shouldSkipRepeatedUuids_whenDeduplicationEnabled() {
+    //given
+    FileDefinition fileDefinition = new FileDefinition()
+      .withSourcePath(INVENTORY_UUIDS_WITH_DUPLICATES);
+    //when
+    reader.init(fileDefinition, errorLogService, jobExecutionId, tenantId, 50);
+    reader.enableDeduplication();
+    long actualTotalCount = reader.totalCount();
+    List<String> uuidList = reader.readNext();
+    //then
+    assertEquals(TOTAL_COUNT_3, actualTotalCount);
+    assertEquals(List.of("c8b50e3f-0446-429c-960e-03774b88223f", "d5c7968c-17e7-4ab1-8aeb-3109e1b77c80",
+      "c5d662af-b0be-4851-bb9c-de70bba3dfce"), uuidList);
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  void shouldReadAllUuids_whenFileHasMoreUuidsThanInitialCapacity(@TempDir Path tempDir) throws IOException {
+    //given
+    int uuidsCount = 100_001;
+    List<String> uuids = new ArrayList<>(uuidsCount);
+    for (int i = 0; i < uuidsCount; i++) {
+      uuids.add(UUID.randomUUID().toString());
+    }
+    Path file = Files.write(tempDir.resolve("uuids.csv"), uuids);
+    FileDefinition fileDefinition = new FileDefinition()
+      .withSourcePath(file.toString());
+    //when
+    reader.init(fileDefinition, errorLogService, jobExecutionId, tenantId, uuidsCount);
+    long actualTotalCount = reader.totalCount();
+    List<String> uuidList = reader.readNext();
+    //then
+    assertEquals(uuidsCount, actualTotalCount);
+    assertEquals(uuids, uuidList);
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  void shouldReadAllUuids_whenFileHasMoreUuidsThanCountedOnUpload() {
+    //given
+    FileDefinition fileDefinition = new FileDefinition()
+      .withSourcePath(INVENTORY_UUIDS_FILE_NAME)
+      .withUuidsCount(1);
+    //when
+    reader.init(fileDefinition, errorLogService, jobExecutionId, tenantId, BATCH_SIZE);
+    long actualTotalCount = reader.totalCount();
+    //then
+    assertEquals(TOTAL_COUNT_5, actualTotalCount);
+  }
+
+  @Test
+  void shouldReadAllUuids_whenCountedUuidsAreOverflowingTheArrayLength() {
+    //given
+    FileDefinition fileDefinition = new FileDefinition()
+      .withSourcePath(INVENTORY_UUIDS_FILE_NAME)
+      .withUuidsCount(Integer.MAX_VALUE);
+    //when
+    reader.init(fileDefinition, errorLogService, jobExecutionId, tenantId, BATCH_SIZE);
+    long actualTotalCount = assertDoesNotThrow(() -> reader.totalCount());
+    //then
+    assertEquals(TOTAL_COUNT_5, actualTotalCount);
+  }
+
   @Test
   void shouldNotThrowException_whenCloseNotInitializedReader() {
     assertDoesNotThrow(() -> reader.close());
@@ -127,4 +197,17 @@ class LocalStorageCsvSourceReaderUnitTest {
     assertFalse(reader.hasNext());
   }
 
+  @Test
+  void shouldReadValidIdentifiersKeptInMemory_whenFileDefinitionHasNoSourceFile() {
+    //given
+    String firstUuid = UUID.randomUUID().toString();
+    String secondUuid = UUID.randomUUID().toString();
+    SourceReader inMemoryReader = new InMemorySourceReader(List.of(firstUuid, "invalid", secondUuid));
+    //when
+    inMemoryReader.init(new FileDefinition().withFileName("quick-export.csv"), errorLogService, jobExecutionId, tenantId, BATCH_SIZE);
+    //then
+    assertEquals(2, inMemoryReader.totalCount());
+    assertEquals(List.of(firstUuid, secondUuid), inMemoryReader.readNext());
+    assertFalse(inMemoryReader.hasNext());
+  }
 }
@@ -8,6 +8,7 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.commons.io.FileUtils;
 import org.assertj.core.util.Lists;
 import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.service.file.upload.UploadedFileWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -122,6 +123,37 @@ class FileStorageUnitTest {
     });
   }
 
+  @Test
+  void shouldWriteChunksToOpenedFile(VertxTestContext testContext) {
+    // given
+    String firstChunk = "c8b50e3f-0446-429c-960e-03774b88223f\nc5d662af-b0be";
+    String secondChunk = "-4851-bb9c-de70bba3dfce\ninvalid";
+    FileDefinition givenFileDefinition = new FileDefinition()
+      .withId(UUID.randomUUID().toString())
+      .withFileName("uuids.csv");
+    // when
+    Future<FileDefinition> future = fileStorage.openFileForAppend(givenFileDefinition)
+      .map(file -> new UploadedFileWriter(file, givenFileDefinition))
+      .compose(writer -> writer.write(firstChunk.getBytes())
+        .compose(ar -> writer.write(secondChunk.getBytes()))
+        .compose(ar -> writer.close()));
+    // then
+    future.onComplete(ar -> testContext.verify(() -> {
+      assertTrue(ar.succeeded());
+      FileDefinition savedFileDefinition = ar.result();
+      assertEquals(Integer.valueOf(2), savedFileDefinition.getUuidsCount());
+      try {
+        String savedFileContent = new String(Files.readAllBytes(new File(savedFileDefinition.getSourcePath()).toPath()));
+        assertEquals(firstChunk + secondChunk, savedFileContent);
+        // clean up storage
+        FileUtils.deleteDirectory(new File("./storage"));
+        testContext.completeNow();
+      } catch (IOException e) {
+        testContext.failNow(e);
+      }
+    }));
+  }
+
   @Test
   void shouldThrowException_whenWrongFileDefinitionPassed() {
     // given
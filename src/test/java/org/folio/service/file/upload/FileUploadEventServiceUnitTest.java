@@ -0,0 +1,139 @@
+package org.folio.service.file.upload;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.jaxrs.model.FileDefinition.Status.COMPLETED;
+import static org.folio.rest.jaxrs.model.FileDefinition.Status.ERROR;
+import static org.folio.rest.jaxrs.model.FileDefinition.Status.IN_PROGRESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.service.file.definition.FileDefinitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.internal.util.reflection.FieldSetter;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+class FileUploadEventServiceUnitTest {
+
+  private static final String TENANT_ID = "diku";
+  private static final String SOURCE_PATH = "./storage/files/uuids.csv";
+
+  @Mock
+  private FileDefinitionService fileDefinitionService;
+  @Spy
+  private Vertx vertx = Vertx.vertx();
+  @InjectMocks
+  private FileUploadEventServiceImpl fileUploadEventService = new FileUploadEventServiceImpl();
+
+  private FileDefinition fileDefinition;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    fileDefinition = new FileDefinition()
+      .withId(UUID.randomUUID().toString())
+      .withFileName("uuids.csv")
+      .withSize(10)
+      .withStatus(IN_PROGRESS);
+    FieldSetter.setField(fileUploadEventService, FileUploadEventServiceImpl.class.getDeclaredField("fallbackInterval"), 60_000L);
+    FieldSetter.setField(fileUploadEventService, FileUploadEventServiceImpl.class.getDeclaredField("maxWait"), 60_000L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void shouldCompleteWaiting_whenUploadCompletedEventPublished(VertxTestContext context) {
+    // given
+    when(fileDefinitionService.getById(anyString(), anyString())).thenReturn(succeededFuture(copy(fileDefinition)));
+    // when
+    fileUploadEventService.waitForUpload(fileDefinition, TENANT_ID)
+      // then
+      .onComplete(context.succeeding(uploadedFileDefinition -> context.verify(() -> {
+        assertEquals(SOURCE_PATH, uploadedFileDefinition.getSourcePath());
+        context.completeNow();
+      })));
+    vertx.setTimer(100, id -> fileUploadEventService.publishUploadFinished(copy(fileDefinition).withStatus(COMPLETED).withSourcePath(SOURCE_PATH)));
+  }
+
+  @Test
+  void shouldFailWaiting_whenUploadFailedEventPublished(VertxTestContext context) {
+    // given
+    when(fileDefinitionService.getById(anyString(), anyString())).thenReturn(succeededFuture(copy(fileDefinition)));
+    // when
+    fileUploadEventService.waitForUpload(fileDefinition, TENANT_ID)
+      // then
+      .onComplete(context.failing(e -> context.completeNow()));
+    vertx.setTimer(100, id -> fileUploadEventService.publishUploadFinished(copy(fileDefinition).withStatus(ERROR)));
+  }
+
+  @Test
+  void shouldCompleteWaiting_whenUploadCompletionIsFoundByFallbackCheck(VertxTestContext context) throws NoSuchFieldException {
+    // given
+    FieldSetter.setField(fileUploadEventService, FileUploadEventServiceImpl.class.getDeclaredField("fallbackInterval"), 50L);
+    when(fileDefinitionService.getById(anyString(), anyString()))
+      .thenReturn(succeededFuture(copy(fileDefinition)))
+      .thenReturn(succeededFuture(copy(fileDefinition).withStatus(COMPLETED).withSourcePath(SOURCE_PATH)));
+    // when
+    fileUploadEventService.waitForUpload(fileDefinition, TENANT_ID)
+      // then
+      .onComplete(context.succeeding(uploadedFileDefinition -> context.verify(() -> {
+        assertTrue(uploadedFileDefinition.getSourcePath().endsWith("uuids.csv"));
+        context.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldFailWaiting_andStopChecking_whenUploadIsNotFinishedInMaxWait(VertxTestContext context) throws NoSuchFieldException {
+    // given
+    FieldSetter.setField(fileUploadEventService, FileUploadEventServiceImpl.class.getDeclaredField("fallbackInterval"), 50L);
+    FieldSetter.setField(fileUploadEventService, FileUploadEventServiceImpl.class.getDeclaredField("maxWait"), 200L);
+    when(fileDefinitionService.getById(anyString(), anyString())).thenReturn(succeededFuture(copy(fileDefinition)));
+    // when
+    fileUploadEventService.waitForUpload(fileDefinition, TENANT_ID)
+      // then
+      .onComplete(context.failing(e -> {
+        clearInvocations(fileDefinitionService);
+        // the fallback check is cancelled once the waiting is failed
+        vertx.setTimer(200, id -> context.verify(() -> {
+          assertTrue(e.getMessage().contains("has not been finished"));
+          verifyNoInteractions(fileDefinitionService);
+          context.completeNow();
+        }));
+      }));
+  }
+
+  @Test
+  void shouldNotWait_whenFileIsAlreadyUploaded(VertxTestContext context) {
+    // when
+    fileUploadEventService.waitForUpload(fileDefinition.withSourcePath(SOURCE_PATH), TENANT_ID)
+      // then
+      .onComplete(context.succeeding(uploadedFileDefinition -> context.completeNow()));
+  }
+
+  private FileDefinition copy(FileDefinition fileDefinition) {
+    return new FileDefinition()
+      .withId(fileDefinition.getId())
+      .withFileName(fileDefinition.getFileName())
+      .withSize(fileDefinition.getSize())
+      .withStatus(fileDefinition.getStatus());
+  }
+}
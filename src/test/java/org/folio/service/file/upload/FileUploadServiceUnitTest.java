@@ -26,6 +26,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
+import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
@@ -45,6 +46,7 @@ import static org.folio.rest.jaxrs.model.FileDefinition.Status.ERROR;
 import static org.folio.rest.jaxrs.model.FileDefinition.Status.IN_PROGRESS;
 import static org.folio.rest.jaxrs.model.FileDefinition.Status.NEW;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -52,6 +54,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -81,6 +84,8 @@ class FileUploadServiceUnitTest {
   InventoryClient inventoryClient;
   @Mock
   SearchClient searchClient;
+  @Spy
+  QuickExportFastLane quickExportFastLane = new QuickExportFastLane();
   private OkapiConnectionParams params;
   private FileDefinition fileDefinition;
   private JsonObject user;
@@ -291,6 +296,35 @@ class FileUploadServiceUnitTest {
       }));
   }
 
+  @Test
+  void shouldKeepIdsInMemory_andNotSaveFile_whenUuidQuickExportIsInFastLaneLimit(VertxTestContext context) throws NoSuchFieldException {
+    // given
+    FieldSetter.setField(quickExportFastLane, QuickExportFastLane.class.getDeclaredField("fastLaneLimit"), 10);
+    FileDefinition inProgressDef = new FileDefinition()
+      .withId(fileDefinition.getId())
+      .withStatus(IN_PROGRESS)
+      .withJobExecutionId(JOB_EXECUTION_ID);
+    List<String> uuids = Collections.singletonList(UUID.randomUUID().toString());
+    QuickExportRequest quickExportRequest = buildQuickExportRequest(uuids);
+    JobExecution jobExecution = new JobExecution().withId(JOB_EXECUTION_ID);
+    when(jobExecutionService.getById(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(succeededFuture(jobExecution));
+    when(jobExecutionService.update(any(JobExecution.class), eq(TENANT_ID))).thenReturn(succeededFuture(jobExecution));
+    when(fileDefinitionService.update(any(FileDefinition.class), anyString())).thenReturn(succeededFuture(inProgressDef));
+
+    // when
+    Future<FileDefinition> fileDefinitionFuture = fileUploadService.uploadFileDependsOnTypeForQuickExport(quickExportRequest, fileDefinition, params);
+
+    // then
+    fileDefinitionFuture.onComplete(ar ->
+      context.verify(() -> {
+        assertTrue(ar.succeeded());
+        verify(fileStorage, never()).saveFileDataAsyncCQL(anyList(), any(FileDefinition.class));
+        assertEquals(uuids, quickExportFastLane.takeIdentifiers(inProgressDef.getId()));
+        assertNull(quickExportFastLane.takeIdentifiers(inProgressDef.getId()));
+        context.completeNow();
+      }));
+  }
+
   private QuickExportRequest buildQuickCqlExportRequest(String criteria) {
     return new QuickExportRequest()
       .withCriteria(criteria)
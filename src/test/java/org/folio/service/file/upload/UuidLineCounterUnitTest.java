@@ -0,0 +1,52 @@
+package org.folio.service.file.upload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+class UuidLineCounterUnitTest {
+
+  private static final String CONTENT = "\"c8b50e3f-0446-429c-960e-03774b88223f\",\r\n"
+    + "a5e9ccb3-737b\n"
+    + "\n"
+    + "c5d662af-b0be-4851-bb9c-de70bba3dfce\r"
+    + "c8b50e3f-0446-029c-960e-03774b88223f\n"
+    + "0d7c8f5c-3b67-4ee8-a1ee-5bd0c3d4e2d1";
+
+  @Test
+  void shouldCountLines_whenFileIsUploadedInOneChunk() {
+    UuidLineCounter counter = new UuidLineCounter();
+
+    counter.update(Buffer.buffer(CONTENT));
+    counter.finish();
+
+    assertEquals(3, counter.getUuidsCount());
+    assertEquals(3, counter.getInvalidLinesCount());
+  }
+
+  @Test
+  void shouldCountLines_whenChunksSplitUuidsAndLineSeparators() {
+    UuidLineCounter counter = new UuidLineCounter();
+    // chunk of 5 bytes splits both UUIDs and "\r\n" separator
+    byte[] bytes = CONTENT.getBytes();
+    for (int i = 0; i < bytes.length; i += 5) {
+      counter.update(Buffer.buffer().appendBytes(bytes, i, Math.min(5, bytes.length - i)));
+    }
+    counter.finish();
+
+    assertEquals(3, counter.getUuidsCount());
+    assertEquals(3, counter.getInvalidLinesCount());
+  }
+
+  @Test
+  void shouldNotCountTrailingLineSeparator() {
+    UuidLineCounter counter = new UuidLineCounter();
+
+    counter.update(Buffer.buffer("c8b50e3f-0446-429c-960e-03774b88223f\n"));
+    counter.finish();
+
+    assertEquals(1, counter.getUuidsCount());
+    assertEquals(0, counter.getInvalidLinesCount());
+  }
+}
@@ -11,16 +11,16 @@ import org.assertj.core.util.Sets;
 import org.folio.HttpStatus;
 import org.folio.dao.impl.JobExecutionDaoImpl;
 import org.folio.rest.exceptions.ServiceException;
+import org.folio.rest.jaxrs.model.ErrorLog;
 import org.folio.rest.jaxrs.model.ExportedFile;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.rest.jaxrs.model.JobExecutionCollection;
 import org.folio.rest.jaxrs.model.JobProfile;
-import org.folio.rest.jaxrs.model.JobProfileCollection;
-import org.folio.rest.jaxrs.model.Progress;
 import org.folio.service.export.storage.ExportStorageService;
 import org.folio.service.logs.ErrorLogService;
 import org.folio.service.profiles.jobprofile.JobProfileService;
+import org.folio.util.ErrorCode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
@@ -31,7 +31,9 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static java.util.Arrays.asList;
@@ -41,9 +43,10 @@ import static org.folio.rest.jaxrs.model.JobExecution.Status.IN_PROGRESS;
 import static org.folio.rest.jaxrs.model.JobExecution.Status.NEW;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.junit.Assert.assertEquals;
@@ -144,15 +147,14 @@ class JobExecutionServiceUnitTest {
     JobProfile secondJobProfile = new JobProfile()
       .withId(SECOND_JOB_PROFILE_ID)
       .withName(DEFAULT_JOB_PROFILE_NAME);
-    JobProfile third = new JobProfile()
-      .withId(UUID.randomUUID().toString())
-      .withName(DEFAULT_JOB_PROFILE_NAME);
     String query = "id=" + jobExecution.getId();
-    when(jobExecutionDao.get(query, 0, 10, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()
+    when(jobExecutionDao.get(query, 0, 10, null, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()
       .withJobExecutions(asList(jobExecution, secondJobExecution, thirdJobExecution))));
-    when(jobProfileService.get(anyString(), eq(0), eq(10), eq(TENANT_ID))).thenReturn(Future.succeededFuture(new JobProfileCollection().withJobProfiles(asList(third, secondJobProfile, jobProfile, secondJobProfile))));
+    when(jobProfileService.getNamesByIds(Set.of(JOB_PROFILE_ID, SECOND_JOB_PROFILE_ID), TENANT_ID)).thenReturn(Future.succeededFuture(Map.of(
+      jobProfile.getId(), jobProfile.getName(),
+      secondJobProfile.getId(), secondJobProfile.getName())));
     //when
-    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, TENANT_ID);
+    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, null, TENANT_ID);
     //then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
@@ -196,11 +198,11 @@ class JobExecutionServiceUnitTest {
       .withJobProfileId(JOB_PROFILE_ID)
       .withJobProfileName(StringUtils.EMPTY);
     String query = "id=" + jobExecution.getId();
-    when(jobExecutionDao.get(query, 0, 10, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()
+    when(jobExecutionDao.get(query, 0, 10, null, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()
       .withJobExecutions(asList(jobExecution, secondJobExecution))));
-    when(jobProfileService.get(anyString(), eq(0), eq(10), eq(TENANT_ID))).thenReturn(Future.failedFuture(StringUtils.EMPTY));
+    when(jobProfileService.getNamesByIds(anyCollection(), eq(TENANT_ID))).thenReturn(Future.failedFuture(StringUtils.EMPTY));
     //when
-    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, TENANT_ID);
+    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, null, TENANT_ID);
     //then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
@@ -223,14 +225,14 @@ class JobExecutionServiceUnitTest {
       .withJobProfileId(JOB_PROFILE_ID)
       .withJobProfileName(StringUtils.EMPTY);
     String query = "id=" + jobExecution.getId();
-    when(jobExecutionDao.get(query, 0, 10, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()));
+    when(jobExecutionDao.get(query, 0, 10, null, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()));
     //when
-    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, TENANT_ID);
+    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, null, TENANT_ID);
     //then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
       assertTrue(CollectionUtils.isEmpty(ar.result().getJobExecutions()));
-      Mockito.verify(jobProfileService, Mockito.never()).get(anyString(), anyInt(), anyInt(), anyString());
+      Mockito.verify(jobProfileService, Mockito.never()).getNamesByIds(anyCollection(), anyString());
       context.completeNow();
     }));
   }
@@ -263,11 +265,11 @@ class JobExecutionServiceUnitTest {
       .withJobProfileId(JOB_PROFILE_ID)
       .withJobProfileName(JOB_PROFILE_NAME);
     String query = "id=" + jobExecution.getId();
-    when(jobExecutionDao.get(query, 0, 10, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()
+    when(jobExecutionDao.get(query, 0, 10, null, TENANT_ID)).thenReturn(Future.succeededFuture(new JobExecutionCollection()
       .withJobExecutions(singletonList(jobExecution))));
-    when(jobProfileService.get(anyString(), eq(0), eq(10), eq(TENANT_ID))).thenReturn(Future.failedFuture(StringUtils.EMPTY));
+    when(jobProfileService.getNamesByIds(anyCollection(), eq(TENANT_ID))).thenReturn(Future.failedFuture(StringUtils.EMPTY));
     //when
-    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, TENANT_ID);
+    Future<JobExecutionCollection> future = jobExecutionService.get(query, 0, 10, null, TENANT_ID);
     //then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
@@ -280,30 +282,26 @@ class JobExecutionServiceUnitTest {
   @Test
   void incrementCurrentProgress_shouldIncrement(VertxTestContext context) {
     //given
-    JobExecution job = new JobExecution().withProgress(new Progress().withExported(10).withFailed(3));
-    when(jobExecutionDao.getById(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(Future.succeededFuture(Optional.of(job)));
-    when(jobExecutionDao.update(job, TENANT_ID)).thenReturn(Future.succeededFuture(job));
+    when(jobExecutionDao.incrementProgress(eq(JOB_EXECUTION_ID), eq(5), eq(1), any(Date.class), eq(TENANT_ID))).thenReturn(Future.succeededFuture(true));
     //when
-    Future<JobExecution> future = jobExecutionService.incrementCurrentProgress(JOB_EXECUTION_ID, 5, 1, TENANT_ID);
+    Future<Void> future = jobExecutionService.incrementCurrentProgress(JOB_EXECUTION_ID, 5, 1, TENANT_ID);
     //then
     future.onComplete(ar -> {
       context.verify(() -> {
         assertTrue(ar.succeeded());
-        assertEquals(15, job.getProgress().getExported().intValue());
-        assertEquals(4, job.getProgress().getFailed().intValue());
+        verify(jobExecutionDao).incrementProgress(eq(JOB_EXECUTION_ID), eq(5), eq(1), any(Date.class), eq(TENANT_ID));
         context.completeNow();
       });
     });
   }
 
   @Test
-  void incrementCurrentProgress_shouldReturnFailedFuture_whenProgressIsAbsent(VertxTestContext context) {
+  void incrementCurrentProgress_shouldReturnFailedFuture_whenJobExecutionOrProgressIsAbsent(VertxTestContext context) {
     //given
     String errorMessage = String.format("Unable to update progress of job execution with id %s", JOB_EXECUTION_ID);
-    JobExecution jobExecution = new JobExecution();
-    when(jobExecutionDao.getById(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(Future.succeededFuture(Optional.of(jobExecution)));
+    when(jobExecutionDao.incrementProgress(eq(JOB_EXECUTION_ID), eq(0), eq(0), any(Date.class), eq(TENANT_ID))).thenReturn(Future.succeededFuture(false));
     //when
-    Future<JobExecution> future = jobExecutionService.incrementCurrentProgress(JOB_EXECUTION_ID, 0, 0, TENANT_ID);
+    Future<Void> future = jobExecutionService.incrementCurrentProgress(JOB_EXECUTION_ID, 0, 0, TENANT_ID);
     //then
     future.onComplete(ar -> {
 
@@ -318,21 +316,37 @@ class JobExecutionServiceUnitTest {
   }
 
   @Test
-  void incrementCurrentProgress_shouldReturnFailedFuture_whenJobExecutionIsAbsent(VertxTestContext context) {
+  void failCancelled_shouldSaveErrorLog_whenJobIsMarkedAsFailed(VertxTestContext context) {
     //given
-    String errorMessage = String.format("Job execution with id %s doesn't exist", JOB_EXECUTION_ID);
-    when(jobExecutionDao.getById(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(Future.succeededFuture(Optional.empty()));
+    ErrorCode errorCode = ErrorCode.ERROR_JOB_IS_CANCELLED;
+    when(jobExecutionDao.updateStatusIfInProgress(eq(JOB_EXECUTION_ID), eq(FAIL), any(Date.class), eq(TENANT_ID))).thenReturn(Future.succeededFuture(true));
+    when(errorLogService.saveGeneralErrorWithMessageValues(errorCode.getCode(), singletonList(errorCode.getDescription()), JOB_EXECUTION_ID, TENANT_ID))
+      .thenReturn(Future.succeededFuture(new ErrorLog()));
     //when
-    Future<JobExecution> future = jobExecutionService.incrementCurrentProgress(JOB_EXECUTION_ID, 0, 0, TENANT_ID);
+    Future<Boolean> future = jobExecutionService.failCancelled(JOB_EXECUTION_ID, TENANT_ID);
     //then
-    future.onComplete(ar -> {
-      context.verify(() -> {
-        assertTrue(ar.failed());
-        assertEquals(ar.cause().getMessage(), errorMessage);
-        context.completeNow();
-      });
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      assertTrue(ar.result());
+      verify(errorLogService).saveGeneralErrorWithMessageValues(errorCode.getCode(), singletonList(errorCode.getDescription()), JOB_EXECUTION_ID, TENANT_ID);
+      verify(jobExecutionDao, never()).update(any(JobExecution.class), anyString());
+      context.completeNow();
+    }));
+  }
 
-    });
+  @Test
+  void failCancelled_shouldNotSaveErrorLog_whenJobIsNotInProgressAnymore(VertxTestContext context) {
+    //given
+    when(jobExecutionDao.updateStatusIfInProgress(eq(JOB_EXECUTION_ID), eq(FAIL), any(Date.class), eq(TENANT_ID))).thenReturn(Future.succeededFuture(false));
+    //when
+    Future<Boolean> future = jobExecutionService.failCancelled(JOB_EXECUTION_ID, TENANT_ID);
+    //then
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      assertFalse(ar.result());
+      verify(errorLogService, never()).saveGeneralErrorWithMessageValues(anyString(), any(), anyString(), anyString());
+      context.completeNow();
+    }));
   }
 
   @Test
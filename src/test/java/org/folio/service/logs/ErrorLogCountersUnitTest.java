@@ -0,0 +1,47 @@
+package org.folio.service.logs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.folio.rest.jaxrs.model.ErrorLog;
+import org.junit.jupiter.api.Test;
+
+class ErrorLogCountersUnitTest {
+  private static final String JOB_EXECUTION_ID = "jobExecutionId";
+  private static final String FIRST_ERROR_CODE = "error.first";
+  private static final String SECOND_ERROR_CODE = "error.second";
+
+  @Test
+  void shouldCountErrorLogsByErrorCode_andKeepDetailsUpToLimit() {
+    ErrorLogCounters errorLogCounters = new ErrorLogCounters(2);
+    errorLogCounters.start(JOB_EXECUTION_ID);
+
+    assertTrue(errorLogCounters.count(errorLog(FIRST_ERROR_CODE)));
+    assertTrue(errorLogCounters.count(errorLog(FIRST_ERROR_CODE)));
+    assertFalse(errorLogCounters.count(errorLog(FIRST_ERROR_CODE)));
+    assertTrue(errorLogCounters.count(errorLog(SECOND_ERROR_CODE)));
+
+    assertEquals(Map.of(FIRST_ERROR_CODE, 3L, SECOND_ERROR_CODE, 1L), errorLogCounters.remove(JOB_EXECUTION_ID));
+    assertNull(errorLogCounters.get(JOB_EXECUTION_ID));
+  }
+
+  @Test
+  void shouldKeepAllDetails_whenJobIsNotCounted() {
+    ErrorLogCounters errorLogCounters = new ErrorLogCounters(1);
+    errorLogCounters.start(JOB_EXECUTION_ID);
+    errorLogCounters.stop(JOB_EXECUTION_ID);
+
+    assertTrue(errorLogCounters.count(errorLog(FIRST_ERROR_CODE)));
+    assertTrue(errorLogCounters.count(errorLog(FIRST_ERROR_CODE)));
+    assertNull(errorLogCounters.get(JOB_EXECUTION_ID));
+  }
+
+  private ErrorLog errorLog(String errorMessageCode) {
+    return new ErrorLog()
+      .withErrorMessageCode(errorMessageCode)
+      .withJobExecutionId(JOB_EXECUTION_ID);
+  }
+}
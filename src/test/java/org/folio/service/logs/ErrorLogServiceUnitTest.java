@@ -2,6 +2,7 @@
 package org.folio.service.logs;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -10,12 +11,15 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.commons.collections4.map.HashedMap;
 import org.assertj.core.util.Lists;
 import org.folio.clients.ConfigurationsClient;
+import org.folio.dao.ErrorLogSummaryDao;
+import org.folio.dao.NotFoundUuidDao;
 import org.folio.dao.impl.ErrorLogDaoImpl;
 import org.folio.processor.error.RecordInfo;
 import org.folio.processor.error.RecordType;
 import org.folio.processor.error.TranslationException;
 import org.folio.rest.jaxrs.model.ErrorLog;
 import org.folio.rest.jaxrs.model.ErrorLogCollection;
+import org.folio.rest.jaxrs.model.ErrorLogSummary;
 import org.folio.rest.jaxrs.model.Metadata;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.util.OkapiConnectionParams;
@@ -35,6 +39,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -45,11 +50,15 @@ import static java.util.Collections.singletonList;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.jaxrs.model.ErrorLog.LogLevel.ERROR;
 import static org.folio.util.ErrorCode.SOME_RECORDS_FAILED;
+import static org.folio.util.ErrorCode.SOME_UUIDS_NOT_FOUND;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +89,14 @@ class ErrorLogServiceUnitTest {
   @Mock
   private ErrorLogDaoImpl errorLogDao;
   @Mock
+  private ErrorLogSink errorLogSink;
+  @Mock
+  private NotFoundUuidDao notFoundUuidDao;
+  @Mock
+  private ErrorLogSummaryDao errorLogSummaryDao;
+  @Spy
+  private ErrorLogCounters errorLogCounters = new ErrorLogCounters(1);
+  @Mock
   private ConfigurationsClient configurationsClient;
   @Captor
   private ArgumentCaptor<ErrorLog> errorLogCaptor;
@@ -112,9 +129,10 @@ class ErrorLogServiceUnitTest {
   @Test
   void getByJobExecutionId_shouldReturnFailedFuture_whenErrorLogDoesNotExist(VertxTestContext context) {
     // given
-    when(errorLogDao.get(QUERY, 0, 0, TENANT_ID)).thenReturn(failedFuture("Error"));
+    when(errorLogSink.flush(TENANT_ID)).thenReturn(succeededFuture());
+    when(errorLogDao.get(QUERY, 0, 0, null, TENANT_ID)).thenReturn(failedFuture("Error"));
     // when
-    Future<ErrorLogCollection> future = errorLogService.get(QUERY, 0, 0, TENANT_ID);
+    Future<ErrorLogCollection> future = errorLogService.get(QUERY, 0, 0, null, TENANT_ID);
     // then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.failed());
@@ -125,9 +143,10 @@ class ErrorLogServiceUnitTest {
   @Test
   void getByJobExecutionId_shouldCallDaoGet(VertxTestContext context) {
     // given
-    when(errorLogDao.get(QUERY, 5, 10, TENANT_ID)).thenReturn(succeededFuture(errorLogCollection));
+    when(errorLogSink.flush(TENANT_ID)).thenReturn(succeededFuture());
+    when(errorLogDao.get(QUERY, 5, 10, null, TENANT_ID)).thenReturn(succeededFuture(errorLogCollection));
     // when
-    Future<ErrorLogCollection> future = errorLogService.get(QUERY, 5, 10, TENANT_ID);
+    Future<ErrorLogCollection> future = errorLogService.get(QUERY, 5, 10, null, TENANT_ID);
     // then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
@@ -160,14 +179,14 @@ class ErrorLogServiceUnitTest {
       .put("hrid", "1")
       .put("id", INSTANCE_ID)
       .put("title", INSTANCE_TITLE);
-    when(errorLogDao.save(any(ErrorLog.class), anyString())).thenReturn(succeededFuture(errorLog));
+    when(errorLogSink.add(any(ErrorLog.class), anyString())).thenReturn(succeededFuture(errorLog));
 
     // when
     Future<ErrorLog> future = errorLogService.saveWithAffectedRecord(instanceRecord, ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, marcException, params);
     // then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
-      verify(errorLogDao).save(errorLogCaptor.capture(), eq(TENANT_ID));
+      verify(errorLogSink).add(errorLogCaptor.capture(), eq(TENANT_ID));
       ErrorLog errorLog = errorLogCaptor.getValue();
       Assert.assertEquals(ERROR, errorLog.getLogLevel());
       Assert.assertEquals(ERROR_MESSAGE_CODE, errorLog.getErrorMessageCode());
@@ -193,14 +212,14 @@ class ErrorLogServiceUnitTest {
       .put("title", INSTANCE_TITLE);
     JsonObject record = new JsonObject();
     record.put("instance", instanceRecord);
-    when(errorLogDao.save(any(ErrorLog.class), anyString())).thenReturn(succeededFuture(errorLog));
+    when(errorLogSink.add(any(ErrorLog.class), anyString())).thenReturn(succeededFuture(errorLog));
 
     // when
     Future<ErrorLog> future = errorLogService.saveWithAffectedRecord(record, ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, translationException, params);
     // then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
-      verify(errorLogDao).save(errorLogCaptor.capture(), eq(TENANT_ID));
+      verify(errorLogSink).add(errorLogCaptor.capture(), eq(TENANT_ID));
       ErrorLog errorLog = errorLogCaptor.getValue();
       Assert.assertEquals(ERROR, errorLog.getLogLevel());
       Assert.assertEquals(ERROR_MESSAGE_CODE, errorLog.getErrorMessageCode());
@@ -218,14 +237,14 @@ class ErrorLogServiceUnitTest {
     RecordInfo recordItemInfo = new RecordInfo(ITEM_ID, RecordType.ITEM);
     TranslationException translationException = new TranslationException(recordItemInfo, null);
     when(affectedRecordsBuilders.get(AffectedRecordItemBuilder.class.getName())).thenReturn(affectedRecordItemBuilder);
-    when(errorLogDao.save(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
+    when(errorLogSink.add(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
     JsonObject record = createRecord();
     // when
     Future<ErrorLog> future = errorLogService.saveWithAffectedRecord(record, ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, translationException, params);
     // then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
-      verify(errorLogDao).save(errorLogCaptor.capture(), eq(TENANT_ID));
+      verify(errorLogSink).add(errorLogCaptor.capture(), eq(TENANT_ID));
       verify(affectedRecordItemBuilder).build(eq(record), eq(JOB_EXECUTION_ID), eq(recordItemInfo.getId()), eq(true), eq(params));
       context.completeNow();
     }));
@@ -246,13 +265,13 @@ class ErrorLogServiceUnitTest {
         JsonObject holding = (JsonObject) holdingRecord;
         holding.remove(ITEMS);
     }
-    when(errorLogDao.save(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
+    when(errorLogSink.add(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
     // when
     Future<ErrorLog> future = errorLogService.saveWithAffectedRecord(instanceObject, ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, translationException, params);
     // then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
-      verify(errorLogDao).save(errorLogCaptor.capture(), eq(TENANT_ID));
+      verify(errorLogSink).add(errorLogCaptor.capture(), eq(TENANT_ID));
       verify(affectedRecordHoldingBuilder).build(eq(instanceObject), eq(JOB_EXECUTION_ID), eq(recordHoldingInfo.getId()), eq(true), eq(params));
       context.completeNow();
     }));
@@ -261,13 +280,13 @@ class ErrorLogServiceUnitTest {
   @Test
   void saveGeneralError_shouldSaveSuccessfully(VertxTestContext context) {
     // given
-    when(errorLogDao.save(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
+    when(errorLogSink.add(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
     // when
     Future<ErrorLog> future = errorLogService.saveGeneralError(ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, TENANT_ID);
     // then
     future.onComplete(ar -> context.verify(() -> {
       assertTrue(ar.succeeded());
-      verify(errorLogDao).save(errorLogCaptor.capture(), eq(TENANT_ID));
+      verify(errorLogSink).add(errorLogCaptor.capture(), eq(TENANT_ID));
       ErrorLog errorLog = errorLogCaptor.getValue();
       Assert.assertEquals(ERROR, errorLog.getLogLevel());
       Assert.assertEquals(ERROR_MESSAGE_CODE, errorLog.getErrorMessageCode());
@@ -335,6 +354,104 @@ class ErrorLogServiceUnitTest {
     context.completeNow();
   }
 
+  @Test
+  void populateNotFoundUUIDsErrorLog_shouldAppendUUIDs_andSaveErrorLogWithTheSameIdForTheJob(VertxTestContext context) {
+    // given
+    List<String> firstChunkUUIDs = List.of(INSTANCE_ID);
+    List<String> secondChunkUUIDs = List.of(HOLDINGS_ID, ITEM_ID);
+    when(notFoundUuidDao.save(eq(JOB_EXECUTION_ID), any(), eq(TENANT_ID))).thenReturn(succeededFuture());
+    when(errorLogDao.saveIfAbsent(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(true));
+    // when
+    errorLogService.populateUUIDsNotFoundErrorLog(JOB_EXECUTION_ID, firstChunkUUIDs, TENANT_ID);
+    errorLogService.populateUUIDsNotFoundErrorLog(JOB_EXECUTION_ID, secondChunkUUIDs, TENANT_ID);
+    // then
+    verify(notFoundUuidDao).save(JOB_EXECUTION_ID, firstChunkUUIDs, TENANT_ID);
+    verify(notFoundUuidDao).save(JOB_EXECUTION_ID, secondChunkUUIDs, TENANT_ID);
+    verify(errorLogDao, times(2)).saveIfAbsent(errorLogCaptor.capture(), eq(TENANT_ID));
+    List<ErrorLog> errorLogs = errorLogCaptor.getAllValues();
+    assertEquals(SOME_UUIDS_NOT_FOUND.getCode(), errorLogs.get(0).getErrorMessageCode());
+    assertEquals(errorLogs.get(0).getId(), errorLogs.get(1).getId());
+    verify(errorLogDao, never()).update(any(ErrorLog.class), anyString());
+
+    context.completeNow();
+  }
+
+  @Test
+  void populateNotFoundUUIDsErrorLogs_shouldCountErrorLogsOncePerJob_beforeTheyAreSaved(VertxTestContext context) {
+    // given
+    errorLogService.startCounting(JOB_EXECUTION_ID);
+    when(notFoundUuidDao.save(eq(JOB_EXECUTION_ID), any(), eq(TENANT_ID))).thenReturn(Promise.<Void>promise().future());
+    when(errorLogDao.getByQuery(any(Criterion.class), anyString())).thenReturn(Promise.<List<ErrorLog>>promise().future());
+    // when
+    errorLogService.populateUUIDsNotFoundErrorLog(JOB_EXECUTION_ID, List.of(INSTANCE_ID), TENANT_ID);
+    errorLogService.populateUUIDsNotFoundErrorLog(JOB_EXECUTION_ID, List.of(HOLDINGS_ID), TENANT_ID);
+    errorLogService.populateUUIDsNotFoundNumberErrorLog(JOB_EXECUTION_ID, 1, TENANT_ID);
+    errorLogService.populateUUIDsNotFoundNumberErrorLog(JOB_EXECUTION_ID, 2, TENANT_ID);
+    // then
+    assertEquals(Map.of(SOME_UUIDS_NOT_FOUND.getCode(), 1L, SOME_RECORDS_FAILED.getCode(), 1L), errorLogCounters.get(JOB_EXECUTION_ID));
+    verify(errorLogDao, never()).saveIfAbsent(any(ErrorLog.class), anyString());
+
+    context.completeNow();
+  }
+
+  @Test
+  void saveGeneralError_shouldOnlyCountErrorLog_whenDetailsLimitOfErrorCodeIsReached(VertxTestContext context) {
+    // given
+    errorLogService.startCounting(JOB_EXECUTION_ID);
+    when(errorLogSink.add(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
+    // when
+    errorLogService.saveGeneralError(ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, TENANT_ID);
+    Future<ErrorLog> future = errorLogService.saveGeneralError(ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, TENANT_ID);
+    // then
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      verify(errorLogSink, times(1)).add(any(ErrorLog.class), eq(TENANT_ID));
+      assertEquals(Map.of(ERROR_MESSAGE_CODE, 2L), errorLogCounters.get(JOB_EXECUTION_ID));
+      context.completeNow();
+    }));
+  }
+
+  @Test
+  void saveSummary_shouldSaveCountersOfJob_withoutReadingErrorLogs(VertxTestContext context) {
+    // given
+    errorLogService.startCounting(JOB_EXECUTION_ID);
+    when(errorLogSink.add(any(ErrorLog.class), eq(TENANT_ID))).thenReturn(succeededFuture(errorLog));
+    when(errorLogSink.flush(TENANT_ID)).thenReturn(succeededFuture());
+    when(errorLogSummaryDao.save(any(ErrorLogSummary.class), eq(TENANT_ID))).thenAnswer(invocation -> succeededFuture(invocation.getArgument(0)));
+    errorLogService.saveGeneralError(ERROR_MESSAGE_CODE, JOB_EXECUTION_ID, TENANT_ID);
+    errorLogService.saveGeneralError(SOME_RECORDS_FAILED.getCode(), JOB_EXECUTION_ID, TENANT_ID);
+    // when
+    Future<ErrorLogSummary> future = errorLogService.saveSummary(JOB_EXECUTION_ID, TENANT_ID);
+    // then
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      ErrorLogSummary summary = ar.result();
+      assertEquals(JOB_EXECUTION_ID, summary.getJobExecutionId());
+      assertEquals(2, summary.getTotalErrors().intValue());
+      assertEquals(ERROR_MESSAGE_CODE, summary.getErrorCounts().get(0).getErrorMessageCode());
+      assertEquals(1, summary.getErrorCounts().get(0).getCount().intValue());
+      verify(errorLogDao, never()).countByErrorCode(anyString(), anyString());
+      assertNull(errorLogCounters.get(JOB_EXECUTION_ID));
+      context.completeNow();
+    }));
+  }
+
+  @Test
+  void saveSummary_shouldCountSavedErrorLogs_whenJobIsNotCounted(VertxTestContext context) {
+    // given
+    when(errorLogSink.flush(TENANT_ID)).thenReturn(succeededFuture());
+    when(errorLogDao.countByErrorCode(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(succeededFuture(Map.of(ERROR_MESSAGE_CODE, 3L)));
+    when(errorLogSummaryDao.save(any(ErrorLogSummary.class), eq(TENANT_ID))).thenAnswer(invocation -> succeededFuture(invocation.getArgument(0)));
+    // when
+    Future<ErrorLogSummary> future = errorLogService.saveSummary(JOB_EXECUTION_ID, TENANT_ID);
+    // then
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      assertEquals(3, ar.result().getTotalErrors().intValue());
+      context.completeNow();
+    }));
+  }
+
   private JsonObject createRecord() {
     JsonObject defaultRecord = new JsonObject();
     JsonObject instanceRecord = new JsonObject()
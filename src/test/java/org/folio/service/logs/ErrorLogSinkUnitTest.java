@@ -0,0 +1,97 @@
+package org.folio.service.logs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import java.util.List;
+import org.folio.dao.ErrorLogDao;
+import org.folio.rest.jaxrs.model.ErrorLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ErrorLogSinkUnitTest {
+  private static final String TENANT_ID = "diku";
+  private static final String JOB_EXECUTION_ID = "jobExecutionId";
+
+  private final Vertx vertx = Vertx.vertx();
+  private final ErrorLogDao errorLogDao = mock(ErrorLogDao.class);
+
+  @BeforeEach
+  void setUp() {
+    when(errorLogDao.saveBatch(anyList(), anyString())).thenReturn(Future.succeededFuture());
+  }
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void shouldWriteErrorLogsByOneInsert_onceBatchSizeIsReached() {
+    ErrorLogSink errorLogSink = new ErrorLogSink(vertx, errorLogDao, 2, 0, 10);
+    ErrorLog firstErrorLog = errorLog();
+    ErrorLog secondErrorLog = errorLog();
+
+    Future<ErrorLog> firstSave = errorLogSink.add(firstErrorLog, TENANT_ID);
+    verify(errorLogDao, never()).saveBatch(anyList(), anyString());
+    Future<ErrorLog> secondSave = errorLogSink.add(secondErrorLog, TENANT_ID);
+
+    verify(errorLogDao).saveBatch(List.of(firstErrorLog, secondErrorLog), TENANT_ID);
+    assertTrue(firstSave.succeeded());
+    assertTrue(secondSave.succeeded());
+  }
+
+  @Test
+  void shouldWriteBufferedErrorLogs_whenTenantIsFlushed() {
+    ErrorLogSink errorLogSink = new ErrorLogSink(vertx, errorLogDao, 10, 0, 10);
+    ErrorLog errorLog = errorLog();
+
+    Future<ErrorLog> save = errorLogSink.add(errorLog, TENANT_ID);
+    Future<Void> flush = errorLogSink.flush(TENANT_ID);
+
+    verify(errorLogDao).saveBatch(List.of(errorLog), TENANT_ID);
+    assertTrue(save.succeeded());
+    assertTrue(flush.succeeded());
+  }
+
+  @Test
+  void shouldDropErrorLog_whenBufferIsFull() {
+    ErrorLogSink errorLogSink = new ErrorLogSink(vertx, errorLogDao, 10, 0, 1);
+    ErrorLog errorLog = errorLog();
+
+    Future<ErrorLog> save = errorLogSink.add(errorLog, TENANT_ID);
+    Future<ErrorLog> droppedSave = errorLogSink.add(errorLog(), TENANT_ID);
+    errorLogSink.flush(TENANT_ID);
+
+    assertTrue(droppedSave.failed());
+    verify(errorLogDao).saveBatch(List.of(errorLog), TENANT_ID);
+    assertTrue(save.succeeded());
+  }
+
+  @Test
+  void shouldSaveErrorLogRightAway_whenBufferingIsDisabled() {
+    ErrorLogSink errorLogSink = new ErrorLogSink(vertx, errorLogDao, 1, 0, 10);
+    ErrorLog errorLog = errorLog();
+    when(errorLogDao.save(errorLog, TENANT_ID)).thenReturn(Future.succeededFuture(errorLog));
+
+    Future<ErrorLog> save = errorLogSink.add(errorLog, TENANT_ID);
+
+    assertEquals(errorLog, save.result());
+    verify(errorLogDao, never()).saveBatch(anyList(), anyString());
+  }
+
+  private ErrorLog errorLog() {
+    return new ErrorLog()
+      .withErrorMessageCode("error.messageCode")
+      .withJobExecutionId(JOB_EXECUTION_ID);
+  }
+}
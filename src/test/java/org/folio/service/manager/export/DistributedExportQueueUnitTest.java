@@ -0,0 +1,105 @@
+package org.folio.service.manager.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.commons.io.FileUtils;
+import org.folio.clients.SystemUserClient;
+import org.folio.dao.ExportChunkDao;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.rest.jaxrs.model.MappingProfile;
+import org.folio.service.file.storage.FileStorage;
+import org.folio.service.file.storage.LocalFileSystemStorage;
+import org.folio.util.OkapiConnectionParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DistributedExportQueueUnitTest {
+  private static final String TENANT_ID = "diku";
+  private static final String STORAGE_PATH = "./storage/files";
+
+  private final Vertx vertx = Vertx.vertx();
+  private final FileStorage fileStorage = new LocalFileSystemStorage(vertx);
+  private final ExportChunkDao exportChunkDao = mock(ExportChunkDao.class);
+  private final ExportJobContextRegistry exportJobContextRegistry = mock(ExportJobContextRegistry.class);
+  private final ExportChunkScheduler exportChunkScheduler = mock(ExportChunkScheduler.class);
+
+  @AfterEach
+  void tearDown() throws IOException {
+    vertx.close();
+    FileUtils.deleteDirectory(new File("./storage"));
+  }
+
+  @Test
+  void shouldWriteResultingFileAnew_whenLastChunkIsClaimedAgainAfterPartialAppend() throws IOException {
+    // given
+    String jobExecutionId = UUID.randomUUID().toString();
+    FileDefinition fileExportDefinition = new FileDefinition()
+      .withId(UUID.randomUUID().toString())
+      .withFileName("export.mrc")
+      .withJobExecutionId(jobExecutionId);
+    Path firstChunkFile = writeFile(fileExportDefinition.getId(), "export.mrc.part0-1", "first");
+    Path secondChunkFile = writeFile(fileExportDefinition.getId(), "export.mrc.part1-1", "second");
+    // the abandoned claim of the last chunk appended the first chunk only
+    Path resultingFile = writeFile(fileExportDefinition.getId(), "export.mrc", "first");
+
+    Map<String, String> headers = new HashMap<>();
+    headers.put("x-okapi-tenant", TENANT_ID);
+    ExportPayload jobPayload = new ExportPayload(Collections.emptyList(), false, fileExportDefinition,
+      new OkapiConnectionParams(headers), jobExecutionId, new MappingProfile());
+    JsonObject lastChunk = new JsonObject()
+      .put("jobExecutionId", jobExecutionId)
+      .put("chunkNumber", 2)
+      .put("last", true)
+      .put("claimedAt", 2L)
+      .put("identifiers", new JsonArray());
+    when(exportChunkScheduler.getFreeWorkers()).thenReturn(1, 0);
+    when(exportChunkDao.getTenantIds()).thenReturn(Future.succeededFuture(Collections.singletonList(TENANT_ID)));
+    when(exportChunkDao.claimChunks(anyInt(), anyLong(), anyLong(), eq(TENANT_ID)))
+      .thenReturn(Future.succeededFuture(Collections.singletonList(lastChunk)));
+    when(exportChunkDao.getCompletedChunks(jobExecutionId, TENANT_ID)).thenReturn(Future.succeededFuture(Arrays.asList(
+      new JsonObject().put("chunkNumber", 0).put("sourcePath", firstChunkFile.toString()),
+      new JsonObject().put("chunkNumber", 1).put("sourcePath", secondChunkFile.toString()))));
+    when(exportJobContextRegistry.getJobPayload(jobExecutionId)).thenReturn(jobPayload);
+    when(exportJobContextRegistry.toMessage(any(ExportPayload.class))).thenReturn(new JsonObject());
+
+    // when
+    new DistributedExportQueue(vertx, exportChunkDao, exportJobContextRegistry, exportChunkScheduler, fileStorage,
+      mock(SystemUserClient.class), true, 10, 60_000);
+
+    // then
+    verify(exportJobContextRegistry, timeout(5_000)).toMessage(any(ExportPayload.class));
+    assertEquals("firstsecond", new String(Files.readAllBytes(resultingFile), StandardCharsets.UTF_8));
+    assertTrue(Files.exists(firstChunkFile));
+    assertTrue(Files.exists(secondChunkFile));
+  }
+
+  private Path writeFile(String directory, String fileName, String content) throws IOException {
+    Path path = Paths.get(STORAGE_PATH, directory, fileName);
+    Files.createDirectories(path.getParent());
+    return Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+  }
+}
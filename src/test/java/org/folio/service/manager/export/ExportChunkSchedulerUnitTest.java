@@ -0,0 +1,130 @@
+package org.folio.service.manager.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+
+@ExtendWith(VertxExtension.class)
+class ExportChunkSchedulerUnitTest {
+
+  private final Vertx vertx = Vertx.vertx();
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void shouldTakeQueuedChunksOfTenantsInTurns(VertxTestContext context) {
+    ExportChunkScheduler scheduler = new ExportChunkScheduler(vertx, 1, 1, "", 0);
+    List<String> exportedChunks = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch firstChunkLatch = new CountDownLatch(1);
+
+    // the only worker is busy with the first chunk while other chunks are queued
+    Future<Void> firstChunk = scheduler.schedule("tenant1", "job1", promise -> {
+      awaitQuietly(firstChunkLatch);
+      promise.complete();
+    });
+    List<Future> chunks = new ArrayList<>(Arrays.asList(firstChunk,
+      scheduler.schedule("tenant1", "job1", exportChunk(exportedChunks, "tenant1-1")),
+      scheduler.schedule("tenant1", "job1", exportChunk(exportedChunks, "tenant1-2")),
+      scheduler.schedule("tenant1", "job1", exportChunk(exportedChunks, "tenant1-3")),
+      scheduler.schedule("tenant2", "job2", exportChunk(exportedChunks, "tenant2-1"))));
+    firstChunkLatch.countDown();
+
+    CompositeFuture.all(chunks).onComplete(context.succeeding(ar -> context.verify(() -> {
+      assertEquals(Arrays.asList("tenant1-1", "tenant2-1", "tenant1-2", "tenant1-3"), exportedChunks);
+      context.completeNow();
+    })));
+  }
+
+  @Test
+  void shouldGiveTenantChunksInRowAccordingToWeight(VertxTestContext context) {
+    ExportChunkScheduler scheduler = new ExportChunkScheduler(vertx, 1, 1, "tenant1:2", 0);
+    List<String> exportedChunks = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch firstChunkLatch = new CountDownLatch(1);
+
+    Future<Void> firstChunk = scheduler.schedule("tenant3", "job3", promise -> {
+      awaitQuietly(firstChunkLatch);
+      promise.complete();
+    });
+    List<Future> chunks = new ArrayList<>(Arrays.asList(firstChunk,
+      scheduler.schedule("tenant1", "job1", exportChunk(exportedChunks, "tenant1-1")),
+      scheduler.schedule("tenant1", "job1", exportChunk(exportedChunks, "tenant1-2")),
+      scheduler.schedule("tenant1", "job1", exportChunk(exportedChunks, "tenant1-3")),
+      scheduler.schedule("tenant2", "job2", exportChunk(exportedChunks, "tenant2-1")),
+      scheduler.schedule("tenant2", "job2", exportChunk(exportedChunks, "tenant2-2"))));
+    firstChunkLatch.countDown();
+
+    CompositeFuture.all(chunks).onComplete(context.succeeding(ar -> context.verify(() -> {
+      assertEquals(Arrays.asList("tenant1-1", "tenant1-2", "tenant2-1", "tenant1-3", "tenant2-2"), exportedChunks);
+      context.completeNow();
+    })));
+  }
+
+  @Test
+  void shouldFailQueuedChunksOfCancelledJob_andRunChunksOfOtherJobs(VertxTestContext context) {
+    ExportChunkScheduler scheduler = new ExportChunkScheduler(vertx, 1, 1, "", 0);
+    List<String> exportedChunks = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch firstChunkLatch = new CountDownLatch(1);
+
+    Future<Void> firstChunk = scheduler.schedule("tenant1", "job1", promise -> {
+      awaitQuietly(firstChunkLatch);
+      promise.complete();
+    });
+    Future<Void> cancelledChunk = scheduler.schedule("tenant1", "job1", exportChunk(exportedChunks, "tenant1-1"));
+    Future<Void> otherJobChunk = scheduler.schedule("tenant1", "job2", exportChunk(exportedChunks, "tenant1-2"));
+
+    assertEquals(1, scheduler.cancel("tenant1", "job1"));
+    assertEquals(0, scheduler.cancel("tenant2", "job1"));
+    assertTrue(cancelledChunk.failed());
+    assertTrue(cancelledChunk.cause() instanceof CancellationException);
+    firstChunkLatch.countDown();
+
+    CompositeFuture.all(firstChunk, otherJobChunk).onComplete(context.succeeding(ar -> context.verify(() -> {
+      assertEquals(List.of("tenant1-2"), exportedChunks);
+      assertEquals(1, scheduler.getFreeWorkers());
+      context.completeNow();
+    })));
+  }
+
+  @Test
+  void shouldSkipInvalidTenantWeights() {
+    Map<String, Integer> weights = ExportChunkScheduler.parseTenantWeights("tenant1:3, tenant2, tenant3:abc,tenant4:0");
+
+    assertEquals(Map.of("tenant1", 3, "tenant4", 1), weights);
+  }
+
+  private Handler<Promise<Void>> exportChunk(List<String> exportedChunks, String chunk) {
+    return promise -> {
+      exportedChunks.add(chunk);
+      promise.complete();
+    };
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
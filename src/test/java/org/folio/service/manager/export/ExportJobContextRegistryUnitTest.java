@@ -0,0 +1,107 @@
+package org.folio.service.manager.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonObject;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.rest.jaxrs.model.ExportRequest;
+import org.folio.rest.jaxrs.model.FileDefinition;
+import org.folio.rest.jaxrs.model.MappingProfile;
+import org.folio.util.OkapiConnectionParams;
+import org.junit.jupiter.api.Test;
+
+class ExportJobContextRegistryUnitTest {
+
+  private static final String JOB_EXECUTION_ID = UUID.randomUUID().toString();
+  private static final String USER_ID = UUID.randomUUID().toString();
+  private static final List<String> IDENTIFIERS = Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+  private final ExportJobContextRegistry registry = new ExportJobContextRegistry();
+
+  @Test
+  void shouldRestoreChunkPayload_fromMessageWithoutJobParameters() {
+    ExportPayload jobPayload = createJobPayload();
+    registry.register(jobPayload);
+    ExportPayload chunkPayload = new ExportPayload(IDENTIFIERS, true, jobPayload.getFileExportDefinition(), jobPayload.getOkapiConnectionParams(),
+      JOB_EXECUTION_ID, jobPayload.getMappingProfile());
+    chunkPayload.setExportedRecordsNumber(2);
+
+    JsonObject message = registry.toMessage(chunkPayload);
+    ExportPayload restoredPayload = registry.fromMessage(message);
+
+    assertFalse(message.containsKey("mappingProfile"));
+    assertFalse(message.containsKey("fileExportDefinition"));
+    assertSame(jobPayload.getMappingProfile(), restoredPayload.getMappingProfile());
+    assertSame(jobPayload.getFileExportDefinition(), restoredPayload.getFileExportDefinition());
+    assertSame(jobPayload.getOkapiConnectionParams(), restoredPayload.getOkapiConnectionParams());
+    assertEquals(ExportRequest.IdType.INSTANCE, restoredPayload.getIdType());
+    assertEquals(IDENTIFIERS, restoredPayload.getIdentifiers());
+    assertTrue(restoredPayload.isLast());
+    assertEquals(2, restoredPayload.getExportedRecordsNumber());
+  }
+
+  @Test
+  void shouldKeepFileDefinitionInMessage_whenChunkIsExportedToItsOwnFile() {
+    ExportPayload jobPayload = createJobPayload();
+    registry.register(jobPayload);
+    FileDefinition chunkFileDefinition = new FileDefinition().withId(UUID.randomUUID().toString()).withFileName("export.mrc.part1");
+    ExportPayload chunkPayload = new ExportPayload(IDENTIFIERS, false, chunkFileDefinition, jobPayload.getOkapiConnectionParams(),
+      JOB_EXECUTION_ID, jobPayload.getMappingProfile());
+    chunkPayload.setChunkNumber(1);
+
+    ExportPayload restoredPayload = registry.fromMessage(registry.toMessage(chunkPayload));
+
+    assertEquals(chunkFileDefinition, restoredPayload.getFileExportDefinition());
+    assertSame(jobPayload.getMappingProfile(), restoredPayload.getMappingProfile());
+    assertEquals(1, restoredPayload.getChunkNumber());
+  }
+
+  @Test
+  void shouldRestoreOnlyMessageFields_whenJobIsUnregistered() {
+    ExportPayload jobPayload = createJobPayload();
+    registry.register(jobPayload);
+    JsonObject message = registry.toMessage(new ExportPayload(Collections.emptyList(), false, jobPayload.getFileExportDefinition(),
+      jobPayload.getOkapiConnectionParams(), JOB_EXECUTION_ID, jobPayload.getMappingProfile()));
+    registry.unregister(JOB_EXECUTION_ID);
+
+    ExportPayload restoredPayload = registry.fromMessage(message);
+
+    assertFalse(registry.isRegistered(JOB_EXECUTION_ID));
+    assertEquals(JOB_EXECUTION_ID, restoredPayload.getJobExecutionId());
+    assertNull(restoredPayload.getMappingProfile());
+    assertNull(restoredPayload.getFileExportDefinition());
+  }
+
+  @Test
+  void shouldStoreOnlyTenantOkapiUrlAndUserId_whenJobIsSaved() {
+    ExportPayload jobPayload = createJobPayload();
+    jobPayload.setOkapiConnectionParams(new OkapiConnectionParams(Map.of("x-okapi-tenant", "diku", "x-okapi-url", "http://okapi:9130",
+      "x-okapi-user-id", USER_ID, "x-okapi-token", "token")));
+
+    JsonObject jobJson = registry.toJobJson(jobPayload);
+    ExportPayload restoredPayload = registry.fromJobJson(jobJson);
+
+    assertFalse(jobJson.encode().contains("x-okapi-token"));
+    assertEquals(JOB_EXECUTION_ID, restoredPayload.getJobExecutionId());
+    assertEquals("diku", restoredPayload.getOkapiConnectionParams().getTenantId());
+    assertEquals("http://okapi:9130", restoredPayload.getOkapiConnectionParams().getOkapiUrl());
+    assertEquals(USER_ID, restoredPayload.getOkapiConnectionParams().getHeaders().get("x-okapi-user-id"));
+    assertFalse(restoredPayload.getOkapiConnectionParams().getHeaders().containsKey("x-okapi-token"));
+  }
+
+  private ExportPayload createJobPayload() {
+    ExportPayload jobPayload = new ExportPayload(null, false, new FileDefinition().withId(UUID.randomUUID().toString()).withFileName("export.mrc"),
+      new OkapiConnectionParams(Collections.singletonMap("x-okapi-tenant", "diku")), JOB_EXECUTION_ID,
+      new MappingProfile().withId(UUID.randomUUID().toString()));
+    jobPayload.setIdType(ExportRequest.IdType.INSTANCE);
+    return jobPayload;
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.service.manager.export;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.folio.service.job.JobExecutionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExportProgressCoalescerUnitTest {
+  private static final String TENANT_ID = "diku";
+  private static final String JOB_EXECUTION_ID = "jobExecutionId";
+
+  private final Vertx vertx = Vertx.vertx();
+  private final JobExecutionService jobExecutionService = mock(JobExecutionService.class);
+
+  @BeforeEach
+  void setUp() {
+    when(jobExecutionService.incrementCurrentProgress(anyString(), anyInt(), anyInt(), anyString())).thenReturn(Future.succeededFuture());
+  }
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void shouldWriteProgressOfEveryChunk_whenCoalescingIsDisabled() {
+    ExportProgressCoalescer coalescer = new ExportProgressCoalescer(vertx, jobExecutionService, 1, 0);
+
+    coalescer.increment(JOB_EXECUTION_ID, 2, 1, TENANT_ID);
+    coalescer.increment(JOB_EXECUTION_ID, 3, 0, TENANT_ID);
+
+    verify(jobExecutionService).incrementCurrentProgress(JOB_EXECUTION_ID, 2, 1, TENANT_ID);
+    verify(jobExecutionService).incrementCurrentProgress(JOB_EXECUTION_ID, 3, 0, TENANT_ID);
+  }
+
+  @Test
+  void shouldWriteSummedProgress_onceFlushChunksAreExported() {
+    ExportProgressCoalescer coalescer = new ExportProgressCoalescer(vertx, jobExecutionService, 3, 0);
+
+    coalescer.increment(JOB_EXECUTION_ID, 2, 1, TENANT_ID);
+    coalescer.increment(JOB_EXECUTION_ID, 2, 0, TENANT_ID);
+    verify(jobExecutionService, never()).incrementCurrentProgress(anyString(), anyInt(), anyInt(), anyString());
+    coalescer.increment(JOB_EXECUTION_ID, 1, 1, TENANT_ID);
+
+    verify(jobExecutionService).incrementCurrentProgress(JOB_EXECUTION_ID, 5, 2, TENANT_ID);
+  }
+
+  @Test
+  void shouldWritePendingProgress_whenJobIsFlushed() {
+    ExportProgressCoalescer coalescer = new ExportProgressCoalescer(vertx, jobExecutionService, 10, 0);
+
+    coalescer.increment(JOB_EXECUTION_ID, 2, 1, TENANT_ID);
+    Future<Void> flush = coalescer.flush(JOB_EXECUTION_ID);
+
+    assertTrue(flush.succeeded());
+    verify(jobExecutionService).incrementCurrentProgress(JOB_EXECUTION_ID, 2, 1, TENANT_ID);
+    assertTrue(coalescer.flush(JOB_EXECUTION_ID).succeeded());
+  }
+
+  @Test
+  void shouldNotWriteProgress_whenJobIsDiscarded() {
+    ExportProgressCoalescer coalescer = new ExportProgressCoalescer(vertx, jobExecutionService, 10, 0);
+
+    coalescer.increment(JOB_EXECUTION_ID, 2, 1, TENANT_ID);
+    coalescer.discard(JOB_EXECUTION_ID);
+    coalescer.flush(JOB_EXECUTION_ID);
+
+    verify(jobExecutionService, never()).incrementCurrentProgress(anyString(), anyInt(), anyInt(), anyString());
+  }
+}
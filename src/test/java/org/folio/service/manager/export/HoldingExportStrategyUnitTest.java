@@ -87,7 +87,7 @@ public class HoldingExportStrategyUnitTest {
     // then
     Mockito.verify(recordLoaderService, Mockito.times(20)).loadMarcRecordsBlocking(anyList(), eq(AbstractExportStrategy.EntityType.HOLDING), anyString(), any(OkapiConnectionParams.class));
     Mockito.verify(recordLoaderService, Mockito.times(1)).getHoldingsById(anyList(), anyString(), any(OkapiConnectionParams.class), anyInt());
-    Mockito.verify(exportService, Mockito.times(1)).exportSrsRecord(any(Pair.class), any(ExportPayload.class));
+    Mockito.verify(exportService, Mockito.times(1)).exportSrsRecord(any(Pair.class), anyList(), any(ExportPayload.class));
     Mockito.verify(inventoryRecordService, Mockito.times(1)).transformHoldingRecords(anyList(), anyString(), any(MappingProfile.class), any(OkapiConnectionParams.class));
     Mockito.verify(exportService, Mockito.times(1)).postExport(any(FileDefinition.class), anyString());
     Mockito.verify(errorLogService).populateUUIDsNotFoundErrorLog(anyString(), anyList(), anyString());
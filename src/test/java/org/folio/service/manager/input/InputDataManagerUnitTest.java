@@ -3,18 +3,20 @@ package org.folio.service.manager.input;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +30,8 @@ import java.util.UUID;
 
 import org.assertj.core.util.Maps;
 import org.folio.clients.UsersClient;
+import org.folio.rest.jaxrs.model.ErrorCount;
+import org.folio.rest.jaxrs.model.ErrorLogSummary;
 import org.folio.rest.jaxrs.model.ExportRequest;
 import org.folio.rest.jaxrs.model.FileDefinition;
 import org.folio.rest.jaxrs.model.JobExecution;
@@ -36,8 +40,12 @@ import org.folio.rest.jaxrs.model.Metadata;
 import org.folio.rest.jaxrs.model.Progress;
 import org.folio.service.file.definition.FileDefinitionService;
 import org.folio.service.file.reader.SourceReader;
+import org.folio.service.file.storage.FileStorage;
 import org.folio.service.job.JobExecutionServiceImpl;
 import org.folio.service.logs.ErrorLogService;
+import org.folio.service.manager.export.DistributedExportQueue;
+import org.folio.service.manager.export.ExportChunkScheduler;
+import org.folio.service.manager.export.ExportJobContextRegistry;
 import org.folio.service.manager.export.ExportManager;
 import org.folio.service.manager.export.ExportPayload;
 import org.folio.service.manager.export.ExportResult;
@@ -50,11 +58,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.mockito.internal.util.reflection.FieldSetter;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.support.AbstractApplicationContext;
 
@@ -91,11 +101,10 @@ class InputDataManagerUnitTest {
       "c5d662af-b0be-4851-bb9c-de70bba3dfce");
   private static final String DELIMETER = "-";
   private static final String FILE_EXPORT_DEFINITION_KEY = "fileExportDefinition";
-  private static final String OKAPI_CONNECTION_PARAMS_KEY = "okapiConnectionParams";
+  private static final String MAPPING_PROFILE_KEY = "mappingProfile";
   private static final String JOB_EXECUTION_ID_KEY = "jobExecutionId";
   private static final String LAST_KEY = "last";
   private static final String IDENTIFIERS_KEY = "identifiers";
-  private static final String TENANT_ID_KEY = "tenantId";
   private static final JsonObject USER = new JsonObject()
     .put("personal", new JsonObject()
       .put("firstname", "John")
@@ -124,6 +133,18 @@ class InputDataManagerUnitTest {
   private UsersClient usersClient;
   @Mock
   private ErrorLogService errorLogService;
+  @Mock
+  private FileStorage fileStorage;
+  @Spy
+  private ExportJobContextRegistry exportJobContextRegistry = new ExportJobContextRegistry();
+  @Mock
+  private DistributedExportQueue distributedExportQueue;
+  @Mock
+  private ExportCheckpointService exportCheckpointService;
+  @Mock
+  private ExportChunkScheduler exportChunkScheduler;
+  @Captor
+  private ArgumentCaptor<ExportPayload> exportPayloadCaptor;
 
   private Context context;
   private AbstractApplicationContext springContext;
@@ -187,6 +208,7 @@ class InputDataManagerUnitTest {
     assertThat(fileDefinition.getStatus(), equalTo(FileDefinition.Status.ERROR));
     assertThat(fileDefinition.getFileName(), equalTo("InventoryUUIDs" + DELIMETER + jobExecution.getHrId() + ".mrc"));
     verify(errorLogService).saveGeneralError(ErrorCode.ERROR_READING_FROM_INPUT_FILE.getCode(), JOB_EXECUTION_ID, TENANT_ID);
+    verify(errorLogService).stopCounting(JOB_EXECUTION_ID);
   }
 
   @Test
@@ -247,9 +269,12 @@ class InputDataManagerUnitTest {
     verify(jobExecutionService).update(jobExecution, TENANT_ID);
     assertJobExecutionDataWereUpdated();
     JsonObject exportRequest = exportPayloadJsonCaptor.getValue();
-    assertThat(exportRequest.getJsonObject(FILE_EXPORT_DEFINITION_KEY), equalTo(JsonObject.mapFrom(fileExportDefinition)));
-    assertThat(exportRequest.getJsonObject(OKAPI_CONNECTION_PARAMS_KEY).getString(TENANT_ID_KEY), equalTo(TENANT_ID));
+    assertFalse(exportRequest.containsKey(FILE_EXPORT_DEFINITION_KEY));
+    assertFalse(exportRequest.containsKey(MAPPING_PROFILE_KEY));
     assertThat(exportRequest.getString(JOB_EXECUTION_ID_KEY), equalTo(JOB_EXECUTION_ID));
+    ExportPayload restoredPayload = exportJobContextRegistry.fromMessage(exportRequest);
+    assertThat(restoredPayload.getFileExportDefinition(), equalTo(fileExportDefinition));
+    assertThat(restoredPayload.getOkapiConnectionParams().getTenantId(), equalTo(TENANT_ID));
     assertThat(exportRequest.getBoolean(LAST_KEY), equalTo(true));
     assertThat(exportRequest.getJsonArray(IDENTIFIERS_KEY), equalTo(new JsonArray(EXPECTED_IDS)));
   }
@@ -273,9 +298,12 @@ class InputDataManagerUnitTest {
     verify(jobExecutionService).update(jobExecution, TENANT_ID);
     assertJobExecutionDataWereUpdated();
     JsonObject exportRequest = exportPayloadJsonCaptor.getValue();
-    assertThat(exportRequest.getJsonObject(FILE_EXPORT_DEFINITION_KEY), equalTo(JsonObject.mapFrom(fileExportDefinition)));
-    assertThat(exportRequest.getJsonObject(OKAPI_CONNECTION_PARAMS_KEY).getString(TENANT_ID_KEY), equalTo(TENANT_ID));
+    assertFalse(exportRequest.containsKey(FILE_EXPORT_DEFINITION_KEY));
+    assertFalse(exportRequest.containsKey(MAPPING_PROFILE_KEY));
     assertThat(exportRequest.getString(JOB_EXECUTION_ID_KEY), equalTo(JOB_EXECUTION_ID));
+    ExportPayload restoredPayload = exportJobContextRegistry.fromMessage(exportRequest);
+    assertThat(restoredPayload.getFileExportDefinition(), equalTo(fileExportDefinition));
+    assertThat(restoredPayload.getOkapiConnectionParams().getTenantId(), equalTo(TENANT_ID));
     assertThat(exportRequest.getBoolean(LAST_KEY), equalTo(false));
     assertThat(exportRequest.getJsonArray(IDENTIFIERS_KEY), equalTo(new JsonArray(EXPECTED_IDS)));
   }
@@ -286,6 +314,7 @@ class InputDataManagerUnitTest {
     //given
     jobExecution.withProgress(new Progress());
     ExportPayload exportPayload = createExportPayload();
+    exportJobContextRegistry.register(exportPayload);
     doCallRealMethod().when(jobExecutionService).updateJobStatusById(eq(JOB_EXECUTION_ID), eq(JobExecution.Status.FAIL), eq(TENANT_ID));
     when(fileDefinitionService.update(fileExportDefinitionCaptor.capture(), eq(TENANT_ID))).thenReturn(Future.succeededFuture());
     when(inputDataLocalMap.containsKey(JOB_EXECUTION_ID)).thenReturn(true);
@@ -293,7 +322,7 @@ class InputDataManagerUnitTest {
     when(inputDataContext.getSourceReader()).thenReturn(sourceReader);
 
     //when
-    inputDataManager.proceedBlocking(JsonObject.mapFrom(exportPayload), ExportResult.failed(ErrorCode.NO_FILE_GENERATED));
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(exportPayload), ExportResult.failed(ErrorCode.NO_FILE_GENERATED));
 
     //then
     verify(jobExecutionService).update(jobExecution, TENANT_ID);
@@ -311,15 +340,19 @@ class InputDataManagerUnitTest {
     //given
     jobExecution.withProgress(new Progress());
     ExportPayload exportPayload = createExportPayload();
+    exportJobContextRegistry.register(exportPayload);
     doCallRealMethod().when(jobExecutionService).updateJobStatusById(eq(JOB_EXECUTION_ID), eq(JobExecution.Status.COMPLETED), eq(TENANT_ID));
     when(fileDefinitionService.update(fileExportDefinitionCaptor.capture(), eq(TENANT_ID))).thenReturn(Future.succeededFuture());
     when(inputDataLocalMap.containsKey(JOB_EXECUTION_ID)).thenReturn(true);
     when(inputDataLocalMap.get(JOB_EXECUTION_ID)).thenReturn(inputDataContext);
     when(inputDataContext.getSourceReader()).thenReturn(sourceReader);
-    when(errorLogService.isErrorsByErrorCodePresent(anyList(), anyString(), anyString())).thenReturn(Future.succeededFuture(false));
+    when(errorLogService.saveSummary(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(Future.succeededFuture(new ErrorLogSummary()
+      .withJobExecutionId(JOB_EXECUTION_ID)
+      .withErrorCounts(List.of(new ErrorCount().withErrorMessageCode(ErrorCode.NO_FILE_GENERATED.getCode()).withCount(1)))
+      .withTotalErrors(1)));
 
     //when
-    inputDataManager.proceedBlocking(JsonObject.mapFrom(exportPayload), ExportResult.completed());
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(exportPayload), ExportResult.completed());
 
     //then
     verify(jobExecutionService).update(jobExecution, TENANT_ID);
@@ -337,15 +370,19 @@ class InputDataManagerUnitTest {
     //given
     jobExecution.withProgress(new Progress());
     ExportPayload exportPayload = createExportPayload();
+    exportJobContextRegistry.register(exportPayload);
     doCallRealMethod().when(jobExecutionService).updateJobStatusById(eq(JOB_EXECUTION_ID), eq(JobExecution.Status.COMPLETED_WITH_ERRORS), eq(TENANT_ID));
     when(fileDefinitionService.update(fileExportDefinitionCaptor.capture(), eq(TENANT_ID))).thenReturn(Future.succeededFuture());
     when(inputDataLocalMap.containsKey(JOB_EXECUTION_ID)).thenReturn(true);
     when(inputDataLocalMap.get(JOB_EXECUTION_ID)).thenReturn(inputDataContext);
     when(inputDataContext.getSourceReader()).thenReturn(sourceReader);
-    when(errorLogService.isErrorsByErrorCodePresent(anyList(), anyString(), anyString())).thenReturn(Future.succeededFuture(true));
+    when(errorLogService.saveSummary(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(Future.succeededFuture(new ErrorLogSummary()
+      .withJobExecutionId(JOB_EXECUTION_ID)
+      .withErrorCounts(List.of(new ErrorCount().withErrorMessageCode(ErrorCode.SOME_UUIDS_NOT_FOUND.getCode()).withCount(1)))
+      .withTotalErrors(1)));
 
     //when
-    inputDataManager.proceedBlocking(JsonObject.mapFrom(exportPayload), ExportResult.completed());
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(exportPayload), ExportResult.completed());
 
     //then
       verify(jobExecutionService).update(jobExecution, TENANT_ID);
@@ -364,6 +401,7 @@ class InputDataManagerUnitTest {
     //given
     jobExecution.withProgress(new Progress());
     ExportPayload exportPayload = createExportPayload();
+    exportJobContextRegistry.register(exportPayload);
     when(fileDefinitionService.update(fileExportDefinitionCaptor.capture(), eq(TENANT_ID))).thenReturn(Future.succeededFuture());
     doCallRealMethod().when(jobExecutionService).updateJobStatusById(eq(JOB_EXECUTION_ID), eq(JobExecution.Status.FAIL), eq(TENANT_ID));
     when(inputDataLocalMap.containsKey(JOB_EXECUTION_ID)).thenReturn(true);
@@ -371,7 +409,7 @@ class InputDataManagerUnitTest {
     when(inputDataContext.getSourceReader()).thenReturn(null);
 
     //when
-    inputDataManager.proceedBlocking(JsonObject.mapFrom(exportPayload), ExportResult.inProgress());
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(exportPayload), ExportResult.inProgress());
 
     //then
     verify(jobExecutionService).update(jobExecution, TENANT_ID);
@@ -387,24 +425,201 @@ class InputDataManagerUnitTest {
   void shouldExportNextChunk_whenProceedWithExportStatusInProgress_andSourceStreamHasMoreChunksToExport() {
     //given
     ExportPayload exportPayload = createExportPayload();
+    exportJobContextRegistry.register(exportPayload);
     when(inputDataLocalMap.get(JOB_EXECUTION_ID)).thenReturn(inputDataContext);
     when(inputDataContext.getSourceReader()).thenReturn(sourceReader);
     when(sourceReader.hasNext()).thenReturn(true, true);
     when(sourceReader.readNext()).thenReturn(EXPECTED_IDS);
 
     //when
-    inputDataManager.proceedBlocking(JsonObject.mapFrom(exportPayload), ExportResult.inProgress());
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(exportPayload), ExportResult.inProgress());
 
     //then
     verify(exportManager).exportData(exportPayloadJsonCaptor.capture());
     JsonObject exportRequest = exportPayloadJsonCaptor.getValue();
-    assertThat(exportRequest.getJsonObject(FILE_EXPORT_DEFINITION_KEY), equalTo(JsonObject.mapFrom(fileExportDefinition)));
-    assertThat(exportRequest.getJsonObject(OKAPI_CONNECTION_PARAMS_KEY).getString(TENANT_ID_KEY), equalTo(TENANT_ID));
+    assertFalse(exportRequest.containsKey(FILE_EXPORT_DEFINITION_KEY));
+    assertFalse(exportRequest.containsKey(MAPPING_PROFILE_KEY));
     assertThat(exportRequest.getString(JOB_EXECUTION_ID_KEY), equalTo(JOB_EXECUTION_ID));
+    ExportPayload restoredPayload = exportJobContextRegistry.fromMessage(exportRequest);
+    assertThat(restoredPayload.getFileExportDefinition(), equalTo(fileExportDefinition));
+    assertThat(restoredPayload.getOkapiConnectionParams().getTenantId(), equalTo(TENANT_ID));
     assertThat(exportRequest.getBoolean(LAST_KEY), equalTo(false));
     assertThat(exportRequest.getJsonArray(IDENTIFIERS_KEY), equalTo(new JsonArray(EXPECTED_IDS)));
   }
 
+  @Test
+  @Order(10)
+  void shouldAppendChunksInReadOrder_andExportLastChunkAfterAll_whenExportIsPipelined() throws NoSuchFieldException {
+    //given
+    FieldSetter.setField(inputDataManager, InputDataManagerImpl.class.getDeclaredField("chunksInFlight"), 2);
+    InputDataContext pipelinedContext = new InputDataContext(sourceReader);
+    ExportPayload exportPayload = createExportPayload();
+    exportJobContextRegistry.register(exportPayload);
+    pipelinedContext.setExportPayload(exportPayload);
+    // chunks 0 and 1 are being exported
+    pipelinedContext.incrementNextChunkNumber();
+    pipelinedContext.incrementNextChunkNumber();
+    when(inputDataLocalMap.get(JOB_EXECUTION_ID)).thenReturn(pipelinedContext);
+    when(fileStorage.isFileExist(anyString())).thenReturn(true);
+    when(sourceReader.readNext()).thenReturn(EXPECTED_IDS);
+    when(sourceReader.hasNext()).thenReturn(false);
+
+    //when
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(createChunkPayload(1)), ExportResult.inProgress());
+    //then chunk 1 waits for chunk 0
+    verify(fileStorage, never()).appendFileBlocking(anyString(), any(FileDefinition.class));
+    verify(exportManager, never()).exportData(any(JsonObject.class));
+
+    //when
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(createChunkPayload(0)), ExportResult.inProgress());
+    //then
+    InOrder appendOrder = inOrder(fileStorage);
+    appendOrder.verify(fileStorage).appendFileBlocking(eq("chunk-0"), any(FileDefinition.class));
+    appendOrder.verify(fileStorage).appendFileBlocking(eq("chunk-1"), any(FileDefinition.class));
+    verify(exportManager).exportData(exportPayloadJsonCaptor.capture());
+    JsonObject lastChunk = exportPayloadJsonCaptor.getValue();
+    assertThat(lastChunk.getBoolean(LAST_KEY), equalTo(true));
+    // the last chunk is exported to the resulting file of the job
+    assertFalse(lastChunk.containsKey(FILE_EXPORT_DEFINITION_KEY));
+    assertThat(lastChunk.getJsonArray(IDENTIFIERS_KEY), equalTo(new JsonArray(EXPECTED_IDS)));
+  }
+
+  @Test
+  @Order(10)
+  void shouldQueueChunksForDistributedExport_insteadOfExportingThem_whenDistributedModeIsEnabled() {
+    //given
+    when(distributedExportQueue.isEnabled()).thenReturn(true);
+    when(distributedExportQueue.enqueue(any(ExportPayload.class), eq(sourceReader))).thenReturn(Future.succeededFuture());
+    when(sourceReader.hasNext()).thenReturn(true);
+    when(sourceReader.totalCount()).thenReturn(TOTAL_COUNT_4);
+    doCallRealMethod().when(jobExecutionService).prepareJobForExport(eq(JOB_EXECUTION_ID), any(FileDefinition.class), eq(USER), eq(TOTAL_COUNT_4), eq(true), eq(TENANT_ID));
+    when(fileDefinitionService.save(fileExportDefinitionCaptor.capture(), eq(TENANT_ID))).thenReturn(Future.succeededFuture(fileExportDefinition));
+
+    //when
+    inputDataManager.initBlocking(exportRequestJson, JsonObject.mapFrom(requestFileDefinition), JsonObject.mapFrom(mappingProfile), JsonObject.mapFrom(jobExecution), requestParams);
+
+    //then
+    verify(distributedExportQueue).enqueue(exportPayloadCaptor.capture(), eq(sourceReader));
+    verify(exportManager, never()).exportData(any(JsonObject.class));
+    assertTrue(exportPayloadCaptor.getValue().isDistributed());
+    // the job is registered by the instances claiming its chunks
+    assertFalse(exportJobContextRegistry.isRegistered(JOB_EXECUTION_ID));
+  }
+
+  @Test
+  @Order(10)
+  void shouldTruncateResultingFile_skipCommittedChunks_andExportNextChunk_whenExportIsResumed() {
+    //given
+    ExportCheckpoint checkpoint = new ExportCheckpoint();
+    checkpoint.setJob(new JsonObject());
+    checkpoint.setRequestFileDefinition(requestFileDefinition);
+    checkpoint.setCommittedChunks(2);
+    checkpoint.setOutputPath("storage/files/exportFileDefinition");
+    checkpoint.setOutputLength(1024);
+    when(exportCheckpointService.getJobPayload(any(ExportCheckpoint.class))).thenReturn(createExportPayload());
+    when(fileStorage.getFileSize("storage/files/exportFileDefinition")).thenReturn(2048L);
+    when(fileStorage.isFileExist("storage/files/exportFileDefinition")).thenReturn(true);
+    when(sourceReader.hasNext()).thenReturn(true);
+    when(sourceReader.readNext()).thenReturn(EXPECTED_IDS);
+
+    //when
+    inputDataManager.resumeBlocking(checkpoint.toJson(), requestParams);
+
+    //then
+    verify(fileStorage).truncateFileBlocking(fileExportDefinitionCaptor.capture(), eq(1024L));
+    assertThat(fileExportDefinitionCaptor.getValue().getSourcePath(), equalTo("storage/files/exportFileDefinition"));
+    verify(sourceReader, Mockito.times(3)).readNext();
+    verify(inputDataLocalMap).put(eq(JOB_EXECUTION_ID), inputDataContextCaptor.capture());
+    assertTrue(inputDataContextCaptor.getValue().isCheckpointed());
+    verify(exportManager).exportData(exportPayloadJsonCaptor.capture());
+    JsonObject exportRequest = exportPayloadJsonCaptor.getValue();
+    assertThat(exportRequest.getInteger("chunkNumber"), equalTo(2));
+    assertThat(exportRequest.getJsonArray(IDENTIFIERS_KEY), equalTo(new JsonArray(EXPECTED_IDS)));
+    assertTrue(exportJobContextRegistry.isRegistered(JOB_EXECUTION_ID));
+  }
+
+  @Test
+  @Order(10)
+  void shouldFailJob_andNotExportNextChunk_whenResultingFileOfResumedExportIsShorterThanAtCheckpoint() {
+    //given
+    ExportCheckpoint checkpoint = new ExportCheckpoint();
+    checkpoint.setJob(new JsonObject());
+    checkpoint.setRequestFileDefinition(requestFileDefinition);
+    checkpoint.setCommittedChunks(2);
+    checkpoint.setOutputPath("storage/files/exportFileDefinition");
+    checkpoint.setOutputLength(1024);
+    when(exportCheckpointService.getJobPayload(any(ExportCheckpoint.class))).thenReturn(createExportPayload());
+    when(fileStorage.getFileSize("storage/files/exportFileDefinition")).thenReturn(0L);
+    InputDataContext checkpointedContext = new InputDataContext(sourceReader);
+    checkpointedContext.setCheckpointed(true);
+    when(inputDataLocalMap.containsKey(JOB_EXECUTION_ID)).thenReturn(true);
+    when(inputDataLocalMap.get(JOB_EXECUTION_ID)).thenReturn(checkpointedContext);
+
+    //when
+    inputDataManager.resumeBlocking(checkpoint.toJson(), requestParams);
+
+    //then
+    verify(fileStorage, never()).truncateFileBlocking(any(FileDefinition.class), anyLong());
+    verify(exportManager, never()).exportData(any(JsonObject.class));
+    verify(jobExecutionService).updateJobStatusById(JOB_EXECUTION_ID, JobExecution.Status.FAIL, TENANT_ID);
+    verify(exportCheckpointService).delete(any(ExportPayload.class));
+    assertFalse(exportJobContextRegistry.isRegistered(JOB_EXECUTION_ID));
+  }
+
+  @Test
+  @Order(10)
+  void shouldUnregisterJob_dropQueuedChunks_andDeleteResultingFile_whenExportIsCancelled() {
+    //given
+    ExportPayload exportPayload = createExportPayload();
+    exportPayload.getFileExportDefinition().setSourcePath("storage/files/exportFileDefinition");
+    exportJobContextRegistry.register(exportPayload);
+    when(inputDataLocalMap.containsKey(JOB_EXECUTION_ID)).thenReturn(true);
+    when(inputDataLocalMap.get(JOB_EXECUTION_ID)).thenReturn(new InputDataContext(sourceReader));
+    when(fileStorage.isFileExist("storage/files/exportFileDefinition")).thenReturn(true);
+    when(exportCheckpointService.isEnabled()).thenReturn(true);
+    when(jobExecutionService.failCancelled(JOB_EXECUTION_ID, TENANT_ID)).thenReturn(Future.succeededFuture(true));
+
+    //when
+    inputDataManager.cancelBlocking(JOB_EXECUTION_ID, requestParams);
+
+    //then
+    assertFalse(exportJobContextRegistry.isRegistered(JOB_EXECUTION_ID));
+    verify(exportChunkScheduler).cancel(TENANT_ID, JOB_EXECUTION_ID);
+    verify(sourceReader).close();
+    verify(inputDataLocalMap).remove(JOB_EXECUTION_ID);
+    verify(fileStorage).deleteFileAndParentDirectory(exportPayload.getFileExportDefinition());
+    verify(fileDefinitionService).update(fileExportDefinitionCaptor.capture(), eq(TENANT_ID));
+    assertThat(fileExportDefinitionCaptor.getValue().getStatus(), equalTo(FileDefinition.Status.ERROR));
+    verify(exportCheckpointService).delete(JOB_EXECUTION_ID, TENANT_ID);
+    verify(jobExecutionService).failCancelled(JOB_EXECUTION_ID, TENANT_ID);
+    verify(jobExecutionService, never()).update(any(JobExecution.class), anyString());
+    verify(exportManager, never()).exportData(any(JsonObject.class));
+  }
+
+  @Test
+  @Order(10)
+  void shouldStopExportWithoutFinalizing_whenCheckpointIsTakenOverByAnotherInstance() {
+    //given
+    ExportPayload exportPayload = createExportPayload();
+    exportJobContextRegistry.register(exportPayload);
+    InputDataContext checkpointedContext = new InputDataContext(sourceReader);
+    checkpointedContext.setCheckpointed(true);
+    when(inputDataLocalMap.containsKey(JOB_EXECUTION_ID)).thenReturn(true);
+    when(inputDataLocalMap.get(JOB_EXECUTION_ID)).thenReturn(checkpointedContext);
+    when(sourceReader.hasNext()).thenReturn(true);
+    when(exportCheckpointService.commitChunk(any(ExportPayload.class), eq(1))).thenReturn(Future.succeededFuture(false));
+
+    //when
+    inputDataManager.proceedBlocking(exportJobContextRegistry.toMessage(exportPayload), ExportResult.inProgress());
+
+    //then
+    verify(exportManager, never()).exportData(any(JsonObject.class));
+    verify(jobExecutionService, never()).updateJobStatusById(anyString(), any(JobExecution.Status.class), anyString());
+    verify(sourceReader).close();
+    verify(inputDataLocalMap).remove(JOB_EXECUTION_ID);
+    assertFalse(exportJobContextRegistry.isRegistered(JOB_EXECUTION_ID));
+  }
+
   @Test
   @Order(10)
   void shouldFailToExport_whenPrepareJobForExport_Fail() {
@@ -445,6 +660,7 @@ class InputDataManagerUnitTest {
     //then
     verify(jobExecutionService).prepareAndSaveJobForFailedExport(any(JobExecution.class), any(FileDefinition.class), any(JsonObject.class), anyInt(), anyBoolean(), anyString());
     verify(exportManager, never()).exportData(any(JsonObject.class));
+    verify(errorLogService, never()).startCounting(anyString());
   }
 
   @Test
@@ -567,6 +783,16 @@ class InputDataManagerUnitTest {
     return exportPayload;
   }
 
+  private ExportPayload createChunkPayload(int chunkNumber) {
+    ExportPayload exportPayload = createExportPayload();
+    exportPayload.setFileExportDefinition(new FileDefinition()
+      .withFileName(fileExportDefinition.getFileName() + ".part" + chunkNumber)
+      .withJobExecutionId(JOB_EXECUTION_ID)
+      .withSourcePath("chunk-" + chunkNumber));
+    exportPayload.setChunkNumber(chunkNumber);
+    return exportPayload;
+  }
+
   private Iterator<List<String>> mockIterator() {
     return Lists.partition(EXPECTED_IDS, BATCH_SIZE).iterator();
   }
@@ -12,6 +12,7 @@ import org.folio.rest.jaxrs.model.JobProfile;
 import org.folio.rest.jaxrs.model.JobProfileCollection;
 import org.folio.rest.jaxrs.model.Metadata;
 import org.folio.rest.jaxrs.model.UserInfo;
+import org.folio.service.profiles.jobprofile.JobProfileNameCache;
 import org.folio.service.profiles.jobprofile.JobProfileServiceImpl;
 import org.folio.util.OkapiConnectionParams;
 import org.junit.Assert;
@@ -26,6 +27,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.ws.rs.NotFoundException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +35,7 @@ import java.util.UUID;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Collections.singletonList;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -59,6 +62,8 @@ class JobProfileServiceUnitTest {
   private JobProfileDaoImpl jobProfileDao;
   @Mock
   private UsersClient usersClient;
+  @Spy
+  private JobProfileNameCache jobProfileNameCache = new JobProfileNameCache(300);
   private static OkapiConnectionParams okapiConnectionParams;
 
   @BeforeAll
@@ -194,4 +199,24 @@ class JobProfileServiceUnitTest {
     }));
   }
 
+  @Test
+  void getNamesByIds_shouldQueryOnlyJobProfilesWhichAreNotCached(VertxTestContext context) {
+    // given
+    String cachedJobProfileId = UUID.randomUUID().toString();
+    jobProfileNameCache.put(cachedJobProfileId, "Cached", TENANT_ID);
+    when(jobProfileDao.get("(id==" + JOB_PROFILE_ID + ")", 0, 1, TENANT_ID))
+      .thenReturn(Future.succeededFuture(new JobProfileCollection()
+        .withJobProfiles(singletonList(new JobProfile().withId(JOB_PROFILE_ID).withName("Loaded")))));
+    // when
+    Future<Map<String, String>> future = jobProfileService.getNamesByIds(List.of(cachedJobProfileId, JOB_PROFILE_ID), TENANT_ID)
+      .compose(names -> jobProfileService.getNamesByIds(List.of(cachedJobProfileId, JOB_PROFILE_ID), TENANT_ID));
+    // then
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      assertEquals(Map.of(cachedJobProfileId, "Cached", JOB_PROFILE_ID, "Loaded"), ar.result());
+      verify(jobProfileDao).get(anyString(), eq(0), eq(1), eq(TENANT_ID));
+      context.completeNow();
+    }));
+  }
+
 }
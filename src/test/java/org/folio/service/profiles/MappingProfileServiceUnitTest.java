@@ -10,6 +10,7 @@ import java.util.Optional;
 import java.util.UUID;
 import javax.ws.rs.NotFoundException;
 import org.apache.commons.collections4.map.HashedMap;
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.clients.UsersClient;
 import org.folio.dao.impl.MappingProfileDaoImpl;
 import org.folio.rest.exceptions.ServiceException;
@@ -44,8 +45,12 @@ import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.jaxrs.model.TransformationField.RecordType.INSTANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -123,7 +128,8 @@ class MappingProfileServiceUnitTest {
           .withPath(PATH)
           .withRecordType(INSTANCE);
     TransformationFieldCollection transformationFieldCollection = new TransformationFieldCollection().withTransformationFields(singletonList(transformationField));
-    when(transformationFieldsService.getTransformationFields(okapiConnectionParams)).thenReturn(succeededFuture(transformationFieldCollection));
+    when(transformationFieldsService.getTransformationFieldsWithCompleteness(okapiConnectionParams))
+      .thenReturn(succeededFuture(Pair.of(transformationFieldCollection, true)));
     // when
     Future<MappingProfile> future = mappingProfileService.getById(MAPPING_PROFILE_ID, okapiConnectionParams);
     // then
@@ -137,6 +143,61 @@ class MappingProfileServiceUnitTest {
     }));
   }
 
+  @Test
+  void getById_shouldReconcileTransformationFieldsOnce_whenProfileIsNotChanged(VertxTestContext context) {
+    // given
+    Transformations transformations = new Transformations()
+      .withFieldId(FIELD_ID)
+      .withRecordType(RecordType.INSTANCE)
+      .withPath(PATH);
+    MappingProfile mappingProfile = new MappingProfile()
+      .withId(MAPPING_PROFILE_ID)
+      .withTransformations(singletonList(transformations));
+    when(mappingProfileDao.getById(MAPPING_PROFILE_ID, TENANT_ID)).thenReturn(succeededFuture(Optional.of(mappingProfile)));
+    TransformationField transformationField = new TransformationField()
+      .withFieldId(FIELD_ID)
+      .withReferenceDataValue("alternativeTitle")
+      .withPath(PATH)
+      .withRecordType(INSTANCE);
+    when(transformationFieldsService.getTransformationFieldsWithCompleteness(okapiConnectionParams))
+      .thenReturn(succeededFuture(Pair.of(new TransformationFieldCollection().withTransformationFields(singletonList(transformationField)), true)));
+    // when
+    Future<MappingProfile> future = mappingProfileService.getById(MAPPING_PROFILE_ID, okapiConnectionParams)
+      .compose(reconciledMappingProfile -> mappingProfileService.getById(MAPPING_PROFILE_ID, okapiConnectionParams));
+    // then
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      verify(transformationFieldsService).getTransformationFieldsWithCompleteness(okapiConnectionParams);
+      verify(mappingProfileDao, never()).update(any(MappingProfile.class), anyString());
+      context.completeNow();
+    }));
+  }
+
+  @Test
+  void getById_shouldReconcileTransformationFieldsAgain_whenFieldsAreBuiltWithoutSomeReferenceData(VertxTestContext context) {
+    // given
+    Transformations transformations = new Transformations()
+      .withFieldId(FIELD_ID)
+      .withRecordType(RecordType.INSTANCE)
+      .withPath(PATH);
+    MappingProfile mappingProfile = new MappingProfile()
+      .withId(MAPPING_PROFILE_ID)
+      .withTransformations(singletonList(transformations));
+    when(mappingProfileDao.getById(MAPPING_PROFILE_ID, TENANT_ID)).thenReturn(succeededFuture(Optional.of(mappingProfile)));
+    when(transformationFieldsService.getTransformationFieldsWithCompleteness(okapiConnectionParams))
+      .thenReturn(succeededFuture(Pair.of(new TransformationFieldCollection(), false)));
+    // when
+    Future<MappingProfile> future = mappingProfileService.getById(MAPPING_PROFILE_ID, okapiConnectionParams)
+      .compose(reconciledMappingProfile -> mappingProfileService.getById(MAPPING_PROFILE_ID, okapiConnectionParams));
+    // then
+    future.onComplete(ar -> context.verify(() -> {
+      assertTrue(ar.succeeded());
+      verify(transformationFieldsService, times(2)).getTransformationFieldsWithCompleteness(okapiConnectionParams);
+      verify(mappingProfileDao, never()).update(any(MappingProfile.class), anyString());
+      context.completeNow();
+    }));
+  }
+
   @Test
   void save_shouldCallDaoSave_addUuidToTheMappingProfile(VertxTestContext context) {
     // given
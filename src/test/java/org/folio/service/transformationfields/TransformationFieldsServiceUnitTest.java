@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
@@ -32,6 +34,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.map.HashedMap;
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.rest.exceptions.ServiceException;
 import org.folio.rest.jaxrs.model.TransformationField;
 import org.folio.rest.jaxrs.model.TransformationField.RecordType;
@@ -82,6 +85,8 @@ class TransformationFieldsServiceUnitTest {
   @Mock
   private ReferenceDataProvider referenceDataProvider;
   @Spy
+  private TransformationFieldsCache transformationFieldsCache = new TransformationFieldsCache(300);
+  @Spy
   @InjectMocks
   private TransformationFieldsServiceImpl fieldNamesService;
   private Map<String, TransformationField> expectedFields;
@@ -131,7 +136,78 @@ class TransformationFieldsServiceUnitTest {
     doCallRealMethod().when(displayNameKeyBuilder).build(any(RecordType.class), anyString());
     doCallRealMethod().when(fieldIdBuilder).build(any(RecordType.class), anyString());
     doCallRealMethod().when(fieldIdBuilder).build(any(RecordType.class), anyString(), anyString());
-    when(referenceDataProvider.getReferenceDataForTransformationFields(any(OkapiConnectionParams.class))).thenReturn(referenceData);
+    when(referenceDataProvider.getReferenceDataForTransformationFields(any(OkapiConnectionParams.class))).thenReturn(Future.succeededFuture(Pair.of(referenceData, true)));
+  }
+
+  @Test
+  void getFieldNamesShouldRequestReferenceDataOnce_whenFieldsAreCached(VertxTestContext context) {
+    //given
+    mocReferenceData();
+    // when
+    Future<TransformationFieldCollection> transformationFieldsFuture = fieldNamesService.getTransformationFields(okapiConnectionParams)
+      .compose(fields -> fieldNamesService.getTransformationFields(okapiConnectionParams)
+        .map(cachedFields -> {
+          assertEquals(fields.getTransformationFields(), cachedFields.getTransformationFields());
+          return cachedFields;
+        }));
+
+    // then
+    transformationFieldsFuture.onComplete(ar ->
+      context.verify(() -> {
+        assertTrue(ar.succeeded());
+        verify(referenceDataProvider).getReferenceDataForTransformationFields(any(OkapiConnectionParams.class));
+        context.completeNow();
+      }));
+  }
+
+  @Test
+  void getFieldNamesShouldReturnFieldsWithoutReferenceData_andNotCacheThem_whenReferenceDataRequestFailed(VertxTestContext context) {
+    //given
+    doCallRealMethod().when(pathBuilder).build(any(RecordType.class), any(TransformationFieldsConfig.class));
+    doCallRealMethod().when(displayNameKeyBuilder).build(any(RecordType.class), anyString());
+    doCallRealMethod().when(fieldIdBuilder).build(any(RecordType.class), anyString());
+    when(referenceDataProvider.getReferenceDataForTransformationFields(any(OkapiConnectionParams.class)))
+      .thenReturn(Future.failedFuture(new IllegalStateException("Inventory is not available")));
+    // when
+    Future<TransformationFieldCollection> transformationFieldsFuture = fieldNamesService.getTransformationFields(okapiConnectionParams)
+      .compose(fields -> fieldNamesService.getTransformationFields(okapiConnectionParams));
+
+    // then
+    transformationFieldsFuture.onComplete(ar ->
+      context.verify(() -> {
+        assertTrue(ar.succeeded());
+        assertFalse(ar.result().getTransformationFields().isEmpty());
+        assertTrue(ar.result().getTransformationFields().stream().allMatch(field -> field.getReferenceDataValue() == null));
+        verify(referenceDataProvider, times(2)).getReferenceDataForTransformationFields(any(OkapiConnectionParams.class));
+        context.completeNow();
+      }));
+  }
+
+  @Test
+  void getFieldNamesShouldReturnFieldsOfLoadedReferenceData_andNotCacheThem_whenSomeReferenceDataIsNotLoaded(VertxTestContext context) {
+    //given
+    ReferenceData referenceData = new ReferenceDataImpl();
+    referenceData.put(IDENTIFIER_TYPES, ReferenceDataResponseUtil.getIdentifierTypes());
+    doCallRealMethod().when(pathBuilder).build(any(RecordType.class), any(TransformationFieldsConfig.class));
+    doCallRealMethod().when(pathBuilder).build(any(RecordType.class), any(TransformationFieldsConfig.class), any());
+    doCallRealMethod().when(displayNameKeyBuilder).build(any(RecordType.class), anyString());
+    doCallRealMethod().when(fieldIdBuilder).build(any(RecordType.class), anyString());
+    doCallRealMethod().when(fieldIdBuilder).build(any(RecordType.class), anyString(), anyString());
+    when(referenceDataProvider.getReferenceDataForTransformationFields(any(OkapiConnectionParams.class)))
+      .thenReturn(Future.succeededFuture(Pair.of(referenceData, false)));
+    // when
+    Future<Pair<TransformationFieldCollection, Boolean>> transformationFieldsFuture = fieldNamesService.getTransformationFieldsWithCompleteness(okapiConnectionParams)
+      .compose(fields -> fieldNamesService.getTransformationFieldsWithCompleteness(okapiConnectionParams));
+
+    // then
+    transformationFieldsFuture.onComplete(ar ->
+      context.verify(() -> {
+        assertTrue(ar.succeeded());
+        assertFalse(ar.result().getRight());
+        assertTrue(ar.result().getLeft().getTransformationFields().stream().anyMatch(field -> field.getReferenceDataValue() != null));
+        verify(referenceDataProvider, times(2)).getReferenceDataForTransformationFields(any(OkapiConnectionParams.class));
+        context.completeNow();
+      }));
   }
 
   @Test
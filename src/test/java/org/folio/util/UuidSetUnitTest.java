@@ -0,0 +1,54 @@
+package org.folio.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidSetUnitTest {
+
+  @Test
+  void shouldBehaveAsSetOfStrings() {
+    List<String> uuids = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      uuids.add(UUID.randomUUID().toString());
+    }
+    UuidSet uuidSet = new UuidSet();
+    uuids.forEach(uuid -> assertTrue(uuidSet.add(uuid)));
+    assertFalse(uuidSet.add(uuids.get(0)));
+    assertFalse(uuidSet.add(uuids.get(0).toUpperCase()));
+    assertEquals(1000, uuidSet.size());
+    assertEquals(new HashSet<>(uuids), new HashSet<>(uuidSet));
+
+    // remove every other element, the rest must stay reachable
+    for (int i = 0; i < uuids.size(); i += 2) {
+      assertTrue(uuidSet.remove(uuids.get(i)));
+    }
+    for (int i = 0; i < uuids.size(); i++) {
+      assertEquals(i % 2 == 1, uuidSet.contains(uuids.get(i)));
+    }
+    assertEquals(500, uuidSet.size());
+  }
+
+  @Test
+  void shouldKeepNilUuidAndNonUuidValues() {
+    UuidSet uuidSet = new UuidSet();
+    String nilUuid = new UUID(0, 0).toString();
+
+    assertTrue(uuidSet.add(nilUuid));
+    assertTrue(uuidSet.add("not-a-uuid"));
+    assertFalse(uuidSet.add("not-a-uuid"));
+
+    assertEquals(Set.of(nilUuid, "not-a-uuid"), new HashSet<>(uuidSet));
+    assertTrue(uuidSet.remove(nilUuid));
+    assertTrue(uuidSet.remove("not-a-uuid"));
+    assertTrue(uuidSet.isEmpty());
+  }
+}
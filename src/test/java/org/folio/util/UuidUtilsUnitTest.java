@@ -0,0 +1,38 @@
+package org.folio.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidUtilsUnitTest {
+
+  @Test
+  void shouldParseUuidSkippingSpecialCharacters() {
+    long[] target = new long[4];
+
+    assertTrue(UuidUtils.parse("\"C8B50E3F-0446-429c-960e-03774b88223f\",", target, 2));
+
+    UUID expected = UUID.fromString("c8b50e3f-0446-429c-960e-03774b88223f");
+    assertEquals(expected.getMostSignificantBits(), target[2]);
+    assertEquals(expected.getLeastSignificantBits(), target[3]);
+    assertEquals(expected.toString(), UuidUtils.toString(target[2], target[3]));
+  }
+
+  @Test
+  void shouldRejectInvalidUuids() {
+    assertFalse(UuidUtils.isValid(""));
+    assertFalse(UuidUtils.isValid("a5e9ccb3-737b,"));
+    // version 0 and variant 'c' are not allowed
+    assertFalse(UuidUtils.isValid("c8b50e3f-0446-029c-960e-03774b88223f"));
+    assertFalse(UuidUtils.isValid("c8b50e3f-0446-429c-c60e-03774b88223f"));
+    // non hex letter, misplaced dash and extra characters
+    assertFalse(UuidUtils.isValid("g8b50e3f-0446-429c-960e-03774b88223f"));
+    assertFalse(UuidUtils.isValid("c8b50e3f0-446-429c-960e-03774b88223f"));
+    assertFalse(UuidUtils.isValid("c8b50e3f-0446-429c-960e-03774b88223f0"));
+    assertTrue(UuidUtils.isValid("c5d662af-b0be-4851-bb9c-de70bba3dfce?;%&*"));
+  }
+}